@@ -0,0 +1,335 @@
+package com.garganttua.core.aot.annotation.processor;
+
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * Generates Java source code for a reflection-free member accessor implementing
+ * {@code com.garganttua.core.aot.commons.IAOTMemberAccessor}.
+ *
+ * <p>The generated class lives in the package of the {@code @Reflected} type, so it
+ * can reach every non-private member. Fields are read and written directly, methods
+ * are called directly and constructors are called with {@code new}, each dispatched
+ * through a {@code switch} on the member index used by the generated AOT class
+ * descriptor. Private members, final fields (for writes) and members whose
+ * signature references types not visible from the package are left to reflection.</p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public final class AOTAccessorSourceGenerator {
+
+    private static final String ACCESSOR_INTERFACE = "com.garganttua.core.aot.commons.IAOTMemberAccessor";
+    private static final String VALUES = "com.garganttua.core.aot.reflection.AOTValues";
+
+    private final TypeElement typeElement;
+    private final ProcessingEnvironment processingEnv;
+    private final ReflectedMembers members;
+    private final String packageName;
+    private final String simpleName;
+    private final String qualifiedName;
+    private final String generatedSimpleName;
+
+    AOTAccessorSourceGenerator(TypeElement typeElement, ProcessingEnvironment processingEnv,
+                               ReflectedMembers members) {
+        this.typeElement = typeElement;
+        this.processingEnv = processingEnv;
+        this.members = members;
+        this.qualifiedName = typeElement.getQualifiedName().toString();
+        this.simpleName = typeElement.getSimpleName().toString();
+        this.generatedSimpleName = "AOTAccessor_" + simpleName;
+        this.packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+    }
+
+    /**
+     * Returns whether an accessor can be generated, i.e. whether the type itself
+     * is visible from its package.
+     */
+    public boolean isApplicable() {
+        NestingKind nesting = typeElement.getNestingKind();
+        if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+            return false;
+        }
+        return isVisible(typeElement);
+    }
+
+    /**
+     * Returns the simple name of the generated class.
+     */
+    public String getGeneratedSimpleName() {
+        return generatedSimpleName;
+    }
+
+    /**
+     * Returns the fully qualified name of the generated class.
+     */
+    public String getGeneratedQualifiedName() {
+        return packageName.isEmpty() ? generatedSimpleName : packageName + "." + generatedSimpleName;
+    }
+
+    /**
+     * Generates the full Java source file content.
+     */
+    public String generate() {
+        List<VariableElement> fields = members.fields();
+        List<ExecutableElement> methods = members.methods();
+        List<ExecutableElement> constructors = members.constructors();
+
+        StringBuilder src = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+
+        src.append("/**\n");
+        src.append(" * AOT-generated member accessor for {@link ").append(qualifiedName).append("}.\n");
+        src.append(" *\n");
+        src.append(" * <p>Generated at compile time by the Garganttua AOT annotation processor.\n");
+        src.append(" * Do not edit manually.</p>\n");
+        src.append(" */\n");
+        src.append("@SuppressWarnings(\"all\")\n");
+        src.append("public final class ").append(generatedSimpleName)
+           .append(" implements ").append(ACCESSOR_INTERFACE).append(" {\n\n");
+
+        // Type tables, null for members left to reflection
+        src.append("    private static final Class<?>[] FIELD_TYPES = {");
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) src.append(",");
+            VariableElement field = fields.get(i);
+            src.append("\n        ").append(isReadable(field) ? classLiteral(field.asType()) : "null");
+        }
+        src.append("\n    };\n\n");
+
+        src.append("    private static final Class<?>[][] METHOD_PARAMETER_TYPES = {");
+        for (int i = 0; i < methods.size(); i++) {
+            if (i > 0) src.append(",");
+            ExecutableElement method = methods.get(i);
+            src.append("\n        ").append(isInvocable(method) ? parameterTypesLiteral(method) : "null");
+        }
+        src.append("\n    };\n\n");
+
+        src.append("    private static final Class<?>[][] CONSTRUCTOR_PARAMETER_TYPES = {");
+        for (int i = 0; i < constructors.size(); i++) {
+            if (i > 0) src.append(",");
+            ExecutableElement ctor = constructors.get(i);
+            src.append("\n        ").append(isInstantiable(ctor) ? parameterTypesLiteral(ctor) : "null");
+        }
+        src.append("\n    };\n\n");
+
+        src.append("    @Override\n");
+        src.append("    public Class<?>[] getFieldTypes() {\n");
+        src.append("        return FIELD_TYPES.clone();\n");
+        src.append("    }\n\n");
+
+        src.append("    @Override\n");
+        src.append("    public Class<?>[][] getMethodParameterTypes() {\n");
+        src.append("        return METHOD_PARAMETER_TYPES.clone();\n");
+        src.append("    }\n\n");
+
+        src.append("    @Override\n");
+        src.append("    public Class<?>[][] getConstructorParameterTypes() {\n");
+        src.append("        return CONSTRUCTOR_PARAMETER_TYPES.clone();\n");
+        src.append("    }\n\n");
+
+        // Field reads
+        src.append("    @Override\n");
+        src.append("    public Object get(int fieldId, Object target) {\n");
+        src.append("        switch (fieldId) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            if (isReadable(field)) {
+                src.append("            case ").append(i).append(": return ")
+                   .append(memberOwner(field)).append('.').append(field.getSimpleName()).append(";\n");
+            }
+        }
+        src.append("            default: throw new IllegalArgumentException(\"No direct read for field \" + fieldId);\n");
+        src.append("        }\n");
+        src.append("    }\n\n");
+
+        // Field writes
+        src.append("    @Override\n");
+        src.append("    public void set(int fieldId, Object target, Object value) {\n");
+        src.append("        switch (fieldId) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            if (isReadable(field) && !field.getModifiers().contains(Modifier.FINAL)) {
+                src.append("            case ").append(i).append(": ")
+                   .append(memberOwner(field)).append('.').append(field.getSimpleName())
+                   .append(" = ").append(convert(field.asType(), "value")).append("; return;\n");
+            }
+        }
+        src.append("            default: throw new IllegalArgumentException(\"No direct write for field \" + fieldId);\n");
+        src.append("        }\n");
+        src.append("    }\n\n");
+
+        // Method calls
+        src.append("    @Override\n");
+        src.append("    public Object invoke(int methodId, Object target, Object[] args) throws Throwable {\n");
+        src.append("        switch (methodId) {\n");
+        for (int i = 0; i < methods.size(); i++) {
+            ExecutableElement method = methods.get(i);
+            if (!isInvocable(method)) {
+                continue;
+            }
+            String call = memberOwner(method) + "." + method.getSimpleName() + "(" + arguments(method) + ")";
+            src.append("            case ").append(i).append(": ");
+            if (method.getReturnType().getKind() == TypeKind.VOID) {
+                src.append(call).append("; return null;\n");
+            } else {
+                src.append("return ").append(call).append(";\n");
+            }
+        }
+        src.append("            default: throw new IllegalArgumentException(\"No direct call for method \" + methodId);\n");
+        src.append("        }\n");
+        src.append("    }\n\n");
+
+        // Constructor calls
+        src.append("    @Override\n");
+        src.append("    public Object newInstance(int constructorId, Object[] args) throws Throwable {\n");
+        src.append("        switch (constructorId) {\n");
+        for (int i = 0; i < constructors.size(); i++) {
+            ExecutableElement ctor = constructors.get(i);
+            if (isInstantiable(ctor)) {
+                src.append("            case ").append(i).append(": return new ")
+                   .append(qualifiedName).append("(").append(arguments(ctor)).append(");\n");
+            }
+        }
+        src.append("            default: throw new IllegalArgumentException(\"No direct call for constructor \" + constructorId);\n");
+        src.append("        }\n");
+        src.append("    }\n\n");
+
+        src.append("}\n");
+
+        return src.toString();
+    }
+
+    // --- Member selection ---
+
+    private boolean isReadable(VariableElement field) {
+        return !field.getModifiers().contains(Modifier.PRIVATE) && isVisible(field.asType());
+    }
+
+    private boolean isInvocable(ExecutableElement method) {
+        return !method.getModifiers().contains(Modifier.PRIVATE) && parametersVisible(method);
+    }
+
+    private boolean isInstantiable(ExecutableElement ctor) {
+        if (ctor.getModifiers().contains(Modifier.PRIVATE)
+                || typeElement.getKind() != ElementKind.CLASS && typeElement.getKind() != ElementKind.RECORD
+                || typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        // Inner (non static) classes need an enclosing instance
+        if (typeElement.getNestingKind() == NestingKind.MEMBER && typeElement.getKind() == ElementKind.CLASS
+                && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        return parametersVisible(ctor);
+    }
+
+    private boolean parametersVisible(ExecutableElement executable) {
+        for (VariableElement parameter : executable.getParameters()) {
+            if (!isVisible(parameter.asType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the erasure of the given type can be named from the generated package.
+     */
+    private boolean isVisible(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        return switch (erased.getKind()) {
+            case BOOLEAN, BYTE, CHAR, SHORT, INT, LONG, FLOAT, DOUBLE -> true;
+            case ARRAY -> isVisible(((ArrayType) erased).getComponentType());
+            case DECLARED -> isVisible((TypeElement) ((DeclaredType) erased).asElement());
+            default -> false;
+        };
+    }
+
+    private boolean isVisible(TypeElement type) {
+        String typePackage = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        Element current = type;
+        while (current instanceof TypeElement) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !typePackage.equals(packageName)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    // --- Code fragments ---
+
+    private String memberOwner(Element member) {
+        return member.getModifiers().contains(Modifier.STATIC)
+                ? qualifiedName
+                : "((" + qualifiedName + ") target)";
+    }
+
+    private String arguments(ExecutableElement executable) {
+        List<? extends VariableElement> parameters = executable.getParameters();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(convert(parameters.get(i).asType(), "args[" + i + "]"));
+        }
+        return sb.toString();
+    }
+
+    private String convert(TypeMirror type, String expression) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> VALUES + ".toBoolean(" + expression + ")";
+            case BYTE -> VALUES + ".toByte(" + expression + ")";
+            case CHAR -> VALUES + ".toChar(" + expression + ")";
+            case SHORT -> VALUES + ".toShort(" + expression + ")";
+            case INT -> VALUES + ".toInt(" + expression + ")";
+            case LONG -> VALUES + ".toLong(" + expression + ")";
+            case FLOAT -> VALUES + ".toFloat(" + expression + ")";
+            case DOUBLE -> VALUES + ".toDouble(" + expression + ")";
+            default -> "(" + erasedName(type) + ") " + expression;
+        };
+    }
+
+    private String parameterTypesLiteral(ExecutableElement executable) {
+        List<? extends VariableElement> parameters = executable.getParameters();
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(classLiteral(parameters.get(i).asType()));
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private String classLiteral(TypeMirror type) {
+        return erasedName(type) + ".class";
+    }
+
+    private String erasedName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        return switch (erased.getKind()) {
+            case ARRAY -> erasedName(((ArrayType) erased).getComponentType()) + "[]";
+            case DECLARED -> ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+            default -> erased.toString();
+        };
+    }
+}
@@ -5,7 +5,6 @@ import java.util.Set;
 import java.util.TreeSet;
 
 import javax.annotation.processing.ProcessingEnvironment;
-import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
@@ -22,7 +21,8 @@ import javax.lang.model.type.TypeMirror;
  *
  * <p>The generated class is a concrete, final subclass with all metadata
  * pre-computed as constructor arguments. It overrides {@code getType()}
- * to return the raw {@code Class<T>} directly.</p>
+ * to return the raw {@code Class<T>} directly and, when one is generated, binds
+ * the reflection-free accessor produced by {@link AOTAccessorSourceGenerator}.</p>
  *
  * @since 2.0.0-ALPHA01
  */
@@ -43,6 +43,9 @@ public final class AOTClassSourceGenerator {
     private final boolean allDeclaredFields;
     private final boolean allDeclaredClasses;
 
+    private final ReflectedMembers members;
+    private String accessorSimpleName;
+
     public AOTClassSourceGenerator(TypeElement typeElement, ProcessingEnvironment processingEnv,
                                    boolean queryAllDeclaredConstructors, boolean queryAllPublicConstructors,
                                    boolean queryAllDeclaredMethods, boolean queryAllPublicMethods,
@@ -62,6 +65,26 @@ public final class AOTClassSourceGenerator {
         this.queryAllPublicMethods = queryAllPublicMethods;
         this.allDeclaredFields = allDeclaredFields;
         this.allDeclaredClasses = allDeclaredClasses;
+        this.members = new ReflectedMembers(typeElement,
+                queryAllDeclaredConstructors, queryAllPublicConstructors,
+                queryAllDeclaredMethods, queryAllPublicMethods, allDeclaredFields);
+    }
+
+    /**
+     * Returns the members described by the generated class, in descriptor order.
+     */
+    ReflectedMembers getMembers() {
+        return members;
+    }
+
+    /**
+     * Makes the generated class bind the given generated accessor, declared in the
+     * same package, to its members.
+     *
+     * @param accessorSimpleName the simple name of the generated accessor class
+     */
+    void withAccessor(String accessorSimpleName) {
+        this.accessorSimpleName = accessorSimpleName;
     }
 
     /**
@@ -165,6 +188,9 @@ public final class AOTClassSourceGenerator {
         src.append("            false,\n");                                                    // isAnonymousClass
         src.append("            false\n");                                                     // isSynthetic
         src.append("        );\n");
+        if (accessorSimpleName != null) {
+            src.append("        bindAccessor(new ").append(accessorSimpleName).append("());\n");
+        }
         src.append("    }\n\n");
 
         // Override getType() — direct class literal, no Class.forName()
@@ -187,19 +213,16 @@ public final class AOTClassSourceGenerator {
         }
         StringBuilder sb = new StringBuilder("new AOTField[] {\n");
         boolean first = true;
-        for (Element enclosed : typeElement.getEnclosedElements()) {
-            if (enclosed.getKind() == ElementKind.FIELD) {
-                VariableElement field = (VariableElement) enclosed;
-                if (!first) sb.append(",\n");
-                first = false;
-                // AOTField(name, declaringClassName, typeName, modifiers, annotations, genericType)
-                sb.append("            new AOTField(\"")
-                  .append(field.getSimpleName()).append("\", \"")
-                  .append(qualifiedName).append("\", \"")
-                  .append(getTypeName(field.asType())).append("\", ")
-                  .append(toReflectModifiers(field.getModifiers())).append(", ")
-                  .append("new Annotation[0], null)");
-            }
+        for (VariableElement field : members.fields()) {
+            if (!first) sb.append(",\n");
+            first = false;
+            // AOTField(name, declaringClassName, typeName, modifiers, annotations, genericType)
+            sb.append("            new AOTField(\"")
+              .append(field.getSimpleName()).append("\", \"")
+              .append(qualifiedName).append("\", \"")
+              .append(getTypeName(field.asType())).append("\", ")
+              .append(toReflectModifiers(field.getModifiers())).append(", ")
+              .append("new Annotation[0], null)");
         }
         if (first) return "new AOTField[0]";
         sb.append("\n        }");
@@ -214,29 +237,23 @@ public final class AOTClassSourceGenerator {
         }
         StringBuilder sb = new StringBuilder("new AOTMethod[] {\n");
         boolean first = true;
-        for (Element enclosed : typeElement.getEnclosedElements()) {
-            if (enclosed.getKind() == ElementKind.METHOD) {
-                ExecutableElement method = (ExecutableElement) enclosed;
-                if (!queryAllDeclaredMethods && !method.getModifiers().contains(Modifier.PUBLIC)) {
-                    continue;
-                }
-                if (!first) sb.append(",\n");
-                first = false;
-                // AOTMethod(name, declaringClassName, returnTypeName, parameterTypeNames,
-                //           parameterNames, modifiers, annotations, bridge, defaultMethod, varArgs, exceptionTypeNames)
-                sb.append("            new AOTMethod(\"")
-                  .append(method.getSimpleName()).append("\", \"")
-                  .append(qualifiedName).append("\", \"")
-                  .append(getTypeName(method.getReturnType())).append("\", ")
-                  .append(buildStringArray(method.getParameters())).append(", ")
-                  .append(buildParamNamesArray(method.getParameters())).append(", ")
-                  .append(toReflectModifiers(method.getModifiers())).append(", ")
-                  .append("new Annotation[0], ")
-                  .append("false, ")                                                        // bridge
-                  .append(method.getModifiers().contains(Modifier.DEFAULT)).append(", ")    // defaultMethod
-                  .append(method.isVarArgs()).append(", ")                                  // varArgs
-                  .append(buildExceptionTypesArray(method)).append(")");                                   // isVarArgs
-            }
+        for (ExecutableElement method : members.methods()) {
+            if (!first) sb.append(",\n");
+            first = false;
+            // AOTMethod(name, declaringClassName, returnTypeName, parameterTypeNames,
+            //           parameterNames, modifiers, annotations, bridge, defaultMethod, varArgs, exceptionTypeNames)
+            sb.append("            new AOTMethod(\"")
+              .append(method.getSimpleName()).append("\", \"")
+              .append(qualifiedName).append("\", \"")
+              .append(getTypeName(method.getReturnType())).append("\", ")
+              .append(buildStringArray(method.getParameters())).append(", ")
+              .append(buildParamNamesArray(method.getParameters())).append(", ")
+              .append(toReflectModifiers(method.getModifiers())).append(", ")
+              .append("new Annotation[0], ")
+              .append("false, ")                                                        // bridge
+              .append(method.getModifiers().contains(Modifier.DEFAULT)).append(", ")    // defaultMethod
+              .append(method.isVarArgs()).append(", ")                                  // varArgs
+              .append(buildExceptionTypesArray(method)).append(")");                                   // isVarArgs
         }
         if (first) return "new AOTMethod[0]";
         sb.append("\n        }");
@@ -251,25 +268,19 @@ public final class AOTClassSourceGenerator {
         }
         StringBuilder sb = new StringBuilder("new AOTConstructor<?>[] {\n");
         boolean first = true;
-        for (Element enclosed : typeElement.getEnclosedElements()) {
-            if (enclosed.getKind() == ElementKind.CONSTRUCTOR) {
-                ExecutableElement ctor = (ExecutableElement) enclosed;
-                if (!queryAllDeclaredConstructors && !ctor.getModifiers().contains(Modifier.PUBLIC)) {
-                    continue;
-                }
-                if (!first) sb.append(",\n");
-                first = false;
-                // AOTConstructor(declaringClassName, parameterTypeNames, parameterNames,
-                //                modifiers, annotations, varArgs, exceptionTypeNames)
-                sb.append("            new AOTConstructor<>(\"")
-                  .append(qualifiedName).append("\", ")
-                  .append(buildStringArray(ctor.getParameters())).append(", ")
-                  .append(buildParamNamesArray(ctor.getParameters())).append(", ")
-                  .append(toReflectModifiers(ctor.getModifiers())).append(", ")
-                  .append("new Annotation[0], ")
-                  .append(ctor.isVarArgs()).append(", ")
-                  .append(buildExceptionTypesArray(ctor)).append(")");
-            }
+        for (ExecutableElement ctor : members.constructors()) {
+            if (!first) sb.append(",\n");
+            first = false;
+            // AOTConstructor(declaringClassName, parameterTypeNames, parameterNames,
+            //                modifiers, annotations, varArgs, exceptionTypeNames)
+            sb.append("            new AOTConstructor<>(\"")
+              .append(qualifiedName).append("\", ")
+              .append(buildStringArray(ctor.getParameters())).append(", ")
+              .append(buildParamNamesArray(ctor.getParameters())).append(", ")
+              .append(toReflectModifiers(ctor.getModifiers())).append(", ")
+              .append("new Annotation[0], ")
+              .append(ctor.isVarArgs()).append(", ")
+              .append(buildExceptionTypesArray(ctor)).append(")");
         }
         if (first) return "new AOTConstructor[0]";
         sb.append("\n        }");
@@ -0,0 +1,384 @@
+package com.garganttua.core.aot.annotation.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Generates Java source code for a mapper implementing
+ * {@code com.garganttua.core.mapper.IGeneratedMapper}, copying the fields of a
+ * source class to a destination class annotated with {@code @MappedFrom}.
+ *
+ * <p>The generated class lives in the package of the destination class. Each
+ * destination field, except static, transient and {@code @MappingIgnore} fields,
+ * is copied from the source field named by its {@code @FieldMappingRule}, or from
+ * the source field of the same name if there is one, as the mapper does by
+ * convention. Fields are read and written directly when visible from the package,
+ * and through their getter and setter otherwise.</p>
+ *
+ * <p>No mapper is generated when the destination uses an {@code @ObjectMappingRule},
+ * a conversion method or a nested source address, when a copied field has a
+ * different type in the source, or when a field can neither be accessed nor has
+ * an accessor; {@link #getSkipReason()} tells why.</p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public final class AOTMapperSourceGenerator {
+
+    private static final String MAPPER_INTERFACE = "com.garganttua.core.mapper.IGeneratedMapper";
+    private static final String FIELD_MAPPING_RULE = "com.garganttua.core.mapper.annotations.FieldMappingRule";
+    private static final String OBJECT_MAPPING_RULE = "com.garganttua.core.mapper.annotations.ObjectMappingRule";
+    private static final String MAPPING_IGNORE = "com.garganttua.core.mapper.annotations.MappingIgnore";
+
+    private final TypeElement destination;
+    private final TypeElement source;
+    private final ProcessingEnvironment processingEnv;
+    private final String packageName;
+    private final String generatedSimpleName;
+    private final List<String> mappedFields = new ArrayList<>();
+    private final List<String> statements = new ArrayList<>();
+    private final String skipReason;
+
+    AOTMapperSourceGenerator(TypeElement destination, TypeElement source, ProcessingEnvironment processingEnv) {
+        this.destination = destination;
+        this.source = source;
+        this.processingEnv = processingEnv;
+        this.packageName = processingEnv.getElementUtils().getPackageOf(destination).getQualifiedName().toString();
+        this.generatedSimpleName = "AOTMapper_" + flatName(destination) + "_" + flatName(source);
+        this.skipReason = resolve();
+    }
+
+    /**
+     * Returns whether a mapper can be generated for the pair.
+     */
+    public boolean isApplicable() {
+        return skipReason == null;
+    }
+
+    /**
+     * Returns why no mapper can be generated for the pair, or null if one can.
+     */
+    public String getSkipReason() {
+        return skipReason;
+    }
+
+    /**
+     * Returns the fully qualified name of the generated class.
+     */
+    public String getGeneratedQualifiedName() {
+        return packageName.isEmpty() ? generatedSimpleName : packageName + "." + generatedSimpleName;
+    }
+
+    /**
+     * Generates the full Java source file content.
+     */
+    public String generate() {
+        String destinationName = typeName(destination);
+        String sourceName = typeName(source);
+
+        StringBuilder src = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+
+        src.append("/**\n");
+        src.append(" * AOT-generated mapper from {@link ").append(sourceName)
+           .append("} to {@link ").append(destinationName).append("}.\n");
+        src.append(" *\n");
+        src.append(" * <p>Generated at compile time by the Garganttua AOT annotation processor.\n");
+        src.append(" * Do not edit manually.</p>\n");
+        src.append(" */\n");
+        src.append("@SuppressWarnings(\"all\")\n");
+        src.append("public final class ").append(generatedSimpleName)
+           .append(" implements ").append(MAPPER_INTERFACE)
+           .append("<").append(sourceName).append(", ").append(destinationName).append("> {\n\n");
+
+        src.append("    private static final String[] MAPPED_FIELDS = {");
+        for (int i = 0; i < mappedFields.size(); i++) {
+            if (i > 0) src.append(",");
+            src.append("\n        \"").append(mappedFields.get(i)).append("\"");
+        }
+        src.append("\n    };\n\n");
+
+        src.append("    @Override\n");
+        src.append("    public Class<").append(sourceName).append("> sourceClass() {\n");
+        src.append("        return ").append(sourceName).append(".class;\n");
+        src.append("    }\n\n");
+
+        src.append("    @Override\n");
+        src.append("    public Class<").append(destinationName).append("> destinationClass() {\n");
+        src.append("        return ").append(destinationName).append(".class;\n");
+        src.append("    }\n\n");
+
+        src.append("    @Override\n");
+        src.append("    public String[] mappedFields() {\n");
+        src.append("        return MAPPED_FIELDS.clone();\n");
+        src.append("    }\n\n");
+
+        src.append("    @Override\n");
+        src.append("    public ").append(destinationName).append(" map(")
+           .append(sourceName).append(" source, ").append(destinationName).append(" destination) {\n");
+        src.append("        if (destination == null) {\n");
+        src.append("            destination = new ").append(destinationName).append("();\n");
+        src.append("        }\n");
+        for (String statement : statements) {
+            src.append("        ").append(statement).append("\n");
+        }
+        src.append("        return destination;\n");
+        src.append("    }\n\n");
+
+        src.append("}\n");
+
+        return src.toString();
+    }
+
+    // --- Field pairing ---
+
+    /**
+     * Pairs the destination fields with the source fields and builds the copy
+     * statements, returning why the pair cannot be generated, or null.
+     */
+    private String resolve() {
+        if (destination.getKind() != ElementKind.CLASS
+                || destination.getModifiers().contains(Modifier.ABSTRACT)
+                || destination.getNestingKind() == NestingKind.LOCAL
+                || destination.getNestingKind() == NestingKind.ANONYMOUS
+                || (destination.getNestingKind() == NestingKind.MEMBER
+                        && !destination.getModifiers().contains(Modifier.STATIC))
+                || !isVisible(destination)) {
+            return "destination is not an instantiable class visible from its package";
+        }
+        if (!hasNoArgConstructor()) {
+            return "destination has no visible constructor without arguments";
+        }
+        if (!isVisible(source)) {
+            return "source is not visible from the package of the destination";
+        }
+        if (annotation(destination, OBJECT_MAPPING_RULE) != null) {
+            return "destination uses an object mapping rule";
+        }
+
+        Set<String> seen = new HashSet<>();
+        for (VariableElement field : fieldsOf(destination)) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)
+                    || annotation(field, MAPPING_IGNORE) != null
+                    || !seen.add(field.getSimpleName().toString())) {
+                continue;
+            }
+
+            String sourceFieldName = field.getSimpleName().toString();
+            AnnotationMirror rule = annotation(field, FIELD_MAPPING_RULE);
+            if (rule != null) {
+                if (!stringValue(rule, "fromSourceMethod").isEmpty()) {
+                    return "field " + field.getSimpleName() + " uses a conversion method";
+                }
+                sourceFieldName = stringValue(rule, "sourceFieldAddress");
+                if (!SourceVersion.isIdentifier(sourceFieldName)) {
+                    return "field " + field.getSimpleName() + " is mapped from the nested address " + sourceFieldName;
+                }
+            }
+
+            VariableElement sourceField = findField(source, sourceFieldName);
+            if (sourceField == null) {
+                if (rule != null) {
+                    return "source has no field " + sourceFieldName;
+                }
+                continue;
+            }
+            if (!processingEnv.getTypeUtils().isSameType(sourceField.asType(), field.asType())) {
+                return "fields " + sourceFieldName + " and " + field.getSimpleName() + " have different types";
+            }
+
+            String read = read(sourceField);
+            if (read == null) {
+                return "source field " + sourceFieldName + " is not accessible and has no getter";
+            }
+            String write = write(field, read);
+            if (write == null) {
+                return "destination field " + field.getSimpleName() + " is not writable and has no setter";
+            }
+            statements.add(write);
+            mappedFields.add(sourceFieldName + "->" + field.getSimpleName());
+        }
+
+        if (statements.isEmpty()) {
+            return "no field to copy";
+        }
+        return null;
+    }
+
+    /**
+     * Returns the instance fields of a type and of its superclasses, the fields of
+     * the type first.
+     */
+    private List<VariableElement> fieldsOf(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !"java.lang.Object".equals(current.getQualifiedName().toString())) {
+            fields.addAll(ElementFilter.fieldsIn(current.getEnclosedElements()));
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement()
+                    : null;
+        }
+        return fields;
+    }
+
+    private VariableElement findField(TypeElement type, String name) {
+        for (VariableElement field : fieldsOf(type)) {
+            if (field.getSimpleName().contentEquals(name) && !field.getModifiers().contains(Modifier.STATIC)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private String read(VariableElement field) {
+        if (isAccessible(field)) {
+            return "source." + field.getSimpleName();
+        }
+        String property = capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : methodsOf(source)) {
+            String name = method.getSimpleName().toString();
+            boolean getterName = name.equals("get" + property)
+                    || field.asType().getKind() == TypeKind.BOOLEAN && name.equals("is" + property);
+            if (getterName && method.getParameters().isEmpty()
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return "source." + name + "()";
+            }
+        }
+        return null;
+    }
+
+    private String write(VariableElement field, String value) {
+        if (isAccessible(field) && !field.getModifiers().contains(Modifier.FINAL)) {
+            return "destination." + field.getSimpleName() + " = " + value + ";";
+        }
+        String setter = "set" + capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : methodsOf(destination)) {
+            if (method.getSimpleName().contentEquals(setter) && method.getParameters().size() == 1
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return "destination." + setter + "(" + value + ");";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the accessible instance methods of a type, including inherited ones.
+     */
+    private List<ExecutableElement> methodsOf(TypeElement type) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.STATIC) && isAccessible(method)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private boolean hasNoArgConstructor() {
+        for (ExecutableElement ctor : ElementFilter.constructorsIn(destination.getEnclosedElements())) {
+            if (ctor.getParameters().isEmpty() && isAccessible(ctor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // --- Visibility ---
+
+    /**
+     * Whether a member can be used from the generated package.
+     */
+    private boolean isAccessible(Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        TypeElement owner = (TypeElement) member.getEnclosingElement();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return isVisible(owner);
+        }
+        return packageOf(owner).equals(packageName);
+    }
+
+    private boolean isVisible(TypeElement type) {
+        String typePackage = packageOf(type);
+        Element current = type;
+        while (current instanceof TypeElement) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !typePackage.equals(packageName)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private String packageOf(TypeElement type) {
+        return processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    }
+
+    // --- Annotations and names ---
+
+    private AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationElement = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationName.equals(annotationElement.getQualifiedName().toString())) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private String stringValue(AnnotationMirror mirror, String attributeName) {
+        for (var entry : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attributeName)) {
+                AnnotationValue value = entry.getValue();
+                return String.valueOf(value.getValue());
+            }
+        }
+        return "";
+    }
+
+    private static String typeName(TypeElement type) {
+        return type.getQualifiedName().toString();
+    }
+
+    private static String flatName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element current = type.getEnclosingElement();
+        while (current instanceof TypeElement enclosing) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            current = enclosing.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -35,6 +35,9 @@ import javax.tools.StandardLocation;
  * <ul>
  *   <li>An {@code AOTClass_<SimpleName>.java} source file containing pre-computed
  *       metadata (fields, methods, constructors, annotations, modifiers)</li>
+ *   <li>An {@code AOTAccessor_<SimpleName>.java} source file reading and writing fields,
+ *       calling methods and instantiating the type with plain Java code, so that the
+ *       descriptor members do not use reflection once bound</li>
  *   <li>A listing entry in {@code META-INF/garganttua/aot/classes/<fqn>}</li>
  * </ul>
  *
@@ -90,8 +93,8 @@ public class DirectBinderGenerator extends AbstractProcessor {
     }
 
     /**
-     * Processes a single @Reflected type element: generates the AOTClass source
-     * and writes the listing entry.
+     * Processes a single @Reflected type element: generates the AOTClass and
+     * accessor sources and writes the listing entry.
      */
     private void processReflectedType(TypeElement typeElement) {
         String qualifiedName = typeElement.getQualifiedName().toString();
@@ -112,6 +115,21 @@ public class DirectBinderGenerator extends AbstractProcessor {
                     queryAllDeclaredMethods, queryAllPublicMethods,
                     allDeclaredFields, allDeclaredClasses);
 
+            // Generate the reflection-free member accessor bound by the descriptor
+            AOTAccessorSourceGenerator accessorGenerator = new AOTAccessorSourceGenerator(
+                    typeElement, processingEnv, generator.getMembers());
+            if (accessorGenerator.isApplicable()) {
+                String accessorFqn = accessorGenerator.getGeneratedQualifiedName();
+                JavaFileObject accessorFile = processingEnv.getFiler().createSourceFile(accessorFqn, typeElement);
+                try (Writer writer = accessorFile.openWriter()) {
+                    writer.write(accessorGenerator.generate());
+                }
+                generator.withAccessor(accessorGenerator.getGeneratedSimpleName());
+
+                messager.printMessage(Diagnostic.Kind.NOTE,
+                        "[garganttua-aot] Generated AOT accessor: " + accessorFqn);
+            }
+
             String sourceCode = generator.generate();
             String generatedFqn = generator.getGeneratedQualifiedName();
 
@@ -0,0 +1,162 @@
+package com.garganttua.core.aot.annotation.processor;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Compile-time annotation processor that generates mappers for the classes
+ * annotated with {@code @MappedFrom}.
+ *
+ * <p>For each source class named by {@code @MappedFrom}, the processor generates:</p>
+ * <ul>
+ *   <li>An {@code AOTMapper_<Destination>_<Source>.java} source file implementing
+ *       {@code IGeneratedMapper}, copying the fields with plain Java code</li>
+ *   <li>A listing entry in {@code META-INF/garganttua/aot/mappers/<destination fqn>}</li>
+ * </ul>
+ *
+ * <p>The mapper uses a generated mapper instead of its rule executors when both
+ * copy the same fields. Pairs that cannot be generated are reported as notes and
+ * keep using the rule executors.</p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@SupportedAnnotationTypes("com.garganttua.core.mapper.annotations.MappedFrom")
+@SupportedSourceVersion(SourceVersion.RELEASE_21)
+public class MapperGenerator extends AbstractProcessor {
+
+    private static final String MAPPED_FROM_ANNOTATION = "com.garganttua.core.mapper.annotations.MappedFrom";
+    private static final String AOT_MAPPERS_DIR = "META-INF/garganttua/aot/mappers/";
+
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            if (!MAPPED_FROM_ANNOTATION.equals(annotation.getQualifiedName().toString())) {
+                continue;
+            }
+
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement typeElement) {
+                    processDestinationType(typeElement);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Processes a single @MappedFrom type element: generates a mapper per source
+     * class and writes the listing entry.
+     */
+    private void processDestinationType(TypeElement destination) {
+        String qualifiedName = destination.getQualifiedName().toString();
+        List<String> generated = new ArrayList<>();
+
+        try {
+            for (TypeElement source : getSourceTypes(destination)) {
+                AOTMapperSourceGenerator generator = new AOTMapperSourceGenerator(destination, source, processingEnv);
+                if (!generator.isApplicable()) {
+                    messager.printMessage(Diagnostic.Kind.NOTE,
+                            "[garganttua-aot] No mapper generated from " + source.getQualifiedName()
+                                    + " to " + qualifiedName + ": " + generator.getSkipReason(),
+                            destination);
+                    continue;
+                }
+
+                String generatedFqn = generator.getGeneratedQualifiedName();
+                JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(generatedFqn, destination, source);
+                try (Writer writer = sourceFile.openWriter()) {
+                    writer.write(generator.generate());
+                }
+                generated.add(generatedFqn);
+
+                messager.printMessage(Diagnostic.Kind.NOTE,
+                        "[garganttua-aot] Generated AOT mapper: " + generatedFqn);
+            }
+
+            if (!generated.isEmpty()) {
+                writeListingEntry(processingEnv.getElementUtils().getBinaryName(destination).toString(), generated);
+            }
+
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "[garganttua-aot] Failed to generate AOT mappers for " + qualifiedName + ": " + e.getMessage(),
+                    destination);
+        }
+    }
+
+    /**
+     * Writes a listing entry to META-INF/garganttua/aot/mappers/<fqn>.
+     */
+    private void writeListingEntry(String destinationFqn, List<String> generatedFqns) throws IOException {
+        String resourcePath = AOT_MAPPERS_DIR + destinationFqn;
+        FileObject fileObject = processingEnv.getFiler().createResource(
+                StandardLocation.CLASS_OUTPUT, "", resourcePath);
+        try (Writer writer = fileObject.openWriter();
+             BufferedWriter bw = new BufferedWriter(writer)) {
+            for (String generatedFqn : generatedFqns) {
+                bw.write(generatedFqn);
+                bw.newLine();
+            }
+        }
+    }
+
+    /**
+     * Extracts the source classes of the @MappedFrom annotation on the given element.
+     */
+    private List<TypeElement> getSourceTypes(TypeElement typeElement) {
+        List<TypeElement> sources = new ArrayList<>();
+        for (AnnotationMirror mirror : typeElement.getAnnotationMirrors()) {
+            TypeElement annoElement = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!MAPPED_FROM_ANNOTATION.equals(annoElement.getQualifiedName().toString())) {
+                continue;
+            }
+            for (var entry : mirror.getElementValues().entrySet()) {
+                if (!"value".equals(entry.getKey().getSimpleName().toString())
+                        || !(entry.getValue().getValue() instanceof List<?> values)) {
+                    continue;
+                }
+                for (Object value : values) {
+                    if (value instanceof AnnotationValue annotationValue
+                            && annotationValue.getValue() instanceof DeclaredType declaredType) {
+                        sources.add((TypeElement) declaredType.asElement());
+                    }
+                }
+            }
+        }
+        return sources;
+    }
+}
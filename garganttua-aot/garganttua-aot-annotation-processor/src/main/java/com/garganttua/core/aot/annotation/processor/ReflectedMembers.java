@@ -0,0 +1,68 @@
+package com.garganttua.core.aot.annotation.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+
+/**
+ * Members of a {@code @Reflected} type selected according to its query flags.
+ *
+ * <p>The order of each list is the order of the member arrays of the generated
+ * AOT class descriptor, and therefore the member ids used by the generated
+ * accessor. Both generators must select members through this class.</p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+final class ReflectedMembers {
+
+    private final List<VariableElement> fields = new ArrayList<>();
+    private final List<ExecutableElement> methods = new ArrayList<>();
+    private final List<ExecutableElement> constructors = new ArrayList<>();
+
+    ReflectedMembers(TypeElement typeElement,
+                     boolean queryAllDeclaredConstructors, boolean queryAllPublicConstructors,
+                     boolean queryAllDeclaredMethods, boolean queryAllPublicMethods,
+                     boolean allDeclaredFields) {
+        for (Element enclosed : typeElement.getEnclosedElements()) {
+            switch (enclosed.getKind()) {
+                case FIELD -> {
+                    if (allDeclaredFields) {
+                        fields.add((VariableElement) enclosed);
+                    }
+                }
+                case METHOD -> {
+                    if (queryAllDeclaredMethods
+                            || queryAllPublicMethods && enclosed.getModifiers().contains(Modifier.PUBLIC)) {
+                        methods.add((ExecutableElement) enclosed);
+                    }
+                }
+                case CONSTRUCTOR -> {
+                    if (queryAllDeclaredConstructors
+                            || queryAllPublicConstructors && enclosed.getModifiers().contains(Modifier.PUBLIC)) {
+                        constructors.add((ExecutableElement) enclosed);
+                    }
+                }
+                default -> {
+                    // Nested types and initializers are not described
+                }
+            }
+        }
+    }
+
+    List<VariableElement> fields() {
+        return fields;
+    }
+
+    List<ExecutableElement> methods() {
+        return methods;
+    }
+
+    List<ExecutableElement> constructors() {
+        return constructors;
+    }
+}
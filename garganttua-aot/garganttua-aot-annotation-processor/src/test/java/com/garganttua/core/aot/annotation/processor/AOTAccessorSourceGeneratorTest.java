@@ -0,0 +1,215 @@
+package com.garganttua.core.aot.annotation.processor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.garganttua.core.aot.commons.AOTRegistry;
+import com.garganttua.core.aot.reflection.AOTClass;
+import com.garganttua.core.reflection.IConstructor;
+import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.IMethod;
+import com.garganttua.core.reflection.annotations.Reflected;
+
+/**
+ * Compiles a {@code @Reflected} fixture with {@link DirectBinderGenerator} and
+ * checks that the members of the generated descriptor go through the generated
+ * accessor.
+ *
+ * <p>The fixture is loaded by its own class loader, which the AOT members cannot
+ * see: resolving the {@code java.lang.reflect} member would fail with an
+ * {@link IllegalStateException}, so any successful access is a direct one.</p>
+ */
+class AOTAccessorSourceGeneratorTest {
+
+    private static final String FIXTURE_PACKAGE = "com.garganttua.core.aot.fixture";
+
+    private static final String FIXTURE = """
+            package com.garganttua.core.aot.fixture;
+
+            import com.garganttua.core.reflection.annotations.Reflected;
+
+            @Reflected(allDeclaredFields = true, queryAllDeclaredMethods = true, queryAllDeclaredConstructors = true)
+            public class Account {
+
+                String owner;
+                long balance;
+                final String currency = "EUR";
+                private String secret = "secret";
+
+                public Account() {
+                }
+
+                Account(String owner, long balance) {
+                    this.owner = owner;
+                    this.balance = balance;
+                }
+
+                long deposit(int amount) {
+                    this.balance += amount;
+                    return this.balance;
+                }
+
+                void fail() {
+                    throw new IllegalStateException("boom");
+                }
+
+                String caller() {
+                    return StackWalker.getInstance().walk(frames -> frames.skip(1).findFirst().orElseThrow().getClassName());
+                }
+            }
+            """;
+
+    @TempDir
+    static Path workDir;
+
+    private static URLClassLoader loader;
+    private static AOTClass<?> descriptor;
+
+    @BeforeAll
+    static void compileFixture() throws Exception {
+        Path sources = Files.createDirectories(workDir.resolve("src/com/garganttua/core/aot/fixture"));
+        Path classes = Files.createDirectories(workDir.resolve("classes"));
+        Path source = Files.writeString(sources.resolve("Account.java"), FIXTURE);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(classes));
+            fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(classes));
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH,
+                    List.of(locationOf(Reflected.class), locationOf(AOTRegistry.class), locationOf(AOTClass.class)));
+            var task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-Agarganttua.direct.binders=true"), null, fileManager.getJavaFileObjects(source));
+            task.setProcessors(List.of(new DirectBinderGenerator()));
+            assertTrue(task.call(), () -> diagnostics.getDiagnostics().toString());
+        }
+
+        loader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+                AOTAccessorSourceGeneratorTest.class.getClassLoader());
+        descriptor = (AOTClass<?>) loader.loadClass(FIXTURE_PACKAGE + ".AOTClass_Account")
+                .getField("INSTANCE").get(null);
+    }
+
+    @AfterAll
+    static void closeLoader() throws Exception {
+        loader.close();
+    }
+
+    @Test
+    void testAccessorIsGeneratedAndBound() {
+        assertTrue(descriptor.getMemberAccessor().isPresent());
+        assertEquals(FIXTURE_PACKAGE + ".AOTAccessor_Account",
+                descriptor.getMemberAccessor().get().getClass().getName());
+    }
+
+    @Test
+    void testConstructorsAreDirect() throws Exception {
+        Object empty = constructor(0).newInstance();
+        // Integer widened to long as by Constructor.newInstance
+        Object account = constructor(2).newInstance("alice", 10);
+
+        assertNull(field("owner").get(empty));
+        assertEquals("alice", field("owner").get(account));
+        assertEquals(10L, field("balance").getLong(account));
+    }
+
+    @Test
+    void testFieldsAreDirect() throws Exception {
+        Object account = constructor(0).newInstance();
+        IField owner = field("owner");
+        IField balance = field("balance");
+
+        assertTrue(owner.isDirect());
+        owner.set(account, "bob");
+        balance.setLong(account, 42L);
+        balance.setInt(account, 43);
+
+        assertEquals("bob", owner.get(account));
+        assertEquals(43L, balance.getLong(account));
+        assertEquals(43.0d, balance.getDouble(account));
+        assertEquals("EUR", field("currency").get(account));
+    }
+
+    @Test
+    void testFieldChecksTargetAndValue() throws Exception {
+        Object account = constructor(0).newInstance();
+
+        assertThrows(IllegalArgumentException.class, () -> field("owner").get("not an account"));
+        assertThrows(NullPointerException.class, () -> field("owner").get(null));
+        assertThrows(IllegalArgumentException.class, () -> field("balance").set(account, "not a long"));
+        assertThrows(IllegalArgumentException.class, () -> field("balance").setDouble(account, 1.5d));
+    }
+
+    @Test
+    void testMethodsAreDirect() throws Exception {
+        Object account = constructor(2).newInstance("carol", 5L);
+
+        assertTrue(method("deposit").isDirect());
+        assertEquals(12L, method("deposit").invoke(account, 7));
+        assertEquals(FIXTURE_PACKAGE + ".AOTAccessor_Account", method("caller").invoke(account));
+    }
+
+    @Test
+    void testMethodExceptionsAreWrapped() throws Exception {
+        Object account = constructor(0).newInstance();
+
+        var thrown = assertThrows(InvocationTargetException.class, () -> method("fail").invoke(account));
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+        assertThrows(IllegalArgumentException.class, () -> method("deposit").invoke(account, "seven"));
+    }
+
+    @Test
+    void testPrivateAndFinalMembersAreLeftToReflection() {
+        assertFalse(field("secret").isDirect());
+        // Final fields are read directly, only their writes use reflection
+        assertTrue(field("currency").isDirect());
+        assertThrows(IllegalStateException.class, () -> field("secret").get(null));
+    }
+
+    private static IField field(String name) {
+        return Arrays.stream(descriptor.getDeclaredFields())
+                .filter(f -> f.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static IMethod method(String name) {
+        return Arrays.stream(descriptor.getDeclaredMethods())
+                .filter(m -> m.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static IConstructor<?> constructor(int parameterCount) {
+        return Arrays.stream(descriptor.getDeclaredConstructors())
+                .filter(c -> c.getParameterCount() == parameterCount)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Path locationOf(Class<?> type) throws URISyntaxException {
+        return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+}
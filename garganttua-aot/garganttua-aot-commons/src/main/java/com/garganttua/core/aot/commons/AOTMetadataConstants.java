@@ -20,6 +20,9 @@ public final class AOTMetadataConstants {
     /** Directory for AOT binder listings. */
     public static final String AOT_BINDERS_DIR = "META-INF/garganttua/aot/binders/";
 
+    /** Directory for AOT mapper listings (one file per destination class). */
+    public static final String AOT_MAPPERS_DIR = "META-INF/garganttua/aot/mappers/";
+
     /** Prefix for class entries in index files. */
     public static final String CLASS_ENTRY_PREFIX = "C:";
 
@@ -0,0 +1,82 @@
+package com.garganttua.core.aot.commons;
+
+/**
+ * Reflection-free access to the members of an AOT-described class.
+ *
+ * <p>Implementations are generated at compile time next to the AOT class
+ * descriptor. Each member is addressed by its index in the descriptor's
+ * declared fields, methods or constructors, and accessed with plain Java
+ * code (field reads and writes, method calls and {@code new} expressions)
+ * dispatched through a {@code switch}.</p>
+ *
+ * <p>Only members reachable from generated code in the same package are
+ * accessed directly; the type tables report {@code null} for the others,
+ * which keep using reflection.</p>
+ *
+ * <p>Callers are expected to validate the target and the arguments against
+ * the type tables before dispatching: accessor methods perform unchecked
+ * casts and conversions.</p>
+ */
+public interface IAOTMemberAccessor {
+
+    /**
+     * Returns the field types indexed like the declared fields of the descriptor.
+     *
+     * @return the field types, with {@code null} for fields that cannot be read directly
+     */
+    Class<?>[] getFieldTypes();
+
+    /**
+     * Returns the parameter types indexed like the declared methods of the descriptor.
+     *
+     * @return the parameter types, with {@code null} for methods that cannot be called directly
+     */
+    Class<?>[][] getMethodParameterTypes();
+
+    /**
+     * Returns the parameter types indexed like the declared constructors of the descriptor.
+     *
+     * @return the parameter types, with {@code null} for constructors that cannot be called directly
+     */
+    Class<?>[][] getConstructorParameterTypes();
+
+    /**
+     * Reads a field.
+     *
+     * @param fieldId the index of the field
+     * @param target the instance to read from, ignored for static fields
+     * @return the field value, boxed for primitive fields
+     */
+    Object get(int fieldId, Object target);
+
+    /**
+     * Writes a non-final field.
+     *
+     * @param fieldId the index of the field
+     * @param target the instance to write to, ignored for static fields
+     * @param value the value to write
+     */
+    void set(int fieldId, Object target, Object value);
+
+    /**
+     * Calls a method.
+     *
+     * @param methodId the index of the method
+     * @param target the instance to call the method on, ignored for static methods
+     * @param args the arguments
+     * @return the returned value, or {@code null} for void methods
+     * @throws Throwable anything thrown by the method
+     */
+    Object invoke(int methodId, Object target, Object[] args) throws Throwable;
+
+    /**
+     * Calls a constructor.
+     *
+     * @param constructorId the index of the constructor
+     * @param args the arguments
+     * @return the new instance
+     * @throws Throwable anything thrown by the constructor
+     */
+    Object newInstance(int constructorId, Object[] args) throws Throwable;
+
+}
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Optional;
 
 import com.garganttua.core.aot.commons.IAOTClassDescriptor;
+import com.garganttua.core.aot.commons.IAOTMemberAccessor;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IConstructor;
 import com.garganttua.core.reflection.IField;
@@ -27,6 +28,11 @@ import com.garganttua.core.reflection.ITypeVariable;
  * {@link Class} object is resolved lazily via {@code Class.forName()} only when
  * operations require it (cast, isInstance, etc.).</p>
  *
+ * <p>Generated subclasses bind a generated {@link IAOTMemberAccessor} with
+ * {@link #bindAccessor(IAOTMemberAccessor)}, so that field access, method
+ * invocation and instantiation of accessible members do not go through
+ * {@code java.lang.reflect}.</p>
+ *
  * @param <T> the type represented by this class descriptor
  */
 public class AOTClass<T> implements IAOTClassDescriptor<T> {
@@ -61,6 +67,9 @@ public class AOTClass<T> implements IAOTClassDescriptor<T> {
     private volatile IClass<? super T> resolvedSuperclass;
     private volatile IClass<?>[] resolvedInterfaces;
 
+    // --- Direct member access ---
+    private IAOTMemberAccessor accessor;
+
     @SuppressWarnings("java:S107") // Constructor with many parameters is intentional for AOT
     public AOTClass(String name, String simpleName, String canonicalName, String packageName,
                     int modifiers, String superclassName, String[] interfaceNames,
@@ -619,6 +628,46 @@ public class AOTClass<T> implements IAOTClassDescriptor<T> {
         return IClass.getReflection();
     }
 
+    // --- Direct member access ---
+
+    /**
+     * Binds the declared members of this class to a generated accessor. Members
+     * for which the accessor reports no type keep using reflection.
+     *
+     * @param accessor the generated accessor, indexed like the declared members
+     */
+    protected final void bindAccessor(IAOTMemberAccessor accessor) {
+        Class<?> owner = (Class<?>) getType();
+        Class<?>[] fieldTypes = accessor.getFieldTypes();
+        for (int i = 0; i < fields.length && i < fieldTypes.length; i++) {
+            if (fieldTypes[i] != null) {
+                fields[i].bindAccessor(accessor, i, owner, fieldTypes[i]);
+            }
+        }
+        Class<?>[][] methodParameterTypes = accessor.getMethodParameterTypes();
+        for (int i = 0; i < methods.length && i < methodParameterTypes.length; i++) {
+            if (methodParameterTypes[i] != null) {
+                methods[i].bindAccessor(accessor, i, owner, methodParameterTypes[i]);
+            }
+        }
+        Class<?>[][] constructorParameterTypes = accessor.getConstructorParameterTypes();
+        for (int i = 0; i < constructors.length && i < constructorParameterTypes.length; i++) {
+            if (constructorParameterTypes[i] != null) {
+                constructors[i].bindAccessor(accessor, i, constructorParameterTypes[i]);
+            }
+        }
+        this.accessor = accessor;
+    }
+
+    /**
+     * Returns the generated accessor bound to this class, if any.
+     *
+     * @return the accessor, or empty when all members use reflection
+     */
+    public Optional<IAOTMemberAccessor> getMemberAccessor() {
+        return Optional.ofNullable(accessor);
+    }
+
     // --- Lazy Class resolution ---
 
     @SuppressWarnings("unchecked")
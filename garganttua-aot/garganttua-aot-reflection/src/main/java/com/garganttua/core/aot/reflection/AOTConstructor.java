@@ -9,6 +9,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
+import com.garganttua.core.aot.commons.IAOTMemberAccessor;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IConstructor;
 import com.garganttua.core.reflection.IParameter;
@@ -18,8 +19,10 @@ import com.garganttua.core.reflection.ITypeVariable;
 /**
  * AOT implementation of {@link IConstructor}.
  *
- * <p>Stores pre-computed constructor metadata. The actual {@link Constructor} is resolved
- * lazily for instantiation.</p>
+ * <p>Stores pre-computed constructor metadata. When the declaring {@link AOTClass} is
+ * bound to a generated {@link IAOTMemberAccessor}, accessible constructors are called
+ * with a plain {@code new} expression. Otherwise the actual {@link Constructor} is
+ * resolved lazily for instantiation.</p>
  *
  * @param <T> the class in which the constructor is declared
  */
@@ -39,6 +42,11 @@ public class AOTConstructor<T> implements IConstructor<T> {
     private volatile IClass<?>[] resolvedExceptionTypes;
     private volatile Constructor<?> resolvedConstructor;
 
+    // Direct instantiation, bound once by the declaring AOTClass
+    private IAOTMemberAccessor accessor;
+    private int accessorId;
+    private Class<?>[] directParameterTypes;
+
     public AOTConstructor(String declaringClassName, String[] parameterTypeNames,
                           String[] parameterNames, int modifiers,
                           Annotation[] annotations, boolean varArgs,
@@ -209,9 +217,29 @@ public class AOTConstructor<T> implements IConstructor<T> {
     @SuppressWarnings("unchecked")
     public T newInstance(Object... initargs)
             throws InstantiationException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        IAOTMemberAccessor direct = accessor;
+        if (direct != null) {
+            Object[] arguments = initargs != null ? initargs : new Object[0];
+            AOTValues.checkArguments(directParameterTypes, arguments);
+            try {
+                return (T) direct.newInstance(accessorId, arguments);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
         return (T) resolveConstructor().newInstance(initargs);
     }
 
+    /**
+     * Binds this constructor to a generated accessor. Called once by the declaring
+     * {@link AOTClass} while it is being constructed.
+     */
+    void bindAccessor(IAOTMemberAccessor accessor, int accessorId, Class<?>[] parameterTypes) {
+        this.accessorId = accessorId;
+        this.directParameterTypes = parameterTypes;
+        this.accessor = accessor;
+    }
+
     // --- Annotated types ---
 
     @Override
@@ -5,6 +5,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 
+import com.garganttua.core.aot.commons.IAOTMemberAccessor;
 import com.garganttua.core.reflection.IAnnotatedType;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IField;
@@ -13,8 +14,10 @@ import com.garganttua.core.reflection.IReflection;
 /**
  * AOT implementation of {@link IField}.
  *
- * <p>Stores pre-computed field metadata. The actual {@link Field} is resolved
- * lazily for operations that require it (get/set, accessibility).</p>
+ * <p>Stores pre-computed field metadata. When the declaring {@link AOTClass} is bound
+ * to a generated {@link IAOTMemberAccessor}, reads and writes of accessible fields are
+ * plain Java field accesses. Otherwise the actual {@link Field} is resolved lazily for
+ * operations that require it (get/set, accessibility).</p>
  */
 public class AOTField implements IField {
 
@@ -30,6 +33,12 @@ public class AOTField implements IField {
     private volatile IClass<?> resolvedType;
     private volatile Field resolvedField;
 
+    // Direct access, bound once by the declaring AOTClass
+    private IAOTMemberAccessor accessor;
+    private int accessorId;
+    private Class<?> owner;
+    private Class<?> directType;
+
     public AOTField(String name, String declaringClassName, String typeName,
                     int modifiers, Annotation[] annotations, Type genericType) {
         this.name = name;
@@ -138,91 +147,143 @@ public class AOTField implements IField {
 
     @Override
     public Object get(Object obj) throws IllegalArgumentException, IllegalAccessException {
+        IAOTMemberAccessor direct = accessor;
+        if (direct != null) {
+            AOTValues.checkTarget(owner, Modifier.isStatic(modifiers), obj, name);
+            return direct.get(accessorId, obj);
+        }
         return resolveField().get(obj);
     }
 
     @Override
     public void set(Object obj, Object value) throws IllegalArgumentException, IllegalAccessException {
+        IAOTMemberAccessor direct = accessor;
+        if (direct != null && !Modifier.isFinal(modifiers)) {
+            AOTValues.checkTarget(owner, Modifier.isStatic(modifiers), obj, name);
+            AOTValues.checkValue(directType, value);
+            direct.set(accessorId, obj, value);
+            return;
+        }
         resolveField().set(obj, value);
     }
 
     @Override
     public boolean getBoolean(Object obj) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive()) return AOTValues.toBoolean(get(obj));
         return resolveField().getBoolean(obj);
     }
 
     @Override
     public void setBoolean(Object obj, boolean z) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive() && !Modifier.isFinal(modifiers)) {
+            set(obj, z);
+            return;
+        }
         resolveField().setBoolean(obj, z);
     }
 
     @Override
     public byte getByte(Object obj) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive()) return AOTValues.toByte(get(obj));
         return resolveField().getByte(obj);
     }
 
     @Override
     public void setByte(Object obj, byte b) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive() && !Modifier.isFinal(modifiers)) {
+            set(obj, b);
+            return;
+        }
         resolveField().setByte(obj, b);
     }
 
     @Override
     public char getChar(Object obj) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive()) return AOTValues.toChar(get(obj));
         return resolveField().getChar(obj);
     }
 
     @Override
     public void setChar(Object obj, char c) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive() && !Modifier.isFinal(modifiers)) {
+            set(obj, c);
+            return;
+        }
         resolveField().setChar(obj, c);
     }
 
     @Override
     public short getShort(Object obj) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive()) return AOTValues.toShort(get(obj));
         return resolveField().getShort(obj);
     }
 
     @Override
     public void setShort(Object obj, short s) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive() && !Modifier.isFinal(modifiers)) {
+            set(obj, s);
+            return;
+        }
         resolveField().setShort(obj, s);
     }
 
     @Override
     public int getInt(Object obj) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive()) return AOTValues.toInt(get(obj));
         return resolveField().getInt(obj);
     }
 
     @Override
     public void setInt(Object obj, int i) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive() && !Modifier.isFinal(modifiers)) {
+            set(obj, i);
+            return;
+        }
         resolveField().setInt(obj, i);
     }
 
     @Override
     public long getLong(Object obj) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive()) return AOTValues.toLong(get(obj));
         return resolveField().getLong(obj);
     }
 
     @Override
     public void setLong(Object obj, long l) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive() && !Modifier.isFinal(modifiers)) {
+            set(obj, l);
+            return;
+        }
         resolveField().setLong(obj, l);
     }
 
     @Override
     public float getFloat(Object obj) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive()) return AOTValues.toFloat(get(obj));
         return resolveField().getFloat(obj);
     }
 
     @Override
     public void setFloat(Object obj, float f) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive() && !Modifier.isFinal(modifiers)) {
+            set(obj, f);
+            return;
+        }
         resolveField().setFloat(obj, f);
     }
 
     @Override
     public double getDouble(Object obj) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive()) return AOTValues.toDouble(get(obj));
         return resolveField().getDouble(obj);
     }
 
     @Override
     public void setDouble(Object obj, double d) throws IllegalArgumentException, IllegalAccessException {
+        if (isDirectPrimitive() && !Modifier.isFinal(modifiers)) {
+            set(obj, d);
+            return;
+        }
         resolveField().setDouble(obj, d);
     }
 
@@ -254,6 +315,28 @@ public class AOTField implements IField {
         return IClass.getReflection();
     }
 
+    // --- Direct access ---
+
+    @Override
+    public boolean isDirect() {
+        return accessor != null;
+    }
+
+    /**
+     * Binds this field to a generated accessor. Called once by the declaring
+     * {@link AOTClass} while it is being constructed.
+     */
+    void bindAccessor(IAOTMemberAccessor accessor, int accessorId, Class<?> owner, Class<?> type) {
+        this.accessorId = accessorId;
+        this.owner = owner;
+        this.directType = type;
+        this.accessor = accessor;
+    }
+
+    private boolean isDirectPrimitive() {
+        return accessor != null && directType.isPrimitive();
+    }
+
     // --- Lazy Field resolution ---
 
     private Field resolveField() {
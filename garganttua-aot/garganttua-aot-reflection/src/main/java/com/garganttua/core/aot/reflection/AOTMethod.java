@@ -9,6 +9,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
+import com.garganttua.core.aot.commons.IAOTMemberAccessor;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IMethod;
 import com.garganttua.core.reflection.IParameter;
@@ -18,8 +19,10 @@ import com.garganttua.core.reflection.ITypeVariable;
 /**
  * AOT implementation of {@link IMethod}.
  *
- * <p>Stores pre-computed method metadata. The actual {@link Method} is resolved
- * lazily for invocation.</p>
+ * <p>Stores pre-computed method metadata. When the declaring {@link AOTClass} is bound
+ * to a generated {@link IAOTMemberAccessor}, accessible methods are invoked with a
+ * plain Java call. Otherwise the actual {@link Method} is resolved lazily for
+ * invocation.</p>
  */
 public class AOTMethod implements IMethod {
 
@@ -42,6 +45,12 @@ public class AOTMethod implements IMethod {
     private volatile IClass<?>[] resolvedExceptionTypes;
     private volatile Method resolvedMethod;
 
+    // Direct invocation, bound once by the declaring AOTClass
+    private IAOTMemberAccessor accessor;
+    private int accessorId;
+    private Class<?> owner;
+    private Class<?>[] directParameterTypes;
+
     public AOTMethod(String name, String declaringClassName, String returnTypeName,
                      String[] parameterTypeNames, String[] parameterNames,
                      int modifiers, Annotation[] annotations,
@@ -257,9 +266,36 @@ public class AOTMethod implements IMethod {
     @Override
     public Object invoke(Object obj, Object... args)
             throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+        IAOTMemberAccessor direct = accessor;
+        if (direct != null) {
+            Object[] arguments = args != null ? args : new Object[0];
+            AOTValues.checkTarget(owner, Modifier.isStatic(modifiers), obj, name);
+            AOTValues.checkArguments(directParameterTypes, arguments);
+            try {
+                return direct.invoke(accessorId, obj, arguments);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
         return resolveMethod().invoke(obj, args);
     }
 
+    @Override
+    public boolean isDirect() {
+        return accessor != null;
+    }
+
+    /**
+     * Binds this method to a generated accessor. Called once by the declaring
+     * {@link AOTClass} while it is being constructed.
+     */
+    void bindAccessor(IAOTMemberAccessor accessor, int accessorId, Class<?> owner, Class<?>[] parameterTypes) {
+        this.accessorId = accessorId;
+        this.owner = owner;
+        this.directParameterTypes = parameterTypes;
+        this.accessor = accessor;
+    }
+
     // --- Annotated types ---
 
     @Override
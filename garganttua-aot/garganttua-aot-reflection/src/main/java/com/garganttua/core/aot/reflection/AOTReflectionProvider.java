@@ -9,6 +9,12 @@ import com.garganttua.core.reflection.IReflectionProvider;
  *
  * <p>Resolves classes from the {@link AOTRegistry} singleton. Only supports
  * classes that have been registered by AOT-generated code.</p>
+ *
+ * <p>Generated descriptors are bound to a generated
+ * {@link com.garganttua.core.aot.commons.IAOTMemberAccessor}: {@code IField.get/set},
+ * {@code IMethod.invoke} and {@code IConstructor.newInstance} on the members they
+ * return are plain Java accesses for every non-private member, and fall back to
+ * {@code java.lang.reflect} for the others.</p>
  */
 public class AOTReflectionProvider implements IReflectionProvider {
 
@@ -0,0 +1,158 @@
+package com.garganttua.core.aot.reflection;
+
+import java.util.Map;
+
+/**
+ * Value checks and conversions shared by the AOT members and the generated
+ * {@link com.garganttua.core.aot.commons.IAOTMemberAccessor} implementations.
+ *
+ * <p>Conversions follow the rules applied by {@code Method.invoke} and
+ * {@code Field.set}: unboxing, optionally followed by a widening primitive
+ * conversion. Anything else is rejected with an {@link IllegalArgumentException}.</p>
+ */
+public final class AOTValues {
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(
+            Boolean.class, boolean.class,
+            Byte.class, byte.class,
+            Character.class, char.class,
+            Short.class, short.class,
+            Integer.class, int.class,
+            Long.class, long.class,
+            Float.class, float.class,
+            Double.class, double.class);
+
+    private AOTValues() {
+    }
+
+    // --- Conversions used by generated accessors ---
+
+    public static boolean toBoolean(Object value) {
+        if (value instanceof Boolean b) return b;
+        throw mismatch(boolean.class, value);
+    }
+
+    public static byte toByte(Object value) {
+        if (value instanceof Byte b) return b;
+        throw mismatch(byte.class, value);
+    }
+
+    public static char toChar(Object value) {
+        if (value instanceof Character c) return c;
+        throw mismatch(char.class, value);
+    }
+
+    public static short toShort(Object value) {
+        if (value instanceof Short s) return s;
+        if (value instanceof Byte b) return b;
+        throw mismatch(short.class, value);
+    }
+
+    public static int toInt(Object value) {
+        if (value instanceof Integer i) return i;
+        if (value instanceof Character c) return c;
+        if (value instanceof Short s) return s;
+        if (value instanceof Byte b) return b;
+        throw mismatch(int.class, value);
+    }
+
+    public static long toLong(Object value) {
+        if (value instanceof Long l) return l;
+        if (value instanceof Character c) return c;
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        throw mismatch(long.class, value);
+    }
+
+    public static float toFloat(Object value) {
+        if (value instanceof Float f) return f;
+        if (value instanceof Character c) return c;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).floatValue();
+        }
+        throw mismatch(float.class, value);
+    }
+
+    public static double toDouble(Object value) {
+        if (value instanceof Double d) return d;
+        if (value instanceof Character c) return c;
+        if (value instanceof Number n && PRIMITIVES.containsKey(value.getClass())) {
+            return n.doubleValue();
+        }
+        throw mismatch(double.class, value);
+    }
+
+    // --- Checks used by AOT members before dispatching to an accessor ---
+
+    static void checkTarget(Class<?> owner, boolean statix, Object target, String memberName) {
+        if (statix) {
+            return;
+        }
+        if (target == null) {
+            throw new NullPointerException("Cannot access non static member " + memberName + " on null");
+        }
+        if (!owner.isInstance(target)) {
+            throw new IllegalArgumentException("object of type " + target.getClass().getName()
+                    + " is not an instance of " + owner.getName());
+        }
+    }
+
+    static void checkValue(Class<?> type, Object value) {
+        if (!isAssignable(type, value)) {
+            throw mismatch(type, value);
+        }
+    }
+
+    static void checkArguments(Class<?>[] parameterTypes, Object[] args) {
+        if (args.length != parameterTypes.length) {
+            throw new IllegalArgumentException("wrong number of arguments: " + args.length + " expected: "
+                    + parameterTypes.length);
+        }
+        for (int i = 0; i < args.length; i++) {
+            if (!isAssignable(parameterTypes[i], args[i])) {
+                throw new IllegalArgumentException("argument type mismatch at index " + i + ": expected "
+                        + parameterTypes[i].getName() + " but was "
+                        + (args[i] == null ? "null" : args[i].getClass().getName()));
+            }
+        }
+    }
+
+    static boolean isAssignable(Class<?> type, Object value) {
+        if (value == null) {
+            return !type.isPrimitive();
+        }
+        return type.isPrimitive() ? isWidenable(value.getClass(), type) : type.isInstance(value);
+    }
+
+    private static boolean isWidenable(Class<?> boxed, Class<?> target) {
+        Class<?> source = PRIMITIVES.get(boxed);
+        if (source == null) {
+            return false;
+        }
+        if (source == target) {
+            return true;
+        }
+        if (source == boolean.class || target == boolean.class || target == char.class || target == byte.class) {
+            return false;
+        }
+        if (target == double.class) {
+            return true;
+        }
+        if (target == float.class) {
+            return source != double.class;
+        }
+        if (target == long.class) {
+            return source == int.class || source == short.class || source == char.class || source == byte.class;
+        }
+        if (target == int.class) {
+            return source == short.class || source == char.class || source == byte.class;
+        }
+        return target == short.class && source == byte.class;
+    }
+
+    private static IllegalArgumentException mismatch(Class<?> type, Object value) {
+        return new IllegalArgumentException("Can not convert " + (value == null ? "null" : value.getClass().getName())
+                + " to " + type.getName());
+    }
+}
@@ -13,6 +13,18 @@ public interface IConfigurationFormat {
 
     IConfigurationNode parse(InputStream input) throws ConfigurationException;
 
+    /**
+     * Returns a stream reading the configuration node by node. Formats that cannot
+     * stream their input parse it and walk the parsed tree.
+     *
+     * @param input the configuration
+     * @return a stream starting on the root node
+     * @throws ConfigurationException if the configuration cannot be read
+     */
+    default IConfigurationStream stream(InputStream input) throws ConfigurationException {
+        return IConfigurationStream.of(parse(input));
+    }
+
     boolean supports(String extensionOrMediaType);
 
     boolean isAvailable();
@@ -6,6 +6,19 @@ public interface IConfigurationPopulator {
 
     <B extends IBuilder<?>> B populate(B builder, IConfigurationNode node) throws ConfigurationException;
 
+    /**
+     * Populates the builder from a configuration stream. Populators that do not
+     * read streams materialize the current node and populate the builder from it.
+     *
+     * @param builder the builder to populate
+     * @param stream  the configuration, positioned on the node to read
+     * @return the builder
+     * @throws ConfigurationException if the configuration cannot be read or applied
+     */
+    default <B extends IBuilder<?>> B populate(B builder, IConfigurationStream stream) throws ConfigurationException {
+        return populate(builder, stream.node());
+    }
+
     <B extends IBuilder<?>> B populate(B builder, IConfigurationSource source) throws ConfigurationException;
 
     <B extends IBuilder<?>> B populate(B builder, IConfigurationSource source, IConfigurationFormat format) throws ConfigurationException;
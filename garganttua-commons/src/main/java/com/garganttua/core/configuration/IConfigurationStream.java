@@ -0,0 +1,50 @@
+package com.garganttua.core.configuration;
+
+import java.util.Optional;
+
+import com.garganttua.core.configuration.IConfigurationNode.NodeType;
+
+/**
+ * Cursor reading a configuration node by node, without building the tree of the
+ * whole configuration.
+ *
+ * <p>
+ * The cursor starts on the root node. {@link #beginObject()} and
+ * {@link #beginArray()} enter the current node, then {@link #nextField()} and
+ * {@link #nextElement()} move to its children, until they return {@code null}
+ * and {@code false} at its end. A child that is neither entered, read with
+ * {@link #text()} nor materialized with {@link #node()} is skipped when moving to
+ * the next one.
+ * </p>
+ */
+public interface IConfigurationStream extends AutoCloseable {
+
+    /**
+     * Returns a stream walking the given, already parsed, configuration tree.
+     *
+     * @param root the root node of the configuration
+     * @return a stream starting on the root node
+     */
+    static IConfigurationStream of(IConfigurationNode root) {
+        return new NodeConfigurationStream(root);
+    }
+
+    NodeType type();
+
+    void beginObject() throws ConfigurationException;
+
+    String nextField() throws ConfigurationException;
+
+    void beginArray() throws ConfigurationException;
+
+    boolean nextElement() throws ConfigurationException;
+
+    Optional<String> text() throws ConfigurationException;
+
+    IConfigurationNode node() throws ConfigurationException;
+
+    String path();
+
+    @Override
+    void close() throws ConfigurationException;
+}
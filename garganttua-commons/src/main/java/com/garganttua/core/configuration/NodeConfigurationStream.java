@@ -0,0 +1,152 @@
+package com.garganttua.core.configuration;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.garganttua.core.configuration.IConfigurationNode.NodeType;
+
+/**
+ * Configuration stream walking an already parsed configuration tree, see
+ * {@link IConfigurationStream#of(IConfigurationNode)}.
+ */
+final class NodeConfigurationStream implements IConfigurationStream {
+
+    // Entered objects and arrays, innermost last
+    private final List<Level> levels = new ArrayList<>();
+    private IConfigurationNode current;
+    // Whether the current node has been entered, read or materialized
+    private boolean consumed;
+
+    NodeConfigurationStream(IConfigurationNode root) {
+        this.current = root;
+    }
+
+    @Override
+    public NodeType type() {
+        return this.current == null ? NodeType.NULL : this.current.type();
+    }
+
+    @Override
+    public void beginObject() throws ConfigurationException {
+        enter(NodeType.OBJECT);
+        this.levels.add(new Level(this.current, this.current.children().entrySet().iterator(), null));
+    }
+
+    @Override
+    public String nextField() throws ConfigurationException {
+        var level = innermost(false);
+        if (!level.fields.hasNext()) {
+            exit();
+            return null;
+        }
+        var field = level.fields.next();
+        level.key = field.getKey();
+        this.current = field.getValue();
+        this.consumed = false;
+        return level.key;
+    }
+
+    @Override
+    public void beginArray() throws ConfigurationException {
+        enter(NodeType.ARRAY);
+        this.levels.add(new Level(this.current, null, this.current.elements().iterator()));
+    }
+
+    @Override
+    public boolean nextElement() throws ConfigurationException {
+        var level = innermost(true);
+        if (!level.elements.hasNext()) {
+            exit();
+            return false;
+        }
+        level.index++;
+        this.current = level.elements.next();
+        this.consumed = false;
+        return true;
+    }
+
+    @Override
+    public Optional<String> text() throws ConfigurationException {
+        var type = type();
+        if (type == NodeType.NULL) {
+            this.consumed = true;
+            return Optional.empty();
+        }
+        if (type != NodeType.VALUE) {
+            return node().asText();
+        }
+        this.consumed = true;
+        return this.current.asText();
+    }
+
+    @Override
+    public IConfigurationNode node() throws ConfigurationException {
+        if (this.consumed) {
+            throw new ConfigurationException("Configuration node at " + path() + " has already been read");
+        }
+        this.consumed = true;
+        return this.current;
+    }
+
+    @Override
+    public String path() {
+        var path = new StringBuilder();
+        for (var level : this.levels) {
+            if (level.elements != null) {
+                if (level.index >= 0) {
+                    path.append('[').append(level.index).append(']');
+                }
+            } else if (level.key != null) {
+                if (path.length() > 0) {
+                    path.append('.');
+                }
+                path.append(level.key);
+            }
+        }
+        return path.toString();
+    }
+
+    @Override
+    public void close() {
+        this.levels.clear();
+        this.current = null;
+    }
+
+    private void enter(NodeType type) throws ConfigurationException {
+        if (this.consumed || type() != type) {
+            throw new ConfigurationException("Expected unread " + type + " node at " + path() + ", got " + type());
+        }
+        this.consumed = true;
+    }
+
+    private void exit() {
+        this.current = this.levels.remove(this.levels.size() - 1).container;
+        this.consumed = true;
+    }
+
+    private Level innermost(boolean array) throws ConfigurationException {
+        if (this.levels.isEmpty() || (this.levels.get(this.levels.size() - 1).elements != null) != array) {
+            throw new ConfigurationException("Not in an " + (array ? "array" : "object") + " at " + path());
+        }
+        return this.levels.get(this.levels.size() - 1);
+    }
+
+    private static final class Level {
+
+        private final IConfigurationNode container;
+        private final Iterator<Map.Entry<String, IConfigurationNode>> fields;
+        private final Iterator<IConfigurationNode> elements;
+        private String key;
+        private int index = -1;
+
+        private Level(IConfigurationNode container, Iterator<Map.Entry<String, IConfigurationNode>> fields,
+                Iterator<IConfigurationNode> elements) {
+            this.container = container;
+            this.fields = fields;
+            this.elements = elements;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.garganttua.core.execution;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents an asynchronous stage of an {@link IExecutorPipeline}.
+ * <p>
+ * Unlike an {@link IExecutor}, an asynchronous executor does not call the next
+ * executor itself: it returns a future of the request to continue the pipeline
+ * with. The pipeline continues when the future completes, and runs the fallbacks
+ * of the stage when it completes exceptionally.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * IAsyncExecutor&lt;Order&gt; pricing = order -&gt; pricingClient.price(order)
+ *     .thenApply(price -&gt; order.withPrice(price));
+ * </pre>
+ *
+ * @param <T> the type of request this executor handles
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@FunctionalInterface
+public interface IAsyncExecutor<T> {
+
+	/**
+	 * Starts processing the given request.
+	 *
+	 * @param request the request to process
+	 * @return a future of the request to continue the pipeline with
+	 * @throws ExecutorException if the processing cannot be started
+	 */
+	CompletableFuture<T> execute(T request) throws ExecutorException;
+}
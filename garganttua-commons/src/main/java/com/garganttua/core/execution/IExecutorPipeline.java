@@ -0,0 +1,52 @@
+package com.garganttua.core.execution;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Immutable sequence of executor stages, built once and executed any number of
+ * times, concurrently if needed.
+ * <p>
+ * A pipeline passes a request through its stages in order. A stage is either an
+ * {@link IExecutor}, run on the thread the pipeline is on, an
+ * {@link IAsyncExecutor}, or a fan-out of executors run in parallel whose results
+ * are joined into the next request. Each stage can have a timeout and an
+ * {@link IFallBackExecutor}, which runs, together with the fallbacks of the
+ * previous stages, when the stage fails.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * IExecutorPipeline&lt;Order&gt; pipeline = ExecutorPipelineBuilder.&lt;Order&gt;builder()
+ *     .then((order, next) -&gt; next.execute(order.validate()))
+ *     .thenAsync(order -&gt; pricingClient.price(order)).timeout(Duration.ofSeconds(2))
+ *     .build();
+ *
+ * Order priced = pipeline.execute(order);
+ * </pre>
+ *
+ * @param <T> the type of request processed by the pipeline
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public interface IExecutorPipeline<T> {
+
+	/**
+	 * Executes the pipeline with the given request, without blocking the calling
+	 * thread once a stage runs asynchronously.
+	 *
+	 * @param request the request to process
+	 * @return a future of the request as left by the last stage that ran, completed
+	 *         exceptionally with an {@link ExecutorException} if a stage failed and
+	 *         the pipeline rethrows
+	 */
+	CompletableFuture<T> executeAsync(T request);
+
+	/**
+	 * Executes the pipeline with the given request and waits for it to finish.
+	 *
+	 * @param request the request to process
+	 * @return the request as left by the last stage that ran
+	 * @throws ExecutorException if a stage failed and the pipeline rethrows
+	 */
+	T execute(T request) throws ExecutorException;
+}
@@ -0,0 +1,68 @@
+package com.garganttua.core.execution.dsl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.garganttua.core.dsl.IBuilder;
+import com.garganttua.core.execution.IAsyncExecutor;
+import com.garganttua.core.execution.IExecutor;
+import com.garganttua.core.execution.IExecutorPipeline;
+import com.garganttua.core.execution.IFallBackExecutor;
+
+/**
+ * Builder of {@link IExecutorPipeline}, adding stages in the order they run.
+ *
+ * @param <T> the type of request processed by the pipeline
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public interface IExecutorPipelineBuilder<T> extends IBuilder<IExecutorPipeline<T>> {
+
+	/**
+	 * Adds a stage running an executor, which continues the pipeline by calling
+	 * {@code next.execute(request)} and stops it otherwise.
+	 */
+	IExecutorPipelineBuilder<T> then(IExecutor<T> executor);
+
+	IExecutorPipelineBuilder<T> then(IExecutor<T> executor, IFallBackExecutor<T> fallBackExecutor);
+
+	/**
+	 * Adds a stage running an asynchronous executor, which continues the pipeline
+	 * with the request its future completes with.
+	 */
+	IExecutorPipelineBuilder<T> thenAsync(IAsyncExecutor<T> executor);
+
+	IExecutorPipelineBuilder<T> thenAsync(IAsyncExecutor<T> executor, IFallBackExecutor<T> fallBackExecutor);
+
+	/**
+	 * Adds a stage running executors in parallel with the same request, and
+	 * continuing the pipeline with the request the join function makes from their
+	 * results, in the order of the executors. The result of an executor is the
+	 * request it passes to {@code next.execute}, or the request it was given if it
+	 * does not call it.
+	 */
+	IExecutorPipelineBuilder<T> fanOut(List<IExecutor<T>> executors, Function<List<T>, T> join);
+
+	IExecutorPipelineBuilder<T> fanOut(List<IExecutor<T>> executors, Function<List<T>, T> join,
+			IFallBackExecutor<T> fallBackExecutor);
+
+	/**
+	 * Sets the timeout of the last added stage. An executor stage with a timeout
+	 * runs on the executor of the pipeline.
+	 */
+	IExecutorPipelineBuilder<T> timeout(Duration timeout);
+
+	/**
+	 * Sets the executor running the fan-out stages and the stages with a timeout.
+	 * Defaults to a new virtual thread per task.
+	 */
+	IExecutorPipelineBuilder<T> executor(Executor executor);
+
+	/**
+	 * Sets whether the exception of a failing stage is rethrown after its fallbacks
+	 * ran. Defaults to {@code true}.
+	 */
+	IExecutorPipelineBuilder<T> rethrow(boolean rethrow);
+}
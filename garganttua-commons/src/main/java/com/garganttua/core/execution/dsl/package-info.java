@@ -0,0 +1,4 @@
+/**
+ * Builder interface for constructing executor pipelines.
+ */
+package com.garganttua.core.execution.dsl;
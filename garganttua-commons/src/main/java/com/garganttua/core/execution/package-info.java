@@ -12,6 +12,8 @@
  * <ul>
  *   <li>{@link com.garganttua.core.execution.IExecutor} - Single executor in the chain</li>
  *   <li>{@link com.garganttua.core.execution.IExecutorChain} - Chain of executors</li>
+ *   <li>{@link com.garganttua.core.execution.IExecutorPipeline} - Reusable pipeline of executor stages</li>
+ *   <li>{@link com.garganttua.core.execution.IAsyncExecutor} - Asynchronous stage of a pipeline</li>
  *   <li><b>IExecutorContext</b> - Shared execution context (provided by implementations)</li>
  * </ul>
  *
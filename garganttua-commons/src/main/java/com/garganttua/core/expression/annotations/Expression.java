@@ -31,4 +31,14 @@ public @interface Expression {
 
     String description() default "";
 
+    /**
+     * Whether the function is pure: its result depends only on its arguments and
+     * calling it has no side effect. Calls of pure functions with constant
+     * arguments are evaluated once, when the expression is parsed.
+     *
+     * @return {@code true} if the function is pure
+     * @since 2.0.0-ALPHA02
+     */
+    boolean pure() default false;
+
 }
@@ -10,6 +10,16 @@ public interface IExpressionNodeFactory<R, S extends ISupplier<R>> extends ICont
 
     String description();
 
+    /**
+     * Returns whether the function built by this factory is pure, so that its calls
+     * with constant arguments can be folded.
+     *
+     * @return {@code true} if the function is pure
+     */
+    default boolean pure() {
+        return false;
+    }
+
     /**
      * Returns a manual page (man-style) documentation for this expression node factory.
      *
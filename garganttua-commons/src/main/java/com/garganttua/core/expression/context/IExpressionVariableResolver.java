@@ -8,4 +8,18 @@ import com.garganttua.core.reflection.IClass;
 public interface IExpressionVariableResolver {
 
     <T> Optional<T> resolve(String name, IClass<T> type);
+
+    /**
+     * Resolves a variable bound to a slot of {@link VariableSlots}. Resolvers
+     * keeping their variables in a frame array read the slot directly, others
+     * resolve the name.
+     *
+     * @param slot the slot of the variable
+     * @param name the name of the variable
+     * @param type the expected type
+     * @return the value, if any
+     */
+    default <T> Optional<T> resolve(int slot, String name, IClass<T> type) {
+        return resolve(name, type);
+    }
 }
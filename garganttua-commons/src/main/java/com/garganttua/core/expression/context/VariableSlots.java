@@ -0,0 +1,116 @@
+package com.garganttua.core.expression.context;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide registry binding variable names to integer slots.
+ *
+ * <p>
+ * Variable references are bound to their slot once, when the expression or the
+ * runtime is built, so that resolvers keeping their variables in a frame array
+ * can read them by index instead of hashing the name on each access. Slots are
+ * never released: a name keeps the same slot for the life of the process.
+ * </p>
+ *
+ * <p>
+ * The registry therefore holds at most {@value #DEFAULT_CAPACITY} names by
+ * default, which can be changed with the {@value #CAPACITY_PROPERTY} system
+ * property. Once it is full, names without a slot get {@link #NONE} and are
+ * resolved by name, as if no slot was used.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public final class VariableSlots {
+
+    /**
+     * Slot of a name that has not been registered.
+     */
+    public static final int NONE = -1;
+
+    public static final String CAPACITY_PROPERTY = "garganttua.expression.variable.slots";
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final int CAPACITY = Math.max(0, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+    private static final Map<String, Integer> SLOTS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[Math.min(64, CAPACITY)];
+    private static volatile boolean full = CAPACITY == 0;
+    private static int count;
+
+    private VariableSlots() {
+    }
+
+    /**
+     * Returns the slot of a variable name, allocating it if needed.
+     *
+     * @param name the variable name
+     * @return the slot, or {@link #NONE} if the name has no slot and the registry
+     *         is full
+     */
+    public static int slot(String name) {
+        Objects.requireNonNull(name, "Variable name cannot be null");
+        Integer slot = SLOTS.get(name);
+        if (slot != null) {
+            return slot;
+        }
+        return full ? NONE : allocate(name);
+    }
+
+    /**
+     * Returns the slot of a variable name without allocating it.
+     *
+     * @param name the variable name
+     * @return the slot, or {@link #NONE} if the name has no slot
+     */
+    public static int find(String name) {
+        Integer slot = name == null ? null : SLOTS.get(name);
+        return slot == null ? NONE : slot;
+    }
+
+    /**
+     * Returns the name bound to a slot.
+     *
+     * @param slot the slot
+     * @return the name, or {@code null} if the slot is not allocated
+     */
+    public static String name(int slot) {
+        String[] current = names;
+        return slot >= 0 && slot < current.length ? current[slot] : null;
+    }
+
+    /**
+     * Returns the number of allocated slots.
+     */
+    public static synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Returns the maximum number of slots.
+     */
+    public static int capacity() {
+        return CAPACITY;
+    }
+
+    private static synchronized int allocate(String name) {
+        Integer existing = SLOTS.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        int slot = count;
+        if (slot == CAPACITY) {
+            full = true;
+            return NONE;
+        }
+        if (slot == names.length) {
+            names = Arrays.copyOf(names, Math.min(slot * 2, CAPACITY));
+        }
+        names[slot] = name;
+        count = slot + 1;
+        SLOTS.put(name, slot);
+        return slot;
+    }
+}
@@ -16,6 +16,8 @@ public interface IExpressionMethodBinderBuilder<S> extends
     IExpressionMethodBinderBuilder<S> withName(String name);
 
     IExpressionMethodBinderBuilder<S> withDescription(String description);
+
+    IExpressionMethodBinderBuilder<S> pure(boolean pure);
     
     IExpressionMethodBinderBuilder<S> encapsulatedMethod(ObjectAddress methodAddress,
             IClass<S> returnType, IClass<?>... parameterTypes) throws DslException;
@@ -232,11 +232,10 @@ public interface IInjectionContext
          * Creates a new child context with the specified type and arguments.
          *
          * <p>
-         * The child context is created by cloning this context and then using a
-         * registered
-         * factory to instantiate the child. The child context inherits beans and
-         * properties
-         * from the parent but can have its own modifications.
+         * The child context is layered on top of this context and then handed to
+         * a registered factory to instantiate the child. The child context shares
+         * the beans and properties of the parent and keeps its own modifications
+         * to itself.
          * </p>
          *
          * @param <ChildContext> the child context type
@@ -0,0 +1,65 @@
+package com.garganttua.core.mapper;
+
+/**
+ * Mapper generated for one source and destination pair, copying fields with
+ * plain code instead of running mapping rule executors.
+ * <p>
+ * Generated mappers are produced at compile time by the AOT annotation processor,
+ * for destination types annotated with
+ * {@link com.garganttua.core.mapper.annotations.MappedFrom}, or synthesized at
+ * runtime by the mapper. The mapper only uses a generated mapper when it copies
+ * exactly the fields its rules would copy, as given by {@link #mappedFields()};
+ * otherwise the rule executors run.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * {@literal @}MappedFrom(User.class)
+ * public class UserDTO {
+ *     String name;
+ *     String email;
+ * }
+ *
+ * // Generated at compile time as AOTMapper_UserDTO_User, and used by
+ * UserDTO dto = mapper.map(user, UserDTO.class);
+ * </pre>
+ *
+ * @param <S> the type of the source object
+ * @param <D> the type of the destination object
+ * @since 2.0.0-ALPHA02
+ */
+public interface IGeneratedMapper<S, D> {
+
+	/**
+	 * Returns the class of the source objects.
+	 *
+	 * @return the source class
+	 */
+	Class<S> sourceClass();
+
+	/**
+	 * Returns the class of the destination objects.
+	 *
+	 * @return the destination class
+	 */
+	Class<D> destinationClass();
+
+	/**
+	 * Returns the copied fields, each as {@code "sourceField->destinationField"}.
+	 *
+	 * @return the copied fields
+	 */
+	String[] mappedFields();
+
+	/**
+	 * Copies the fields of the source object to the destination object.
+	 *
+	 * @param source      the source object
+	 * @param destination the destination object, or null to create a new one with
+	 *                    its no-argument constructor
+	 * @return the destination object
+	 * @throws MapperException if the mapping fails
+	 */
+	D map(S source, D destination) throws MapperException;
+
+}
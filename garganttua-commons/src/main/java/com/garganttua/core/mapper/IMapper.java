@@ -1,5 +1,9 @@
 package com.garganttua.core.mapper;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 import com.garganttua.core.reflection.IClass;
 
 /**
@@ -17,6 +21,54 @@ public interface IMapper {
 
 	<destination> destination map(Object source, destination destinationObject) throws MapperException;
 
+	/**
+	 * Maps each source to a new destination object, in the order of the sources.
+	 * <p>
+	 * Each source is mapped as by {@link #map(Object, IClass)}, with its own cycle
+	 * detection, but the configuration is resolved once per source class and the
+	 * metrics and listeners are notified once for the whole collection. Null sources
+	 * are mapped to null. Large collections may be mapped in parallel, see
+	 * {@link MapperConfigurationItem#PARALLEL_MAPPING_THRESHOLD}.
+	 * </p>
+	 *
+	 * @param <destination> the type of the destination objects
+	 * @param sources the objects to map
+	 * @param destinationClass the class of the destination objects
+	 * @return the destination objects
+	 * @throws MapperException if a source cannot be mapped
+	 */
+	<destination> List<destination> mapAll(Collection<?> sources, IClass<destination> destinationClass) throws MapperException;
+
+	/**
+	 * Maps each source to a new destination object, as {@link #mapAll}, and adds
+	 * the destination objects to the given list.
+	 *
+	 * @param <destination> the type of the destination objects
+	 * @param sources the objects to map
+	 * @param destinationClass the class of the destination objects
+	 * @param destinations the list the destination objects are added to
+	 * @return the given list of destination objects
+	 * @throws MapperException if a source cannot be mapped
+	 */
+	<destination> List<destination> mapInto(List<?> sources, IClass<destination> destinationClass,
+			List<destination> destinations) throws MapperException;
+
+	/**
+	 * Returns a stream mapping each source to a new destination object as it is
+	 * consumed.
+	 * <p>
+	 * The configuration is resolved once per source class. Unlike {@link #mapAll},
+	 * each mapping is recorded in the metrics and notified to the listeners as it
+	 * runs, since the stream may never be fully consumed.
+	 * </p>
+	 *
+	 * @param <destination> the type of the destination objects
+	 * @param sources the objects to map
+	 * @param destinationClass the class of the destination objects
+	 * @return the stream of destination objects
+	 */
+	<destination> Stream<destination> mapStream(Stream<?> sources, IClass<destination> destinationClass);
+
 	MappingConfiguration recordMappingConfiguration(IClass<?> source, IClass<?> destination) throws MapperException;
 
 	MappingConfiguration getMappingConfiguration(IClass<?> source, IClass<?> destination) throws MapperException;
@@ -35,4 +35,26 @@ public interface IMappingListener {
 	 * @param error the exception that occurred
 	 */
 	void onMappingError(Object source, IClass<?> destClass, Exception error);
+
+	/**
+	 * Called before a bulk mapping ({@code mapAll}, {@code mapInto}) starts, instead
+	 * of {@link #onBeforeMapping} for each source.
+	 *
+	 * @param sourceCount the number of sources
+	 * @param destClass the destination class
+	 */
+	default void onBeforeBulkMapping(int sourceCount, IClass<?> destClass) {
+	}
+
+	/**
+	 * Called after a bulk mapping completes successfully, instead of
+	 * {@link #onAfterMapping} for each source. A failing source is notified with
+	 * {@link #onMappingError}.
+	 *
+	 * @param sourceCount the number of mapped sources
+	 * @param destClass the destination class
+	 * @param durationNanos duration of the bulk mapping in nanoseconds
+	 */
+	default void onAfterBulkMapping(int sourceCount, IClass<?> destClass, long durationNanos) {
+	}
 }
@@ -19,6 +19,9 @@ public class MapperConfiguration {
 		this.configurations.put(MapperConfigurationItem.FAIL_ON_CYCLE, true);
 		this.configurations.put(MapperConfigurationItem.AUTO_CONVENTION_MAPPING, true);
 		this.configurations.put(MapperConfigurationItem.STRICT_MODE, false);
+		this.configurations.put(MapperConfigurationItem.GENERATED_MAPPERS, true);
+		this.configurations.put(MapperConfigurationItem.PARALLEL_MAPPING_THRESHOLD, 0);
+		this.configurations.put(MapperConfigurationItem.REUSE_MAPPED_INSTANCES, false);
 	}
 
 	public void configure(MapperConfigurationItem element, Object value) {
@@ -49,4 +52,16 @@ public class MapperConfiguration {
 		return (boolean) this.configurations.get(MapperConfigurationItem.STRICT_MODE);
 	}
 
+	public boolean generatedMappers() {
+		return (boolean) this.configurations.get(MapperConfigurationItem.GENERATED_MAPPERS);
+	}
+
+	public int parallelMappingThreshold() {
+		return ((Number) this.configurations.get(MapperConfigurationItem.PARALLEL_MAPPING_THRESHOLD)).intValue();
+	}
+
+	public boolean reuseMappedInstances() {
+		return (boolean) this.configurations.get(MapperConfigurationItem.REUSE_MAPPED_INSTANCES);
+	}
+
 }
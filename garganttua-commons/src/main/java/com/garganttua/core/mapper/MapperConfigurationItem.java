@@ -37,6 +37,29 @@ public enum MapperConfigurationItem {
 	 * by a mapping rule (excluding static, transient, synthetic, and @MappingIgnore fields).
 	 * Type: Boolean. Default: false
 	 */
-	STRICT_MODE
+	STRICT_MODE,
+
+	/**
+	 * Controls whether field-to-field mappings run through a mapper generated for
+	 * the source and destination pair, at compile time or at runtime, instead of
+	 * their rule executors. Read when the mapping configuration of a pair is created.
+	 * Type: Boolean. Default: true
+	 */
+	GENERATED_MAPPERS,
+
+	/**
+	 * Minimum number of sources from which {@code mapAll} and {@code mapInto} split
+	 * the sources across the common fork/join pool, 0 to always map sequentially.
+	 * Type: Integer. Default: 0
+	 */
+	PARALLEL_MAPPING_THRESHOLD,
+
+	/**
+	 * Controls whether a source referenced several times in the graph of a root
+	 * mapping is mapped once, its destination being reused for the other
+	 * references, instead of once per reference.
+	 * Type: Boolean. Default: false
+	 */
+	REUSE_MAPPED_INSTANCES
 
 }
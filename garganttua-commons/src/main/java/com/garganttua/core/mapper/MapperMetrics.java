@@ -20,6 +20,12 @@ public class MapperMetrics {
 		this.totalMappingTimeNanos.addAndGet(durationNanos);
 	}
 
+	public void recordMappings(long mappings, long durationNanos, long rulesExecuted) {
+		this.totalMappings.addAndGet(mappings);
+		this.totalRulesExecuted.addAndGet(rulesExecuted);
+		this.totalMappingTimeNanos.addAndGet(durationNanos);
+	}
+
 	public void recordFailure() {
 		this.failedMappings.incrementAndGet();
 	}
@@ -0,0 +1,49 @@
+package com.garganttua.core.mapper.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the source classes a destination class is mapped from, so that the
+ * AOT annotation processor generates a mapper for each pair.
+ * <p>
+ * For each source class, the processor generates a
+ * {@link com.garganttua.core.mapper.IGeneratedMapper} named
+ * {@code AOTMapper_<Destination>_<Source>} in the package of the destination
+ * class. It copies each destination field from the source field named by its
+ * {@link FieldMappingRule}, or from the source field of the same name, with plain
+ * field accesses or, when the field is not visible, its getter and setter. No
+ * mapper is generated for a pair needing conversion methods, nested addresses or
+ * fields of different types; such pairs keep using the mapping rules.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * {@literal @}MappedFrom(User.class)
+ * public class UserDTO {
+ *     String name;
+ *
+ *     {@literal @}FieldMappingRule(sourceFieldAddress = "emailAddress")
+ *     String email;
+ *
+ *     {@literal @}MappingIgnore
+ *     String internalId;
+ * }
+ * </pre>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface MappedFrom {
+
+	/**
+	 * The source classes this class is mapped from.
+	 *
+	 * @return the source classes
+	 */
+	Class<?>[] value();
+
+}
@@ -12,6 +12,7 @@
  * <ul>
  *   <li>{@link com.garganttua.core.mapper.annotations.ObjectMappingRule} - Defines object-level mapping rules</li>
  *   <li>{@link com.garganttua.core.mapper.annotations.FieldMappingRule} - Defines field-level mapping rules</li>
+ *   <li>{@link com.garganttua.core.mapper.annotations.MappedFrom} - Declares the source classes to generate mappers from</li>
  * </ul>
  *
  * <h2>Usage Example: Simple Mapping</h2>
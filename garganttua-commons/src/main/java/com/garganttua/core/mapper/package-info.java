@@ -11,6 +11,7 @@
  * <h2>Core Interfaces</h2>
  * <ul>
  *   <li>{@link com.garganttua.core.mapper.IMapper} - Main mapper interface</li>
+ *   <li>{@link com.garganttua.core.mapper.IGeneratedMapper} - Mapper generated for a source and destination pair</li>
  *   <li><b>IMappingRule</b> - Mapping rule definition (provided by implementations)</li>
  *   <li><b>IFieldMapping</b> - Field-to-field mapping (provided by implementations)</li>
  * </ul>
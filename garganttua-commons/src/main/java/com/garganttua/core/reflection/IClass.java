@@ -5,6 +5,7 @@ import java.lang.constant.Constable;
 import java.lang.invoke.TypeDescriptor;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 /**
  * Interface mirroring {@link java.lang.Class}.
@@ -177,6 +178,17 @@ public interface IClass<T> extends IGenericDeclaration, Type,
 	IConstructor<T> getDeclaredConstructor(IClass<?>... parameterTypes)
 			throws NoSuchMethodException, SecurityException;
 
+	/**
+	 * Returns the precomputed member lookup table of this class, when the
+	 * implementation maintains one.
+	 *
+	 * @return the member table, or empty if lookups must scan the declared members
+	 * @since 2.0.0-ALPHA02
+	 */
+	default Optional<IMemberTable> getMemberTable() {
+		return Optional.empty();
+	}
+
 	// --- Public members (including inherited) ---
 
 	IField[] getFields();
@@ -72,4 +72,17 @@ public interface IField  extends IMember, IAnnotatedElement {
 
 	void setDouble(Object obj, double d) throws IllegalArgumentException, IllegalAccessException;
 
+	// --- Direct access ---
+
+	/**
+	 * Returns whether this field is read and written by generated code rather than
+	 * through {@code java.lang.reflect}, in which case its accessors are already
+	 * the fastest way to access it.
+	 *
+	 * @return {@code true} if reads and non-final writes do not use reflection
+	 */
+	default boolean isDirect() {
+		return false;
+	}
+
 }
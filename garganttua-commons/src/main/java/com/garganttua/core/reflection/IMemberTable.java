@@ -0,0 +1,68 @@
+package com.garganttua.core.reflection;
+
+import java.util.List;
+
+/**
+ * Immutable, precomputed member lookup table of a class.
+ *
+ * <p>
+ * A member table is built once per class and answers name-based lookups over the
+ * class hierarchy without scanning member arrays. Lookups follow the resolution
+ * order used by object queries: fields are searched in the class then up the
+ * superclass chain; methods are searched in the class, then in its interfaces,
+ * then in its superclass, keeping only the first method seen for each signature
+ * (name and parameter types).
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ * @see IClass#getMemberTable()
+ */
+public interface IMemberTable {
+
+	/**
+	 * Finds a field by name in the class or its superclasses.
+	 *
+	 * @param name the field name
+	 * @return the first matching field, or {@code null} if none
+	 */
+	IField findField(String name);
+
+	/**
+	 * Finds a method by name in the class, its interfaces or its superclasses.
+	 *
+	 * @param name the method name
+	 * @return the first matching method, or {@code null} if none
+	 */
+	IMethod findMethod(String name);
+
+	/**
+	 * Finds all the methods with the given name in the class hierarchy, one per signature.
+	 *
+	 * @param name the method name
+	 * @return the matching methods in resolution order, never {@code null}
+	 */
+	List<IMethod> findMethods(String name);
+
+	/**
+	 * Returns the fields declared by the class and its superclasses, most specific first.
+	 *
+	 * @return an immutable list of fields
+	 */
+	List<IField> getAllFields();
+
+	/**
+	 * Returns the methods of the class hierarchy, one per signature, in resolution order.
+	 *
+	 * @return an immutable list of methods
+	 */
+	List<IMethod> getAllMethods();
+
+	/**
+	 * Returns an estimate of the heap retained by this table, excluding the member
+	 * objects themselves which are shared with the reflection caches.
+	 *
+	 * @return the estimated footprint in bytes
+	 */
+	long footprint();
+
+}
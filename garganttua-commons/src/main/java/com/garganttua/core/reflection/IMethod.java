@@ -35,4 +35,15 @@ public interface IMethod extends IExecutable {
 	Object invoke(Object obj, Object... args)
 			throws IllegalAccessException, IllegalArgumentException, InvocationTargetException;
 
+	/**
+	 * Returns whether this method is called by generated code rather than through
+	 * {@code java.lang.reflect}, in which case {@link #invoke(Object, Object...)} is
+	 * already the fastest way to call it.
+	 *
+	 * @return {@code true} if invocations do not use reflection
+	 */
+	default boolean isDirect() {
+		return false;
+	}
+
 }
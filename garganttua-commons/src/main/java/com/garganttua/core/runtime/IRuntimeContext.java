@@ -110,6 +110,46 @@ public interface IRuntimeContext<InputType, OutputType> extends IInjectionContex
      */
     <VariableType> Optional<VariableType> getVariable(String variableName, IClass<VariableType> variableType);
 
+    /**
+     * Stores a variable bound to a slot of
+     * {@link com.garganttua.core.expression.context.VariableSlots}.
+     *
+     * <p>
+     * Contexts keeping their variables in a frame array store the value at the slot
+     * index. The default implementation stores it by name.
+     * </p>
+     *
+     * @param <VariableType> the type of the variable being stored
+     * @param slot the slot of the variable
+     * @param variableName the name of the variable
+     * @param variable the variable value to store
+     * @see #setVariable(String, Object)
+     */
+    default <VariableType> void setVariable(int slot, String variableName, VariableType variable) {
+        setVariable(variableName, variable);
+    }
+
+    /**
+     * Retrieves a variable bound to a slot of
+     * {@link com.garganttua.core.expression.context.VariableSlots}.
+     *
+     * <p>
+     * Contexts keeping their variables in a frame array read the slot index. The
+     * default implementation looks the variable up by name.
+     * </p>
+     *
+     * @param <VariableType> the expected type of the variable
+     * @param slot the slot of the variable
+     * @param variableName the name of the variable
+     * @param variableType the class of the expected variable type
+     * @return an Optional containing the variable if found and of the correct type, otherwise empty
+     * @see #getVariable(String, IClass)
+     */
+    default <VariableType> Optional<VariableType> getVariable(int slot, String variableName,
+            IClass<VariableType> variableType) {
+        return getVariable(variableName, variableType);
+    }
+
     /**
      * Returns the original input object provided to the runtime execution.
      *
@@ -1,6 +1,7 @@
 package com.garganttua.core.condition;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -16,11 +17,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AndCondition implements ICondition {
 
-    private Set<ICondition> conditions;
+    private final List<ICondition> conditions;
 
-    public AndCondition(Set<ICondition> conditions) {
+    public AndCondition(Collection<ICondition> conditions) {
         log.atTrace().log("Entering AndCondition constructor with {} conditions", conditions != null ? conditions.size() : 0);
-        this.conditions = Objects.requireNonNull(conditions, "Conditions cannot be null");
+        this.conditions = List.copyOf(Objects.requireNonNull(conditions, "Conditions cannot be null"));
         log.atTrace().log("Exiting AndCondition constructor");
     }
 
@@ -31,7 +32,7 @@ public class AndCondition implements ICondition {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating AND condition - all {} conditions must be true", conditions.size());
-                Boolean result = and(conditions);
+                boolean result = all(conditions);
                 log.atDebug().log("AND condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -65,14 +66,27 @@ public class AndCondition implements ICondition {
 
     @Expression(name = "and", description = "Logical AND of multiple conditions")
     public static Boolean and(Set<ICondition> conditions) {
-        List<ISupplier<Boolean>> results = conditions.stream().map(c -> c.evaluate()).toList();
-        log.atDebug().log("Individual condition results: {}", results);
+        return all(conditions);
+    }
 
-        Boolean result = true;
-        for (ISupplier<Boolean> b : results) {
-            result &= b.supply().get();
+    /**
+     * Evaluates the conditions in order, stopping at the first false one.
+     */
+    static boolean all(Iterable<ICondition> conditions) {
+        int conditionIndex = 0;
+        for (ICondition c : conditions) {
+            boolean conditionResult = c.fullEvaluate();
+            log.atDebug().log("Condition {} result: {}", conditionIndex++, conditionResult);
+            if (!conditionResult) {
+                log.atDebug().log("AND condition evaluation complete: false (short-circuited)");
+                return false;
+            }
         }
-        return result;
+        return true;
+    }
+
+    List<ICondition> conditions() {
+        return this.conditions;
     }
 
 }
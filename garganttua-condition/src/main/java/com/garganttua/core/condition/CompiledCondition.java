@@ -0,0 +1,258 @@
+package com.garganttua.core.condition;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.supply.FixedSupplier;
+import com.garganttua.core.supply.ISupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Condition compiled once into a tree of {@link BooleanSupplier}s, evaluated
+ * without allocating.
+ *
+ * <p>
+ * The operands of AND, OR, NAND and NOR conditions are evaluated in the order
+ * they were given and stop at the first one deciding the result; XOR conditions
+ * evaluate all of them. Leaf conditions are evaluated directly when they are
+ * {@link BooleanSupplier}s, as the conditions of this module are, and through
+ * {@link ICondition#fullEvaluate()} otherwise.
+ * </p>
+ *
+ * <p>
+ * An adaptive condition also measures, on a sample of its evaluations, the cost of
+ * each operand and how often it decides the result, and periodically moves the
+ * cheapest and most decisive operands first. Only conditions whose operands have
+ * no side effects, and may therefore run in any order, should be adaptive. The
+ * measures are shared by the threads evaluating the condition and are
+ * approximate.
+ * </p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * CompiledCondition condition = CompiledCondition.compile(Conditions.and(
+ *         Conditions.isNotNull(userSupplier),
+ *         Conditions.custom(userSupplier, User::isActive)).build());
+ * if (condition.getAsBoolean()) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public final class CompiledCondition implements ICondition, BooleanSupplier {
+
+    // An adaptive operand is measured on one evaluation out of SAMPLE_MASK + 1
+    private static final long SAMPLE_MASK = 7;
+    // Evaluations between two reorderings of the operands of an adaptive junction
+    private static final long REORDER_INTERVAL = 1024;
+
+    private final ICondition source;
+    private final BooleanSupplier root;
+
+    private CompiledCondition(ICondition source, BooleanSupplier root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /**
+     * Compiles a condition, keeping the order of its operands.
+     *
+     * @param condition the condition to compile
+     * @return the compiled condition
+     */
+    public static CompiledCondition compile(ICondition condition) {
+        return compile(condition, false);
+    }
+
+    /**
+     * Compiles a condition.
+     *
+     * @param condition the condition to compile
+     * @param adaptive  whether the operands are reordered by their measured cost
+     *                  and selectivity
+     * @return the compiled condition
+     */
+    public static CompiledCondition compile(ICondition condition, boolean adaptive) {
+        Objects.requireNonNull(condition, "Condition cannot be null");
+        if (condition instanceof CompiledCondition compiled && !adaptive) {
+            return compiled;
+        }
+        log.atDebug().log("Compiling condition {} (adaptive={})", condition, adaptive);
+        return new CompiledCondition(condition, node(condition, adaptive));
+    }
+
+    private static BooleanSupplier node(ICondition condition, boolean adaptive) {
+        return switch (condition) {
+            case CompiledCondition compiled -> adaptive ? node(compiled.source, true) : compiled.root;
+            case AndCondition and -> junction(and.conditions(), false, adaptive);
+            case OrCondition or -> junction(or.conditions(), true, adaptive);
+            case NandCondition nand -> not(junction(nand.conditions(), false, adaptive));
+            case NorCondition nor -> not(junction(nor.conditions(), true, adaptive));
+            case XorCondition xor -> parity(nodes(xor.conditions(), adaptive));
+            case BooleanSupplier leaf -> leaf;
+            default -> condition::fullEvaluate;
+        };
+    }
+
+    private static BooleanSupplier[] nodes(List<ICondition> conditions, boolean adaptive) {
+        BooleanSupplier[] nodes = new BooleanSupplier[conditions.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = node(conditions.get(i), adaptive);
+        }
+        return nodes;
+    }
+
+    private static BooleanSupplier junction(List<ICondition> conditions, boolean decisive, boolean adaptive) {
+        BooleanSupplier[] operands = nodes(conditions, adaptive);
+        if (operands.length == 1) {
+            return operands[0];
+        }
+        return adaptive ? new AdaptiveJunction(operands, decisive) : new Junction(operands, decisive);
+    }
+
+    private static BooleanSupplier not(BooleanSupplier operand) {
+        return () -> !operand.getAsBoolean();
+    }
+
+    private static BooleanSupplier parity(BooleanSupplier[] operands) {
+        return () -> {
+            boolean result = false;
+            for (BooleanSupplier operand : operands) {
+                if (operand.getAsBoolean()) {
+                    result = !result;
+                }
+            }
+            return result;
+        };
+    }
+
+    @Override
+    public boolean getAsBoolean() throws ConditionException {
+        return this.root.getAsBoolean();
+    }
+
+    @Override
+    public ISupplier<Boolean> evaluate() throws ConditionException {
+        return new FixedSupplier<>(this.root.getAsBoolean(), IClass.getClass(Boolean.class));
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledCondition[" + this.source + "]";
+    }
+
+    /**
+     * AND or OR of operands, stopping at the first operand returning the decisive
+     * value: false for AND, true for OR.
+     */
+    private static final class Junction implements BooleanSupplier {
+
+        private final BooleanSupplier[] operands;
+        private final boolean decisive;
+
+        private Junction(BooleanSupplier[] operands, boolean decisive) {
+            this.operands = operands;
+            this.decisive = decisive;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            for (BooleanSupplier operand : this.operands) {
+                if (operand.getAsBoolean() == this.decisive) {
+                    return this.decisive;
+                }
+            }
+            return !this.decisive;
+        }
+    }
+
+    /**
+     * Junction whose operands are periodically sorted by their expected cost per
+     * decisive result, that is their mean cost divided by the probability they
+     * decide the result. Operands not measured yet come first, so that they are.
+     */
+    private static final class AdaptiveJunction implements BooleanSupplier {
+
+        private final BooleanSupplier[] operands;
+        private final boolean decisive;
+        private final long[] nanos;
+        private final long[] samples;
+        private final long[] decided;
+        private volatile int[] order;
+        private long evaluations;
+
+        private AdaptiveJunction(BooleanSupplier[] operands, boolean decisive) {
+            this.operands = operands;
+            this.decisive = decisive;
+            this.nanos = new long[operands.length];
+            this.samples = new long[operands.length];
+            this.decided = new long[operands.length];
+            int[] order = new int[operands.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            this.order = order;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            long evaluation = this.evaluations++;
+            if (evaluation > 0 && evaluation % REORDER_INTERVAL == 0) {
+                this.reorder();
+            }
+            int[] order = this.order;
+            if ((evaluation & SAMPLE_MASK) != 0) {
+                for (int index : order) {
+                    if (this.operands[index].getAsBoolean() == this.decisive) {
+                        return this.decisive;
+                    }
+                }
+                return !this.decisive;
+            }
+            for (int index : order) {
+                long start = System.nanoTime();
+                boolean value = this.operands[index].getAsBoolean();
+                this.nanos[index] += System.nanoTime() - start;
+                this.samples[index]++;
+                if (value == this.decisive) {
+                    this.decided[index]++;
+                    return this.decisive;
+                }
+            }
+            return !this.decisive;
+        }
+
+        private void reorder() {
+            int length = this.operands.length;
+            double[] ranks = new double[length];
+            Integer[] indexes = new Integer[length];
+            for (int i = 0; i < length; i++) {
+                long sampled = this.samples[i];
+                indexes[i] = i;
+                if (sampled > 0) {
+                    double meanCost = (double) this.nanos[i] / sampled;
+                    double selectivity = (this.decided[i] + 1.0) / (sampled + 2.0);
+                    ranks[i] = meanCost / selectivity;
+                }
+                // Older measures count half as much as the next ones
+                this.nanos[i] /= 2;
+                this.samples[i] /= 2;
+                this.decided[i] /= 2;
+            }
+            Arrays.sort(indexes, Comparator.comparingDouble(i -> ranks[i]));
+            int[] order = new int[length];
+            for (int i = 0; i < length; i++) {
+                order[i] = indexes[i];
+            }
+            this.order = order;
+            log.atDebug().log("Adaptive condition operands reordered to {}", Arrays.toString(order));
+        }
+    }
+}
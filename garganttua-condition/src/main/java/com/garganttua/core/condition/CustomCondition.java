@@ -3,6 +3,7 @@ package com.garganttua.core.condition;
 import java.lang.reflect.Type;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 import com.garganttua.core.reflection.IClass;
@@ -11,7 +12,7 @@ import com.garganttua.core.supply.ISupplier;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class CustomCondition<T> implements ICondition  {
+public class CustomCondition<T> implements ICondition, BooleanSupplier {
 
     private ISupplier<T> supplier;
     private Predicate<T> predicate;
@@ -31,12 +32,7 @@ public class CustomCondition<T> implements ICondition  {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating CUSTOM condition - applying predicate to supplied value");
-                Optional<T> value = supplier.supply();
-                if (value.isEmpty()) {
-                    log.atError().log("Supplied value is empty or null");
-                    throw new ConditionException("Supplied value is empty or null");
-                }
-                boolean result = predicate.test(value.get());
+                boolean result = getAsBoolean();
                 log.atDebug().log("CUSTOM condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -46,4 +42,14 @@ public class CustomCondition<T> implements ICondition  {
             public IClass<Boolean> getSuppliedClass() { return IClass.getClass(Boolean.class); }
         };
     }
+
+    @Override
+    public boolean getAsBoolean() throws ConditionException {
+        Optional<T> value = supplier.supply();
+        if (value.isEmpty()) {
+            log.atError().log("Supplied value is empty or null");
+            throw new ConditionException("Supplied value is empty or null");
+        }
+        return predicate.test(value.get());
+    }
 }
@@ -3,6 +3,7 @@ package com.garganttua.core.condition;
 import java.lang.reflect.Type;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -12,7 +13,7 @@ import com.garganttua.core.supply.ISupplier;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class CustomExtractedCondition<T, R> implements ICondition {
+public class CustomExtractedCondition<T, R> implements ICondition, BooleanSupplier {
 
     private ISupplier<T> supplier;
     private Function<T, R> extractor;
@@ -35,13 +36,7 @@ public class CustomExtractedCondition<T, R> implements ICondition {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating CUSTOM EXTRACTED condition - applying extractor then predicate");
-                Optional<T> value = supplier.supply();
-                if (value.isEmpty()) {
-                    log.atError().log("Supplied value is empty or null");
-                    throw new ConditionException("Supplied value is empty or null");
-                }
-                R extracted = extractor.apply(value.get());
-                boolean result = predicate.test(extracted);
+                boolean result = getAsBoolean();
                 log.atDebug().log("CUSTOM EXTRACTED condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -52,4 +47,15 @@ public class CustomExtractedCondition<T, R> implements ICondition {
         };
     }
 
+    @Override
+    public boolean getAsBoolean() throws ConditionException {
+        Optional<T> value = supplier.supply();
+        if (value.isEmpty()) {
+            log.atError().log("Supplied value is empty or null");
+            throw new ConditionException("Supplied value is empty or null");
+        }
+        R extracted = extractor.apply(value.get());
+        return predicate.test(extracted);
+    }
+
 }
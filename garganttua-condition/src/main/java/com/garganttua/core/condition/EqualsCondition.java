@@ -3,6 +3,7 @@ package com.garganttua.core.condition;
 import java.lang.reflect.Type;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import com.garganttua.core.expression.annotations.Expression;
 import com.garganttua.core.reflection.IClass;
@@ -11,7 +12,7 @@ import com.garganttua.core.supply.ISupplier;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class EqualsCondition<T> implements ICondition {
+public class EqualsCondition<T> implements ICondition, BooleanSupplier {
 
     private ISupplier<T> supplier1;
     private ISupplier<T> supplier2;
@@ -30,15 +31,7 @@ public class EqualsCondition<T> implements ICondition {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating EQUALS condition - comparing two supplied values");
-                Object val1 = supplier1.supply().orElseThrow(() -> {
-                    log.atError().log("Supplier 1 supplied empty value");
-                    return new ConditionException("Supplier 1 supplied empty value");
-                });
-                Object val2 = supplier2.supply().orElseThrow(() -> {
-                    log.atError().log("Supplier 2 supplied empty value");
-                    return new ConditionException("Supplier 2 supplied empty value");
-                });
-                boolean result = EqualsCondition.equals(val1, val2);
+                boolean result = getAsBoolean();
                 log.atDebug().log("EQUALS condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -49,7 +42,20 @@ public class EqualsCondition<T> implements ICondition {
         };
     }
 
-    @Expression(name = "equals", description = "Checks if two objects are equal")
+    @Override
+    public boolean getAsBoolean() throws ConditionException {
+        Object val1 = supplier1.supply().orElseThrow(() -> {
+            log.atError().log("Supplier 1 supplied empty value");
+            return new ConditionException("Supplier 1 supplied empty value");
+        });
+        Object val2 = supplier2.supply().orElseThrow(() -> {
+            log.atError().log("Supplier 2 supplied empty value");
+            return new ConditionException("Supplier 2 supplied empty value");
+        });
+        return EqualsCondition.equals(val1, val2);
+    }
+
+    @Expression(name = "equals", description = "Checks if two objects are equal", pure = true)
     public static boolean equals(Object obj1, Object obj2) {
         log.atTrace().log("Entering static equals() method");
                 if( obj1 == null || obj2 == null ) {
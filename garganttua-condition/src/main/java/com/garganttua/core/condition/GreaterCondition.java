@@ -1,13 +1,14 @@
 package com.garganttua.core.condition;
 
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
 
 import com.garganttua.core.expression.annotations.Expression;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.supply.FixedSupplier;
 import com.garganttua.core.supply.ISupplier;
 
-public class GreaterCondition<T> implements ICondition {
+public class GreaterCondition<T> implements ICondition, BooleanSupplier {
 
     private final ISupplier<T> supplier1;
     private final ISupplier<T> supplier2;
@@ -19,12 +20,17 @@ public class GreaterCondition<T> implements ICondition {
 
     @Override
     public ISupplier<Boolean> evaluate() throws ConditionException {
+        return new FixedSupplier<>(this.getAsBoolean(), IClass.getClass(Boolean.class));
+    }
+
+    @Override
+    public boolean getAsBoolean() throws ConditionException {
         Object a = this.supplier1.supply().orElseThrow(() -> new ConditionException("Supplier 1 supplied empty value"));
         Object b = this.supplier2.supply().orElseThrow(() -> new ConditionException("Supplier 2 supplied empty value"));
-        return new FixedSupplier<>(greater(a, b), IClass.getClass(Boolean.class));
+        return greater(a, b);
     }
 
-    @Expression(name = "greater", description = "Checks if first argument is greater than second")
+    @Expression(name = "greater", description = "Checks if first argument is greater than second", pure = true)
     public static boolean greater(Object a, Object b) {
         if (a == null || b == null) {
             return false;
@@ -32,28 +38,28 @@ public class GreaterCondition<T> implements ICondition {
         return ComparisonHelper.compare(a, b) > 0;
     }
 
-    @Expression(name = "greater", description = "Checks if first int argument is greater than second int")
+    @Expression(name = "greater", description = "Checks if first int argument is greater than second int", pure = true)
     public static boolean greater(int a, int b) {
         return a > b;
     }
 
-    @Expression(name = "greater", description = "Checks if first long argument is greater than second long")
+    @Expression(name = "greater", description = "Checks if first long argument is greater than second long", pure = true)
     public static boolean greater(long a, long b) {
         return a > b;
     }
 
-    @Expression(name = "greater", description = "Checks if first double argument is greater than second double")
+    @Expression(name = "greater", description = "Checks if first double argument is greater than second double", pure = true)
     public static boolean greater(double a, double b) {
         return a > b;
     }
 
-    @Expression(name = "greater", description = "Checks if first Object argument is greater than second int")
+    @Expression(name = "greater", description = "Checks if first Object argument is greater than second int", pure = true)
     public static boolean greater(Object a, int b) {
         if (a == null) return false;
         return ComparisonHelper.compare(a, b) > 0;
     }
 
-    @Expression(name = "greater", description = "Checks if first int argument is greater than second Object")
+    @Expression(name = "greater", description = "Checks if first int argument is greater than second Object", pure = true)
     public static boolean greater(int a, Object b) {
         if (b == null) return false;
         return ComparisonHelper.compare(a, b) > 0;
@@ -1,13 +1,14 @@
 package com.garganttua.core.condition;
 
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
 
 import com.garganttua.core.expression.annotations.Expression;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.supply.FixedSupplier;
 import com.garganttua.core.supply.ISupplier;
 
-public class LowerOrEqualsCondition<T> implements ICondition {
+public class LowerOrEqualsCondition<T> implements ICondition, BooleanSupplier {
 
     private final ISupplier<T> supplier1;
     private final ISupplier<T> supplier2;
@@ -19,12 +20,17 @@ public class LowerOrEqualsCondition<T> implements ICondition {
 
     @Override
     public ISupplier<Boolean> evaluate() throws ConditionException {
+        return new FixedSupplier<>(this.getAsBoolean(), IClass.getClass(Boolean.class));
+    }
+
+    @Override
+    public boolean getAsBoolean() throws ConditionException {
         Object a = this.supplier1.supply().orElseThrow(() -> new ConditionException("Supplier 1 supplied empty value"));
         Object b = this.supplier2.supply().orElseThrow(() -> new ConditionException("Supplier 2 supplied empty value"));
-        return new FixedSupplier<>(lowerOrEquals(a, b), IClass.getClass(Boolean.class));
+        return lowerOrEquals(a, b);
     }
 
-    @Expression(name = "lowerOrEquals", description = "Checks if first argument is lower than or equal to second")
+    @Expression(name = "lowerOrEquals", description = "Checks if first argument is lower than or equal to second", pure = true)
     public static boolean lowerOrEquals(Object a, Object b) {
         if (a == null || b == null) {
             return false;
@@ -32,28 +38,28 @@ public class LowerOrEqualsCondition<T> implements ICondition {
         return ComparisonHelper.compare(a, b) <= 0;
     }
 
-    @Expression(name = "lowerOrEquals", description = "Checks if first int argument is lower than or equal to second int")
+    @Expression(name = "lowerOrEquals", description = "Checks if first int argument is lower than or equal to second int", pure = true)
     public static boolean lowerOrEquals(int a, int b) {
         return a <= b;
     }
 
-    @Expression(name = "lowerOrEquals", description = "Checks if first long argument is lower than or equal to second long")
+    @Expression(name = "lowerOrEquals", description = "Checks if first long argument is lower than or equal to second long", pure = true)
     public static boolean lowerOrEquals(long a, long b) {
         return a <= b;
     }
 
-    @Expression(name = "lowerOrEquals", description = "Checks if first double argument is lower than or equal to second double")
+    @Expression(name = "lowerOrEquals", description = "Checks if first double argument is lower than or equal to second double", pure = true)
     public static boolean lowerOrEquals(double a, double b) {
         return a <= b;
     }
 
-    @Expression(name = "lowerOrEquals", description = "Checks if first Object argument is lower than or equal to second int")
+    @Expression(name = "lowerOrEquals", description = "Checks if first Object argument is lower than or equal to second int", pure = true)
     public static boolean lowerOrEquals(Object a, int b) {
         if (a == null) return false;
         return ComparisonHelper.compare(a, b) <= 0;
     }
 
-    @Expression(name = "lowerOrEquals", description = "Checks if first int argument is lower than or equal to second Object")
+    @Expression(name = "lowerOrEquals", description = "Checks if first int argument is lower than or equal to second Object", pure = true)
     public static boolean lowerOrEquals(int a, Object b) {
         if (b == null) return false;
         return ComparisonHelper.compare(a, b) <= 0;
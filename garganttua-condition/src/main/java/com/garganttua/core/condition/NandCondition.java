@@ -1,6 +1,8 @@
 package com.garganttua.core.condition;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -14,12 +16,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class NandCondition implements ICondition {
 
-    private Set<ICondition> conditions;
+    private final List<ICondition> conditions;
 
-    public NandCondition(Set<ICondition> conditions) {
+    public NandCondition(Collection<ICondition> conditions) {
         log.atTrace().log("Entering NandCondition constructor with {} conditions",
                 conditions != null ? conditions.size() : 0);
-        this.conditions = Objects.requireNonNull(conditions, "Conditions cannot be null");
+        this.conditions = List.copyOf(Objects.requireNonNull(conditions, "Conditions cannot be null"));
         log.atTrace().log("Exiting NandCondition constructor");
     }
 
@@ -30,7 +32,7 @@ public class NandCondition implements ICondition {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating NAND condition - negation of AND condition");
-                Boolean result = nand(conditions);
+                boolean result = !AndCondition.all(conditions);
                 log.atDebug().log("NAND condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -43,11 +45,15 @@ public class NandCondition implements ICondition {
 
     @Expression(name = "nand", description = "Logical AND of multiple conditions")
     public static Boolean nand(Set<ICondition> conditions) {
-        boolean andResult = new AndCondition(conditions).fullEvaluate();
+        boolean andResult = AndCondition.all(conditions);
         log.atDebug().log("AND condition result: {}", andResult);
 
         boolean result = !andResult;
         return result;
     }
 
+    List<ICondition> conditions() {
+        return this.conditions;
+    }
+
 }
@@ -1,6 +1,8 @@
 package com.garganttua.core.condition;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -14,11 +16,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class NorCondition implements ICondition {
 
-    private Set<ICondition> conditions;
+    private final List<ICondition> conditions;
 
-    public NorCondition(Set<ICondition> conditions) {
+    public NorCondition(Collection<ICondition> conditions) {
         log.atTrace().log("Entering NorCondition constructor with {} conditions", conditions != null ? conditions.size() : 0);
-        this.conditions = Objects.requireNonNull(conditions, "Conditions cannot be null");
+        this.conditions = List.copyOf(Objects.requireNonNull(conditions, "Conditions cannot be null"));
         log.atTrace().log("Exiting NorCondition constructor");
     }
 
@@ -29,7 +31,7 @@ public class NorCondition implements ICondition {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating NOR condition - negation of OR condition");
-                boolean result = nor(conditions);
+                boolean result = !OrCondition.any(conditions);
                 log.atDebug().log("NOR condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -42,11 +44,15 @@ public class NorCondition implements ICondition {
 
     @Expression(name = "nor", description = "Logical NOR of multiple conditions")
     public static boolean nor(Set<ICondition> conditions) {
-        boolean orResult = new OrCondition(conditions).fullEvaluate();
+        boolean orResult = OrCondition.any(conditions);
         log.atDebug().log("OR condition result: {}", orResult);
 
         boolean result = !orResult;
         return result;
     }
 
+    List<ICondition> conditions() {
+        return this.conditions;
+    }
+
 }
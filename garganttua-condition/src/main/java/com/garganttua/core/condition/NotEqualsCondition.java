@@ -3,6 +3,7 @@ package com.garganttua.core.condition;
 import java.lang.reflect.Type;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import com.garganttua.core.expression.annotations.Expression;
 import com.garganttua.core.reflection.IClass;
@@ -11,7 +12,7 @@ import com.garganttua.core.supply.ISupplier;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class NotEqualsCondition<T> implements ICondition {
+public class NotEqualsCondition<T> implements ICondition, BooleanSupplier {
 
     private ISupplier<T> supplier1;
     private ISupplier<T> supplier2;
@@ -31,7 +32,7 @@ public class NotEqualsCondition<T> implements ICondition {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating NOT EQUALS condition - negation of EQUALS condition");
-                boolean result = notEquals(supplier1.supply().orElse(null), supplier2.supply().orElse(null));
+                boolean result = getAsBoolean();
                 log.atDebug().log("NOT EQUALS condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -42,7 +43,12 @@ public class NotEqualsCondition<T> implements ICondition {
         };
     }
 
-    @Expression(name = "notEquals", description = "Checks if two objects are not equal")
+    @Override
+    public boolean getAsBoolean() throws ConditionException {
+        return notEquals(supplier1.supply().orElse(null), supplier2.supply().orElse(null));
+    }
+
+    @Expression(name = "notEquals", description = "Checks if two objects are not equal", pure = true)
     public static boolean notEquals(Object obj1, Object obj2) {
         if (obj1 == null || obj2 == null) {
             return false;
@@ -3,6 +3,7 @@ package com.garganttua.core.condition;
 import java.lang.reflect.Type;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import com.garganttua.core.expression.annotations.Expression;
 import com.garganttua.core.reflection.IClass;
@@ -11,7 +12,7 @@ import com.garganttua.core.supply.ISupplier;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class NotNullCondition implements ICondition {
+public class NotNullCondition implements ICondition, BooleanSupplier {
 
     private ISupplier<?> supplier;
 
@@ -28,7 +29,7 @@ public class NotNullCondition implements ICondition {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating NOT NULL condition - negation of NULL condition");
-                boolean result = notNull(supplier.supply().orElse(null));
+                boolean result = getAsBoolean();
                 log.atDebug().log("NOT NULL condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -39,7 +40,12 @@ public class NotNullCondition implements ICondition {
         };
     }
 
-    @Expression(name = "notNull", description = "Checks if an object is not null")
+    @Override
+    public boolean getAsBoolean() throws ConditionException {
+        return notNull(supplier.supply().orElse(null));
+    }
+
+    @Expression(name = "notNull", description = "Checks if an object is not null", pure = true)
     public static boolean notNull(Object obj) {
         boolean nullResult = obj == null;
         log.atDebug().log("NULL condition result: {}", nullResult);
@@ -3,6 +3,7 @@ package com.garganttua.core.condition;
 import java.lang.reflect.Type;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import com.garganttua.core.expression.annotations.Expression;
 import com.garganttua.core.reflection.IClass;
@@ -11,7 +12,7 @@ import com.garganttua.core.supply.ISupplier;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class NullCondition implements ICondition {
+public class NullCondition implements ICondition, BooleanSupplier {
 
     private ISupplier<?> supplier;
 
@@ -28,7 +29,7 @@ public class NullCondition implements ICondition {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating NULL condition - checking if supplier returns null/empty");
-                Boolean result = Null(supplier.supply().orElse(null));
+                boolean result = getAsBoolean();
                 log.atDebug().log("NULL condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -39,7 +40,12 @@ public class NullCondition implements ICondition {
         };
     }
 
-    @Expression(name = "null", description = "Checks if an object is not null")
+    @Override
+    public boolean getAsBoolean() throws ConditionException {
+        return Null(supplier.supply().orElse(null));
+    }
+
+    @Expression(name = "null", description = "Checks if an object is not null", pure = true)
     public static boolean Null(Object obj) {
         boolean result = obj == null;
         log.atDebug().log("NULL condition result: {}", result);
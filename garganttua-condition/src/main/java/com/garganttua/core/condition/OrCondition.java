@@ -1,6 +1,8 @@
 package com.garganttua.core.condition;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -14,12 +16,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OrCondition implements ICondition {
 
-    private Set<ICondition> conditions;
+    private final List<ICondition> conditions;
 
-    public OrCondition(Set<ICondition> conditions) {
+    public OrCondition(Collection<ICondition> conditions) {
         log.atTrace().log("Entering OrCondition constructor with {} conditions",
                 conditions != null ? conditions.size() : 0);
-        this.conditions = Objects.requireNonNull(conditions, "Conditions cannot be null");
+        this.conditions = List.copyOf(Objects.requireNonNull(conditions, "Conditions cannot be null"));
         log.atTrace().log("Exiting OrCondition constructor");
     }
 
@@ -30,7 +32,7 @@ public class OrCondition implements ICondition {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating OR condition - at least one of {} conditions must be true", conditions.size());
-                boolean result = or(conditions);
+                boolean result = any(conditions);
                 log.atDebug().log("OR condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -43,6 +45,13 @@ public class OrCondition implements ICondition {
 
     @Expression(name = "or", description = "Logical OR of multiple conditions")
     public static boolean or(Set<ICondition> conditions) {
+        return any(conditions);
+    }
+
+    /**
+     * Evaluates the conditions in order, stopping at the first true one.
+     */
+    static boolean any(Iterable<ICondition> conditions) {
         int conditionIndex = 0;
         for (ICondition c : conditions) {
             boolean conditionResult = c.fullEvaluate();
@@ -56,4 +65,8 @@ public class OrCondition implements ICondition {
         return false;
     }
 
+    List<ICondition> conditions() {
+        return this.conditions;
+    }
+
 }
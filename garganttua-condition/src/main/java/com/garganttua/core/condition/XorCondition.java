@@ -1,6 +1,8 @@
 package com.garganttua.core.condition;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -14,12 +16,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class XorCondition implements ICondition {
 
-    private Set<ICondition> conditions;
+    private final List<ICondition> conditions;
 
-    public XorCondition(Set<ICondition> conditions) {
+    public XorCondition(Collection<ICondition> conditions) {
         log.atTrace().log("Entering XorCondition constructor with {} conditions",
                 conditions != null ? conditions.size() : 0);
-        this.conditions = Objects.requireNonNull(conditions, "Conditions cannot be null");
+        this.conditions = List.copyOf(Objects.requireNonNull(conditions, "Conditions cannot be null"));
         log.atTrace().log("Exiting XorCondition constructor");
     }
 
@@ -30,7 +32,7 @@ public class XorCondition implements ICondition {
             @Override
             public Optional<Boolean> supply() {
                 log.atDebug().log("Evaluating XOR condition - odd number of conditions must be true");
-                Boolean result = or(conditions);
+                Boolean result = parity(conditions);
                 log.atDebug().log("XOR condition evaluation complete: {}", result);
                 return Optional.of(result);
             }
@@ -43,6 +45,10 @@ public class XorCondition implements ICondition {
 
     @Expression(name = "xor", description = "Logical XOR of multiple conditions")
     public static Boolean or(Set<ICondition> conditions) {
+        return parity(conditions);
+    }
+
+    private static boolean parity(Iterable<ICondition> conditions) {
         boolean result = false;
         int conditionIndex = 0;
 
@@ -56,4 +62,8 @@ public class XorCondition implements ICondition {
         return result;
     }
 
+    List<ICondition> conditions() {
+        return this.conditions;
+    }
+
 }
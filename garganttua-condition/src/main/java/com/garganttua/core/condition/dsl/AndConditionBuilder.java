@@ -2,7 +2,6 @@ package com.garganttua.core.condition.dsl;
 
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import com.garganttua.core.condition.AndCondition;
 import com.garganttua.core.condition.ConditionException;
@@ -33,7 +32,7 @@ public class AndConditionBuilder implements IConditionBuilder {
 
         ICondition condition = null;
         if( !isContextual() )
-            condition = new AndCondition(Arrays.stream(this.conditions).map(b -> b.build()).collect(Collectors.toSet()));
+            condition = new AndCondition(Arrays.stream(this.conditions).map(b -> b.build()).toList());
 
         log.atDebug().log("AND condition built successfully");
         log.atTrace().log("Exiting build()");
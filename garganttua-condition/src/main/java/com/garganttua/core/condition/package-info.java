@@ -17,6 +17,7 @@
  *   <li>{@code NotNullCondition} - Not null check condition</li>
  *   <li>{@code CustomCondition} - Custom predicate-based condition</li>
  *   <li>{@code CustomExtractedCondition} - Custom condition with value extraction</li>
+ *   <li>{@code CompiledCondition} - Condition compiled into a short-circuiting {@code BooleanSupplier} tree</li>
  * </ul>
  *
  * <h2>Logical Operator Classes</h2>
@@ -0,0 +1,102 @@
+package com.garganttua.core.condition;
+
+import static com.garganttua.core.condition.Conditions.*;
+import static com.garganttua.core.supply.dsl.FixedSupplierBuilder.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.condition.dsl.IConditionBuilder;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+public class CompiledConditionTest {
+
+        @BeforeAll
+        static void setUp() throws Exception {
+                IClass.setReflection(ReflectionBuilder.builder()
+                                .withProvider(new RuntimeReflectionProvider())
+                                .build());
+        }
+
+        @AfterAll
+        static void tearDown() {
+                IClass.setReflection(null);
+        }
+
+        private static IConditionBuilder recording(List<String> calls, String name, boolean value) {
+                return custom(of(name), n -> {
+                        calls.add(n);
+                        return value;
+                });
+        }
+
+        @Test
+        public void testCompiledConditionsMatchEvaluation() {
+                IConditionBuilder t = isNotNull("value");
+                IConditionBuilder f = isNull("value");
+                List<ICondition> conditions = List.of(
+                                and(t, t).build(), and(t, f).build(),
+                                or(f, f).build(), or(f, t).build(),
+                                xor(t, t, t).build(), xor(t, f).build(),
+                                nand(t, t).build(), nand(t, f).build(),
+                                nor(f, f).build(), nor(t, f).build(),
+                                and(or(f, t), nand(f, f), Conditions.equals(of(10), of(10))).build());
+
+                for (ICondition condition : conditions) {
+                        assertEquals(condition.fullEvaluate(), CompiledCondition.compile(condition).getAsBoolean());
+                        assertEquals(condition.fullEvaluate(), CompiledCondition.compile(condition, true).fullEvaluate());
+                }
+        }
+
+        @Test
+        public void testOperandsAreEvaluatedInOrderAndShortCircuit() {
+                List<String> calls = new ArrayList<>();
+                ICondition and = and(recording(calls, "a", true), recording(calls, "b", false),
+                                recording(calls, "c", true)).build();
+
+                assertFalse(and.fullEvaluate());
+                assertEquals(List.of("a", "b"), calls);
+
+                calls.clear();
+                assertFalse(CompiledCondition.compile(and).getAsBoolean());
+                assertEquals(List.of("a", "b"), calls);
+
+                calls.clear();
+                ICondition or = or(recording(calls, "a", false), recording(calls, "b", true),
+                                recording(calls, "c", false)).build();
+                assertTrue(CompiledCondition.compile(or).getAsBoolean());
+                assertEquals(List.of("a", "b"), calls);
+        }
+
+        @Test
+        public void testAdaptiveConditionMovesDecisiveOperandsFirst() {
+                AtomicInteger expensiveCalls = new AtomicInteger();
+                IConditionBuilder expensive = custom(of(1000), n -> {
+                        expensiveCalls.incrementAndGet();
+                        double sum = 0;
+                        for (int i = 0; i < n; i++) {
+                                sum += Math.sqrt(i);
+                        }
+                        return sum >= 0;
+                });
+                CompiledCondition condition = CompiledCondition.compile(and(expensive, isNull("value")).build(), true);
+
+                for (int i = 0; i < 4096; i++) {
+                        assertFalse(condition.getAsBoolean());
+                }
+                expensiveCalls.set(0);
+                for (int i = 0; i < 1000; i++) {
+                        assertFalse(condition.getAsBoolean());
+                }
+
+                assertEquals(0, expensiveCalls.get());
+        }
+}
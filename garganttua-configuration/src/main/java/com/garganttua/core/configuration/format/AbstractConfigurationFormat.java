@@ -9,7 +9,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.garganttua.core.configuration.ConfigurationException;
 import com.garganttua.core.configuration.IConfigurationFormat;
 import com.garganttua.core.configuration.IConfigurationNode;
+import com.garganttua.core.configuration.IConfigurationStream;
 import com.garganttua.core.configuration.node.ConfigurationNode;
+import com.garganttua.core.configuration.node.ConfigurationStream;
 import com.garganttua.core.reflection.IClass;
 
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +33,17 @@ public abstract class AbstractConfigurationFormat implements IConfigurationForma
         }
     }
 
+    @Override
+    public IConfigurationStream stream(InputStream input) throws ConfigurationException {
+        log.atDebug().log("Streaming configuration with format: {}", name());
+        try {
+            ObjectMapper mapper = createMapper();
+            return new ConfigurationStream(mapper.createParser(input));
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to parse " + name() + " configuration", e);
+        }
+    }
+
     @Override
     public boolean supports(String extensionOrMediaType) {
         return extensions().contains(extensionOrMediaType.toLowerCase())
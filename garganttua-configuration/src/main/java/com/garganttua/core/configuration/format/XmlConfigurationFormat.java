@@ -1,8 +1,13 @@
 package com.garganttua.core.configuration.format;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Set;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.garganttua.core.configuration.ConfigurationException;
+import com.garganttua.core.configuration.IConfigurationStream;
+import com.garganttua.core.configuration.node.ConfigurationStream;
 import com.garganttua.core.reflection.IClass;
 
 public class XmlConfigurationFormat extends AbstractConfigurationFormat {
@@ -24,6 +29,17 @@ public class XmlConfigurationFormat extends AbstractConfigurationFormat {
         return Set.of("application/xml", "text/xml");
     }
 
+    @Override
+    public IConfigurationStream stream(InputStream input) throws ConfigurationException {
+        // Repeated elements only become arrays when the document is read as a tree
+        try {
+            ObjectMapper mapper = createMapper();
+            return new ConfigurationStream(mapper.readTree(input).traverse(mapper));
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to parse " + name() + " configuration", e);
+        }
+    }
+
     @Override
     protected ObjectMapper createMapper() {
         try {
@@ -5,7 +5,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import com.garganttua.core.configuration.ConfigurationException;
 import com.garganttua.core.configuration.IConfigurationNode;
+import com.garganttua.core.configuration.IConfigurationNode.NodeType;
+import com.garganttua.core.configuration.IConfigurationStream;
 import com.garganttua.core.injection.DiException;
 import com.garganttua.core.injection.IPropertyProvider;
 import com.garganttua.core.reflection.IClass;
@@ -27,6 +30,12 @@ public class ConfigurationPropertyProvider implements IPropertyProvider {
         log.atDebug().log("Flattened configuration tree into {} properties", this.properties.size());
     }
 
+    public ConfigurationPropertyProvider(IConfigurationStream stream) throws ConfigurationException {
+        this.properties = new LinkedHashMap<>();
+        flatten(stream);
+        log.atDebug().log("Flattened configuration stream into {} properties", this.properties.size());
+    }
+
     private ConfigurationPropertyProvider(Map<String, String> properties) {
         this.properties = new LinkedHashMap<>(properties);
     }
@@ -47,6 +56,24 @@ public class ConfigurationPropertyProvider implements IPropertyProvider {
         }
     }
 
+    private void flatten(IConfigurationStream stream) throws ConfigurationException {
+        var type = stream.type();
+        if (type == NodeType.OBJECT) {
+            stream.beginObject();
+            while (stream.nextField() != null) {
+                flatten(stream);
+            }
+        } else if (type == NodeType.ARRAY) {
+            stream.beginArray();
+            while (stream.nextElement()) {
+                flatten(stream);
+            }
+        } else if (type == NodeType.VALUE) {
+            var key = stream.path();
+            stream.text().ifPresent(v -> this.properties.put(key, v));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<T> getProperty(String key, IClass<T> type) throws DiException {
@@ -1,6 +1,7 @@
 package com.garganttua.core.configuration.node;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -11,16 +12,31 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.garganttua.core.configuration.IConfigurationNode;
 import com.garganttua.core.reflection.IClass;
 
+/**
+ * Configuration node wrapping a Jackson {@link JsonNode}.
+ *
+ * <p>
+ * The children and elements of the node are wrapped on first access only, then
+ * kept: walking the tree again does not wrap the nodes again. Their paths share
+ * the path of this node, and are built as strings only when asked.
+ * </p>
+ */
 public class ConfigurationNode implements IConfigurationNode {
 
     private final JsonNode jsonNode;
-    private final String path;
+    private final ConfigurationPath path;
+    private volatile Map<String, IConfigurationNode> children;
+    private volatile List<IConfigurationNode> elements;
 
     public ConfigurationNode(JsonNode jsonNode) {
-        this(jsonNode, "");
+        this(jsonNode, ConfigurationPath.ROOT);
     }
 
     public ConfigurationNode(JsonNode jsonNode, String path) {
+        this(jsonNode, ConfigurationPath.of(path));
+    }
+
+    ConfigurationNode(JsonNode jsonNode, ConfigurationPath path) {
         this.jsonNode = jsonNode;
         this.path = path;
     }
@@ -44,32 +60,41 @@ public class ConfigurationNode implements IConfigurationNode {
         if (this.jsonNode == null || !this.jsonNode.has(key)) {
             return Optional.empty();
         }
-        var childPath = this.path.isEmpty() ? key : this.path + "." + key;
-        return Optional.of(new ConfigurationNode(this.jsonNode.get(key), childPath));
+        return Optional.ofNullable(children().get(key));
     }
 
     @Override
     public Map<String, IConfigurationNode> children() {
-        var result = new LinkedHashMap<String, IConfigurationNode>();
-        if (this.jsonNode != null && this.jsonNode.isObject()) {
-            Iterator<Map.Entry<String, JsonNode>> fields = this.jsonNode.fields();
-            while (fields.hasNext()) {
-                var entry = fields.next();
-                var childPath = this.path.isEmpty() ? entry.getKey() : this.path + "." + entry.getKey();
-                result.put(entry.getKey(), new ConfigurationNode(entry.getValue(), childPath));
+        var result = this.children;
+        if (result == null) {
+            var wrapped = new LinkedHashMap<String, IConfigurationNode>();
+            if (this.jsonNode != null && this.jsonNode.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = this.jsonNode.fields();
+                while (fields.hasNext()) {
+                    var entry = fields.next();
+                    wrapped.put(entry.getKey(),
+                            new ConfigurationNode(entry.getValue(), this.path.child(entry.getKey())));
+                }
             }
+            result = Collections.unmodifiableMap(wrapped);
+            this.children = result;
         }
         return result;
     }
 
     @Override
     public List<IConfigurationNode> elements() {
-        var result = new ArrayList<IConfigurationNode>();
-        if (this.jsonNode != null && this.jsonNode.isArray()) {
-            for (int i = 0; i < this.jsonNode.size(); i++) {
-                var childPath = this.path + "[" + i + "]";
-                result.add(new ConfigurationNode(this.jsonNode.get(i), childPath));
+        var result = this.elements;
+        if (result == null) {
+            var wrapped = new ArrayList<IConfigurationNode>();
+            if (this.jsonNode != null && this.jsonNode.isArray()) {
+                wrapped.ensureCapacity(this.jsonNode.size());
+                for (int i = 0; i < this.jsonNode.size(); i++) {
+                    wrapped.add(new ConfigurationNode(this.jsonNode.get(i), this.path.element(i)));
+                }
             }
+            result = Collections.unmodifiableList(wrapped);
+            this.elements = result;
         }
         return result;
     }
@@ -115,7 +140,7 @@ public class ConfigurationNode implements IConfigurationNode {
 
     @Override
     public String path() {
-        return this.path;
+        return this.path.toString();
     }
 
     @Override
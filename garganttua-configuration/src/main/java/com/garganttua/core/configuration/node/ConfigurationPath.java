@@ -0,0 +1,52 @@
+package com.garganttua.core.configuration.node;
+
+/**
+ * Path of a configuration node, sharing the path of its parent node. The path is
+ * only built as a string when asked, once.
+ */
+final class ConfigurationPath {
+
+    static final ConfigurationPath ROOT = new ConfigurationPath(null, "", -1);
+
+    private final ConfigurationPath parent;
+    // Null for an array element
+    private final String key;
+    private final int index;
+    private String value;
+
+    private ConfigurationPath(ConfigurationPath parent, String key, int index) {
+        this.parent = parent;
+        this.key = key;
+        this.index = index;
+        if (parent == null) {
+            this.value = key;
+        }
+    }
+
+    static ConfigurationPath of(String path) {
+        return path.isEmpty() ? ROOT : new ConfigurationPath(null, path, -1);
+    }
+
+    ConfigurationPath child(String key) {
+        return new ConfigurationPath(this, key, -1);
+    }
+
+    ConfigurationPath element(int index) {
+        return new ConfigurationPath(this, null, index);
+    }
+
+    @Override
+    public String toString() {
+        var value = this.value;
+        if (value == null) {
+            var parentPath = this.parent.toString();
+            if (this.key == null) {
+                value = parentPath + "[" + this.index + "]";
+            } else {
+                value = parentPath.isEmpty() ? this.key : parentPath + "." + this.key;
+            }
+            this.value = value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,198 @@
+package com.garganttua.core.configuration.node;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.garganttua.core.configuration.ConfigurationException;
+import com.garganttua.core.configuration.IConfigurationNode;
+import com.garganttua.core.configuration.IConfigurationNode.NodeType;
+import com.garganttua.core.configuration.IConfigurationStream;
+
+/**
+ * Configuration stream reading the tokens of a Jackson {@link JsonParser}.
+ *
+ * <p>
+ * Only the nodes materialized with {@link #node()} are read as trees. The path of
+ * the current node is kept as the keys and indexes of the entered nodes, and
+ * built as a string only when asked.
+ * </p>
+ */
+public class ConfigurationStream implements IConfigurationStream {
+
+    private final JsonParser parser;
+    // Entered objects and arrays, innermost last
+    private final List<Level> levels = new ArrayList<>();
+    // Whether the current node has been entered, read or materialized
+    private boolean consumed;
+
+    public ConfigurationStream(JsonParser parser) throws ConfigurationException {
+        this.parser = parser;
+        try {
+            this.parser.nextToken();
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to read configuration", e);
+        }
+    }
+
+    @Override
+    public NodeType type() {
+        var token = this.parser.currentToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return NodeType.NULL;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            return NodeType.OBJECT;
+        }
+        if (token == JsonToken.START_ARRAY) {
+            return NodeType.ARRAY;
+        }
+        return NodeType.VALUE;
+    }
+
+    @Override
+    public void beginObject() throws ConfigurationException {
+        enter(NodeType.OBJECT);
+        this.levels.add(new Level(false));
+    }
+
+    @Override
+    public String nextField() throws ConfigurationException {
+        var level = innermost(false);
+        var token = next();
+        if (token == JsonToken.END_OBJECT) {
+            this.levels.remove(this.levels.size() - 1);
+            return null;
+        }
+        level.key = this.parser.currentName();
+        next();
+        this.consumed = false;
+        return level.key;
+    }
+
+    @Override
+    public void beginArray() throws ConfigurationException {
+        enter(NodeType.ARRAY);
+        this.levels.add(new Level(true));
+    }
+
+    @Override
+    public boolean nextElement() throws ConfigurationException {
+        var level = innermost(true);
+        if (next() == JsonToken.END_ARRAY) {
+            this.levels.remove(this.levels.size() - 1);
+            return false;
+        }
+        level.index++;
+        this.consumed = false;
+        return true;
+    }
+
+    @Override
+    public Optional<String> text() throws ConfigurationException {
+        var type = type();
+        if (type == NodeType.NULL) {
+            this.consumed = true;
+            return Optional.empty();
+        }
+        if (type != NodeType.VALUE) {
+            return node().asText();
+        }
+        try {
+            this.consumed = true;
+            return Optional.of(this.parser.getText());
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public IConfigurationNode node() throws ConfigurationException {
+        if (this.consumed) {
+            throw new ConfigurationException("Configuration node at " + path() + " has already been read");
+        }
+        try {
+            JsonNode tree = this.parser.readValueAsTree();
+            this.consumed = true;
+            return new ConfigurationNode(tree, ConfigurationPath.of(path()));
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public String path() {
+        var path = new StringBuilder();
+        for (var level : this.levels) {
+            if (level.array) {
+                if (level.index >= 0) {
+                    path.append('[').append(level.index).append(']');
+                }
+            } else if (level.key != null) {
+                if (path.length() > 0) {
+                    path.append('.');
+                }
+                path.append(level.key);
+            }
+        }
+        return path.toString();
+    }
+
+    @Override
+    public void close() throws ConfigurationException {
+        try {
+            this.parser.close();
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to close configuration stream", e);
+        }
+    }
+
+    private void enter(NodeType type) throws ConfigurationException {
+        if (this.consumed || type() != type) {
+            throw new ConfigurationException("Expected unread " + type + " node at " + path() + ", got " + type());
+        }
+        this.consumed = true;
+    }
+
+    private Level innermost(boolean array) throws ConfigurationException {
+        if (this.levels.isEmpty() || this.levels.get(this.levels.size() - 1).array != array) {
+            throw new ConfigurationException("Not in an " + (array ? "array" : "object") + " at " + path());
+        }
+        return this.levels.get(this.levels.size() - 1);
+    }
+
+    /**
+     * Moves to the token following the current node, skipping the current node if
+     * it has not been consumed.
+     */
+    private JsonToken next() throws ConfigurationException {
+        try {
+            if (!this.consumed) {
+                this.parser.skipChildren();
+                this.consumed = true;
+            }
+            return this.parser.nextToken();
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    private ConfigurationException failure(IOException e) {
+        return new ConfigurationException("Failed to read configuration at " + path(), e);
+    }
+
+    private static final class Level {
+
+        private final boolean array;
+        private String key;
+        private int index = -1;
+
+        private Level(boolean array) {
+            this.array = array;
+        }
+    }
+}
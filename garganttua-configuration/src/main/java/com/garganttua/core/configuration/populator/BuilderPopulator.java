@@ -11,6 +11,7 @@ import com.garganttua.core.configuration.IConfigurationNode;
 import com.garganttua.core.configuration.IConfigurationNode.NodeType;
 import com.garganttua.core.configuration.IConfigurationPopulator;
 import com.garganttua.core.configuration.IConfigurationSource;
+import com.garganttua.core.configuration.IConfigurationStream;
 import com.garganttua.core.dsl.IBuilder;
 import com.garganttua.core.dsl.ILinkedBuilder;
 
@@ -35,7 +36,19 @@ public class BuilderPopulator implements IConfigurationPopulator {
     public <B extends IBuilder<?>> B populate(B builder, IConfigurationNode node) throws ConfigurationException {
         var context = new PopulationContext(this.strict);
         populateBuilder(builder, node, context);
+        report(context);
+        return builder;
+    }
+
+    @Override
+    public <B extends IBuilder<?>> B populate(B builder, IConfigurationStream stream) throws ConfigurationException {
+        var context = new PopulationContext(this.strict);
+        populateBuilder(builder, stream, context);
+        report(context);
+        return builder;
+    }
 
+    private void report(PopulationContext context) throws ConfigurationException {
         if (context.hasErrors()) {
             throw new ConfigurationException("Configuration errors: " + String.join("; ", context.getErrors()));
         }
@@ -43,8 +56,6 @@ public class BuilderPopulator implements IConfigurationPopulator {
         for (var warning : context.getWarnings()) {
             log.atWarn().log("{}", warning);
         }
-
-        return builder;
     }
 
     @Override
@@ -57,8 +68,9 @@ public class BuilderPopulator implements IConfigurationPopulator {
     public <B extends IBuilder<?>> B populate(B builder, IConfigurationSource source, IConfigurationFormat format)
             throws ConfigurationException {
         log.atDebug().log("Populating builder {} from {}", builder.getClass().getSimpleName(), source.getDescription());
-        var node = format.parse(source.getInputStream());
-        return populate(builder, node);
+        try (var stream = format.stream(source.getInputStream())) {
+            return populate(builder, stream);
+        }
     }
 
     private void populateBuilder(Object builder, IConfigurationNode node, PopulationContext context)
@@ -100,7 +112,7 @@ public class BuilderPopulator implements IConfigurationPopulator {
             } else if (node.type() == NodeType.ARRAY) {
                 handleArrayNode(builder, method, node, context);
             } else if (node.type() == NodeType.VALUE) {
-                handleValueNode(builder, method, node);
+                handleValue(builder, method, node.asText().orElse(null));
             } else {
                 // NULL node - skip
                 log.atDebug().log("Skipping null node at {}", context.getCurrentPath());
@@ -204,9 +216,8 @@ public class BuilderPopulator implements IConfigurationPopulator {
         }
     }
 
-    private void handleValueNode(Object builder, Method method, IConfigurationNode node)
+    private void handleValue(Object builder, Method method, String text)
             throws Exception {
-        var text = node.asText().orElse(null);
         if (text == null) {
             return;
         }
@@ -230,6 +241,98 @@ public class BuilderPopulator implements IConfigurationPopulator {
                 text, method.getName(), method.getParameterCount());
     }
 
+    // Child builders and arrays of values or child builders are populated as they are read,
+    // the other nodes are read as trees one at a time
+    private void populateBuilder(Object builder, IConfigurationStream stream, PopulationContext context)
+            throws ConfigurationException {
+        if (stream.type() != NodeType.OBJECT) {
+            throw new ConfigurationException("Expected OBJECT node at " + context.getCurrentPath()
+                    + ", got " + stream.type());
+        }
+
+        stream.beginObject();
+        String key;
+        while ((key = stream.nextField()) != null) {
+            context.pushPath(key);
+            try {
+                var method = this.methodMapping.resolve(builder.getClass(), key);
+
+                if (method.isEmpty()) {
+                    if (this.strict) {
+                        context.addError("Unknown configuration key '" + key + "'");
+                    } else {
+                        context.addWarning("Unknown configuration key '" + key + "', ignoring");
+                    }
+                    continue;
+                }
+
+                invokeMethod(builder, method.get(), stream, context);
+            } finally {
+                context.popPath();
+            }
+        }
+    }
+
+    private void invokeMethod(Object builder, Method method, IConfigurationStream stream, PopulationContext context)
+            throws ConfigurationException {
+        try {
+            var type = stream.type();
+            if (type == NodeType.OBJECT && isChildBuilder(method.getReturnType(), builder.getClass())) {
+                populateChildBuilder(builder, method, stream, context);
+            } else if (type == NodeType.ARRAY && !acceptsAllElements(method)) {
+                handleArrayStream(builder, method, stream, context);
+            } else if (type == NodeType.VALUE) {
+                handleValue(builder, method, stream.text().orElse(null));
+            } else if (type == NodeType.NULL) {
+                log.atDebug().log("Skipping null node at {}", context.getCurrentPath());
+            } else {
+                invokeMethod(builder, method, stream.node(), context);
+            }
+        } catch (ConfigurationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ConfigurationException("Failed to invoke " + method.getName() + " at "
+                    + context.getCurrentPath(), e);
+        }
+    }
+
+    private void populateChildBuilder(Object builder, Method method, IConfigurationStream stream,
+            PopulationContext context) throws Exception {
+        var childBuilder = method.invoke(builder);
+        if (childBuilder != null) {
+            populateBuilder(childBuilder, stream, context);
+            if (childBuilder instanceof ILinkedBuilder<?, ?> linked) {
+                linked.up();
+            }
+        }
+    }
+
+    private void handleArrayStream(Object builder, Method method, IConfigurationStream stream,
+            PopulationContext context) throws Exception {
+        stream.beginArray();
+        while (stream.nextElement()) {
+            var type = stream.type();
+            if (type == NodeType.VALUE) {
+                if (method.getParameterCount() == 1) {
+                    var paramType = method.getParameterTypes()[0];
+                    var converted = this.typeConverter.convert(stream.text().orElse(null), paramType);
+                    method.invoke(builder, converted);
+                }
+            } else if (type == NodeType.OBJECT && isChildBuilder(method.getReturnType(), builder.getClass())) {
+                populateChildBuilder(builder, method, stream, context);
+            }
+        }
+    }
+
+    // Whether the method takes all the elements of an array at once, as a list or an array
+    private boolean acceptsAllElements(Method method) {
+        if (method.getParameterCount() != 1) {
+            return false;
+        }
+        var paramType = method.getParameterTypes()[0];
+        return List.class.isAssignableFrom(paramType) || paramType.isArray();
+    }
+
     private boolean isChildBuilder(Class<?> returnType, Class<?> builderClass) {
         if (returnType == null || returnType == void.class || returnType == Void.class) {
             return false;
@@ -11,7 +11,8 @@ public class PopulationContext {
     private final boolean strict;
     private final List<String> warnings = new ArrayList<>();
     private final List<String> errors = new ArrayList<>();
-    @Getter
+    private final List<String> path = new ArrayList<>();
+    // Built from the path when asked, null when it changed since
     private String currentPath = "";
 
     public PopulationContext(boolean strict) {
@@ -19,20 +20,30 @@ public class PopulationContext {
     }
 
     public void pushPath(String key) {
-        this.currentPath = this.currentPath.isEmpty() ? key : this.currentPath + "." + key;
+        this.path.add(key);
+        this.currentPath = null;
     }
 
     public void popPath() {
-        int dot = this.currentPath.lastIndexOf('.');
-        this.currentPath = dot > 0 ? this.currentPath.substring(0, dot) : "";
+        if (!this.path.isEmpty()) {
+            this.path.remove(this.path.size() - 1);
+            this.currentPath = null;
+        }
+    }
+
+    public String getCurrentPath() {
+        if (this.currentPath == null) {
+            this.currentPath = String.join(".", this.path);
+        }
+        return this.currentPath;
     }
 
     public void addWarning(String message) {
-        this.warnings.add(this.currentPath + ": " + message);
+        this.warnings.add(getCurrentPath() + ": " + message);
     }
 
     public void addError(String message) {
-        this.errors.add(this.currentPath + ": " + message);
+        this.errors.add(getCurrentPath() + ": " + message);
     }
 
     public List<String> getWarnings() {
@@ -128,4 +128,37 @@ class BuilderPopulatorTest {
         assertEquals("fromNode", builder.getName());
         assertEquals(9090, builder.getPort());
     }
+
+    @Test
+    void testPopulateFromStream() throws Exception {
+        var format = new JsonConfigurationFormat();
+        var json = """
+                {"ignored": {"deep": [1, 2]}, "name": "fromStream", "port": 7070}
+                """;
+        var source = new StringConfigurationSource(json, "json");
+        var builder = new SimpleBuilder();
+
+        try (var stream = format.stream(source.getInputStream())) {
+            this.populator.populate(builder, stream);
+        }
+
+        assertEquals("fromStream", builder.getName());
+        assertEquals(7070, builder.getPort());
+    }
+
+    @Test
+    void testArrayRepeatedCallsFromStream() throws Exception {
+        var format = new JsonConfigurationFormat();
+        var json = """
+                {"tags": ["web", "api"]}
+                """;
+        var source = new StringConfigurationSource(json, "json");
+        var builder = new ArrayBuilder();
+
+        try (var stream = format.stream(source.getInputStream())) {
+            this.populator.populate(builder, stream);
+        }
+
+        assertEquals(List.of("web", "api"), builder.getTags());
+    }
 }
@@ -121,6 +121,21 @@ class ConfigurationPropertyProviderTest {
         assertEquals("test", copy.getProperty("name", IClass.getClass(String.class)).orElse(null));
     }
 
+    @Test
+    void testFlattenStream() throws Exception {
+        var json = """
+                {"database": {"host": "localhost", "replicas": ["a", "b"]}, "empty": null}
+                """;
+        var fromTree = new ConfigurationPropertyProvider(parseJson(json));
+
+        try (var stream = new JsonConfigurationFormat().stream(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+            var provider = new ConfigurationPropertyProvider(stream);
+            assertEquals(fromTree.keys(), provider.keys());
+            assertEquals("b", provider.getProperty("database.replicas[1]", IClass.getClass(String.class)).orElse(null));
+        }
+    }
+
     private IConfigurationNode parseJson(String json) throws ConfigurationException {
         var format = new JsonConfigurationFormat();
         var is = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
@@ -0,0 +1,239 @@
+package com.garganttua.core.configuration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.configuration.IConfigurationNode.NodeType;
+import com.garganttua.core.configuration.format.JsonConfigurationFormat;
+import com.garganttua.core.dsl.IBuilder;
+import com.garganttua.core.reflection.JdkReflectionProvider;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+
+class ConfigurationStreamTest {
+
+    @BeforeAll
+    static void setUpReflection() throws Exception {
+        ReflectionBuilder.builder()
+            .withProvider(new JdkReflectionProvider())
+            .build();
+    }
+
+    private static final String WALKED = """
+            {"name": "app", "tags": ["web", "api"]}
+            """;
+
+    private static final String SKIPPED = """
+            {"skipped": {"a": [1, {"b": 2}]}, "list": [[1, 2], 3], "kept": "yes"}
+            """;
+
+    @Test
+    void testWalkFieldsAndElements() throws Exception {
+        try (var stream = streamJson(WALKED)) {
+            assertWalk(stream);
+        }
+    }
+
+    @Test
+    void testSkipUnreadNodes() throws Exception {
+        try (var stream = streamJson(SKIPPED)) {
+            assertSkip(stream);
+        }
+    }
+
+    @Test
+    void testFormatsWithoutStreamingWalkTheParsedTree() throws Exception {
+        try (var stream = treeFormat().stream(input(WALKED))) {
+            assertWalk(stream);
+        }
+        try (var stream = treeFormat().stream(input(SKIPPED))) {
+            assertSkip(stream);
+        }
+        try (var stream = treeFormat().stream(input("""
+                {"database": {"hosts": ["h1", "h2"]}, "missing": null}
+                """))) {
+            stream.beginObject();
+            assertEquals("database", stream.nextField());
+            var node = stream.node();
+            assertEquals("database.hosts[1]", node.get("hosts").orElseThrow().elements().get(1).path());
+            assertThrows(ConfigurationException.class, stream::beginObject);
+
+            assertEquals("missing", stream.nextField());
+            assertEquals(NodeType.NULL, stream.type());
+            assertTrue(stream.text().isEmpty());
+            assertNull(stream.nextField());
+        }
+    }
+
+    @Test
+    void testPopulatorsWithoutStreamingReadTheMaterializedNode() throws Exception {
+        var populated = new IConfigurationNode[1];
+        IConfigurationPopulator populator = new IConfigurationPopulator() {
+            @Override
+            public <B extends IBuilder<?>> B populate(B builder, IConfigurationNode node) {
+                populated[0] = node;
+                return builder;
+            }
+
+            @Override
+            public <B extends IBuilder<?>> B populate(B builder, IConfigurationSource source) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <B extends IBuilder<?>> B populate(B builder, IConfigurationSource source,
+                    IConfigurationFormat format) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        try (var stream = streamJson(WALKED)) {
+            populator.populate(null, stream);
+        }
+
+        assertEquals("app", populated[0].get("name").orElseThrow().asText().orElse(null));
+        assertEquals(2, populated[0].get("tags").orElseThrow().elements().size());
+    }
+
+    @Test
+    void testNodeMaterializesSubtree() throws Exception {
+        try (var stream = streamJson("""
+                {"database": {"hosts": ["h1", "h2"]}, "after": "x"}
+                """)) {
+            stream.beginObject();
+            assertEquals("database", stream.nextField());
+
+            var node = stream.node();
+            assertEquals("database", node.path());
+            var host = node.get("hosts").orElseThrow().elements().get(1);
+            assertEquals("database.hosts[1]", host.path());
+            assertEquals("h2", host.asText().orElse(null));
+
+            assertEquals("after", stream.nextField());
+            assertEquals("x", stream.text().orElse(null));
+        }
+    }
+
+    @Test
+    void testReadNodeTwiceFails() throws Exception {
+        try (var stream = streamJson("""
+                {"name": "app"}
+                """)) {
+            stream.beginObject();
+            stream.nextField();
+            stream.text();
+
+            assertThrows(ConfigurationException.class, stream::node);
+            assertThrows(ConfigurationException.class, stream::beginArray);
+        }
+    }
+
+    @Test
+    void testNullValue() throws Exception {
+        try (var stream = streamJson("""
+                {"missing": null}
+                """)) {
+            stream.beginObject();
+            stream.nextField();
+
+            assertEquals(NodeType.NULL, stream.type());
+            assertTrue(stream.text().isEmpty());
+        }
+    }
+
+    @Test
+    void testNodeChildrenAreMemoized() throws Exception {
+        var node = new JsonConfigurationFormat().parse(new ByteArrayInputStream("""
+                {"a": {"b": "1"}, "list": [1, 2]}
+                """.getBytes(StandardCharsets.UTF_8)));
+
+        assertSame(node.children(), node.children());
+        assertSame(node.get("a").orElseThrow(), node.get("a").orElseThrow());
+        var list = node.get("list").orElseThrow();
+        assertSame(list.elements(), list.elements());
+        assertEquals("a.b", node.get("a").orElseThrow().get("b").orElseThrow().path());
+    }
+
+    private void assertWalk(IConfigurationStream stream) throws ConfigurationException {
+        assertEquals(NodeType.OBJECT, stream.type());
+        stream.beginObject();
+
+        assertEquals("name", stream.nextField());
+        assertEquals("name", stream.path());
+        assertEquals("app", stream.text().orElse(null));
+
+        assertEquals("tags", stream.nextField());
+        assertEquals(NodeType.ARRAY, stream.type());
+        stream.beginArray();
+        assertEquals("tags", stream.path());
+        assertTrue(stream.nextElement());
+        assertEquals("tags[0]", stream.path());
+        assertEquals("web", stream.text().orElse(null));
+        assertTrue(stream.nextElement());
+        assertEquals("tags[1]", stream.path());
+        assertEquals("api", stream.text().orElse(null));
+        assertFalse(stream.nextElement());
+
+        assertNull(stream.nextField());
+    }
+
+    private void assertSkip(IConfigurationStream stream) throws ConfigurationException {
+        stream.beginObject();
+        assertEquals("skipped", stream.nextField());
+        assertEquals("list", stream.nextField());
+        assertEquals("kept", stream.nextField());
+        assertEquals("yes", stream.text().orElse(null));
+        assertNull(stream.nextField());
+    }
+
+    private IConfigurationStream streamJson(String json) throws ConfigurationException {
+        var format = new JsonConfigurationFormat();
+        return format.stream(input(json));
+    }
+
+    private static InputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Format implementing parsing only, relying on the default stream
+    private static IConfigurationFormat treeFormat() {
+        var json = new JsonConfigurationFormat();
+        return new IConfigurationFormat() {
+            @Override
+            public String name() {
+                return "tree";
+            }
+
+            @Override
+            public Set<String> extensions() {
+                return Set.of();
+            }
+
+            @Override
+            public Set<String> mediaTypes() {
+                return Set.of();
+            }
+
+            @Override
+            public IConfigurationNode parse(InputStream input) throws ConfigurationException {
+                return json.parse(input);
+            }
+
+            @Override
+            public boolean supports(String extensionOrMediaType) {
+                return false;
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,201 @@
+package com.garganttua.core.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Immutable, reusable form of an {@link ExecutorChain}, compiled once and executed
+ * any number of times, concurrently if needed.
+ *
+ * <p>
+ * The executors are stored in an array and run by an index-based loop. The
+ * fallbacks to run when each executor fails, most recently added first, are
+ * resolved when the plan is compiled. An execution allocates a single cursor,
+ * which is the {@link IExecutorChain} handed to the executors, and nothing per
+ * executor.
+ * </p>
+ *
+ * <p>
+ * Executors and fallbacks behave as in an {@link ExecutorChain}: an executor
+ * continues the execution by calling {@code next.execute(request)}, possibly with
+ * a new request, and stops it otherwise; when it throws an
+ * {@link ExecutorException}, the fallbacks run, then the exception is rethrown or
+ * the execution stops, depending on {@code rethrow}. Executors cannot be added to
+ * a plan while it runs.
+ * </p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * ExecutionPlan<Integer> plan = ExecutionPlan.compile(true, chain -> {
+ *     chain.addExecutor((i, next) -> next.execute(i + 1));
+ *     chain.addExecutor((i, next) -> next.execute(i * 2), (i, next) -> next.executeFallBack(i));
+ * });
+ * plan.execute(1);
+ * plan.execute(2);
+ * }</pre>
+ *
+ * @param <T> the type of request processed by the plan
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public final class ExecutionPlan<T> {
+
+	private final IExecutor<T>[] executors;
+
+	// Fallbacks to run when the executor at the same index fails
+	private final IFallBackExecutor<T>[][] fallbacks;
+
+	private final boolean rethrow;
+
+	@SuppressWarnings("unchecked")
+	private ExecutionPlan(List<IExecutor<T>> executors, List<IFallBackExecutor<T>> fallbacks, boolean rethrow) {
+		this.executors = executors.toArray(new IExecutor[0]);
+		this.fallbacks = new IFallBackExecutor[this.executors.length][];
+		this.rethrow = rethrow;
+
+		IFallBackExecutor<T>[] current = new IFallBackExecutor[0];
+		for (int i = 0; i < this.executors.length; i++) {
+			IFallBackExecutor<T> fallback = fallbacks.get(i);
+			if (fallback != null) {
+				IFallBackExecutor<T>[] next = new IFallBackExecutor[current.length + 1];
+				next[0] = fallback;
+				System.arraycopy(current, 0, next, 1, current.length);
+				current = next;
+			}
+			this.fallbacks[i] = current;
+		}
+	}
+
+	/**
+	 * Compiles a plan from the executors added by a definition, in the order they
+	 * are added.
+	 *
+	 * @param rethrow    whether the exception of a failing executor is rethrown
+	 *                   after its fallbacks ran
+	 * @param definition adds the executors to the chain it is given, which only
+	 *                   supports {@code addExecutor}
+	 * @param <T>        the type of request processed by the plan
+	 * @return the compiled plan
+	 */
+	public static <T> ExecutionPlan<T> compile(boolean rethrow, Consumer<IExecutorChain<T>> definition) {
+		Objects.requireNonNull(definition, "Definition cannot be null");
+		List<IExecutor<T>> executors = new ArrayList<>();
+		List<IFallBackExecutor<T>> fallbacks = new ArrayList<>();
+		definition.accept(new IExecutorChain<T>() {
+			@Override
+			public void addExecutor(IExecutor<T> executor) {
+				this.addExecutor(executor, null);
+			}
+
+			@Override
+			public void addExecutor(IExecutor<T> executor, IFallBackExecutor<T> fallBackExecutor) {
+				executors.add(Objects.requireNonNull(executor, "Executor cannot be null"));
+				fallbacks.add(fallBackExecutor);
+			}
+
+			@Override
+			public void execute(T request) {
+				throw new UnsupportedOperationException("Execution plan is being compiled");
+			}
+
+			@Override
+			public void executeFallBack(T request) {
+				throw new UnsupportedOperationException("Execution plan is being compiled");
+			}
+		});
+		log.atDebug().log("Execution plan compiled with {} executors", executors.size());
+		return new ExecutionPlan<>(executors, fallbacks, rethrow);
+	}
+
+	/**
+	 * Returns the number of executors of the plan.
+	 */
+	public int size() {
+		return this.executors.length;
+	}
+
+	/**
+	 * Executes the plan with the given request.
+	 *
+	 * @param request the request to process
+	 * @throws ExecutorException if an executor fails and the plan rethrows
+	 */
+	public void execute(T request) throws ExecutorException {
+		new Cursor(request).run();
+	}
+
+	/**
+	 * State of one execution, handed to the executors as their chain.
+	 */
+	private final class Cursor implements IExecutorChain<T> {
+
+		private T request;
+		private boolean proceed;
+		private IFallBackExecutor<T>[] pending;
+		private int nextFallback;
+
+		private Cursor(T request) {
+			this.request = request;
+		}
+
+		private void run() throws ExecutorException {
+			IExecutor<T>[] executors = ExecutionPlan.this.executors;
+			int index = 0;
+			while (index < executors.length) {
+				this.proceed = false;
+				try {
+					executors[index].execute(this.request, this);
+				} catch (ExecutorException e) {
+					log.atWarn().log("Error during execution plan for executor: {}", executors[index], e);
+					this.proceed = false;
+					this.pending = ExecutionPlan.this.fallbacks[index];
+					this.nextFallback = 0;
+					this.executeFallBack(this.request);
+					this.pending = null;
+					if (ExecutionPlan.this.rethrow) {
+						throw e;
+					}
+					if (!this.proceed) {
+						return;
+					}
+				}
+				if (!this.proceed) {
+					log.atDebug().log("Executor did not continue execution plan, stopping");
+					return;
+				}
+				index++;
+			}
+		}
+
+		@Override
+		public void execute(T request) {
+			// Continues with the next executor, from an executor or a fallback
+			this.proceed = true;
+			this.request = request;
+		}
+
+		@Override
+		public void executeFallBack(T request) {
+			if (this.pending == null || this.nextFallback >= this.pending.length) {
+				log.atDebug().log("No fallback executor available to execute");
+				return;
+			}
+			IFallBackExecutor<T> fallback = this.pending[this.nextFallback++];
+			fallback.fallBack(request, this);
+		}
+
+		@Override
+		public void addExecutor(IExecutor<T> executor) {
+			throw new UnsupportedOperationException("Execution plans are immutable");
+		}
+
+		@Override
+		public void addExecutor(IExecutor<T> executor, IFallBackExecutor<T> fallBackExecutor) {
+			throw new UnsupportedOperationException("Execution plans are immutable");
+		}
+	}
+}
@@ -0,0 +1,421 @@
+package com.garganttua.core.execution;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Immutable, reusable {@link IExecutorPipeline}, executed any number of times,
+ * concurrently if needed.
+ *
+ * <p>
+ * The stages run in order. An executor stage without a timeout runs on the thread
+ * the pipeline is on; a fan-out stage, and an executor stage with a timeout, run
+ * on the executor of the pipeline; an asynchronous stage runs wherever its future
+ * is completed. A stage that is not finished when it is reached releases the
+ * thread, and the pipeline resumes on the thread completing it.
+ * </p>
+ *
+ * <p>
+ * Fallbacks behave as in an {@link ExecutorChain}: when a stage fails, with any
+ * exception or by exceeding its timeout, the fallbacks of this stage and of the
+ * previous ones run, most recently added first, each one calling
+ * {@code next.executeFallBack(request)} to run the following one. A fallback
+ * calling {@code next.execute(request)} resumes the pipeline after the failed
+ * stage, unless the pipeline rethrows, in which case it fails with the
+ * {@link ExecutorException} of the stage once the fallbacks ran. A stage that
+ * times out is not interrupted.
+ * </p>
+ *
+ * @param <T> the type of request processed by the pipeline
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public final class ExecutorPipeline<T> implements IExecutorPipeline<T> {
+
+	// Executor used when none is configured, starting a virtual thread per task
+	private static final Executor VIRTUAL_THREADS = Executors
+			.newThreadPerTaskExecutor(Thread.ofVirtual().name("executor-pipeline-", 0).factory());
+
+	private final Stage<T>[] stages;
+
+	// Fallbacks to run when the stage at the same index fails
+	private final IFallBackExecutor<T>[][] fallbacks;
+
+	private final Executor executor;
+
+	private final boolean rethrow;
+
+	@SuppressWarnings("unchecked")
+	public ExecutorPipeline(List<Stage<T>> stages, Executor executor, boolean rethrow) {
+		this.stages = Objects.requireNonNull(stages, "Stages cannot be null").toArray(new Stage[0]);
+		this.fallbacks = new IFallBackExecutor[this.stages.length][];
+		this.executor = executor == null ? VIRTUAL_THREADS : executor;
+		this.rethrow = rethrow;
+
+		IFallBackExecutor<T>[] current = new IFallBackExecutor[0];
+		for (int i = 0; i < this.stages.length; i++) {
+			IFallBackExecutor<T> fallback = this.stages[i].fallBack();
+			if (fallback != null) {
+				IFallBackExecutor<T>[] next = new IFallBackExecutor[current.length + 1];
+				next[0] = fallback;
+				System.arraycopy(current, 0, next, 1, current.length);
+				current = next;
+			}
+			this.fallbacks[i] = current;
+		}
+		log.atDebug().log("Executor pipeline created with {} stages", this.stages.length);
+	}
+
+	/**
+	 * Returns the number of stages of the pipeline.
+	 */
+	public int size() {
+		return this.stages.length;
+	}
+
+	@Override
+	public CompletableFuture<T> executeAsync(T request) {
+		Run run = new Run(request);
+		run.advance(0);
+		return run.result;
+	}
+
+	@Override
+	public T execute(T request) throws ExecutorException {
+		try {
+			return this.executeAsync(request).join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new ExecutorException("Executor pipeline failed", cause);
+		}
+	}
+
+	/**
+	 * Stage of a pipeline.
+	 *
+	 * @param <T> the type of request processed by the stage
+	 */
+	public sealed interface Stage<T> permits Step, AsyncStep, FanOut {
+
+		IFallBackExecutor<T> fallBack();
+
+		Duration timeout();
+
+		Stage<T> withTimeout(Duration timeout);
+	}
+
+	/**
+	 * Stage running an executor.
+	 */
+	public record Step<T>(IExecutor<T> executor, IFallBackExecutor<T> fallBack, Duration timeout)
+			implements Stage<T> {
+
+		public Step {
+			Objects.requireNonNull(executor, "Executor cannot be null");
+		}
+
+		@Override
+		public Stage<T> withTimeout(Duration timeout) {
+			return new Step<>(this.executor, this.fallBack, timeout);
+		}
+	}
+
+	/**
+	 * Stage running an asynchronous executor.
+	 */
+	public record AsyncStep<T>(IAsyncExecutor<T> executor, IFallBackExecutor<T> fallBack, Duration timeout)
+			implements Stage<T> {
+
+		public AsyncStep {
+			Objects.requireNonNull(executor, "Executor cannot be null");
+		}
+
+		@Override
+		public Stage<T> withTimeout(Duration timeout) {
+			return new AsyncStep<>(this.executor, this.fallBack, timeout);
+		}
+	}
+
+	/**
+	 * Stage running executors in parallel and joining their results.
+	 */
+	public record FanOut<T>(List<IExecutor<T>> executors, Function<List<T>, T> join, IFallBackExecutor<T> fallBack,
+			Duration timeout) implements Stage<T> {
+
+		public FanOut {
+			executors = List.copyOf(Objects.requireNonNull(executors, "Executors cannot be null"));
+			Objects.requireNonNull(join, "Join function cannot be null");
+		}
+
+		@Override
+		public Stage<T> withTimeout(Duration timeout) {
+			return new FanOut<>(this.executors, this.join, this.fallBack, timeout);
+		}
+	}
+
+	/**
+	 * Chain handed to an executor running off the pipeline thread, recording whether
+	 * and with which request it continued.
+	 */
+	private static final class Next<T> implements IExecutorChain<T> {
+
+		private boolean proceed;
+		private T request;
+
+		private static <T> Next<T> run(IExecutor<T> executor, T request) {
+			Next<T> next = new Next<>();
+			executor.execute(request, next);
+			return next;
+		}
+
+		@Override
+		public void execute(T request) {
+			this.proceed = true;
+			this.request = request;
+		}
+
+		@Override
+		public void executeFallBack(T request) {
+			// Fallbacks are run by the pipeline
+		}
+
+		@Override
+		public void addExecutor(IExecutor<T> executor) {
+			throw new UnsupportedOperationException("Executor pipelines are immutable");
+		}
+
+		@Override
+		public void addExecutor(IExecutor<T> executor, IFallBackExecutor<T> fallBackExecutor) {
+			throw new UnsupportedOperationException("Executor pipelines are immutable");
+		}
+	}
+
+	/**
+	 * State of one execution, handed to the inline executors and the fallbacks as
+	 * their chain. Its stages run one after the other, possibly on different
+	 * threads, each completion happening before the next stage starts.
+	 */
+	private final class Run implements IExecutorChain<T> {
+
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+		private T request;
+		private boolean proceed;
+		private IFallBackExecutor<T>[] pending;
+		private int nextFallback;
+
+		private Run(T request) {
+			this.request = request;
+		}
+
+		private void advance(int index) {
+			try {
+				this.runFrom(index);
+			} catch (Throwable t) {
+				// A failing fallback ends the execution
+				this.result.completeExceptionally(t);
+			}
+		}
+
+		private void resume(int index, Object outcome, Throwable failure) {
+			try {
+				if (failure == null ? this.accept(outcome) : this.fail(index, failure)) {
+					this.runFrom(index + 1);
+				}
+			} catch (Throwable t) {
+				this.result.completeExceptionally(t);
+			}
+		}
+
+		private void runFrom(int index) {
+			Stage<T>[] stages = ExecutorPipeline.this.stages;
+			while (index < stages.length) {
+				Stage<T> stage = stages[index];
+				if (stage instanceof Step<T> step && step.timeout() == null) {
+					this.proceed = false;
+					try {
+						step.executor().execute(this.request, this);
+					} catch (Exception e) {
+						if (!this.fail(index, e)) {
+							return;
+						}
+						index++;
+						continue;
+					}
+					if (!this.proceed) {
+						log.atDebug().log("Executor did not continue executor pipeline, stopping");
+						this.result.complete(this.request);
+						return;
+					}
+					index++;
+					continue;
+				}
+
+				CompletableFuture<?> future;
+				try {
+					future = this.start(stage);
+				} catch (Exception e) {
+					if (!this.fail(index, e)) {
+						return;
+					}
+					index++;
+					continue;
+				}
+				if (!future.isDone()) {
+					int current = index;
+					future.whenComplete((outcome, failure) -> this.resume(current, outcome, failure));
+					return;
+				}
+				Object outcome;
+				try {
+					outcome = future.join();
+				} catch (CompletionException | CancellationException e) {
+					if (!this.fail(index, e)) {
+						return;
+					}
+					index++;
+					continue;
+				}
+				if (!this.accept(outcome)) {
+					return;
+				}
+				index++;
+			}
+			this.result.complete(this.request);
+		}
+
+		private CompletableFuture<?> start(Stage<T> stage) {
+			T current = this.request;
+			Executor executor = ExecutorPipeline.this.executor;
+			CompletableFuture<?> future = switch (stage) {
+				case Step<T> step -> CompletableFuture.supplyAsync(() -> Next.run(step.executor(), current), executor);
+				case AsyncStep<T> async -> Objects
+						.requireNonNull(async.executor().execute(current), "Asynchronous executor returned no future")
+						.copy();
+				case FanOut<T> fanOut -> fanOut(fanOut, current, executor);
+			};
+			Duration timeout = stage.timeout();
+			return timeout == null ? future : future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+		}
+
+		@SuppressWarnings("unchecked")
+		private CompletableFuture<T> fanOut(FanOut<T> fanOut, T current, Executor executor) {
+			List<IExecutor<T>> executors = fanOut.executors();
+			CompletableFuture<Next<T>>[] branches = new CompletableFuture[executors.size()];
+			for (int i = 0; i < branches.length; i++) {
+				IExecutor<T> branch = executors.get(i);
+				branches[i] = CompletableFuture.supplyAsync(() -> Next.run(branch, current), executor);
+			}
+			return CompletableFuture.allOf(branches).thenApply(ignored -> {
+				List<T> results = new ArrayList<>(branches.length);
+				for (CompletableFuture<Next<T>> branch : branches) {
+					Next<T> next = branch.join();
+					results.add(next.proceed ? next.request : current);
+				}
+				return fanOut.join().apply(Collections.unmodifiableList(results));
+			});
+		}
+
+		/**
+		 * Continues with the outcome of a finished stage.
+		 *
+		 * @return whether the pipeline continues with the next stage
+		 */
+		@SuppressWarnings("unchecked")
+		private boolean accept(Object outcome) {
+			if (outcome instanceof Next<?> next) {
+				if (!next.proceed) {
+					log.atDebug().log("Executor did not continue executor pipeline, stopping");
+					this.result.complete(this.request);
+					return false;
+				}
+				this.request = (T) next.request;
+			} else {
+				this.request = (T) outcome;
+			}
+			return true;
+		}
+
+		/**
+		 * Runs the fallbacks of a failed stage.
+		 *
+		 * @return whether the pipeline continues with the next stage
+		 */
+		private boolean fail(int index, Throwable failure) {
+			Throwable cause = failure;
+			while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+					&& cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			ExecutorException exception;
+			if (cause instanceof ExecutorException executorException) {
+				exception = executorException;
+			} else if (cause instanceof TimeoutException) {
+				exception = new ExecutorException("Stage " + index + " of executor pipeline did not finish within "
+						+ ExecutorPipeline.this.stages[index].timeout(), cause);
+			} else {
+				exception = new ExecutorException("Stage " + index + " of executor pipeline failed", cause);
+			}
+			log.atWarn().log("Error during executor pipeline for stage: {}", ExecutorPipeline.this.stages[index],
+					exception);
+
+			this.proceed = false;
+			this.pending = ExecutorPipeline.this.fallbacks[index];
+			this.nextFallback = 0;
+			this.executeFallBack(this.request);
+			this.pending = null;
+			if (ExecutorPipeline.this.rethrow) {
+				this.result.completeExceptionally(exception);
+				return false;
+			}
+			if (!this.proceed) {
+				this.result.complete(this.request);
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public void execute(T request) {
+			// Continues with the next stage, from an inline executor or a fallback
+			this.proceed = true;
+			this.request = request;
+		}
+
+		@Override
+		public void executeFallBack(T request) {
+			if (this.pending == null || this.nextFallback >= this.pending.length) {
+				log.atDebug().log("No fallback executor available to execute");
+				return;
+			}
+			IFallBackExecutor<T> fallback = this.pending[this.nextFallback++];
+			fallback.fallBack(request, this);
+		}
+
+		@Override
+		public void addExecutor(IExecutor<T> executor) {
+			throw new UnsupportedOperationException("Executor pipelines are immutable");
+		}
+
+		@Override
+		public void addExecutor(IExecutor<T> executor, IFallBackExecutor<T> fallBackExecutor) {
+			throw new UnsupportedOperationException("Executor pipelines are immutable");
+		}
+	}
+}
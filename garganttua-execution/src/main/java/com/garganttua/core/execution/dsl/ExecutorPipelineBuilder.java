@@ -0,0 +1,114 @@
+package com.garganttua.core.execution.dsl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.garganttua.core.dsl.DslException;
+import com.garganttua.core.execution.ExecutorPipeline;
+import com.garganttua.core.execution.IAsyncExecutor;
+import com.garganttua.core.execution.IExecutor;
+import com.garganttua.core.execution.IExecutorPipeline;
+import com.garganttua.core.execution.IFallBackExecutor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builder of {@link ExecutorPipeline}.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * IExecutorPipeline<Integer> pipeline = ExecutorPipelineBuilder.<Integer>builder()
+ *     .then((i, next) -> next.execute(i + 1))
+ *     .fanOut(List.of((i, next) -> next.execute(i * 2), (i, next) -> next.execute(i * 3)),
+ *             results -> results.stream().mapToInt(Integer::intValue).sum())
+ *     .timeout(Duration.ofSeconds(1))
+ *     .build();
+ * }</pre>
+ *
+ * @param <T> the type of request processed by the pipeline
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public class ExecutorPipelineBuilder<T> implements IExecutorPipelineBuilder<T> {
+
+	private final List<ExecutorPipeline.Stage<T>> stages = new ArrayList<>();
+	private Executor executor;
+	private boolean rethrow = true;
+
+	private ExecutorPipelineBuilder() {
+	}
+
+	public static <T> IExecutorPipelineBuilder<T> builder() {
+		return new ExecutorPipelineBuilder<>();
+	}
+
+	@Override
+	public IExecutorPipelineBuilder<T> then(IExecutor<T> executor) {
+		return this.then(executor, null);
+	}
+
+	@Override
+	public IExecutorPipelineBuilder<T> then(IExecutor<T> executor, IFallBackExecutor<T> fallBackExecutor) {
+		this.stages.add(new ExecutorPipeline.Step<>(executor, fallBackExecutor, null));
+		return this;
+	}
+
+	@Override
+	public IExecutorPipelineBuilder<T> thenAsync(IAsyncExecutor<T> executor) {
+		return this.thenAsync(executor, null);
+	}
+
+	@Override
+	public IExecutorPipelineBuilder<T> thenAsync(IAsyncExecutor<T> executor, IFallBackExecutor<T> fallBackExecutor) {
+		this.stages.add(new ExecutorPipeline.AsyncStep<>(executor, fallBackExecutor, null));
+		return this;
+	}
+
+	@Override
+	public IExecutorPipelineBuilder<T> fanOut(List<IExecutor<T>> executors, Function<List<T>, T> join) {
+		return this.fanOut(executors, join, null);
+	}
+
+	@Override
+	public IExecutorPipelineBuilder<T> fanOut(List<IExecutor<T>> executors, Function<List<T>, T> join,
+			IFallBackExecutor<T> fallBackExecutor) {
+		this.stages.add(new ExecutorPipeline.FanOut<>(executors, join, fallBackExecutor, null));
+		return this;
+	}
+
+	@Override
+	public IExecutorPipelineBuilder<T> timeout(Duration timeout) {
+		Objects.requireNonNull(timeout, "Timeout cannot be null");
+		if (this.stages.isEmpty()) {
+			throw new DslException("Cannot set a timeout before adding a stage");
+		}
+		if (timeout.isNegative() || timeout.isZero()) {
+			throw new DslException("Timeout must be positive: " + timeout);
+		}
+		int last = this.stages.size() - 1;
+		this.stages.set(last, this.stages.get(last).withTimeout(timeout));
+		return this;
+	}
+
+	@Override
+	public IExecutorPipelineBuilder<T> executor(Executor executor) {
+		this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+		return this;
+	}
+
+	@Override
+	public IExecutorPipelineBuilder<T> rethrow(boolean rethrow) {
+		this.rethrow = rethrow;
+		return this;
+	}
+
+	@Override
+	public IExecutorPipeline<T> build() throws DslException {
+		log.atDebug().log("Building executor pipeline with {} stages", this.stages.size());
+		return new ExecutorPipeline<>(this.stages, this.executor, this.rethrow);
+	}
+}
@@ -12,6 +12,8 @@
  * <h2>Main Implementation Classes</h2>
  * <ul>
  *   <li>{@code ExecutorChain} - Main execution chain implementation</li>
+ *   <li>{@code ExecutionPlan} - Immutable chain, compiled once and executed many times</li>
+ *   <li>{@code ExecutorPipeline} - Immutable pipeline with asynchronous, fan-out and timed stages</li>
  *   <li>{@code IExecutor} - Functional interface for chain executors</li>
  *   <li>{@code IFallBackExecutor} - Fallback executor for error handling</li>
  * </ul>
@@ -0,0 +1,96 @@
+package com.garganttua.core.execution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class TestExecutionPlan {
+
+	@Test
+	public void testPlanIsReusable() throws ExecutorException {
+		List<Integer> results = new ArrayList<>();
+		ExecutionPlan<Integer> plan = ExecutionPlan.compile(true, chain -> {
+			chain.addExecutor((i, next) -> next.execute(i * 2));
+			chain.addExecutor((i, next) -> next.execute(i + 1));
+			chain.addExecutor((i, next) -> {
+				results.add(i);
+				next.execute(i);
+			});
+		});
+
+		plan.execute(0);
+		plan.execute(5);
+
+		assertEquals(3, plan.size());
+		assertEquals(List.of(1, 11), results);
+	}
+
+	@Test
+	public void testExecutorNotContinuingStopsThePlan() throws ExecutorException {
+		AtomicInteger executed = new AtomicInteger();
+		ExecutionPlan<Integer> plan = ExecutionPlan.compile(true, chain -> {
+			chain.addExecutor((i, next) -> executed.incrementAndGet());
+			chain.addExecutor((i, next) -> {
+				executed.incrementAndGet();
+				next.execute(i);
+			});
+		});
+
+		plan.execute(0);
+
+		assertEquals(1, executed.get());
+	}
+
+	@Test
+	public void testFallbacksRunMostRecentFirst() {
+		List<String> fallbacks = new ArrayList<>();
+		ExecutionPlan<String> plan = ExecutionPlan.compile(true, chain -> {
+			chain.addExecutor((s, next) -> next.execute(s), (s, next) -> {
+				fallbacks.add("first");
+				next.executeFallBack(s);
+			});
+			chain.addExecutor((s, next) -> next.execute(s));
+			chain.addExecutor((s, next) -> {
+				throw new ExecutorException("failure");
+			}, (s, next) -> {
+				fallbacks.add("third");
+				next.executeFallBack(s);
+			});
+			chain.addExecutor((s, next) -> fallbacks.add("not executed"));
+		});
+
+		assertThrows(ExecutorException.class, () -> plan.execute("request"));
+		assertEquals(List.of("third", "first"), fallbacks);
+
+		fallbacks.clear();
+		assertThrows(ExecutorException.class, () -> plan.execute("request"));
+		assertEquals(List.of("third", "first"), fallbacks, "Fallbacks are not consumed by an execution");
+	}
+
+	@Test
+	public void testFailureStopsThePlanWithoutRethrow() throws ExecutorException {
+		AtomicInteger executed = new AtomicInteger();
+		ExecutionPlan<Integer> plan = ExecutionPlan.compile(false, chain -> {
+			chain.addExecutor((i, next) -> {
+				throw new ExecutorException("failure");
+			});
+			chain.addExecutor((i, next) -> executed.incrementAndGet());
+		});
+
+		plan.execute(0);
+
+		assertEquals(0, executed.get());
+	}
+
+	@Test
+	public void testExecutorsCannotBeAddedWhileRunning() {
+		ExecutionPlan<Integer> plan = ExecutionPlan.compile(true,
+				chain -> chain.addExecutor((i, next) -> next.addExecutor((j, n) -> n.execute(j))));
+
+		assertThrows(UnsupportedOperationException.class, () -> plan.execute(0));
+	}
+}
@@ -0,0 +1,153 @@
+package com.garganttua.core.execution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.dsl.DslException;
+import com.garganttua.core.execution.dsl.ExecutorPipelineBuilder;
+
+public class TestExecutorPipeline {
+
+	@Test
+	public void testPipelineIsReusableAndConcurrent() throws Exception {
+		IExecutorPipeline<Integer> pipeline = ExecutorPipelineBuilder.<Integer>builder()
+				.then((i, next) -> next.execute(i + 1))
+				.thenAsync(i -> CompletableFuture.supplyAsync(() -> i * 10))
+				.then((i, next) -> next.execute(i + 1))
+				.build();
+
+		assertEquals(21, pipeline.execute(1));
+
+		List<CompletableFuture<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			results.add(pipeline.executeAsync(i));
+		}
+		for (int i = 0; i < 100; i++) {
+			assertEquals((i + 1) * 10 + 1, results.get(i).get(5, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void testExecutorNotContinuingStopsThePipeline() throws ExecutorException {
+		AtomicInteger executed = new AtomicInteger();
+		IExecutorPipeline<Integer> pipeline = ExecutorPipelineBuilder.<Integer>builder()
+				.then((i, next) -> executed.incrementAndGet())
+				.then((i, next) -> {
+					executed.incrementAndGet();
+					next.execute(i);
+				})
+				.build();
+
+		assertEquals(0, pipeline.execute(0));
+		assertEquals(1, executed.get());
+	}
+
+	@Test
+	public void testFanOutJoinsResultsInOrder() throws ExecutorException {
+		List<String> threads = Collections.synchronizedList(new ArrayList<>());
+		IExecutorPipeline<String> pipeline = ExecutorPipelineBuilder.<String>builder()
+				.fanOut(List.of(
+						(s, next) -> {
+							threads.add(Thread.currentThread().getName());
+							next.execute(s + "-a");
+						},
+						(s, next) -> next.execute(s + "-b"),
+						(s, next) -> threads.add(Thread.currentThread().getName())),
+						results -> String.join(",", results))
+				.build();
+
+		assertEquals("x-a,x-b,x", pipeline.execute("x"));
+		assertTrue(threads.stream().allMatch(name -> name.startsWith("executor-pipeline-")));
+	}
+
+	@Test
+	public void testFanOutRunsBranchesInParallel() throws ExecutorException {
+		CountDownLatch latch = new CountDownLatch(2);
+		IExecutor<Integer> branch = (i, next) -> {
+			latch.countDown();
+			try {
+				if (!latch.await(5, TimeUnit.SECONDS)) {
+					throw new ExecutorException("Branches did not run in parallel");
+				}
+			} catch (InterruptedException e) {
+				throw new ExecutorException(e);
+			}
+			next.execute(i);
+		};
+		IExecutorPipeline<Integer> pipeline = ExecutorPipelineBuilder.<Integer>builder()
+				.fanOut(List.of(branch, branch), results -> results.get(0) + results.get(1))
+				.build();
+
+		assertEquals(4, pipeline.execute(2));
+	}
+
+	@Test
+	public void testTimeoutRunsFallbacks() throws ExecutorException {
+		List<String> fallbacks = new ArrayList<>();
+		IExecutorPipeline<Integer> pipeline = ExecutorPipelineBuilder.<Integer>builder()
+				.then((i, next) -> next.execute(i), (i, next) -> {
+					fallbacks.add("first");
+					next.executeFallBack(i);
+				})
+				.thenAsync(i -> new CompletableFuture<>(), (i, next) -> {
+					fallbacks.add("second");
+					next.executeFallBack(i);
+					next.execute(-1);
+				}).timeout(Duration.ofMillis(50))
+				.then((i, next) -> next.execute(i * 2))
+				.rethrow(false)
+				.build();
+
+		assertEquals(-2, pipeline.execute(1));
+		assertEquals(List.of("second", "first"), fallbacks);
+	}
+
+	@Test
+	public void testFailureIsRethrownAfterFallbacks() {
+		List<String> fallbacks = new ArrayList<>();
+		IExecutorPipeline<Integer> pipeline = ExecutorPipelineBuilder.<Integer>builder()
+				.then((i, next) -> {
+					throw new ExecutorException("failure");
+				}, (i, next) -> fallbacks.add("fallback"))
+				.then((i, next) -> fallbacks.add("not executed"))
+				.build();
+
+		ExecutorException exception = assertThrows(ExecutorException.class, () -> pipeline.execute(0));
+		assertEquals(List.of("fallback"), fallbacks);
+		assertTrue(exception.getMessage().contains("failure"));
+
+		CompletableFuture<Integer> future = pipeline.executeAsync(0);
+		assertTrue(future.isCompletedExceptionally());
+	}
+
+	@Test
+	public void testTimedExecutorRunsOnConfiguredExecutor() throws ExecutorException {
+		List<String> threads = new ArrayList<>();
+		IExecutorPipeline<Integer> pipeline = ExecutorPipelineBuilder.<Integer>builder()
+				.then((i, next) -> {
+					threads.add(Thread.currentThread().getName());
+					next.execute(i + 1);
+				}).timeout(Duration.ofSeconds(5))
+				.executor(command -> new Thread(command, "custom").start())
+				.build();
+
+		assertEquals(2, pipeline.execute(1));
+		assertEquals(List.of("custom"), threads);
+	}
+
+	@Test
+	public void testTimeoutRequiresAStage() {
+		assertThrows(DslException.class,
+				() -> ExecutorPipelineBuilder.<Integer>builder().timeout(Duration.ofSeconds(1)));
+	}
+}
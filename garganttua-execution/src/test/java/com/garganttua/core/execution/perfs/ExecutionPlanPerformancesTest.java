@@ -0,0 +1,75 @@
+package com.garganttua.core.execution.perfs;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.execution.ExecutionPlan;
+import com.garganttua.core.execution.ExecutorChain;
+import com.garganttua.core.execution.IExecutorChain;
+
+/**
+ * Time and bytes allocated per execution of the same steps, assembled into a new
+ * {@link ExecutorChain} for each execution as runtimes used to do, and run from a
+ * compiled {@link ExecutionPlan}.
+ */
+@Disabled("Performances tests, too heavy for standard build")
+public class ExecutionPlanPerformancesTest {
+
+	private static final int STEPS = 20;
+	private static final int WARMUP = 200_000;
+	private static final int ITERATIONS = 1_000_000;
+
+	private static final Consumer<IExecutorChain<int[]>> DEFINITION = chain -> {
+		for (int i = 0; i < STEPS; i++) {
+			if (i % 4 == 0) {
+				chain.addExecutor((counter, next) -> {
+					counter[0]++;
+					next.execute(counter);
+				}, (counter, next) -> next.executeFallBack(counter));
+			} else {
+				chain.addExecutor((counter, next) -> {
+					counter[0]++;
+					next.execute(counter);
+				});
+			}
+		}
+	};
+
+	@Test
+	public void testChainVersusPlan() {
+		ExecutionPlan<int[]> plan = ExecutionPlan.compile(false, DEFINITION);
+		int[] counter = new int[1];
+
+		for (int i = 0; i < WARMUP; i++) {
+			ExecutorChain<int[]> chain = new ExecutorChain<>(false);
+			DEFINITION.accept(chain);
+			chain.execute(counter);
+			plan.execute(counter);
+		}
+
+		System.out.printf("%-10s %12s %14s%n", "Mode", "ns/exec", "bytes/exec");
+		report("chain", () -> {
+			ExecutorChain<int[]> chain = new ExecutorChain<>(false);
+			DEFINITION.accept(chain);
+			chain.execute(counter);
+		});
+		report("plan", () -> plan.execute(counter));
+	}
+
+	private static void report(String mode, Runnable execution) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		long bytes = threads.getThreadAllocatedBytes(thread);
+		long begin = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			execution.run();
+		}
+		long elapsed = System.nanoTime() - begin;
+		bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+		System.out.printf("%-10s %12.1f %14.1f%n", mode, (double) elapsed / ITERATIONS, (double) bytes / ITERATIONS);
+	}
+}
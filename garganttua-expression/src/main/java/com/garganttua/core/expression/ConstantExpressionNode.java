@@ -0,0 +1,75 @@
+package com.garganttua.core.expression;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+import com.garganttua.core.expression.compiler.ExpressionCompiler;
+import com.garganttua.core.expression.compiler.ICompilableExpressionNode;
+import com.garganttua.core.expression.compiler.ICompiledNode;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.supply.FixedSupplier;
+import com.garganttua.core.supply.ISupplier;
+
+/**
+ * Node holding a value computed once, when the expression was parsed, in place of
+ * a call of a pure function with constant arguments.
+ *
+ * @param <R> the type of the value
+ * @since 2.0.0-ALPHA02
+ */
+public class ConstantExpressionNode<R> implements IExpressionNode<R, ISupplier<R>>, ICompilableExpressionNode {
+
+    private final R value;
+    private final IClass<R> type;
+    private final String source;
+    private final ISupplier<R> supplier;
+
+    /**
+     * @param value  the value, cannot be {@code null}
+     * @param type   the declared type of the folded node
+     * @param source description of the folded node, for logs
+     */
+    public ConstantExpressionNode(R value, IClass<R> type, String source) {
+        this.value = Objects.requireNonNull(value, "Constant value cannot be null");
+        this.type = Objects.requireNonNull(type, "Constant type cannot be null");
+        this.source = source;
+        this.supplier = new FixedSupplier<>(value, type);
+    }
+
+    @Override
+    public ISupplier<R> evaluate() throws ExpressionException {
+        return this.supplier;
+    }
+
+    public R getValue() {
+        return this.value;
+    }
+
+    /**
+     * Returns the description of the node this constant replaces.
+     */
+    public String getSource() {
+        return this.source;
+    }
+
+    @Override
+    public IClass<R> getFinalSuppliedClass() {
+        return this.type;
+    }
+
+    @Override
+    public Type getSuppliedType() {
+        return ISupplier.class;
+    }
+
+    @Override
+    public ICompiledNode compile(ExpressionCompiler compiler) {
+        return ExpressionCompiler.constant(this.value,
+                this.type.getType() instanceof Class<?> c ? c : this.value.getClass());
+    }
+
+    @Override
+    public String toString() {
+        return this.value instanceof String ? "\"" + this.value + "\"" : String.valueOf(this.value);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Optional;
 import com.garganttua.core.expression.context.ExpressionVariableContext;
 import com.garganttua.core.expression.context.IExpressionVariableResolver;
 import com.garganttua.core.expression.context.IScriptFunction;
+import com.garganttua.core.expression.context.VariableSlots;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.supply.ISupplier;
 import com.garganttua.core.supply.SupplyException;
@@ -17,11 +18,13 @@ import lombok.extern.slf4j.Slf4j;
 public class DynamicFunctionNode implements IExpressionNode<Object, ISupplier<Object>> {
 
     private final String functionName;
+    private final int slot;
     private final List<IExpressionNode<?, ? extends ISupplier<?>>> argumentNodes;
 
     public DynamicFunctionNode(String functionName,
                                 List<IExpressionNode<?, ? extends ISupplier<?>>> argumentNodes) {
         this.functionName = functionName;
+        this.slot = VariableSlots.slot(functionName);
         this.argumentNodes = argumentNodes;
     }
 
@@ -35,7 +38,7 @@ public class DynamicFunctionNode implements IExpressionNode<Object, ISupplier<Ob
                     throw new SupplyException("No variable resolver available for function " + functionName);
                 }
 
-                Optional<Object> funcObj = resolver.resolve(functionName, IClass.getClass(Object.class));
+                Optional<Object> funcObj = resolver.resolve(slot, functionName, IClass.getClass(Object.class));
                 if (funcObj.isEmpty()) {
                     throw new SupplyException("Undefined function: " + functionName);
                 }
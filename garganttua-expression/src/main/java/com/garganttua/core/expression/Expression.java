@@ -4,6 +4,8 @@ import java.lang.reflect.Type;
 import java.util.Objects;
 import java.util.Set;
 
+import com.garganttua.core.expression.compiler.CompiledExpression;
+import com.garganttua.core.expression.compiler.ExpressionCompiler;
 import com.garganttua.core.expression.context.ExpressionContext;
 import com.garganttua.core.expression.context.IExpressionContext;
 import com.garganttua.core.reflection.IClass;
@@ -16,6 +18,9 @@ public class Expression<R> implements IExpression<R, ISupplier<R>> {
 
     private IExpressionNode<R, ? extends ISupplier<R>> root;
 
+    // Compiled on first request, then shared
+    private volatile CompiledExpression<R> compiled;
+
     public Expression(IExpressionNode<R, ? extends ISupplier<R>> root) {
         log.atTrace().log("Entering Expression constructor");
         this.root = Objects.requireNonNull(root, "Root expression cannot be null");
@@ -65,6 +70,26 @@ public class Expression<R> implements IExpression<R, ISupplier<R>> {
         return node.evaluate();
     }
 
+    /**
+     * Returns this expression compiled by the {@link ExpressionCompiler}. The
+     * compiled expression is built once and shared.
+     *
+     * @return the compiled expression
+     * @throws ExpressionException if the expression cannot be compiled
+     */
+    public CompiledExpression<R> compile() throws ExpressionException {
+        CompiledExpression<R> result = this.compiled;
+        if (result == null) {
+            result = new ExpressionCompiler().compile(this);
+            this.compiled = result;
+        }
+        return result;
+    }
+
+    public IExpressionNode<R, ? extends ISupplier<R>> getRoot() {
+        return this.root;
+    }
+
     @Override
     public boolean isContextual() {
         return root.isContextual();
@@ -0,0 +1,119 @@
+package com.garganttua.core.expression;
+
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.BaseStream;
+
+import com.garganttua.core.expression.compiler.ICompiledNode;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+
+/**
+ * {@code forEach("item", source, body)}: evaluates the body once per element of
+ * the source, assigned to the loop variable.
+ *
+ * <p>
+ * The source is evaluated once per run and may be an {@link Iterable}, an
+ * {@link Iterator}, a {@link java.util.stream.Stream} or another
+ * {@link BaseStream}, an array or a {@link Map}, whose entries are iterated.
+ * Elements are read one at a time: iterables, iterators and streams are never
+ * copied into a collection, and streams are closed at the end of the run. A
+ * {@code null} source is an empty loop.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public class ForEachLoopExpressionNode extends LoopExpressionNode {
+
+    private final IExpressionNode<?, ? extends ISupplier<?>> sourceNode;
+    private final IExpressionNode<?, ? extends ISupplier<?>> bodyNode;
+
+    public ForEachLoopExpressionNode(String variableName, IExpressionNode<?, ? extends ISupplier<?>> sourceNode,
+            IExpressionNode<?, ? extends ISupplier<?>> bodyNode, LoopBudget budget) {
+        this(variableName, sourceNode, bodyNode, budget, List.of());
+    }
+
+    public ForEachLoopExpressionNode(String variableName, IExpressionNode<?, ? extends ISupplier<?>> sourceNode,
+            IExpressionNode<?, ? extends ISupplier<?>> bodyNode, LoopBudget budget,
+            List<HoistedExpressionNode<?>> hoisted) {
+        super(variableName, budget, hoisted);
+        this.sourceNode = sourceNode;
+        this.bodyNode = bodyNode;
+    }
+
+    @Override
+    String kind() {
+        return "forEach";
+    }
+
+    @Override
+    Object loop(ICompiledNode[] children, Run run) throws SupplyException {
+        Object source = children[0].evalObject();
+        ICompiledNode body = children[1];
+        if (source == null) {
+            return null;
+        }
+        if (source instanceof Object[] array) {
+            Object lastResult = null;
+            for (Object element : array) {
+                run.tick();
+                run.set(element);
+                lastResult = body.evalObject();
+            }
+            return lastResult;
+        }
+        if (source.getClass().isArray()) {
+            Object lastResult = null;
+            int length = Array.getLength(source);
+            for (int i = 0; i < length; i++) {
+                run.tick();
+                run.set(Array.get(source, i));
+                lastResult = body.evalObject();
+            }
+            return lastResult;
+        }
+        if (source instanceof BaseStream<?, ?> stream) {
+            try (stream) {
+                return iterate(stream.iterator(), body, run);
+            }
+        }
+        return iterate(iterator(source), body, run);
+    }
+
+    private static Object iterate(Iterator<?> iterator, ICompiledNode body, Run run) throws SupplyException {
+        Object lastResult = null;
+        while (iterator.hasNext()) {
+            run.tick();
+            run.set(iterator.next());
+            lastResult = body.evalObject();
+        }
+        return lastResult;
+    }
+
+    private static Iterator<?> iterator(Object source) throws SupplyException {
+        if (source instanceof Iterable<?> iterable) {
+            return iterable.iterator();
+        }
+        if (source instanceof Iterator<?> iterator) {
+            return iterator;
+        }
+        if (source instanceof Map<?, ?> map) {
+            return map.entrySet().iterator();
+        }
+        throw new SupplyException("forEach() cannot iterate over " + source.getClass().getName());
+    }
+
+    @Override
+    public List<IExpressionNode<?, ? extends ISupplier<?>>> children() {
+        return List.of(this.sourceNode, this.bodyNode);
+    }
+
+    @Override
+    ForEachLoopExpressionNode copy(List<IExpressionNode<?, ? extends ISupplier<?>>> children,
+            List<HoistedExpressionNode<?>> hoisted) {
+        return new ForEachLoopExpressionNode(getVariableName(), children.get(0), children.get(1), getBudget(),
+                hoisted);
+    }
+}
@@ -1,18 +1,20 @@
 package com.garganttua.core.expression;
 
-import java.util.Optional;
+import java.util.List;
 
-import com.garganttua.core.expression.context.ExpressionVariableContext;
+import com.garganttua.core.expression.compiler.ICompiledNode;
 import com.garganttua.core.expression.context.IExpressionVariableResolver;
-import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.expression.context.VariableSlots;
 import com.garganttua.core.supply.ISupplier;
 import com.garganttua.core.supply.SupplyException;
 
-public class ForLoopExpressionNode implements IExpressionNode<Object, ISupplier<Object>> {
+/**
+ * {@code for("i", update, condition, body)}: while the condition is
+ * {@code true}, evaluates the body then assigns the value of the update to the
+ * loop variable.
+ */
+public class ForLoopExpressionNode extends LoopExpressionNode {
 
-    private static final int MAX_ITERATIONS = 10000;
-
-    private final String variableName;
     private final IExpressionNode<?, ? extends ISupplier<?>> updateNode;
     private final IExpressionNode<?, ? extends ISupplier<?>> conditionNode;
     private final IExpressionNode<?, ? extends ISupplier<?>> bodyNode;
@@ -21,77 +23,76 @@ public class ForLoopExpressionNode implements IExpressionNode<Object, ISupplier<
                                   IExpressionNode<?, ? extends ISupplier<?>> updateNode,
                                   IExpressionNode<?, ? extends ISupplier<?>> conditionNode,
                                   IExpressionNode<?, ? extends ISupplier<?>> bodyNode) {
-        this.variableName = variableName;
+        this(variableName, updateNode, conditionNode, bodyNode, LoopBudget.DEFAULT, List.of());
+    }
+
+    /**
+     * Creates a loop whose update, condition and body use the given loop invariant
+     * nodes, evaluated at most once per run of the loop.
+     */
+    public ForLoopExpressionNode(String variableName,
+                                  IExpressionNode<?, ? extends ISupplier<?>> updateNode,
+                                  IExpressionNode<?, ? extends ISupplier<?>> conditionNode,
+                                  IExpressionNode<?, ? extends ISupplier<?>> bodyNode,
+                                  List<HoistedExpressionNode<?>> hoisted) {
+        this(variableName, updateNode, conditionNode, bodyNode, LoopBudget.DEFAULT, hoisted);
+    }
+
+    /**
+     * @since 2.0.0-ALPHA02
+     */
+    public ForLoopExpressionNode(String variableName,
+                                  IExpressionNode<?, ? extends ISupplier<?>> updateNode,
+                                  IExpressionNode<?, ? extends ISupplier<?>> conditionNode,
+                                  IExpressionNode<?, ? extends ISupplier<?>> bodyNode,
+                                  LoopBudget budget,
+                                  List<HoistedExpressionNode<?>> hoisted) {
+        super(variableName, budget, hoisted);
         this.updateNode = updateNode;
         this.conditionNode = conditionNode;
         this.bodyNode = bodyNode;
     }
 
     @Override
-    public ISupplier<Object> evaluate() throws ExpressionException {
-        return new ISupplier<Object>() {
-            @Override
-            public java.lang.reflect.Type getSuppliedType() {
-                return Object.class;
-            }
-            @Override
-            public IClass<Object> getSuppliedClass() {
-                return IClass.getClass(Object.class);
-            }
-            @Override
-            public Optional<Object> supply() throws SupplyException {
-                try {
-                    Object lastResult = null;
-                    int iterations = 0;
-                    while (iterations < MAX_ITERATIONS) {
-                        ISupplier<?> condSupplier = conditionNode.evaluate();
-                        Object condResult = condSupplier.supply().orElse(null);
-                        if (!(condResult instanceof Boolean b && b)) {
-                            break;
-                        }
-                        ISupplier<?> bodySupplier = bodyNode.evaluate();
-                        lastResult = bodySupplier.supply().orElse(null);
-                        ISupplier<?> updateSupplier = updateNode.evaluate();
-                        Object updateResult = updateSupplier.supply().orElse(null);
-                        setVariable(variableName, updateResult);
-                        iterations++;
-                    }
-                    if (iterations >= MAX_ITERATIONS) {
-                        throw new SupplyException("For loop exceeded maximum iterations (" + MAX_ITERATIONS + ")");
-                    }
-                    return Optional.ofNullable(lastResult);
-                } catch (SupplyException e) {
-                    throw e;
-                } catch (Exception e) {
-                    throw new SupplyException("For loop execution failed", e);
-                }
-            }
-        };
-    }
-
-    private static void setVariable(String name, Object value) {
-        IExpressionVariableResolver resolver = ExpressionVariableContext.get();
-        if (resolver instanceof VariableSettableResolver settable) {
-            settable.setVariable(name, value);
-        }
+    String kind() {
+        return "for";
     }
 
     @Override
-    public Optional<ISupplier<Object>> supply() throws SupplyException {
-        return Optional.of(this.evaluate());
+    Object loop(ICompiledNode[] children, Run run) throws SupplyException {
+        ICompiledNode update = children[0];
+        ICompiledNode condition = children[1];
+        ICompiledNode body = children[2];
+        Object lastResult = null;
+        while (test(condition)) {
+            run.tick();
+            lastResult = body.evalObject();
+            run.set(update.evalObject());
+        }
+        return lastResult;
     }
 
     @Override
-    public IClass<Object> getFinalSuppliedClass() {
-        return IClass.getClass(Object.class);
+    public List<IExpressionNode<?, ? extends ISupplier<?>>> children() {
+        return List.of(this.updateNode, this.conditionNode, this.bodyNode);
     }
 
     @Override
-    public java.lang.reflect.Type getSuppliedType() {
-        return Object.class;
+    ForLoopExpressionNode copy(List<IExpressionNode<?, ? extends ISupplier<?>>> children,
+            List<HoistedExpressionNode<?>> hoisted) {
+        return new ForLoopExpressionNode(getVariableName(), children.get(0), children.get(1), children.get(2),
+                getBudget(), hoisted);
     }
 
     public interface VariableSettableResolver extends IExpressionVariableResolver {
         void setVariable(String name, Object value);
+
+        /**
+         * Sets a variable bound to a slot of {@link VariableSlots}. Resolvers
+         * keeping their variables in a frame array write the slot directly.
+         */
+        default void setVariable(int slot, String name, Object value) {
+            setVariable(name, value);
+        }
     }
 }
@@ -0,0 +1,120 @@
+package com.garganttua.core.expression;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+
+/**
+ * Loop invariant sub-expression of a {@link LoopExpressionNode}.
+ *
+ * <p>
+ * While the loop runs, the wrapped node is evaluated the first time it is needed
+ * and its value is reused by the following iterations. Outside of a loop run, the
+ * node is evaluated each time, as if it had not been hoisted. Values are kept per
+ * thread, so one parsed expression can still be evaluated concurrently.
+ * </p>
+ *
+ * @param <R> the type of the value
+ * @since 2.0.0-ALPHA02
+ */
+public class HoistedExpressionNode<R> implements IExpressionNode<R, ISupplier<R>> {
+
+    private static final Object UNSET = new Object();
+    private static final Object NULL = new Object();
+
+    private final IExpressionNode<R, ? extends ISupplier<R>> node;
+    private final ThreadLocal<Object> value = new ThreadLocal<>();
+    private final ISupplier<R> supplier;
+
+    public HoistedExpressionNode(IExpressionNode<R, ? extends ISupplier<R>> node) {
+        this.node = Objects.requireNonNull(node, "Hoisted node cannot be null");
+        this.supplier = new ISupplier<R>() {
+            @Override
+            public Optional<R> supply() throws SupplyException {
+                return Optional.ofNullable(value());
+            }
+
+            @Override
+            public Type getSuppliedType() {
+                return HoistedExpressionNode.this.node.getFinalSuppliedClass().getType();
+            }
+
+            @Override
+            public IClass<R> getSuppliedClass() {
+                return HoistedExpressionNode.this.node.getFinalSuppliedClass();
+            }
+        };
+    }
+
+    /**
+     * Starts a loop run on the current thread.
+     *
+     * @return the state to give back to {@link #exit(Object)}
+     */
+    Object enter() {
+        Object previous = this.value.get();
+        this.value.set(UNSET);
+        return previous;
+    }
+
+    /**
+     * Ends the loop run started by the matching {@link #enter()}.
+     */
+    void exit(Object previous) {
+        if (previous == null) {
+            this.value.remove();
+        } else {
+            this.value.set(previous);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private R value() throws SupplyException {
+        Object current = this.value.get();
+        if (current == null) {
+            return compute();
+        }
+        if (current == UNSET) {
+            R computed = compute();
+            this.value.set(computed == null ? NULL : computed);
+            return computed;
+        }
+        return current == NULL ? null : (R) current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private R compute() throws SupplyException {
+        return (R) Expression.evaluateNode(this.node).supply().orElse(null);
+    }
+
+    @Override
+    public ISupplier<R> evaluate() throws ExpressionException {
+        return this.supplier;
+    }
+
+    /**
+     * Returns the hoisted node.
+     */
+    public IExpressionNode<R, ? extends ISupplier<R>> getNode() {
+        return this.node;
+    }
+
+    @Override
+    public IClass<R> getFinalSuppliedClass() {
+        return this.node.getFinalSuppliedClass();
+    }
+
+    @Override
+    public Type getSuppliedType() {
+        return ISupplier.class;
+    }
+
+    @Override
+    public String toString() {
+        return "hoisted(" + this.node + ")";
+    }
+}
@@ -0,0 +1,62 @@
+package com.garganttua.core.expression;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Limits applied to each run of a loop expression ({@code for}, {@code while},
+ * {@code range} and {@code forEach}).
+ *
+ * <p>
+ * A run exceeding its iteration count or its duration fails with a
+ * {@link com.garganttua.core.supply.SupplyException}, and so does a run whose
+ * thread is interrupted. The budget is checked before each iteration; the body of
+ * an iteration already started is not interrupted.
+ * </p>
+ *
+ * @param maxIterations the maximum number of iterations of a run, {@code > 0}
+ * @param timeout       the maximum duration of a run, {@code null} for none
+ * @since 2.0.0-ALPHA02
+ */
+public record LoopBudget(long maxIterations, Duration timeout) {
+
+    /**
+     * Budget used when none is configured: 10 000 iterations, no timeout.
+     */
+    public static final LoopBudget DEFAULT = new LoopBudget(10_000, null);
+
+    /**
+     * Budget without any limit. Loops are still interruptible.
+     */
+    public static final LoopBudget UNLIMITED = new LoopBudget(Long.MAX_VALUE, null);
+
+    public LoopBudget {
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("Maximum iterations must be positive: " + maxIterations);
+        }
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("Loop timeout must be positive: " + timeout);
+        }
+    }
+
+    /**
+     * Returns a budget limited to the given number of iterations.
+     */
+    public static LoopBudget iterations(long maxIterations) {
+        return new LoopBudget(maxIterations, null);
+    }
+
+    /**
+     * Returns a copy of this budget with the given timeout.
+     */
+    public LoopBudget withTimeout(Duration timeout) {
+        return new LoopBudget(this.maxIterations, Objects.requireNonNull(timeout, "Timeout cannot be null"));
+    }
+
+    /**
+     * Returns the timeout in nanoseconds, or {@link Long#MAX_VALUE} without timeout.
+     */
+    long timeoutNanos() {
+        return this.timeout == null ? Long.MAX_VALUE : this.timeout.toNanos();
+    }
+}
@@ -0,0 +1,318 @@
+package com.garganttua.core.expression;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import com.garganttua.core.expression.compiler.ExpressionCompiler;
+import com.garganttua.core.expression.compiler.ICompilableExpressionNode;
+import com.garganttua.core.expression.compiler.ICompiledNode;
+import com.garganttua.core.expression.compiler.IOptimizableExpressionNode;
+import com.garganttua.core.expression.context.ExpressionVariableContext;
+import com.garganttua.core.expression.context.IExpressionVariableResolver;
+import com.garganttua.core.expression.context.VariableSlots;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+
+/**
+ * Base of the loop expressions: {@code for}, {@code while}, {@code range} and
+ * {@code forEach}.
+ *
+ * <p>
+ * The children of a loop are compiled by the {@link ExpressionCompiler} the first
+ * time the loop runs, so that iterations evaluate them directly instead of
+ * building a supplier per child and per iteration. The loop variable, if any, is
+ * bound to its {@link VariableSlots slot} and written through the resolver taken
+ * once per run.
+ * </p>
+ *
+ * <p>
+ * Each run is limited by a {@link LoopBudget}, and stops when the evaluating
+ * thread is interrupted. A run returns the value of the last evaluation of its
+ * body, or {@code null} if the body was never evaluated.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public abstract class LoopExpressionNode implements IExpressionNode<Object, ISupplier<Object>>,
+        IOptimizableExpressionNode, ICompilableExpressionNode {
+
+    private final String variableName;
+    private final int slot;
+    private final LoopBudget budget;
+    private final List<HoistedExpressionNode<?>> hoisted;
+    private final ISupplier<Object> supplier;
+    private volatile ICompiledNode[] compiled;
+
+    LoopExpressionNode(String variableName, LoopBudget budget, List<HoistedExpressionNode<?>> hoisted) {
+        this.variableName = variableName;
+        this.slot = variableName == null ? VariableSlots.NONE : VariableSlots.slot(variableName);
+        this.budget = Objects.requireNonNull(budget, "Loop budget cannot be null");
+        this.hoisted = List.copyOf(hoisted);
+        this.supplier = new ISupplier<Object>() {
+            @Override
+            public Optional<Object> supply() throws SupplyException {
+                return Optional.ofNullable(run(compiledChildren()));
+            }
+
+            @Override
+            public Type getSuppliedType() {
+                return Object.class;
+            }
+
+            @Override
+            public IClass<Object> getSuppliedClass() {
+                return IClass.getClass(Object.class);
+            }
+        };
+    }
+
+    /**
+     * Returns the name of the loop function, for messages.
+     */
+    abstract String kind();
+
+    /**
+     * Runs the loop.
+     *
+     * @param children the compiled children, in the order of {@link #children()}
+     * @param run      the state of this run
+     * @return the value of the last evaluation of the body
+     */
+    abstract Object loop(ICompiledNode[] children, Run run) throws SupplyException;
+
+    /**
+     * Returns a copy of this loop with the given children and hoisted nodes.
+     */
+    abstract LoopExpressionNode copy(List<IExpressionNode<?, ? extends ISupplier<?>>> children,
+            List<HoistedExpressionNode<?>> hoisted);
+
+    @Override
+    public ISupplier<Object> evaluate() throws ExpressionException {
+        return this.supplier;
+    }
+
+    private Object run(ICompiledNode[] children) throws SupplyException {
+        Object[] previous = new Object[this.hoisted.size()];
+        for (int i = 0; i < previous.length; i++) {
+            previous[i] = this.hoisted.get(i).enter();
+        }
+        try {
+            return loop(children, new Run(this));
+        } catch (SupplyException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SupplyException(capitalizedKind() + " loop execution failed", e);
+        } finally {
+            for (int i = 0; i < previous.length; i++) {
+                this.hoisted.get(i).exit(previous[i]);
+            }
+        }
+    }
+
+    private ICompiledNode[] compiledChildren() {
+        ICompiledNode[] nodes = this.compiled;
+        if (nodes == null) {
+            nodes = compileChildren(new ExpressionCompiler());
+            this.compiled = nodes;
+        }
+        return nodes;
+    }
+
+    private ICompiledNode[] compileChildren(ExpressionCompiler compiler) {
+        List<IExpressionNode<?, ? extends ISupplier<?>>> children = children();
+        ICompiledNode[] nodes = new ICompiledNode[children.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            IExpressionNode<?, ? extends ISupplier<?>> child = children.get(i);
+            try {
+                nodes[i] = compiler.compile(child);
+            } catch (ExpressionException e) {
+                nodes[i] = new Evaluated(child);
+            }
+        }
+        return nodes;
+    }
+
+    @Override
+    public ICompiledNode compile(ExpressionCompiler compiler) {
+        return new Compiled(this, compileChildren(compiler));
+    }
+
+    /**
+     * Evaluates a loop condition; anything but {@code true} ends the loop.
+     */
+    static boolean test(ICompiledNode condition) throws SupplyException {
+        if (condition.type() == boolean.class) {
+            return condition.evalBoolean();
+        }
+        return Boolean.TRUE.equals(condition.evalObject());
+    }
+
+    /**
+     * Returns the name of the loop variable, or {@code null} for loops without
+     * variable.
+     */
+    public String getVariableName() {
+        return this.variableName;
+    }
+
+    public LoopBudget getBudget() {
+        return this.budget;
+    }
+
+    public List<HoistedExpressionNode<?>> getHoisted() {
+        return this.hoisted;
+    }
+
+    /**
+     * Returns a copy of this loop using the given hoisted nodes in addition to its
+     * own.
+     */
+    public LoopExpressionNode withHoisted(List<IExpressionNode<?, ? extends ISupplier<?>>> children,
+            List<HoistedExpressionNode<?>> hoisted) {
+        List<HoistedExpressionNode<?>> all = new ArrayList<>(this.hoisted);
+        all.addAll(hoisted);
+        return copy(children, all);
+    }
+
+    @Override
+    public boolean isPure() {
+        return false;
+    }
+
+    @Override
+    public boolean hasSideEffects() {
+        // The loop variable is known, see getVariableName()
+        return false;
+    }
+
+    @Override
+    public IExpressionNode<?, ? extends ISupplier<?>> withChildren(
+            List<IExpressionNode<?, ? extends ISupplier<?>>> children) {
+        return copy(children, this.hoisted);
+    }
+
+    @Override
+    public Optional<ISupplier<Object>> supply() throws SupplyException {
+        return Optional.of(this.evaluate());
+    }
+
+    @Override
+    public IClass<Object> getFinalSuppliedClass() {
+        return IClass.getClass(Object.class);
+    }
+
+    @Override
+    public Type getSuppliedType() {
+        return Object.class;
+    }
+
+    private String capitalizedKind() {
+        String kind = kind();
+        return Character.toUpperCase(kind.charAt(0)) + kind.substring(1);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", kind() + "(", ")");
+        if (this.variableName != null) {
+            joiner.add("\"" + this.variableName + "\"");
+        }
+        for (IExpressionNode<?, ? extends ISupplier<?>> child : children()) {
+            joiner.add(String.valueOf(child));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * State of one run of a loop: iteration count, budget and loop variable.
+     */
+    static final class Run {
+
+        private final LoopExpressionNode loop;
+        private final ForLoopExpressionNode.VariableSettableResolver resolver;
+        private final long maxIterations;
+        private final long timeoutNanos;
+        private final long start;
+        private long iterations;
+
+        private Run(LoopExpressionNode loop) {
+            this.loop = loop;
+            IExpressionVariableResolver current = ExpressionVariableContext.get();
+            this.resolver = current instanceof ForLoopExpressionNode.VariableSettableResolver settable ? settable
+                    : null;
+            this.maxIterations = loop.budget.maxIterations();
+            this.timeoutNanos = loop.budget.timeoutNanos();
+            this.start = this.timeoutNanos == Long.MAX_VALUE ? 0 : System.nanoTime();
+        }
+
+        /**
+         * Counts an iteration about to start, and checks the budget.
+         *
+         * @throws SupplyException if the budget is exhausted or the thread was
+         *                         interrupted
+         */
+        void tick() throws SupplyException {
+            if (this.iterations >= this.maxIterations) {
+                throw new SupplyException(this.loop.capitalizedKind() + " loop exceeded maximum iterations ("
+                        + this.maxIterations + ")");
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new SupplyException(this.loop.capitalizedKind() + " loop interrupted after "
+                        + this.iterations + " iterations");
+            }
+            if (this.timeoutNanos != Long.MAX_VALUE && System.nanoTime() - this.start > this.timeoutNanos) {
+                throw new SupplyException(this.loop.capitalizedKind() + " loop exceeded its timeout ("
+                        + this.loop.budget.timeout() + ")");
+            }
+            this.iterations++;
+        }
+
+        /**
+         * Sets the loop variable.
+         */
+        void set(Object value) {
+            if (this.resolver != null) {
+                this.resolver.setVariable(this.loop.slot, this.loop.variableName, value);
+            }
+        }
+    }
+
+    private record Compiled(LoopExpressionNode loop, ICompiledNode[] children) implements ICompiledNode {
+
+        @Override
+        public Class<?> type() {
+            return Object.class;
+        }
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            return this.loop.run(this.children);
+        }
+
+        @Override
+        public String toString() {
+            return this.loop.toString();
+        }
+    }
+
+    /**
+     * Child that could not be compiled, evaluated through the parsed tree.
+     */
+    private record Evaluated(IExpressionNode<?, ?> node) implements ICompiledNode {
+
+        @Override
+        public Class<?> type() {
+            return Object.class;
+        }
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            return Expression.evaluateNode(this.node).supply().orElse(null);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.garganttua.core.expression;
+
+import java.util.List;
+
+import com.garganttua.core.expression.compiler.ICompiledNode;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+
+/**
+ * {@code range("i", from, to, body)} and {@code range("i", from, to, step, body)}:
+ * evaluates the body with the loop variable going from {@code from} included to
+ * {@code to} excluded, by {@code step} (1 by default, may be negative).
+ *
+ * <p>
+ * The bounds and the step are evaluated once per run. The loop variable is an
+ * {@link Integer} when they are all integers, a {@link Long} otherwise.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public class RangeLoopExpressionNode extends LoopExpressionNode {
+
+    private final IExpressionNode<?, ? extends ISupplier<?>> fromNode;
+    private final IExpressionNode<?, ? extends ISupplier<?>> toNode;
+    private final IExpressionNode<?, ? extends ISupplier<?>> stepNode;
+    private final IExpressionNode<?, ? extends ISupplier<?>> bodyNode;
+
+    /**
+     * @param stepNode the step, {@code null} to step by 1
+     */
+    public RangeLoopExpressionNode(String variableName, IExpressionNode<?, ? extends ISupplier<?>> fromNode,
+            IExpressionNode<?, ? extends ISupplier<?>> toNode, IExpressionNode<?, ? extends ISupplier<?>> stepNode,
+            IExpressionNode<?, ? extends ISupplier<?>> bodyNode, LoopBudget budget) {
+        this(variableName, fromNode, toNode, stepNode, bodyNode, budget, List.of());
+    }
+
+    public RangeLoopExpressionNode(String variableName, IExpressionNode<?, ? extends ISupplier<?>> fromNode,
+            IExpressionNode<?, ? extends ISupplier<?>> toNode, IExpressionNode<?, ? extends ISupplier<?>> stepNode,
+            IExpressionNode<?, ? extends ISupplier<?>> bodyNode, LoopBudget budget,
+            List<HoistedExpressionNode<?>> hoisted) {
+        super(variableName, budget, hoisted);
+        this.fromNode = fromNode;
+        this.toNode = toNode;
+        this.stepNode = stepNode;
+        this.bodyNode = bodyNode;
+    }
+
+    @Override
+    String kind() {
+        return "range";
+    }
+
+    @Override
+    Object loop(ICompiledNode[] children, Run run) throws SupplyException {
+        Number from = bound(children[0].evalObject(), "start");
+        Number to = bound(children[1].evalObject(), "end");
+        Number step = this.stepNode == null ? Integer.valueOf(1) : bound(children[2].evalObject(), "step");
+        ICompiledNode body = children[children.length - 1];
+        if (step.longValue() == 0) {
+            throw new SupplyException("range() step cannot be 0");
+        }
+        boolean integers = isInteger(from) && isInteger(to) && isInteger(step);
+        long end = to.longValue();
+        long by = step.longValue();
+
+        Object lastResult = null;
+        for (long i = from.longValue(); by > 0 ? i < end : i > end; i += by) {
+            run.tick();
+            run.set(integers ? (Object) Integer.valueOf((int) i) : (Object) Long.valueOf(i));
+            lastResult = body.evalObject();
+            if (by > 0 ? i > Long.MAX_VALUE - by : i < Long.MIN_VALUE - by) {
+                break;
+            }
+        }
+        return lastResult;
+    }
+
+    private static Number bound(Object value, String name) throws SupplyException {
+        if (value instanceof Number number && (isInteger(number) || number instanceof Long)) {
+            return number;
+        }
+        throw new SupplyException("range() " + name + " must be an integer: " + value);
+    }
+
+    private static boolean isInteger(Number number) {
+        return number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    @Override
+    public List<IExpressionNode<?, ? extends ISupplier<?>>> children() {
+        return this.stepNode == null ? List.of(this.fromNode, this.toNode, this.bodyNode)
+                : List.of(this.fromNode, this.toNode, this.stepNode, this.bodyNode);
+    }
+
+    @Override
+    RangeLoopExpressionNode copy(List<IExpressionNode<?, ? extends ISupplier<?>>> children,
+            List<HoistedExpressionNode<?>> hoisted) {
+        boolean stepped = children.size() == 4;
+        return new RangeLoopExpressionNode(getVariableName(), children.get(0), children.get(1),
+                stepped ? children.get(2) : null, children.get(children.size() - 1), getBudget(), hoisted);
+    }
+}
@@ -0,0 +1,145 @@
+package com.garganttua.core.expression;
+
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+import com.garganttua.core.expression.compiler.ExpressionCompiler;
+import com.garganttua.core.expression.compiler.ICompilableExpressionNode;
+import com.garganttua.core.expression.compiler.ICompiledNode;
+import com.garganttua.core.expression.context.ExpressionVariableContext;
+import com.garganttua.core.expression.context.IExpressionVariableResolver;
+import com.garganttua.core.expression.context.VariableSlots;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reference to a variable ({@code @name}), an argument ({@code @0}) or a stored
+ * expression evaluated eagerly ({@code .name}), resolved at evaluation time
+ * through the {@link ExpressionVariableContext} of the current thread.
+ *
+ * <p>
+ * The variable is bound to its {@link VariableSlots slot} when the node is built,
+ * so that resolvers keeping their variables in a frame read it by index.
+ * </p>
+ *
+ * @param <R> the registered type of the variable
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public class VariableExpressionNode<R> extends ExpressionNode<R> implements ICompilableExpressionNode {
+
+    private final String variableName;
+    private final int slot;
+    private final String nodeName;
+    private final boolean eager;
+    private final IClass<R> type;
+
+    public VariableExpressionNode(String variableName, boolean eager, IClass<R> type) {
+        this(variableName, VariableSlots.slot(variableName), eager, type);
+    }
+
+    private VariableExpressionNode(String variableName, int slot, boolean eager, IClass<R> type) {
+        super(nodeName(variableName, eager), evaluator(variableName, slot, eager, type), type);
+        this.variableName = variableName;
+        this.slot = slot;
+        this.nodeName = nodeName(variableName, eager);
+        this.eager = eager;
+        this.type = type;
+    }
+
+    private static String nodeName(String variableName, boolean eager) {
+        return eager ? "." + variableName : "@" + variableName;
+    }
+
+    private static <R> IEvaluateNode<R> evaluator(String variableName, int slot, boolean eager, IClass<R> type) {
+        String nodeName = nodeName(variableName, eager);
+        IClass<Object> objectClass = IClass.getClass(Object.class);
+        return params -> new ISupplier<R>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Optional<R> supply() throws SupplyException {
+                return Optional.ofNullable((R) resolve(variableName, slot, eager, nodeName, objectClass));
+            }
+
+            @Override
+            public Type getSuppliedType() {
+                return type.getType();
+            }
+
+            @Override
+            public IClass<R> getSuppliedClass() {
+                return type;
+            }
+        };
+    }
+
+    private static Object resolve(String variableName, int slot, boolean eager, String nodeName,
+            IClass<Object> objectClass) throws SupplyException {
+        IExpressionVariableResolver resolver = ExpressionVariableContext.get();
+        if (resolver == null) {
+            throw new SupplyException("No variable resolver available for " + nodeName);
+        }
+        Optional<Object> resolved = resolver.resolve(slot, variableName, objectClass);
+
+        if (eager && resolved.isPresent()) {
+            Object value = resolved.get();
+            // If value is a supplier (stored expression), evaluate it
+            if (value instanceof ISupplier<?> supplier) {
+                log.atTrace().log("Eager evaluating supplier for .{}", variableName);
+                return supplier.supply().orElse(null);
+            }
+            // If value is an IExpression, evaluate it
+            if (value instanceof IExpression<?, ?> expr) {
+                log.atTrace().log("Eager evaluating expression for .{}", variableName);
+                return expr.evaluate().supply().orElse(null);
+            }
+        }
+        return resolved.orElse(null);
+    }
+
+    public String getVariableName() {
+        return this.variableName;
+    }
+
+    /**
+     * Returns the {@link VariableSlots slot} the variable is bound to.
+     */
+    public int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * Whether the variable is evaluated eagerly ({@code .name}).
+     */
+    public boolean isEager() {
+        return this.eager;
+    }
+
+    @Override
+    public String toString() {
+        return this.nodeName;
+    }
+
+    @Override
+    public ICompiledNode compile(ExpressionCompiler compiler) {
+        return new Compiled(this.variableName, this.slot, this.eager, this.nodeName, IClass.getClass(Object.class),
+                this.type.getType() instanceof Class<?> c ? c : Object.class);
+    }
+
+    private record Compiled(String variableName, int slot, boolean eager, String nodeName, IClass<Object> objectClass,
+            Class<?> type) implements ICompiledNode {
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            return resolve(this.variableName, this.slot, this.eager, this.nodeName, this.objectClass);
+        }
+
+        @Override
+        public String toString() {
+            return this.nodeName;
+        }
+    }
+}
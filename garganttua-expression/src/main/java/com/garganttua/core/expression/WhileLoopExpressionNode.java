@@ -0,0 +1,60 @@
+package com.garganttua.core.expression;
+
+import java.util.List;
+
+import com.garganttua.core.expression.compiler.ICompiledNode;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+
+/**
+ * {@code while(condition, body)}: evaluates the body while the condition is
+ * {@code true}.
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public class WhileLoopExpressionNode extends LoopExpressionNode {
+
+    private final IExpressionNode<?, ? extends ISupplier<?>> conditionNode;
+    private final IExpressionNode<?, ? extends ISupplier<?>> bodyNode;
+
+    public WhileLoopExpressionNode(IExpressionNode<?, ? extends ISupplier<?>> conditionNode,
+            IExpressionNode<?, ? extends ISupplier<?>> bodyNode, LoopBudget budget) {
+        this(conditionNode, bodyNode, budget, List.of());
+    }
+
+    public WhileLoopExpressionNode(IExpressionNode<?, ? extends ISupplier<?>> conditionNode,
+            IExpressionNode<?, ? extends ISupplier<?>> bodyNode, LoopBudget budget,
+            List<HoistedExpressionNode<?>> hoisted) {
+        super(null, budget, hoisted);
+        this.conditionNode = conditionNode;
+        this.bodyNode = bodyNode;
+    }
+
+    @Override
+    String kind() {
+        return "while";
+    }
+
+    @Override
+    Object loop(ICompiledNode[] children, Run run) throws SupplyException {
+        ICompiledNode condition = children[0];
+        ICompiledNode body = children[1];
+        Object lastResult = null;
+        while (test(condition)) {
+            run.tick();
+            lastResult = body.evalObject();
+        }
+        return lastResult;
+    }
+
+    @Override
+    public List<IExpressionNode<?, ? extends ISupplier<?>>> children() {
+        return List.of(this.conditionNode, this.bodyNode);
+    }
+
+    @Override
+    WhileLoopExpressionNode copy(List<IExpressionNode<?, ? extends ISupplier<?>>> children,
+            List<HoistedExpressionNode<?>> hoisted) {
+        return new WhileLoopExpressionNode(children.get(0), children.get(1), getBudget(), hoisted);
+    }
+}
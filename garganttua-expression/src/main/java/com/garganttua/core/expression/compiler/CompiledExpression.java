@@ -0,0 +1,116 @@
+package com.garganttua.core.expression.compiler;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.garganttua.core.expression.ExpressionException;
+import com.garganttua.core.expression.IExpression;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+
+/**
+ * Expression backed by a tree of {@link ICompiledNode}s, built by the
+ * {@link ExpressionCompiler}.
+ *
+ * <p>
+ * {@link #evaluate()} always returns the same supplier, which computes the value
+ * each time it is supplied. Callers that only need the value should use
+ * {@link #value()} or one of the primitive methods, which do not allocate when the
+ * whole tree works on primitives.
+ * </p>
+ *
+ * @param <R> the type of the expression result
+ * @since 2.0.0-ALPHA02
+ */
+public class CompiledExpression<R> implements IExpression<R, ISupplier<R>> {
+
+    private final ICompiledNode root;
+    private final IClass<R> suppliedClass;
+    private final Type suppliedType;
+    private final boolean contextual;
+    private final ISupplier<R> supplier;
+
+    CompiledExpression(ICompiledNode root, IClass<R> suppliedClass, Type suppliedType, boolean contextual) {
+        this.root = Objects.requireNonNull(root, "Root node cannot be null");
+        this.suppliedClass = suppliedClass;
+        this.suppliedType = suppliedType;
+        this.contextual = contextual;
+        this.supplier = new ISupplier<R>() {
+            @Override
+            public Optional<R> supply() throws SupplyException {
+                return Optional.ofNullable(value());
+            }
+
+            @Override
+            public Type getSuppliedType() {
+                return CompiledExpression.this.root.type();
+            }
+
+            @Override
+            public IClass<R> getSuppliedClass() {
+                return CompiledExpression.this.suppliedClass;
+            }
+        };
+    }
+
+    @Override
+    public ISupplier<R> evaluate() throws ExpressionException {
+        return this.supplier;
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @return the value, possibly {@code null}
+     * @throws SupplyException if the evaluation fails
+     */
+    @SuppressWarnings("unchecked")
+    public R value() throws SupplyException {
+        return (R) this.root.evalObject();
+    }
+
+    public int intValue() throws SupplyException {
+        return this.root.evalInt();
+    }
+
+    public long longValue() throws SupplyException {
+        return this.root.evalLong();
+    }
+
+    public double doubleValue() throws SupplyException {
+        return this.root.evalDouble();
+    }
+
+    public boolean booleanValue() throws SupplyException {
+        return this.root.evalBoolean();
+    }
+
+    /**
+     * Returns the root of the compiled tree.
+     */
+    public ICompiledNode getRoot() {
+        return this.root;
+    }
+
+    @Override
+    public Type getSuppliedType() {
+        return this.suppliedType;
+    }
+
+    @Override
+    public IClass<R> getSuppliedClass() {
+        return this.suppliedClass;
+    }
+
+    @Override
+    public boolean isContextual() {
+        return this.contextual;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledExpression[" + this.root + "]";
+    }
+}
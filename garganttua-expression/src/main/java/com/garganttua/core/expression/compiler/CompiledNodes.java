@@ -0,0 +1,275 @@
+package com.garganttua.core.expression.compiler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+import com.garganttua.core.expression.Expression;
+import com.garganttua.core.expression.IExpressionNode;
+import com.garganttua.core.expression.context.IExpressionContext;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.invocation.IMethodHandle;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+
+/**
+ * Compiled nodes that do not depend on the shape of a function, and the unboxing
+ * helpers shared by every compiled node.
+ */
+final class CompiledNodes {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private CompiledNodes() {
+        /* This utility class should not be instantiated */
+    }
+
+    // --- Unboxing, with the widening rules of Method.invoke ---
+
+    static int toInt(Object value) throws SupplyException {
+        if (value instanceof Integer i) {
+            return i;
+        }
+        if (value instanceof Short s) {
+            return s;
+        }
+        if (value instanceof Byte b) {
+            return b;
+        }
+        if (value instanceof Character c) {
+            return c;
+        }
+        throw mismatch(value, int.class);
+    }
+
+    static long toLong(Object value) throws SupplyException {
+        if (value instanceof Long l) {
+            return l;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte
+                || value instanceof Character) {
+            return toInt(value);
+        }
+        throw mismatch(value, long.class);
+    }
+
+    static double toDouble(Object value) throws SupplyException {
+        if (value instanceof Double d) {
+            return d;
+        }
+        if (value instanceof Float f) {
+            return f;
+        }
+        if (value instanceof Long l) {
+            return l;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte
+                || value instanceof Character) {
+            return toInt(value);
+        }
+        throw mismatch(value, double.class);
+    }
+
+    static boolean toBoolean(Object value) throws SupplyException {
+        if (value instanceof Boolean b) {
+            return b;
+        }
+        throw mismatch(value, boolean.class);
+    }
+
+    private static SupplyException mismatch(Object value, Class<?> type) {
+        if (value == null) {
+            return new SupplyException("Null value cannot be used as " + type.getName());
+        }
+        return new SupplyException("Method invocation failed",
+                new IllegalArgumentException("argument type mismatch: " + value.getClass().getName()
+                        + " cannot be used as " + type.getName()));
+    }
+
+    /**
+     * Whether the node is known to never produce {@code null}: primitive results
+     * of specialized calls, and non null constants.
+     */
+    static boolean neverNull(ICompiledNode node) {
+        return node instanceof IntNode || node instanceof LongNode || node instanceof DoubleNode
+                || node instanceof BooleanNode || node instanceof Constant c && c.value() != null;
+    }
+
+    static SupplyException invocationFailed(Throwable cause) {
+        if (cause instanceof InvocationTargetException ite && ite.getCause() != null) {
+            cause = ite.getCause();
+        }
+        return new SupplyException("Method invocation failed", cause);
+    }
+
+    // --- Result kinds ---
+
+    abstract static class IntNode implements ICompiledNode {
+        @Override
+        public Class<?> type() {
+            return int.class;
+        }
+
+        @Override
+        public abstract int evalInt() throws SupplyException;
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            return evalInt();
+        }
+
+        @Override
+        public long evalLong() throws SupplyException {
+            return evalInt();
+        }
+
+        @Override
+        public double evalDouble() throws SupplyException {
+            return evalInt();
+        }
+    }
+
+    abstract static class LongNode implements ICompiledNode {
+        @Override
+        public Class<?> type() {
+            return long.class;
+        }
+
+        @Override
+        public abstract long evalLong() throws SupplyException;
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            return evalLong();
+        }
+
+        @Override
+        public double evalDouble() throws SupplyException {
+            return evalLong();
+        }
+    }
+
+    abstract static class DoubleNode implements ICompiledNode {
+        @Override
+        public Class<?> type() {
+            return double.class;
+        }
+
+        @Override
+        public abstract double evalDouble() throws SupplyException;
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            return evalDouble();
+        }
+    }
+
+    abstract static class BooleanNode implements ICompiledNode {
+        @Override
+        public Class<?> type() {
+            return boolean.class;
+        }
+
+        @Override
+        public abstract boolean evalBoolean() throws SupplyException;
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            return evalBoolean();
+        }
+    }
+
+    // --- Shape independent nodes ---
+
+    /**
+     * Value computed once, at compilation time.
+     */
+    record Constant(Object value, Class<?> type) implements ICompiledNode {
+
+        @Override
+        public Object evalObject() {
+            return this.value;
+        }
+    }
+
+    /**
+     * Node evaluated through the regular expression tree.
+     */
+    record Fallback(IExpressionNode<?, ?> node, IExpressionContext context, Class<?> type)
+            implements ICompiledNode {
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            return Expression.evaluateNode(this.node, this.context).supply().orElse(null);
+        }
+    }
+
+    /**
+     * Rejects {@code null} values passed to a non nullable parameter.
+     */
+    record NonNull(ICompiledNode node, String parameterType) implements ICompiledNode {
+
+        @Override
+        public Class<?> type() {
+            return this.node.type();
+        }
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            Object value = this.node.evalObject();
+            if (value == null) {
+                throw new SupplyException("Supplier for type " + this.parameterType
+                        + " supplied null value but is not nullable");
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Supplier handed to functions taking a lazy {@link ISupplier} parameter; it
+     * evaluates the compiled argument each time it is supplied.
+     */
+    record LazyArgument(ICompiledNode node, IClass<Object> suppliedClass) implements ISupplier<Object> {
+
+        @Override
+        public Optional<Object> supply() throws SupplyException {
+            return Optional.ofNullable(this.node.evalObject());
+        }
+
+        @Override
+        public Type getSuppliedType() {
+            return this.suppliedClass.getType();
+        }
+
+        @Override
+        public IClass<Object> getSuppliedClass() {
+            return this.suppliedClass;
+        }
+    }
+
+    /**
+     * Call of any method through its pre-bound {@link IMethodHandle}, for the
+     * shapes that have no specialized node.
+     */
+    record Call(String name, IMethodHandle handle, ISupplier<?> owner, boolean statik, ICompiledNode[] arguments,
+            Class<?> type) implements ICompiledNode {
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            Object target = null;
+            if (!this.statik) {
+                target = this.owner.supply()
+                        .orElseThrow(() -> new SupplyException("No owner supplied for method " + this.name));
+            }
+            Object[] values = this.arguments.length == 0 ? NO_ARGS : new Object[this.arguments.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = this.arguments[i].evalObject();
+            }
+            try {
+                return this.handle.invoke(target, values);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                throw invocationFailed(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.garganttua.core.expression.compiler;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.garganttua.core.expression.Expression;
+import com.garganttua.core.expression.ExpressionException;
+import com.garganttua.core.expression.IExpression;
+import com.garganttua.core.expression.IExpressionNode;
+import com.garganttua.core.expression.context.ExpressionContext;
+import com.garganttua.core.expression.context.IExpressionContext;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IMethod;
+import com.garganttua.core.reflection.invocation.InvocationMode;
+import com.garganttua.core.reflection.invocation.Invocations;
+import com.garganttua.core.supply.ISupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns parsed expression trees into trees of {@link ICompiledNode}s.
+ *
+ * <p>
+ * Parsed trees bind their functions again and build a supplier per node on every
+ * evaluation. Compilation resolves each function once and keeps only what is
+ * needed to call it:
+ * </p>
+ * <ul>
+ * <li>literals are folded into constants;</li>
+ * <li>public static functions with one or two {@code int}, {@code long},
+ * {@code double}, {@code boolean} or reference parameters are bound to a
+ * generated lambda, and primitive arguments and results are passed unboxed;</li>
+ * <li>other functions are called through their pre-bound
+ * {@link com.garganttua.core.reflection.invocation.IMethodHandle};</li>
+ * <li>loops run with their compiled children;</li>
+ * <li>nodes that cannot be compiled (contextual nodes, method and constructor
+ * calls, dynamic functions) are evaluated through the parsed tree, with a single
+ * empty context shared by the whole compiled expression.</li>
+ * </ul>
+ *
+ * <p>
+ * Lambdas are not generated when the invocation backend is in
+ * {@link InvocationMode#REFLECTION} mode.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public class ExpressionCompiler {
+
+    /**
+     * Description of a function call node, as provided by its factory.
+     *
+     * @param method     the called method
+     * @param owner      supplier of the instance the method is called on, ignored for
+     *                   static methods
+     * @param parameters the arguments: expression nodes or literal values
+     * @param nullable   which parameters accept {@code null}
+     * @param lazy       which parameters receive an unevaluated {@link ISupplier}
+     * @param returnType the declared return type
+     */
+    public record Call(IMethod method, ISupplier<?> owner, List<Object> parameters, List<Boolean> nullable,
+            List<Boolean> lazy, IClass<?> returnType) {
+    }
+
+    private IExpressionContext context;
+
+    /**
+     * Compiles an expression. Expressions that are not parsed trees are compiled as
+     * a single node evaluating them.
+     *
+     * @param expression the expression
+     * @return the compiled expression
+     * @throws ExpressionException if a node cannot be compiled
+     */
+    @SuppressWarnings("unchecked")
+    public <R> CompiledExpression<R> compile(IExpression<R, ? extends ISupplier<R>> expression)
+            throws ExpressionException {
+        Objects.requireNonNull(expression, "Expression cannot be null");
+        if (expression instanceof CompiledExpression<?> compiled) {
+            return (CompiledExpression<R>) compiled;
+        }
+        ICompiledNode root;
+        if (expression instanceof Expression<?> parsed) {
+            root = compile(parsed.getRoot());
+        } else {
+            root = new ExpressionRoot(expression, type(expression.getSuppliedClass()));
+        }
+        log.atDebug().log("Expression compiled to {}", root);
+        return new CompiledExpression<>(root, expression.getSuppliedClass(), expression.getSuppliedType(),
+                expression.isContextual());
+    }
+
+    /**
+     * Compiles a node and its children.
+     *
+     * @param node the node
+     * @return the compiled node
+     * @throws ExpressionException if the node cannot be compiled
+     */
+    public ICompiledNode compile(IExpressionNode<?, ?> node) throws ExpressionException {
+        Objects.requireNonNull(node, "Node cannot be null");
+        if (node instanceof ICompilableExpressionNode compilable) {
+            return compilable.compile(this);
+        }
+        log.atTrace().log("Node {} is not compilable, evaluating it through the parsed tree",
+                node.getClass().getSimpleName());
+        return new CompiledNodes.Fallback(node, context(), type(node.getFinalSuppliedClass()));
+    }
+
+    /**
+     * Compiles a function call.
+     *
+     * @param call the call
+     * @return the compiled node
+     * @throws ExpressionException if an argument cannot be compiled
+     */
+    public ICompiledNode call(Call call) throws ExpressionException {
+        Objects.requireNonNull(call, "Call cannot be null");
+        IClass<?>[] parameterTypes = call.method().getParameterTypes();
+        List<Object> parameters = call.parameters();
+        ICompiledNode[] args = new ICompiledNode[parameters.size()];
+        boolean literal = !parameters.isEmpty();
+        for (int i = 0; i < args.length; i++) {
+            Object parameter = parameters.get(i);
+            boolean lazy = i < call.lazy().size() && Boolean.TRUE.equals(call.lazy().get(i));
+            literal &= !lazy && !(parameter instanceof IExpressionNode<?, ?>);
+            args[i] = argument(parameter, lazy, Boolean.TRUE.equals(call.nullable().get(i)), parameterTypes[i]);
+        }
+
+        Class<?> type = type(call.returnType());
+        ICompiledNode node = bind(call, args, type);
+        if (literal) {
+            // Only literals and type names have no child node: fold them once
+            try {
+                return constant(node.evalObject(), node.type());
+            } catch (RuntimeException e) {
+                log.atDebug().log("Cannot fold literal call {}: {}", call.method().getName(), e.getMessage());
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns a node always producing the given value.
+     */
+    public static ICompiledNode constant(Object value, Class<?> type) {
+        return new CompiledNodes.Constant(value, type == null ? Object.class : type);
+    }
+
+    private ICompiledNode argument(Object parameter, boolean lazy, boolean nullable, IClass<?> parameterType)
+            throws ExpressionException {
+        ICompiledNode node;
+        IClass<?> suppliedClass;
+        if (parameter instanceof IExpressionNode<?, ?> child) {
+            node = compile(child);
+            suppliedClass = child.getFinalSuppliedClass();
+        } else {
+            node = constant(parameter, parameter == null ? Object.class : parameter.getClass());
+            suppliedClass = IClass.getClass(Object.class);
+        }
+        if (lazy) {
+            @SuppressWarnings("unchecked")
+            IClass<Object> lazyClass = (IClass<Object>) suppliedClass;
+            return constant(new CompiledNodes.LazyArgument(node, lazyClass), ISupplier.class);
+        }
+        if (!nullable && !CompiledNodes.neverNull(node)) {
+            return new CompiledNodes.NonNull(node, parameterType.getSimpleName());
+        }
+        return node;
+    }
+
+    private ICompiledNode bind(Call call, ICompiledNode[] args, Class<?> type) {
+        Method method = jdkMethod(call.method());
+        if (method != null && Invocations.getMode() != InvocationMode.REFLECTION) {
+            ICompiledNode specialized = SpecializedCalls.of(method, args);
+            if (specialized != null) {
+                return specialized;
+            }
+        }
+        boolean statik = Modifier.isStatic(method != null ? method.getModifiers() : call.method().getModifiers());
+        return new CompiledNodes.Call(call.method().getName(), Invocations.method(call.method()), call.owner(),
+                statik, args, type);
+    }
+
+    private static Method jdkMethod(IMethod method) {
+        try {
+            IClass<?>[] parameterTypes = method.getParameterTypes();
+            Class<?>[] types = new Class<?>[parameterTypes.length];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = (Class<?>) parameterTypes[i].getType();
+            }
+            return ((Class<?>) method.getDeclaringClass().getType()).getDeclaredMethod(method.getName(), types);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.atDebug().log("No JDK method behind {}: {}", method.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static Class<?> type(IClass<?> type) {
+        return type != null && type.getType() instanceof Class<?> c ? c : Object.class;
+    }
+
+    private IExpressionContext context() {
+        if (this.context == null) {
+            this.context = new ExpressionContext(Set.of());
+        }
+        return this.context;
+    }
+
+    /**
+     * Root of an expression that is not a parsed tree.
+     */
+    private record ExpressionRoot(IExpression<?, ?> expression, Class<?> type) implements ICompiledNode {
+
+        @Override
+        public Object evalObject() {
+            return this.expression.evaluate().supply().orElse(null);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.garganttua.core.expression.compiler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.garganttua.core.expression.ConstantExpressionNode;
+import com.garganttua.core.expression.Expression;
+import com.garganttua.core.expression.ExpressionException;
+import com.garganttua.core.expression.HoistedExpressionNode;
+import com.garganttua.core.expression.IExpressionNode;
+import com.garganttua.core.expression.LoopExpressionNode;
+import com.garganttua.core.expression.VariableExpressionNode;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.supply.ISupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optimization pass run on the node tree built by the parser.
+ *
+ * <ul>
+ * <li>Calls of pure functions whose arguments are all constants are evaluated
+ * once and replaced by a {@link ConstantExpressionNode}, from the literals up:
+ * {@code concatenate("a", "b")} or {@code seconds(30)} become constants.</li>
+ * <li>Pure sub-trees of a loop ({@code for}, {@code while}, {@code range},
+ * {@code forEach}) that do not read a variable assigned by the loop, or by a loop
+ * nested in it, are wrapped in a {@link HoistedExpressionNode} and evaluated once
+ * per run of the loop.</li>
+ * </ul>
+ *
+ * <p>
+ * Only {@link IOptimizableExpressionNode}s are rewritten. A call that fails or
+ * returns {@code null} when folded is kept as is, so that it fails or is evaluated
+ * at evaluation time as before. Loops containing nodes the optimizer cannot see
+ * through, or calls of functions that are not pure such as {@code execute_script}
+ * or {@code call}, are not hoisted, since they may assign any variable.
+ * </p>
+ *
+ * <p>
+ * An optimizer records the nodes it folded and hoisted, and is meant to optimize
+ * a single expression.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public class ExpressionOptimizer {
+
+    private final List<String> folded = new ArrayList<>();
+    private final List<String> hoisted = new ArrayList<>();
+
+    /**
+     * Optimizes a node and its children.
+     *
+     * @param node the node
+     * @return the optimized node, or the node itself if nothing changed
+     * @throws ExpressionException if a node cannot be rebuilt
+     */
+    public IExpressionNode<?, ? extends ISupplier<?>> optimize(IExpressionNode<?, ? extends ISupplier<?>> node)
+            throws ExpressionException {
+        Objects.requireNonNull(node, "Node cannot be null");
+        if (!(node instanceof IOptimizableExpressionNode optimizable)) {
+            return node;
+        }
+        List<IExpressionNode<?, ? extends ISupplier<?>>> children = optimizable.children();
+        List<IExpressionNode<?, ? extends ISupplier<?>>> optimized = new ArrayList<>(children.size());
+        boolean changed = false;
+        boolean constant = true;
+        for (IExpressionNode<?, ? extends ISupplier<?>> child : children) {
+            IExpressionNode<?, ? extends ISupplier<?>> result = optimize(child);
+            changed |= result != child;
+            constant &= result instanceof ConstantExpressionNode<?>;
+            optimized.add(result);
+        }
+        IExpressionNode<?, ? extends ISupplier<?>> result = changed ? optimizable.withChildren(optimized) : node;
+
+        if (constant && optimizable.isPure()) {
+            return fold(result, !children.isEmpty());
+        }
+        if (result instanceof LoopExpressionNode loop) {
+            return hoist(loop);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the folded calls that had arguments, with their value. Calls of
+     * literal functions such as {@code int("1")} are not listed.
+     */
+    public List<String> getFolded() {
+        return Collections.unmodifiableList(this.folded);
+    }
+
+    /**
+     * Returns the sub-trees hoisted out of loops.
+     */
+    public List<String> getHoisted() {
+        return Collections.unmodifiableList(this.hoisted);
+    }
+
+    @SuppressWarnings("unchecked")
+    private IExpressionNode<?, ? extends ISupplier<?>> fold(IExpressionNode<?, ? extends ISupplier<?>> node,
+            boolean report) {
+        String source = node.toString();
+        Object value;
+        try {
+            value = Expression.evaluateNode(node).supply().orElse(null);
+        } catch (RuntimeException e) {
+            log.atDebug().log("Cannot fold {}, it will be evaluated each time: {}", source, e.getMessage());
+            return node;
+        }
+        if (value == null) {
+            return node;
+        }
+        IClass<Object> type = (IClass<Object>) node.getFinalSuppliedClass();
+        if (type == null || type.getType() == Object.class) {
+            type = (IClass<Object>) IClass.getClass(value.getClass());
+        }
+        ConstantExpressionNode<Object> constant = new ConstantExpressionNode<>(value, type, source);
+        if (report) {
+            this.folded.add(source + " = " + constant);
+            log.atDebug().log("Folded {} into constant {}", source, constant);
+        } else {
+            log.atTrace().log("Folded {} into constant {}", source, constant);
+        }
+        return constant;
+    }
+
+    private IExpressionNode<?, ? extends ISupplier<?>> hoist(LoopExpressionNode loop) throws ExpressionException {
+        Set<String> assigned = new HashSet<>();
+        if (!assignedVariables(loop, assigned)) {
+            log.atDebug().log("Loop {} contains opaque or impure nodes, nothing hoisted", loop);
+            return loop;
+        }
+        List<HoistedExpressionNode<?>> nodes = new ArrayList<>();
+        List<IExpressionNode<?, ? extends ISupplier<?>>> children = new ArrayList<>();
+        for (IExpressionNode<?, ? extends ISupplier<?>> child : loop.children()) {
+            children.add(hoist(child, assigned, nodes));
+        }
+        if (nodes.isEmpty()) {
+            return loop;
+        }
+        log.atDebug().log("Hoisted {} loop invariant node(s) out of the loop {}", nodes.size(), loop);
+        return loop.withHoisted(children, nodes);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private IExpressionNode<?, ? extends ISupplier<?>> hoist(IExpressionNode<?, ? extends ISupplier<?>> node,
+            Set<String> assigned, List<HoistedExpressionNode<?>> nodes) throws ExpressionException {
+        if (node instanceof ConstantExpressionNode<?> || node instanceof VariableExpressionNode<?>
+                || node instanceof HoistedExpressionNode<?> || node instanceof LoopExpressionNode) {
+            return node;
+        }
+        if (invariant(node, assigned)) {
+            HoistedExpressionNode<?> hoistedNode = new HoistedExpressionNode(node);
+            nodes.add(hoistedNode);
+            this.hoisted.add(node.toString());
+            log.atDebug().log("Hoisted loop invariant {}", node);
+            return hoistedNode;
+        }
+        if (!(node instanceof IOptimizableExpressionNode optimizable)) {
+            return node;
+        }
+        List<IExpressionNode<?, ? extends ISupplier<?>>> children = optimizable.children();
+        List<IExpressionNode<?, ? extends ISupplier<?>>> rewritten = new ArrayList<>(children.size());
+        boolean changed = false;
+        for (IExpressionNode<?, ? extends ISupplier<?>> child : children) {
+            IExpressionNode<?, ? extends ISupplier<?>> result = hoist(child, assigned, nodes);
+            changed |= result != child;
+            rewritten.add(result);
+        }
+        return changed ? optimizable.withChildren(rewritten) : node;
+    }
+
+    private static boolean invariant(IExpressionNode<?, ? extends ISupplier<?>> node, Set<String> assigned) {
+        if (node instanceof ConstantExpressionNode<?>) {
+            return true;
+        }
+        if (node instanceof VariableExpressionNode<?> variable) {
+            return !variable.isEager() && !assigned.contains(variable.getVariableName());
+        }
+        if (node instanceof IOptimizableExpressionNode optimizable && optimizable.isPure()) {
+            for (IExpressionNode<?, ? extends ISupplier<?>> child : optimizable.children()) {
+                if (!invariant(child, assigned)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Collects the variables assigned by the loop and the loops nested in it. A
+     * node with side effects may assign any variable.
+     *
+     * @return {@code false} if the loop contains a node whose children are not
+     *         known, or a node with side effects
+     */
+    private static boolean assignedVariables(IExpressionNode<?, ? extends ISupplier<?>> node, Set<String> assigned) {
+        if (node instanceof LoopExpressionNode loop && loop.getVariableName() != null) {
+            assigned.add(loop.getVariableName());
+        }
+        if (node instanceof IOptimizableExpressionNode optimizable) {
+            if (optimizable.hasSideEffects()) {
+                return false;
+            }
+            for (IExpressionNode<?, ? extends ISupplier<?>> child : optimizable.children()) {
+                if (!assignedVariables(child, assigned)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return node instanceof ConstantExpressionNode<?> || node instanceof VariableExpressionNode<?>
+                || node instanceof HoistedExpressionNode<?>;
+    }
+}
@@ -0,0 +1,25 @@
+package com.garganttua.core.expression.compiler;
+
+import com.garganttua.core.expression.ExpressionException;
+
+/**
+ * Expression node that knows how to turn itself into an {@link ICompiledNode}.
+ *
+ * <p>
+ * Nodes that do not implement this interface are still compiled, but evaluated
+ * through their regular {@code evaluate()} method.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public interface ICompilableExpressionNode {
+
+    /**
+     * Compiles this node, using the given compiler for its children.
+     *
+     * @param compiler the compiler
+     * @return the compiled node
+     * @throws ExpressionException if the node cannot be compiled
+     */
+    ICompiledNode compile(ExpressionCompiler compiler) throws ExpressionException;
+}
@@ -0,0 +1,54 @@
+package com.garganttua.core.expression.compiler;
+
+import com.garganttua.core.supply.SupplyException;
+
+/**
+ * Node of a compiled expression tree.
+ *
+ * <p>
+ * A compiled node computes its value directly, without building intermediate
+ * suppliers. Nodes producing a primitive report it through {@link #type()} and
+ * override the matching {@code evalXxx} method, so that parent nodes expecting
+ * that primitive never box it. The default primitive methods unbox
+ * {@link #evalObject()} with the widening rules of
+ * {@link java.lang.reflect.Method#invoke(Object, Object...)}.
+ * </p>
+ *
+ * <p>
+ * Compiled nodes are immutable and can be evaluated concurrently.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public interface ICompiledNode {
+
+    /**
+     * Returns the type statically produced by this node; a primitive type for nodes
+     * computing primitives.
+     */
+    Class<?> type();
+
+    /**
+     * Evaluates this node, boxing primitive results.
+     *
+     * @return the value, possibly {@code null}
+     * @throws SupplyException if the evaluation fails
+     */
+    Object evalObject() throws SupplyException;
+
+    default int evalInt() throws SupplyException {
+        return CompiledNodes.toInt(evalObject());
+    }
+
+    default long evalLong() throws SupplyException {
+        return CompiledNodes.toLong(evalObject());
+    }
+
+    default double evalDouble() throws SupplyException {
+        return CompiledNodes.toDouble(evalObject());
+    }
+
+    default boolean evalBoolean() throws SupplyException {
+        return CompiledNodes.toBoolean(evalObject());
+    }
+}
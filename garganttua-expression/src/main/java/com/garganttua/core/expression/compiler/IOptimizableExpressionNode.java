@@ -0,0 +1,59 @@
+package com.garganttua.core.expression.compiler;
+
+import java.util.List;
+
+import com.garganttua.core.expression.ExpressionException;
+import com.garganttua.core.expression.IExpressionNode;
+import com.garganttua.core.supply.ISupplier;
+
+/**
+ * Expression node whose children can be rewritten by the
+ * {@link ExpressionOptimizer}.
+ *
+ * <p>
+ * Nodes that do not implement this interface are kept as they are, and so are
+ * their children.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public interface IOptimizableExpressionNode {
+
+    /**
+     * Whether this node computes its value from its children only, without side
+     * effect. Pure nodes whose children are all constants are folded.
+     *
+     * @return {@code true} if the node is pure
+     */
+    boolean isPure();
+
+    /**
+     * Whether evaluating this node may have side effects besides those of its
+     * children, such as assigning variables. Loops containing such a node are not
+     * hoisted.
+     *
+     * @return {@code true} if the node may have side effects, by default if it is
+     *         not pure
+     */
+    default boolean hasSideEffects() {
+        return !isPure();
+    }
+
+    /**
+     * Returns the child nodes, in evaluation order.
+     *
+     * @return the children
+     */
+    List<IExpressionNode<?, ? extends ISupplier<?>>> children();
+
+    /**
+     * Returns a copy of this node with the given children, in the order of
+     * {@link #children()}.
+     *
+     * @param children the new children
+     * @return the rebuilt node
+     * @throws ExpressionException if the node cannot be rebuilt
+     */
+    IExpressionNode<?, ? extends ISupplier<?>> withChildren(List<IExpressionNode<?, ? extends ISupplier<?>>> children)
+            throws ExpressionException;
+}
@@ -0,0 +1,680 @@
+package com.garganttua.core.expression.compiler;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import com.garganttua.core.expression.compiler.CompiledNodes.BooleanNode;
+import com.garganttua.core.expression.compiler.CompiledNodes.DoubleNode;
+import com.garganttua.core.expression.compiler.CompiledNodes.IntNode;
+import com.garganttua.core.expression.compiler.CompiledNodes.LongNode;
+import com.garganttua.core.supply.SupplyException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Calls of public static methods with one or two parameters, bound once to a
+ * lambda generated by the {@link LambdaMetafactory}.
+ *
+ * <p>
+ * The shape of the method is reduced to its {@code int}, {@code long},
+ * {@code double}, {@code boolean} or reference parameter and return types. Each
+ * supported shape has a node that evaluates its arguments with the matching
+ * primitive {@code evalXxx} method and calls the lambda, so arithmetic and
+ * comparisons on primitives neither box nor allocate. Other shapes, non public
+ * methods and environments where lambdas cannot be spun at runtime use the
+ * generic call node.
+ * </p>
+ */
+@Slf4j
+final class SpecializedCalls {
+
+    @FunctionalInterface
+    interface IntComparison {
+        boolean test(int a, int b);
+    }
+
+    @FunctionalInterface
+    interface LongComparison {
+        boolean test(long a, long b);
+    }
+
+    @FunctionalInterface
+    interface DoubleComparison {
+        boolean test(double a, double b);
+    }
+
+    @FunctionalInterface
+    interface BooleanBinaryOperator {
+        boolean apply(boolean a, boolean b);
+    }
+
+    private SpecializedCalls() {
+        /* This utility class should not be instantiated */
+    }
+
+    /**
+     * Returns the specialized node calling the given method, or {@code null} when
+     * its shape is not supported or it cannot be bound.
+     */
+    @SuppressWarnings("unchecked")
+    static ICompiledNode of(Method method, ICompiledNode[] args) {
+        if (!isPublic(method) || args.length == 0 || args.length > 2) {
+            return null;
+        }
+        String shape = shape(method);
+        if (shape == null) {
+            return null;
+        }
+        String name = method.getName();
+        ICompiledNode a = args[0];
+        ICompiledNode b = args.length > 1 ? args[1] : null;
+        try {
+            return switch (shape) {
+                case "I>I" -> new IntUnary(name, bind(method, IntUnaryOperator.class, "applyAsInt"), a);
+                case "J>J" -> new LongUnary(name, bind(method, LongUnaryOperator.class, "applyAsLong"), a);
+                case "D>D" -> new DoubleUnary(name, bind(method, DoubleUnaryOperator.class, "applyAsDouble"), a);
+                case "II>I" -> new IntBinary(name, bind(method, IntBinaryOperator.class, "applyAsInt"), a, b);
+                case "JJ>J" -> new LongBinary(name, bind(method, LongBinaryOperator.class, "applyAsLong"), a, b);
+                case "DD>D" -> new DoubleBinary(name, bind(method, DoubleBinaryOperator.class, "applyAsDouble"), a, b);
+                case "II>Z" -> new IntCompare(name, bind(method, IntComparison.class, "test"), a, b);
+                case "JJ>Z" -> new LongCompare(name, bind(method, LongComparison.class, "test"), a, b);
+                case "DD>Z" -> new DoubleCompare(name, bind(method, DoubleComparison.class, "test"), a, b);
+                case "ZZ>Z" -> new BooleanBinary(name, bind(method, BooleanBinaryOperator.class, "apply"), a, b);
+                case "L>I" -> new ObjectToInt(name, bind(method, ToIntFunction.class, "applyAsInt"), a);
+                case "L>J" -> new ObjectToLong(name, bind(method, ToLongFunction.class, "applyAsLong"), a);
+                case "L>D" -> new ObjectToDouble(name, bind(method, ToDoubleFunction.class, "applyAsDouble"), a);
+                case "L>Z" -> new ObjectPredicate(name, bind(method, Predicate.class, "test"), a);
+                case "LL>Z" -> new ObjectBiPredicate(name, bind(method, BiPredicate.class, "test"), a, b);
+                case "L>L" -> new ObjectFunction(name, bind(method, Function.class, "apply"), a,
+                        method.getReturnType());
+                case "LL>L" -> new ObjectBiFunction(name, bind(method, BiFunction.class, "apply"), a, b,
+                        method.getReturnType());
+                default -> null;
+            };
+        } catch (Throwable e) {
+            log.atDebug().log("Cannot spin lambda for method {}, using a generic call: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isPublic(Method method) {
+        if (!Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers())) {
+            return false;
+        }
+        for (Class<?> c = method.getDeclaringClass(); c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String shape(Method method) {
+        StringBuilder shape = new StringBuilder(5);
+        for (Class<?> parameter : method.getParameterTypes()) {
+            char c = code(parameter);
+            if (c == 0) {
+                return null;
+            }
+            shape.append(c);
+        }
+        char r = code(method.getReturnType());
+        if (r == 0 || method.getReturnType() == void.class) {
+            return null;
+        }
+        return shape.append('>').append(r).toString();
+    }
+
+    private static char code(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return 'L';
+        }
+        if (type == int.class) {
+            return 'I';
+        }
+        if (type == long.class) {
+            return 'J';
+        }
+        if (type == double.class) {
+            return 'D';
+        }
+        if (type == boolean.class) {
+            return 'Z';
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <F> F bind(Method method, Class<? super F> type, String sam) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle target = lookup.unreflect(method);
+        MethodType instantiated = target.type();
+        MethodType erased = instantiated.erase();
+        CallSite site = LambdaMetafactory.metafactory(lookup, sam, MethodType.methodType(type), erased, target,
+                instantiated);
+        return (F) site.getTarget().invoke();
+    }
+
+    // --- Primitive shapes ---
+
+    static final class IntUnary extends IntNode {
+        private final String name;
+        private final IntUnaryOperator fn;
+        private final ICompiledNode a;
+
+        IntUnary(String name, IntUnaryOperator fn, ICompiledNode a) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+        }
+
+        @Override
+        public int evalInt() throws SupplyException {
+            int x = this.a.evalInt();
+            try {
+                return this.fn.applyAsInt(x);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(int)";
+        }
+    }
+
+    static final class LongUnary extends LongNode {
+        private final String name;
+        private final LongUnaryOperator fn;
+        private final ICompiledNode a;
+
+        LongUnary(String name, LongUnaryOperator fn, ICompiledNode a) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+        }
+
+        @Override
+        public long evalLong() throws SupplyException {
+            long x = this.a.evalLong();
+            try {
+                return this.fn.applyAsLong(x);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(long)";
+        }
+    }
+
+    static final class DoubleUnary extends DoubleNode {
+        private final String name;
+        private final DoubleUnaryOperator fn;
+        private final ICompiledNode a;
+
+        DoubleUnary(String name, DoubleUnaryOperator fn, ICompiledNode a) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+        }
+
+        @Override
+        public double evalDouble() throws SupplyException {
+            double x = this.a.evalDouble();
+            try {
+                return this.fn.applyAsDouble(x);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(double)";
+        }
+    }
+
+    static final class IntBinary extends IntNode {
+        private final String name;
+        private final IntBinaryOperator fn;
+        private final ICompiledNode a;
+        private final ICompiledNode b;
+
+        IntBinary(String name, IntBinaryOperator fn, ICompiledNode a, ICompiledNode b) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public int evalInt() throws SupplyException {
+            int x = this.a.evalInt();
+            int y = this.b.evalInt();
+            try {
+                return this.fn.applyAsInt(x, y);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(int,int)";
+        }
+    }
+
+    static final class LongBinary extends LongNode {
+        private final String name;
+        private final LongBinaryOperator fn;
+        private final ICompiledNode a;
+        private final ICompiledNode b;
+
+        LongBinary(String name, LongBinaryOperator fn, ICompiledNode a, ICompiledNode b) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public long evalLong() throws SupplyException {
+            long x = this.a.evalLong();
+            long y = this.b.evalLong();
+            try {
+                return this.fn.applyAsLong(x, y);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(long,long)";
+        }
+    }
+
+    static final class DoubleBinary extends DoubleNode {
+        private final String name;
+        private final DoubleBinaryOperator fn;
+        private final ICompiledNode a;
+        private final ICompiledNode b;
+
+        DoubleBinary(String name, DoubleBinaryOperator fn, ICompiledNode a, ICompiledNode b) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public double evalDouble() throws SupplyException {
+            double x = this.a.evalDouble();
+            double y = this.b.evalDouble();
+            try {
+                return this.fn.applyAsDouble(x, y);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(double,double)";
+        }
+    }
+
+    static final class IntCompare extends BooleanNode {
+        private final String name;
+        private final IntComparison fn;
+        private final ICompiledNode a;
+        private final ICompiledNode b;
+
+        IntCompare(String name, IntComparison fn, ICompiledNode a, ICompiledNode b) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean evalBoolean() throws SupplyException {
+            int x = this.a.evalInt();
+            int y = this.b.evalInt();
+            try {
+                return this.fn.test(x, y);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(int,int)";
+        }
+    }
+
+    static final class LongCompare extends BooleanNode {
+        private final String name;
+        private final LongComparison fn;
+        private final ICompiledNode a;
+        private final ICompiledNode b;
+
+        LongCompare(String name, LongComparison fn, ICompiledNode a, ICompiledNode b) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean evalBoolean() throws SupplyException {
+            long x = this.a.evalLong();
+            long y = this.b.evalLong();
+            try {
+                return this.fn.test(x, y);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(long,long)";
+        }
+    }
+
+    static final class DoubleCompare extends BooleanNode {
+        private final String name;
+        private final DoubleComparison fn;
+        private final ICompiledNode a;
+        private final ICompiledNode b;
+
+        DoubleCompare(String name, DoubleComparison fn, ICompiledNode a, ICompiledNode b) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean evalBoolean() throws SupplyException {
+            double x = this.a.evalDouble();
+            double y = this.b.evalDouble();
+            try {
+                return this.fn.test(x, y);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(double,double)";
+        }
+    }
+
+    static final class BooleanBinary extends BooleanNode {
+        private final String name;
+        private final BooleanBinaryOperator fn;
+        private final ICompiledNode a;
+        private final ICompiledNode b;
+
+        BooleanBinary(String name, BooleanBinaryOperator fn, ICompiledNode a, ICompiledNode b) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean evalBoolean() throws SupplyException {
+            boolean x = this.a.evalBoolean();
+            boolean y = this.b.evalBoolean();
+            try {
+                return this.fn.apply(x, y);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(boolean,boolean)";
+        }
+    }
+
+    // --- Reference parameters ---
+
+    static final class ObjectToInt extends IntNode {
+        private final String name;
+        private final ToIntFunction<Object> fn;
+        private final ICompiledNode a;
+
+        ObjectToInt(String name, ToIntFunction<Object> fn, ICompiledNode a) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+        }
+
+        @Override
+        public int evalInt() throws SupplyException {
+            Object x = this.a.evalObject();
+            try {
+                return this.fn.applyAsInt(x);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(Object)";
+        }
+    }
+
+    static final class ObjectToLong extends LongNode {
+        private final String name;
+        private final ToLongFunction<Object> fn;
+        private final ICompiledNode a;
+
+        ObjectToLong(String name, ToLongFunction<Object> fn, ICompiledNode a) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+        }
+
+        @Override
+        public long evalLong() throws SupplyException {
+            Object x = this.a.evalObject();
+            try {
+                return this.fn.applyAsLong(x);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(Object)";
+        }
+    }
+
+    static final class ObjectToDouble extends DoubleNode {
+        private final String name;
+        private final ToDoubleFunction<Object> fn;
+        private final ICompiledNode a;
+
+        ObjectToDouble(String name, ToDoubleFunction<Object> fn, ICompiledNode a) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+        }
+
+        @Override
+        public double evalDouble() throws SupplyException {
+            Object x = this.a.evalObject();
+            try {
+                return this.fn.applyAsDouble(x);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(Object)";
+        }
+    }
+
+    static final class ObjectPredicate extends BooleanNode {
+        private final String name;
+        private final Predicate<Object> fn;
+        private final ICompiledNode a;
+
+        ObjectPredicate(String name, Predicate<Object> fn, ICompiledNode a) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+        }
+
+        @Override
+        public boolean evalBoolean() throws SupplyException {
+            Object x = this.a.evalObject();
+            try {
+                return this.fn.test(x);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(Object)";
+        }
+    }
+
+    static final class ObjectBiPredicate extends BooleanNode {
+        private final String name;
+        private final BiPredicate<Object, Object> fn;
+        private final ICompiledNode a;
+        private final ICompiledNode b;
+
+        ObjectBiPredicate(String name, BiPredicate<Object, Object> fn, ICompiledNode a, ICompiledNode b) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean evalBoolean() throws SupplyException {
+            Object x = this.a.evalObject();
+            Object y = this.b.evalObject();
+            try {
+                return this.fn.test(x, y);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(Object,Object)";
+        }
+    }
+
+    static final class ObjectFunction implements ICompiledNode {
+        private final String name;
+        private final Function<Object, Object> fn;
+        private final ICompiledNode a;
+        private final Class<?> type;
+
+        ObjectFunction(String name, Function<Object, Object> fn, ICompiledNode a, Class<?> type) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+            this.type = type;
+        }
+
+        @Override
+        public Class<?> type() {
+            return this.type;
+        }
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            Object x = this.a.evalObject();
+            try {
+                return this.fn.apply(x);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(Object)";
+        }
+    }
+
+    static final class ObjectBiFunction implements ICompiledNode {
+        private final String name;
+        private final BiFunction<Object, Object, Object> fn;
+        private final ICompiledNode a;
+        private final ICompiledNode b;
+        private final Class<?> type;
+
+        ObjectBiFunction(String name, BiFunction<Object, Object, Object> fn, ICompiledNode a, ICompiledNode b,
+                Class<?> type) {
+            this.name = name;
+            this.fn = fn;
+            this.a = a;
+            this.b = b;
+            this.type = type;
+        }
+
+        @Override
+        public Class<?> type() {
+            return this.type;
+        }
+
+        @Override
+        public Object evalObject() throws SupplyException {
+            Object x = this.a.evalObject();
+            Object y = this.b.evalObject();
+            try {
+                return this.fn.apply(x, y);
+            } catch (RuntimeException e) {
+                throw CompiledNodes.invocationFailed(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(Object,Object)";
+        }
+    }
+}
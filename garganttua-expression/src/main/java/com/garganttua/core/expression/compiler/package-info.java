@@ -0,0 +1,20 @@
+/**
+ * Compilation of parsed expression trees.
+ *
+ * <h2>Overview</h2>
+ * <p>
+ * The {@code ExpressionCompiler} turns the node tree of a parsed expression into a
+ * tree of {@code ICompiledNode}s. Functions are resolved once, literals are folded
+ * and primitive functions are called through generated lambdas, so evaluating a
+ * {@code CompiledExpression} neither rebuilds suppliers nor boxes primitives.
+ * </p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * CompiledExpression<?> compiled = expressionContext.compile("greater(add(@a, 1), 10)");
+ * boolean result = compiled.booleanValue();
+ * }</pre>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+package com.garganttua.core.expression.compiler;
@@ -0,0 +1,250 @@
+package com.garganttua.core.expression.context;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.garganttua.core.expression.IExpression;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.supply.ISupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of the expressions compiled by an {@link ExpressionContext}, keyed by the
+ * source text and the signature of the context at compilation time.
+ *
+ * <p>
+ * The signature holds the registered variable types and whether dynamic functions
+ * are enabled, as both change the tree built for a given source. Compiled trees
+ * resolve variables and arguments when evaluated, so a cached expression can be
+ * evaluated any number of times, from any thread. Failed compilations are not
+ * cached. Registering a node factory clears the cache of its context.
+ * </p>
+ *
+ * <p>
+ * The cache holds at most {@value #DEFAULT_MAXIMUM_SIZE} entries by default, which
+ * can be changed with {@link #setMaximumSize(int)} or the {@value #SIZE_PROPERTY}
+ * system property; {@code 0} disables it. When the limit is exceeded, the least
+ * recently used quarter of the entries is evicted. Besides hits and misses, the
+ * cache records the number and duration of the parses it triggered, and how many
+ * of them had to fall back from SLL to full LL prediction.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public class ExpressionCache {
+
+    public static final String SIZE_PROPERTY = "garganttua.expression.cache.size";
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    /**
+     * State of an expression context that a compiled tree depends on.
+     */
+    record Signature(Map<String, IClass<?>> variableTypes, boolean dynamicFunctions) {
+    }
+
+    private record Key(String source, Signature signature) {
+    }
+
+    private static final class Entry {
+        private final IExpression<?, ? extends ISupplier<?>> expression;
+        private volatile long lastAccess;
+
+        private Entry(IExpression<?, ? extends ISupplier<?>> expression, long lastAccess) {
+            this.expression = expression;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder parseNanos = new LongAdder();
+    private final LongAdder llFallbacks = new LongAdder();
+
+    private volatile int maximumSize = Integer.getInteger(SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * Returns the expression compiled from the source under the given signature,
+     * compiling it on a miss.
+     */
+    IExpression<?, ? extends ISupplier<?>> get(String source, Signature signature,
+            Supplier<IExpression<?, ? extends ISupplier<?>>> compiler) {
+        if (this.maximumSize <= 0) {
+            this.misses.increment();
+            return compile(compiler);
+        }
+        Key key = new Key(source, signature);
+        Entry entry = this.entries.get(key);
+        if (entry != null) {
+            this.hits.increment();
+            long now = this.clock.get();
+            if (entry.lastAccess != now) {
+                entry.lastAccess = now;
+            }
+            return entry.expression;
+        }
+        this.misses.increment();
+        IExpression<?, ? extends ISupplier<?>> expression = compile(compiler);
+        this.entries.put(key, new Entry(expression, this.clock.incrementAndGet()));
+        if (this.entries.size() > this.maximumSize) {
+            evict();
+        }
+        return expression;
+    }
+
+    private IExpression<?, ? extends ISupplier<?>> compile(Supplier<IExpression<?, ? extends ISupplier<?>>> compiler) {
+        long start = System.nanoTime();
+        try {
+            return compiler.get();
+        } finally {
+            this.parses.increment();
+            this.parseNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    void recordLlFallback() {
+        this.llFallbacks.increment();
+    }
+
+    private void evict() {
+        if (!this.evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int size = this.entries.size();
+            int count = Math.max(size - this.maximumSize, size / 4);
+            List<Map.Entry<Key, Entry>> snapshot = new ArrayList<>(this.entries.entrySet());
+            snapshot.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+            int evicted = 0;
+            for (int i = 0; i < count && i < snapshot.size(); i++) {
+                Map.Entry<Key, Entry> e = snapshot.get(i);
+                if (this.entries.remove(e.getKey(), e.getValue())) {
+                    evicted++;
+                }
+            }
+            this.evictions.add(evicted);
+            log.atDebug().log("Evicted {} compiled expressions out of {}", evicted, size);
+        } finally {
+            this.evicting.set(false);
+        }
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public void clear() {
+        log.atDebug().log("Clearing {} compiled expressions", this.entries.size());
+        this.entries.clear();
+    }
+
+    // --- Configuration and statistics ---
+
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of entries, {@code 0} disabling the cache. Exceeding
+     * entries are evicted right away.
+     *
+     * @param size the maximum number of entries
+     */
+    public void setMaximumSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Maximum size cannot be negative");
+        }
+        log.atDebug().log("Setting expression cache maximum size from {} to {}", this.maximumSize, size);
+        this.maximumSize = size;
+        if (size == 0) {
+            clear();
+        } else if (this.entries.size() > size) {
+            evict();
+        }
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    public long evictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Returns the share of lookups served from the cache, between {@code 0} and
+     * {@code 1}.
+     */
+    public double hitRate() {
+        long h = hits();
+        long total = h + misses();
+        return total == 0 ? 0d : (double) h / total;
+    }
+
+    /**
+     * Returns the number of expressions parsed and compiled, failed ones included.
+     */
+    public long parses() {
+        return this.parses.sum();
+    }
+
+    /**
+     * Returns the total time spent parsing and compiling expressions, in
+     * nanoseconds.
+     */
+    public long parseNanos() {
+        return this.parseNanos.sum();
+    }
+
+    /**
+     * Returns the number of parses that SLL prediction could not complete and that
+     * were run again with full LL prediction.
+     */
+    public long llFallbacks() {
+        return this.llFallbacks.sum();
+    }
+
+    /**
+     * Resets the hit, miss, eviction and parse counters.
+     */
+    public void resetStatistics() {
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+        this.parses.reset();
+        this.parseNanos.reset();
+        this.llFallbacks.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ExpressionCache[size=" + size() + ", hits=" + hits() + ", misses=" + misses() + ", parses="
+                + parses() + ", llFallbacks=" + llFallbacks() + "]";
+    }
+
+    static Signature signature(Map<String, IClass<?>> variableTypes, boolean dynamicFunctions) {
+        Objects.requireNonNull(variableTypes, "Variable types cannot be null");
+        return new Signature(Map.copyOf(variableTypes), dynamicFunctions);
+    }
+}
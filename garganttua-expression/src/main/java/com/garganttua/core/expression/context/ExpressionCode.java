@@ -0,0 +1,216 @@
+package com.garganttua.core.expression.context;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Parsed form of an expression, with the node factory of each call resolved to
+ * its key, from which an {@link ExpressionContext} rebuilds the node tree without
+ * parsing the source again.
+ *
+ * <p>
+ * A code is recorded by {@link ExpressionContext#code(String)} and turned back
+ * into an expression by {@link ExpressionContext#expression(ExpressionCode)}. It
+ * can be written to and read from a binary stream, which is how precompiled
+ * scripts store their expressions. A code is only valid for a context whose
+ * {@link ExpressionContext#getRegistryVersion() registry version} is the one it
+ * was recorded with.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public sealed interface ExpressionCode {
+
+    /**
+     * Call of a literal function with raw string parameters, such as
+     * {@code int("1")} or {@code class("java.lang.String")}.
+     */
+    record Literal(String key, List<String> values) implements ExpressionCode {
+        public Literal {
+            Objects.requireNonNull(key, "Key cannot be null");
+            values = List.copyOf(values);
+        }
+    }
+
+    /**
+     * Reference to a variable ({@code @name}, {@code .name}) or to a script
+     * argument ({@code @0}, recorded as {@code $0}).
+     */
+    record Variable(String name, boolean eager) implements ExpressionCode {
+        public Variable {
+            Objects.requireNonNull(name, "Name cannot be null");
+        }
+    }
+
+    /**
+     * Call of a registered function.
+     */
+    record Call(String key, List<ExpressionCode> arguments) implements ExpressionCode {
+        public Call {
+            Objects.requireNonNull(key, "Key cannot be null");
+            arguments = List.copyOf(arguments);
+        }
+    }
+
+    /**
+     * Call of a function resolved when evaluated, such as a script function.
+     */
+    record Dynamic(String name, List<ExpressionCode> arguments) implements ExpressionCode {
+        public Dynamic {
+            Objects.requireNonNull(name, "Name cannot be null");
+            arguments = List.copyOf(arguments);
+        }
+    }
+
+    /**
+     * Method call {@code :name(target, args...)}.
+     */
+    record Method(String name, List<ExpressionCode> arguments) implements ExpressionCode {
+        public Method {
+            Objects.requireNonNull(name, "Name cannot be null");
+            arguments = List.copyOf(arguments);
+        }
+    }
+
+    /**
+     * Constructor call {@code :(type, args...)}.
+     */
+    record Constructor(List<ExpressionCode> arguments) implements ExpressionCode {
+        public Constructor {
+            arguments = List.copyOf(arguments);
+        }
+    }
+
+    /**
+     * Loop ({@code for}, {@code while}, {@code range}, {@code forEach}), with its
+     * variable, if any, and its other arguments.
+     */
+    record Loop(String kind, String variable, List<ExpressionCode> arguments) implements ExpressionCode {
+        public Loop {
+            Objects.requireNonNull(kind, "Kind cannot be null");
+            arguments = List.copyOf(arguments);
+        }
+    }
+
+    // --- Binary form ---
+
+    byte LITERAL = 1;
+    byte VARIABLE = 2;
+    byte CALL = 3;
+    byte DYNAMIC = 4;
+    byte METHOD = 5;
+    byte CONSTRUCTOR = 6;
+    byte LOOP = 7;
+
+    /**
+     * Writes a code and its arguments.
+     *
+     * @param code the code
+     * @param out  the stream
+     * @throws IOException if the stream cannot be written
+     */
+    static void write(ExpressionCode code, DataOutput out) throws IOException {
+        switch (code) {
+            case Literal literal -> {
+                out.writeByte(LITERAL);
+                out.writeUTF(literal.key());
+                out.writeShort(literal.values().size());
+                for (String value : literal.values()) {
+                    out.writeUTF(value);
+                }
+            }
+            case Variable variable -> {
+                out.writeByte(VARIABLE);
+                out.writeUTF(variable.name());
+                out.writeBoolean(variable.eager());
+            }
+            case Call call -> {
+                out.writeByte(CALL);
+                out.writeUTF(call.key());
+                writeAll(call.arguments(), out);
+            }
+            case Dynamic dynamic -> {
+                out.writeByte(DYNAMIC);
+                out.writeUTF(dynamic.name());
+                writeAll(dynamic.arguments(), out);
+            }
+            case Method method -> {
+                out.writeByte(METHOD);
+                out.writeUTF(method.name());
+                writeAll(method.arguments(), out);
+            }
+            case Constructor constructor -> {
+                out.writeByte(CONSTRUCTOR);
+                writeAll(constructor.arguments(), out);
+            }
+            case Loop loop -> {
+                out.writeByte(LOOP);
+                out.writeUTF(loop.kind());
+                out.writeBoolean(loop.variable() != null);
+                if (loop.variable() != null) {
+                    out.writeUTF(loop.variable());
+                }
+                writeAll(loop.arguments(), out);
+            }
+        }
+    }
+
+    /**
+     * Reads a code written by {@link #write(ExpressionCode, DataOutput)}.
+     *
+     * @param in the stream
+     * @return the code
+     * @throws IOException if the stream cannot be read or is not a code
+     */
+    static ExpressionCode read(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case LITERAL: {
+                String key = in.readUTF();
+                int size = in.readUnsignedShort();
+                List<String> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(in.readUTF());
+                }
+                return new Literal(key, values);
+            }
+            case VARIABLE:
+                return new Variable(in.readUTF(), in.readBoolean());
+            case CALL:
+                return new Call(in.readUTF(), readAll(in));
+            case DYNAMIC:
+                return new Dynamic(in.readUTF(), readAll(in));
+            case METHOD:
+                return new Method(in.readUTF(), readAll(in));
+            case CONSTRUCTOR:
+                return new Constructor(readAll(in));
+            case LOOP: {
+                String kind = in.readUTF();
+                String variable = in.readBoolean() ? in.readUTF() : null;
+                return new Loop(kind, variable, readAll(in));
+            }
+            default:
+                throw new IOException("Unknown expression code tag: " + tag);
+        }
+    }
+
+    private static void writeAll(List<ExpressionCode> codes, DataOutput out) throws IOException {
+        out.writeShort(codes.size());
+        for (ExpressionCode code : codes) {
+            write(code, out);
+        }
+    }
+
+    private static List<ExpressionCode> readAll(DataInput in) throws IOException {
+        int size = in.readUnsignedShort();
+        List<ExpressionCode> codes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            codes.add(read(in));
+        }
+        return codes;
+    }
+}
@@ -1,27 +1,46 @@
 package com.garganttua.core.expression.context;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 import com.garganttua.core.bootstrap.banner.IBootstrapSummaryContributor;
 import com.garganttua.core.expression.Expression;
 import com.garganttua.core.expression.ExpressionException;
-import com.garganttua.core.expression.ExpressionNode;
+import com.garganttua.core.expression.ForEachLoopExpressionNode;
 import com.garganttua.core.expression.ForLoopExpressionNode;
-import com.garganttua.core.expression.IEvaluateNode;
+import com.garganttua.core.expression.LoopBudget;
+import com.garganttua.core.expression.RangeLoopExpressionNode;
+import com.garganttua.core.expression.WhileLoopExpressionNode;
 import com.garganttua.core.expression.IExpression;
 import com.garganttua.core.expression.IExpressionNode;
+import com.garganttua.core.expression.VariableExpressionNode;
 import com.garganttua.core.expression.antlr4.ExpressionLexer;
 import com.garganttua.core.expression.antlr4.ExpressionParser;
+import com.garganttua.core.expression.compiler.CompiledExpression;
+import com.garganttua.core.expression.compiler.ExpressionCompiler;
+import com.garganttua.core.expression.compiler.ExpressionOptimizer;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.supply.ISupplier;
 
@@ -35,6 +54,10 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
     private Map<String, IExpressionNodeFactory<?, ? extends ISupplier<?>>> nodeFactories = new ConcurrentHashMap<>();
     private final Map<String, IClass<?>> variableTypes = new ConcurrentHashMap<>();
     private volatile boolean dynamicFunctionsEnabled = false;
+    private volatile LoopBudget loopBudget = LoopBudget.DEFAULT;
+    // Created on first compilation: contexts built only to evaluate nodes never parse
+    private volatile ExpressionCache cache;
+    private volatile ExpressionCache.Signature signature = ExpressionCache.signature(Map.of(), false);
 
     public ExpressionContext(Set<IExpressionNodeFactory<?, ? extends ISupplier<?>>> nodeFactories) {
         log.atTrace().log("Entering ExpressionContext constructor");
@@ -58,12 +81,14 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
         Objects.requireNonNull(key, "Key cannot be null");
         Objects.requireNonNull(factory, "Factory cannot be null");
         this.nodeFactories.put(key, factory);
+        clearCache();
         log.atDebug().log("Expression factory registered: {}", key);
     }
 
     @Override
     public void enableDynamicFunctions() {
         this.dynamicFunctionsEnabled = true;
+        updateSignature();
         log.atDebug().log("Dynamic function resolution enabled");
     }
 
@@ -72,29 +97,90 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
         Objects.requireNonNull(name, "Variable name cannot be null");
         Objects.requireNonNull(type, "Variable type cannot be null");
         this.variableTypes.put(name, type);
+        updateSignature();
         log.atDebug().log("Registered variable type: @{} -> {}", name, type.getName());
     }
 
+    /**
+     * Sets the budget of the loops ({@code for}, {@code while}, {@code range},
+     * {@code forEach}) of the expressions parsed from now on.
+     *
+     * @param loopBudget the budget
+     * @since 2.0.0-ALPHA02
+     */
+    public void setLoopBudget(LoopBudget loopBudget) {
+        this.loopBudget = Objects.requireNonNull(loopBudget, "Loop budget cannot be null");
+        clearCache();
+        log.atDebug().log("Loop budget set to {}", loopBudget);
+    }
+
+    public LoopBudget getLoopBudget() {
+        return this.loopBudget;
+    }
+
+    private synchronized void updateSignature() {
+        this.signature = ExpressionCache.signature(this.variableTypes, this.dynamicFunctionsEnabled);
+    }
+
+    private void clearCache() {
+        ExpressionCache cache = this.cache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Parses the given expression, or takes it from the cache, and returns it
+     * compiled by the {@link ExpressionCompiler}.
+     *
+     * @param expressionString the expression
+     * @return the compiled expression, shared by every caller
+     * @throws ExpressionException if the expression cannot be parsed or compiled
+     */
+    public CompiledExpression<?> compile(String expressionString) {
+        return ((Expression<?>) expression(expressionString)).compile();
+    }
+
+    /**
+     * Returns the cache of the expressions compiled by this context.
+     */
+    public ExpressionCache getExpressionCache() {
+        ExpressionCache cache = this.cache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = this.cache;
+                if (cache == null) {
+                    cache = new ExpressionCache();
+                    this.cache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
     @Override
     public IExpression<?, ? extends ISupplier<?>> expression(String expressionString) {
         log.atTrace().log("Entering expression(expressionString={})", expressionString);
-        log.atDebug().log("Parsing expression: {}", expressionString);
 
         Objects.requireNonNull(expressionString, "Expression string cannot be null");
 
+        ExpressionCache.Signature current = this.signature;
+        IExpression<?, ? extends ISupplier<?>> expression = getExpressionCache().get(expressionString, current,
+                () -> compile(expressionString, current));
+        log.atTrace().log("Exiting expression");
+        return expression;
+    }
+
+    private IExpression<?, ? extends ISupplier<?>> compile(String expressionString,
+            ExpressionCache.Signature current) {
+        log.atDebug().log("Parsing expression: {}", expressionString);
         try {
-            // Create ANTLR4 lexer and parser
-            ExpressionLexer lexer = new ExpressionLexer(CharStreams.fromString(expressionString));
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            ExpressionParser parser = new ExpressionParser(tokens);
-            log.atDebug().log("ANTLR4 lexer and parser created");
-
-            // Parse the expression starting from root rule
-            ExpressionParser.RootContext rootContext = parser.root();
+            ExpressionParser.RootContext rootContext = parse(expressionString);
             log.atDebug().log("Expression parsed by ANTLR4");
 
             // Visit and build the expression tree
-            ExpressionVisitor visitor = new ExpressionVisitor(this.nodeFactories, this.variableTypes, this.dynamicFunctionsEnabled);
+            ExpressionVisitor visitor = new ExpressionVisitor(this.nodeFactories, current.variableTypes(),
+                    current.dynamicFunctions(), this.loopBudget);
             IExpressionNode<?, ? extends ISupplier<?>> rootNode = visitor.visit(rootContext);
 
             if (rootNode == null) {
@@ -102,8 +188,14 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
                 throw new ExpressionException("Failed to parse expression: " + expressionString);
             }
 
+            ExpressionOptimizer optimizer = new ExpressionOptimizer();
+            rootNode = optimizer.optimize(rootNode);
+            if (!optimizer.getFolded().isEmpty() || !optimizer.getHoisted().isEmpty()) {
+                log.atDebug().log("Expression optimized: {}, folded {}, hoisted {}", expressionString,
+                        optimizer.getFolded(), optimizer.getHoisted());
+            }
+
             log.atDebug().log("Expression parsed successfully: {}", expressionString);
-            log.atTrace().log("Exiting expression");
             return new Expression<>(rootNode);
 
         } catch (Exception e) {
@@ -113,6 +205,112 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
         }
     }
 
+    /**
+     * Parses the given expression and returns its {@link ExpressionCode}, from which
+     * {@link #expression(ExpressionCode)} rebuilds it without parsing. The code is
+     * not optimized: folding and hoisting run again when it is rebuilt.
+     *
+     * @param expressionString the expression
+     * @return the code of the expression
+     * @throws ExpressionException if the expression cannot be parsed, or uses a
+     *                             construct codes do not cover
+     * @since 2.0.0-ALPHA02
+     */
+    public ExpressionCode code(String expressionString) {
+        Objects.requireNonNull(expressionString, "Expression string cannot be null");
+        ExpressionCache.Signature current = this.signature;
+        ExpressionVisitor visitor = new ExpressionVisitor(this.nodeFactories, current.variableTypes(),
+                current.dynamicFunctions(), this.loopBudget, true);
+        try {
+            IExpressionNode<?, ? extends ISupplier<?>> rootNode = visitor.visit(parse(expressionString));
+            if (rootNode == null) {
+                throw new ExpressionException("Failed to parse expression: " + expressionString);
+            }
+            return visitor.code(rootNode);
+        } catch (ExpressionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ExpressionException(e);
+        }
+    }
+
+    /**
+     * Builds an expression from its code, without parsing, and optimizes it. The
+     * code must have been recorded by a context with the same
+     * {@link #getRegistryVersion() registry version}.
+     *
+     * @param code the code of the expression
+     * @return the expression
+     * @throws ExpressionException if a function of the code is not registered
+     * @since 2.0.0-ALPHA02
+     */
+    public IExpression<?, ? extends ISupplier<?>> expression(ExpressionCode code) {
+        Objects.requireNonNull(code, "Expression code cannot be null");
+        ExpressionCache.Signature current = this.signature;
+        ExpressionVisitor visitor = new ExpressionVisitor(this.nodeFactories, current.variableTypes(),
+                current.dynamicFunctions(), this.loopBudget);
+        try {
+            return new Expression<>(new ExpressionOptimizer().optimize(visitor.build(code)));
+        } catch (ExpressionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ExpressionException(e);
+        }
+    }
+
+    /**
+     * Returns a hash of what the node factories chosen by the parser depend on: the
+     * keys of the registered factories, the registered variable types and whether
+     * dynamic functions are enabled. {@link ExpressionCode}s recorded by a context
+     * can be rebuilt by any context with the same registry version.
+     *
+     * @return the registry version, in hexadecimal
+     * @since 2.0.0-ALPHA02
+     */
+    public String getRegistryVersion() {
+        StringBuilder registry = new StringBuilder();
+        for (String key : new TreeSet<>(this.nodeFactories.keySet())) {
+            registry.append(key).append('\n');
+        }
+        ExpressionCache.Signature current = this.signature;
+        new TreeMap<>(current.variableTypes()).forEach(
+                (name, type) -> registry.append('@').append(name).append('=').append(type.getName()).append('\n'));
+        registry.append("dynamic=").append(current.dynamicFunctions());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(registry.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Parses with SLL prediction first, which is enough for most inputs, and runs
+     * the parse again with full LL prediction and the default error recovery only
+     * when SLL gives up. Generated lexers and parsers share their DFA caches across
+     * instances, so each parse reuses the predictions of the previous ones.
+     */
+    private ExpressionParser.RootContext parse(String expressionString) {
+        ExpressionLexer lexer = new ExpressionLexer(CharStreams.fromString(expressionString));
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        ExpressionParser parser = new ExpressionParser(tokens);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return parser.root();
+        } catch (ParseCancellationException e) {
+            log.atDebug().log("SLL parsing failed, retrying with LL: {}", expressionString);
+            getExpressionCache().recordLlFallback();
+            tokens.seek(0);
+            parser.reset();
+            parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return parser.root();
+        }
+    }
+
     @Override
     public String man(String key) {
         log.atTrace().log("Entering man(key={})", key);
@@ -163,11 +361,16 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
                     int padding = Math.max(1, 45 - totalLength);
                     list.append(" ".repeat(padding));
 
-                    list.append("- ").append(factory.description()).append("\n");
+                    list.append("- ").append(factory.description());
+                    if (factory.pure()) {
+                        list.append(" [pure]");
+                    }
+                    list.append("\n");
                 });
 
         list.append("\n");
         list.append("Use man(\"key\") or man(index) to get detailed documentation for a specific function.\n");
+        list.append("Calls of [pure] functions with constant arguments are evaluated once, when parsed.\n");
 
         log.atDebug().log("Factory list generated");
         log.atTrace().log("Exiting listFactories");
@@ -214,15 +417,86 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
             extends
             com.garganttua.core.expression.antlr4.ExpressionBaseVisitor<IExpressionNode<?, ? extends ISupplier<?>>> {
 
+        private static final Set<String> LOOP_FUNCTIONS = Set.of("while", "range", "forEach");
+
         private final Map<String, IExpressionNodeFactory<?, ? extends ISupplier<?>>> nodeFactories;
         private final Map<String, IClass<?>> variableTypes;
         private final boolean dynamicFunctionsEnabled;
+        private final LoopBudget loopBudget;
+        private final Map<IExpressionNode<?, ?>, ExpressionCode> codes;
 
         public ExpressionVisitor(Map<String, IExpressionNodeFactory<?, ? extends ISupplier<?>>> nodeFactories,
-                Map<String, IClass<?>> variableTypes, boolean dynamicFunctionsEnabled) {
+                Map<String, IClass<?>> variableTypes, boolean dynamicFunctionsEnabled, LoopBudget loopBudget) {
+            this(nodeFactories, variableTypes, dynamicFunctionsEnabled, loopBudget, false);
+        }
+
+        /**
+         * @param recording whether the {@link ExpressionCode} of the visited nodes is
+         *                  recorded
+         */
+        public ExpressionVisitor(Map<String, IExpressionNodeFactory<?, ? extends ISupplier<?>>> nodeFactories,
+                Map<String, IClass<?>> variableTypes, boolean dynamicFunctionsEnabled, LoopBudget loopBudget,
+                boolean recording) {
             this.nodeFactories = nodeFactories;
             this.variableTypes = variableTypes;
             this.dynamicFunctionsEnabled = dynamicFunctionsEnabled;
+            this.loopBudget = loopBudget;
+            this.codes = recording ? new IdentityHashMap<>() : null;
+        }
+
+        /**
+         * Returns the code recorded for a node built by this visitor.
+         *
+         * @throws ExpressionException if the node has no code, which happens for the
+         *                             parts of the grammar codes do not cover
+         */
+        ExpressionCode code(IExpressionNode<?, ?> node) {
+            ExpressionCode code = this.codes == null ? null : this.codes.get(node);
+            if (code == null) {
+                throw new ExpressionException("No expression code recorded for node " + node);
+            }
+            return code;
+        }
+
+        private List<ExpressionCode> codes(List<?> nodes) {
+            List<ExpressionCode> result = new ArrayList<>(nodes.size());
+            for (Object node : nodes) {
+                result.add(code((IExpressionNode<?, ?>) node));
+            }
+            return result;
+        }
+
+        private IExpressionNode<?, ? extends ISupplier<?>> record(IExpressionNode<?, ? extends ISupplier<?>> node,
+                Supplier<ExpressionCode> code) {
+            if (this.codes != null) {
+                this.codes.put(node, code.get());
+            }
+            return node;
+        }
+
+        /**
+         * Builds the node tree of a code, resolving its calls by their recorded keys.
+         */
+        IExpressionNode<?, ? extends ISupplier<?>> build(ExpressionCode code) {
+            return switch (code) {
+                case ExpressionCode.Literal literal -> supply(literal.key(), new ArrayList<>(literal.values()));
+                case ExpressionCode.Variable variable -> variable(variable.name(), variable.eager());
+                case ExpressionCode.Call call -> supply(call.key(), new ArrayList<>(build(call.arguments())));
+                case ExpressionCode.Dynamic dynamic ->
+                    new com.garganttua.core.expression.DynamicFunctionNode(dynamic.name(), build(dynamic.arguments()));
+                case ExpressionCode.Method method -> methodCall(method.name(), new ArrayList<>(build(method.arguments())));
+                case ExpressionCode.Constructor constructor ->
+                    constructorCall(new ArrayList<>(build(constructor.arguments())));
+                case ExpressionCode.Loop loop -> loop(loop.kind(), loop.variable(), build(loop.arguments()));
+            };
+        }
+
+        private List<IExpressionNode<?, ? extends ISupplier<?>>> build(List<ExpressionCode> codes) {
+            List<IExpressionNode<?, ? extends ISupplier<?>>> nodes = new ArrayList<>(codes.size());
+            for (ExpressionCode code : codes) {
+                nodes.add(build(code));
+            }
+            return nodes;
         }
 
         @Override
@@ -281,6 +555,10 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
                 throw new ExpressionException("Invalid variable reference: " + ctx.getText());
             }
 
+            return record(variable(varName, eagerEval), () -> new ExpressionCode.Variable(varName, eagerEval));
+        }
+
+        private IExpressionNode<?, ? extends ISupplier<?>> variable(String varName, boolean eagerEval) {
             String nodeName = eagerEval ? "." + varName : "@" + varName;
 
             // Look up registered type for this variable, default to Object.class
@@ -289,48 +567,7 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
                 log.atDebug().log("Using registered type {} for variable {}", resolvedIClass.getName(), nodeName);
             }
 
-            @SuppressWarnings({ "rawtypes" })
-            ExpressionNode node = new ExpressionNode(nodeName, (IEvaluateNode) (params) -> {
-                return new ISupplier<Object>() {
-                    @Override
-                    public java.util.Optional<Object> supply() throws com.garganttua.core.supply.SupplyException {
-                        IExpressionVariableResolver resolver = ExpressionVariableContext.get();
-                        if (resolver == null) {
-                            throw new com.garganttua.core.supply.SupplyException(
-                                    "No variable resolver available for " + nodeName);
-                        }
-                        java.util.Optional<Object> resolved = resolver.resolve(varName, IClass.getClass(Object.class));
-
-                        if (eagerEval && resolved.isPresent()) {
-                            Object value = resolved.get();
-                            // If value is a supplier (stored expression), evaluate it
-                            if (value instanceof ISupplier<?> supplier) {
-                                log.atTrace().log("Eager evaluating supplier for .{}", varName);
-                                return supplier.supply().map(r -> (Object) r);
-                            }
-                            // If value is an IExpression, evaluate it
-                            if (value instanceof IExpression<?, ?> expr) {
-                                log.atTrace().log("Eager evaluating expression for .{}", varName);
-                                ISupplier<?> supplier = expr.evaluate();
-                                return supplier.supply().map(r -> (Object) r);
-                            }
-                        }
-                        return resolved;
-                    }
-
-                    @Override
-                    public java.lang.reflect.Type getSuppliedType() {
-                        return resolvedIClass.getType();
-                    }
-
-                    @SuppressWarnings("unchecked")
-                    @Override
-                    public IClass<Object> getSuppliedClass() {
-                        return (IClass<Object>) (IClass<?>) resolvedIClass;
-                    }
-                };
-            }, (IClass) resolvedIClass);
-            return node;
+            return new VariableExpressionNode<>(varName, eagerEval, resolvedIClass);
         }
 
         @Override
@@ -356,6 +593,10 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
             if ("for".equals(functionName)) {
                 return visitForLoop(ctx);
             }
+            // Loop functions, unless a function of the same name is registered
+            if (LOOP_FUNCTIONS.contains(functionName) && !hasRegisteredFunction(functionName)) {
+                return visitLoop(functionName, ctx);
+            }
 
             List<Object> arguments = new ArrayList<>();
 
@@ -373,14 +614,11 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
             // Build function key with parameter types (IExpressionNode instances)
             String functionKey = buildNodeKey(functionName, arguments);
 
-            IExpressionNodeFactory<?, ? extends ISupplier<?>> factory = nodeFactories.get(functionKey);
-
-            if (factory == null) {
-                // Fallback: search for a factory with matching name and arity when Object types are involved
-                factory = findCompatibleFactory(functionName, arguments);
-            }
+            // Fallback: search for a factory with matching name and arity when Object types are involved
+            String resolvedKey = nodeFactories.containsKey(functionKey) ? functionKey
+                    : findCompatibleFactory(functionName, arguments);
 
-            if (factory == null) {
+            if (resolvedKey == null) {
                 if (dynamicFunctionsEnabled && !hasRegisteredFunction(functionName)) {
                     // Fallback: create a DynamicFunctionNode that resolves the function
                     // from runtime variables (supports user-defined script functions).
@@ -390,17 +628,31 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
                     for (Object arg : arguments) {
                         argNodes.add((IExpressionNode<?, ? extends ISupplier<?>>) arg);
                     }
-                    return new com.garganttua.core.expression.DynamicFunctionNode(functionName, argNodes);
+                    return record(new com.garganttua.core.expression.DynamicFunctionNode(functionName, argNodes),
+                            () -> new ExpressionCode.Dynamic(functionName, codes(argNodes)));
                 }
                 throw new ExpressionException("Unknown function: " + functionKey);
             }
 
-            log.atDebug().log("Creating node for function: {}", functionKey);
-            // Create expression node context with IExpressionNode instances
-            ExpressionNodeContext context = new ExpressionNodeContext(arguments);
+            log.atDebug().log("Creating node for function: {}", resolvedKey);
+            return record(supply(resolvedKey, arguments), () -> new ExpressionCode.Call(resolvedKey, codes(arguments)));
+        }
+
+        /**
+         * Creates the node of the factory registered under the given key.
+         *
+         * @param key    the key of the factory
+         * @param params the argument nodes, or the raw values of literal functions
+         */
+        private IExpressionNode<?, ? extends ISupplier<?>> supply(String key, List<Object> params) {
+            IExpressionNodeFactory<?, ? extends ISupplier<?>> factory = nodeFactories.get(key);
+            if (factory == null) {
+                throw new ExpressionException("Function not found: " + key);
+            }
+            ExpressionNodeContext context = new ExpressionNodeContext(params);
             return factory.supply(context)
                     .flatMap(methodReturn -> methodReturn.firstOptional())
-                    .orElseThrow(() -> new ExpressionException("Failed to create node for function: " + functionKey));
+                    .orElseThrow(() -> new ExpressionException("Failed to create node for function: " + key));
         }
 
         /**
@@ -414,17 +666,81 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
             }
             List<ExpressionParser.ExpressionContext> args = ctx.arguments().expression();
             // First arg: variable name (must be a string literal)
-            IExpressionNode<?, ? extends ISupplier<?>> varNameNode = visit(args.get(0));
-            ISupplier<?> varNameSupplier = Expression.evaluateNode(varNameNode);
-            Object varNameObj = varNameSupplier.supply().orElse(null);
-            if (!(varNameObj instanceof String varName)) {
-                throw new ExpressionException("for() first argument must be a string (variable name)");
-            }
+            String varName = loopVariable("for", args.get(0));
             // Remaining args: update, condition, body - kept as expression nodes for re-evaluation
             IExpressionNode<?, ? extends ISupplier<?>> updateNode = visit(args.get(1));
             IExpressionNode<?, ? extends ISupplier<?>> conditionNode = visit(args.get(2));
             IExpressionNode<?, ? extends ISupplier<?>> bodyNode = visit(args.get(3));
-            return new ForLoopExpressionNode(varName, updateNode, conditionNode, bodyNode);
+            return loop("for", varName, List.of(updateNode, conditionNode, bodyNode));
+        }
+
+        /**
+         * Handles the loops {@code while(condition, body)},
+         * {@code range("i", from, to[, step], body)} and
+         * {@code forEach("item", source, body)}.
+         */
+        private IExpressionNode<?, ? extends ISupplier<?>> visitLoop(String functionName,
+                ExpressionParser.FunctionCallContext ctx) {
+            List<ExpressionParser.ExpressionContext> args = ctx.arguments() == null ? List.of()
+                    : ctx.arguments().expression();
+            switch (functionName) {
+                case "while":
+                    if (args.size() != 2) {
+                        throw new ExpressionException("while() requires 2 arguments: while(conditionExpr, bodyExpr)");
+                    }
+                    return loop("while", null, visitAll(args, 0));
+                case "range":
+                    if (args.size() != 4 && args.size() != 5) {
+                        throw new ExpressionException(
+                                "range() requires 4 or 5 arguments: range(\"varName\", from, to[, step], bodyExpr)");
+                    }
+                    return loop("range", loopVariable("range", args.get(0)), visitAll(args, 1));
+                default:
+                    if (args.size() != 3) {
+                        throw new ExpressionException(
+                                "forEach() requires 3 arguments: forEach(\"varName\", sourceExpr, bodyExpr)");
+                    }
+                    return loop("forEach", loopVariable("forEach", args.get(0)), visitAll(args, 1));
+            }
+        }
+
+        private List<IExpressionNode<?, ? extends ISupplier<?>>> visitAll(
+                List<ExpressionParser.ExpressionContext> args, int from) {
+            List<IExpressionNode<?, ? extends ISupplier<?>>> nodes = new ArrayList<>(args.size() - from);
+            for (int i = from; i < args.size(); i++) {
+                nodes.add(visit(args.get(i)));
+            }
+            return nodes;
+        }
+
+        /**
+         * Creates a loop node from its variable and its other arguments, in the order
+         * of the loop function.
+         */
+        private IExpressionNode<?, ? extends ISupplier<?>> loop(String kind, String variable,
+                List<IExpressionNode<?, ? extends ISupplier<?>>> arguments) {
+            IExpressionNode<?, ? extends ISupplier<?>> node = switch (kind) {
+                case "for" -> new ForLoopExpressionNode(variable, arguments.get(0), arguments.get(1),
+                        arguments.get(2), this.loopBudget, List.of());
+                case "while" -> new WhileLoopExpressionNode(arguments.get(0), arguments.get(1), this.loopBudget);
+                case "range" -> new RangeLoopExpressionNode(variable, arguments.get(0), arguments.get(1),
+                        arguments.size() == 4 ? arguments.get(2) : null, arguments.get(arguments.size() - 1),
+                        this.loopBudget);
+                case "forEach" -> new ForEachLoopExpressionNode(variable, arguments.get(0), arguments.get(1),
+                        this.loopBudget);
+                default -> throw new ExpressionException("Unknown loop: " + kind);
+            };
+            return record(node, () -> new ExpressionCode.Loop(kind, variable, codes(arguments)));
+        }
+
+        private String loopVariable(String functionName, ExpressionParser.ExpressionContext arg) {
+            IExpressionNode<?, ? extends ISupplier<?>> varNameNode = visit(arg);
+            ISupplier<?> varNameSupplier = Expression.evaluateNode(varNameNode);
+            Object varNameObj = varNameSupplier.supply().orElse(null);
+            if (!(varNameObj instanceof String varName)) {
+                throw new ExpressionException(functionName + "() first argument must be a string (variable name)");
+            }
+            return varName;
         }
 
         private IExpressionNode<?, ? extends ISupplier<?>> visitMethodCall(ExpressionParser.FunctionCallContext ctx) {
@@ -439,6 +755,11 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
                 }
             }
 
+            return record(methodCall(methodName, arguments),
+                    () -> new ExpressionCode.Method(methodName, codes(arguments)));
+        }
+
+        private IExpressionNode<?, ? extends ISupplier<?>> methodCall(String methodName, List<Object> arguments) {
             String functionKey = buildNodeKey(":"+methodName, arguments);
             IExpressionNodeContext context = new ExpressionNodeContext(arguments.subList(1, arguments.size()));
 
@@ -464,6 +785,10 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
                 }
             }
 
+            return record(constructorCall(arguments), () -> new ExpressionCode.Constructor(codes(arguments)));
+        }
+
+        private IExpressionNode<?, ? extends ISupplier<?>> constructorCall(List<Object> arguments) {
             if (arguments.isEmpty()) {
                 throw new ExpressionException("Constructor call requires at least a class argument");
             }
@@ -526,16 +851,11 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
 
             // Use the "list" function to create array/list
             String functionKey = buildNodeKey("list", elements);
-            IExpressionNodeFactory<?, ? extends ISupplier<?>> factory = nodeFactories.get(functionKey);
-
-            if (factory == null) {
+            if (!nodeFactories.containsKey(functionKey)) {
                 throw new ExpressionException("Array/List factory not found: " + functionKey);
             }
 
-            ExpressionNodeContext context = new ExpressionNodeContext(elements);
-            return factory.supply(context)
-                    .flatMap(methodReturn -> methodReturn.firstOptional())
-                    .orElseThrow(() -> new ExpressionException("Failed to create array/list node"));
+            return record(supply(functionKey, elements), () -> new ExpressionCode.Call(functionKey, codes(elements)));
         }
 
         @Override
@@ -606,29 +926,25 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
 
             String functionKey = buildKey(functionName, paramTypes);
 
-            IExpressionNodeFactory<?, ? extends ISupplier<?>> factory = nodeFactories.get(functionKey);
-
             // If exact match not found, try type-compatible match
-            if (factory == null) {
-                factory = findCompatibleFactoryForDirectParams(functionName, paramTypes);
-            }
+            String resolvedKey = nodeFactories.containsKey(functionKey) ? functionKey
+                    : findCompatibleFactoryForDirectParams(functionName, paramTypes);
 
-            if (factory == null) {
+            if (resolvedKey == null) {
                 throw new ExpressionException("Function not found: " + functionKey);
             }
 
             // Create context with actual parameter values
             List<Object> paramList = List.of(params);
-            ExpressionNodeContext context = new ExpressionNodeContext(paramList);
-            return factory.supply(context)
-                    .flatMap(methodReturn -> methodReturn.firstOptional())
-                    .orElseThrow(() -> new ExpressionException("Failed to create node for: " + functionKey));
+            return record(supply(resolvedKey, paramList), () -> new ExpressionCode.Literal(resolvedKey,
+                    paramList.stream().map(String::valueOf).toList()));
         }
 
         /**
-         * Finds a compatible factory for direct parameters (not IExpressionNode arguments).
+         * Finds the key of a compatible factory for direct parameters (not
+         * IExpressionNode arguments).
          */
-        private IExpressionNodeFactory<?, ? extends ISupplier<?>> findCompatibleFactoryForDirectParams(
+        private String findCompatibleFactoryForDirectParams(
                 String functionName, Class<?>[] argTypes) {
             String prefix = functionName + "(";
             int arity = argTypes.length;
@@ -659,7 +975,7 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
                 if (compatible) {
                     log.atDebug().log("Found compatible factory for direct params: {} for {}({})",
                             key, functionName, java.util.Arrays.toString(argTypes));
-                    return entry.getValue();
+                    return key;
                 }
             }
             return null;
@@ -716,7 +1032,7 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
             return key;
         }
 
-        private IExpressionNodeFactory<?, ? extends ISupplier<?>> findCompatibleFactory(String functionName, List<Object> arguments) {
+        private String findCompatibleFactory(String functionName, List<Object> arguments) {
             String prefix = functionName + "(";
             int arity = arguments.size();
 
@@ -732,7 +1048,7 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
 
             // Search for compatible factory with type matching
             // First pass: look for exact matches or narrowing (argType extends factoryParamType)
-            IExpressionNodeFactory<?, ? extends ISupplier<?>> bestMatch = null;
+            String bestMatch = null;
             int bestScore = -1;
 
             for (Map.Entry<String, IExpressionNodeFactory<?, ? extends ISupplier<?>>> entry : nodeFactories.entrySet()) {
@@ -780,7 +1096,7 @@ public class ExpressionContext implements IExpressionContext, IBootstrapSummaryC
 
                 if (compatible && score > bestScore) {
                     bestScore = score;
-                    bestMatch = entry.getValue();
+                    bestMatch = key;
                     log.atDebug().log("Found compatible factory via type matching: {} (score={}) for {}({})",
                             key, score, functionName, java.util.Arrays.toString(argTypes));
                 }
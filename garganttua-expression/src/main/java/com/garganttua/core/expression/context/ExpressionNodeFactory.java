@@ -10,6 +10,11 @@ import com.garganttua.core.expression.ContextualExpressionNode;
 import com.garganttua.core.expression.ExpressionException;
 import com.garganttua.core.expression.ExpressionNode;
 import com.garganttua.core.expression.IExpressionNode;
+import com.garganttua.core.expression.compiler.ExpressionCompiler;
+import com.garganttua.core.expression.compiler.ExpressionOptimizer;
+import com.garganttua.core.expression.compiler.ICompilableExpressionNode;
+import com.garganttua.core.expression.compiler.ICompiledNode;
+import com.garganttua.core.expression.compiler.IOptimizableExpressionNode;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IMethod;
 import com.garganttua.core.reflection.IMethodReturn;
@@ -47,6 +52,7 @@ public class ExpressionNodeFactory<R, S extends ISupplier<R>>
     @SuppressWarnings("java:S1068")
     private final ObjectAddress methodAddress;
     private final boolean hasGenericReturnType;
+    private final boolean pure;
 
     private String name;
     private String description;
@@ -61,6 +67,20 @@ public class ExpressionNodeFactory<R, S extends ISupplier<R>>
             ObjectAddress methodAddress,
             List<Boolean> nullableParameters,
             Optional<String> name, Optional<String> description) throws ExpressionException {
+        this(methodOwnerSupplier, supplied, method, methodAddress, nullableParameters, name, description, false);
+    }
+
+    /**
+     * Creates a factory whose function may be declared pure, so that its calls with
+     * constant arguments are folded by the {@link ExpressionOptimizer}.
+     */
+    public ExpressionNodeFactory(
+            ISupplier<?> methodOwnerSupplier,
+            Class<S> supplied,
+            IMethod method,
+            ObjectAddress methodAddress,
+            List<Boolean> nullableParameters,
+            Optional<String> name, Optional<String> description, boolean pure) throws ExpressionException {
 
         super(methodOwnerSupplier,
                 resolveReflectMethod(methodOwnerSupplier.getSuppliedClass(), method),
@@ -77,13 +97,14 @@ public class ExpressionNodeFactory<R, S extends ISupplier<R>>
         this.nullableParameters = Objects.requireNonNull(nullableParameters,
                 "Nullable parameters list cannot be null");
         this.lazyParameters = detectLazyParameters();
+        this.pure = pure;
         this.hasGenericReturnType = method.getTypeParameters().length > 0
                 && method.getReturnType().getType() == Object.class;
 
         validateParameterConfiguration();
 
-        log.atDebug().log("ExpressionNodeFactory created: method={}, parameterCount={}, genericReturn={}",
-                method.getName(), parameterTypes.length, hasGenericReturnType);
+        log.atDebug().log("ExpressionNodeFactory created: method={}, parameterCount={}, genericReturn={}, pure={}",
+                method.getName(), parameterTypes.length, hasGenericReturnType, pure);
     }
 
     // ========== Public Methods ==========
@@ -142,12 +163,7 @@ public class ExpressionNodeFactory<R, S extends ISupplier<R>>
     // ========== Private Node Creation Methods ==========
 
     private IExpressionNode<R, S> createNonContextualNode(IExpressionNodeContext context) {
-        return (IExpressionNode<R, S>) new ExpressionNode<>(
-                getExecutableReference(),
-                this::bindNode,
-                getReturnType(),
-                context.parameters(),
-                this.lazyParameters);
+        return (IExpressionNode<R, S>) new FunctionNode(context.parameters());
     }
 
     private IExpressionNode<R, S> createContextualNode(IExpressionNodeContext context) {
@@ -280,6 +296,74 @@ public class ExpressionNodeFactory<R, S extends ISupplier<R>>
 
     // ========== Inner Classes ==========
 
+    /**
+     * Non contextual node calling the method of this factory, which the
+     * {@link ExpressionCompiler} compiles into a direct call and the
+     * {@link ExpressionOptimizer} folds when the function is pure.
+     */
+    private class FunctionNode extends ExpressionNode<R>
+            implements ICompilableExpressionNode, IOptimizableExpressionNode {
+        private final List<Object> parameters;
+
+        FunctionNode(List<Object> parameters) {
+            super(ExpressionNodeFactory.this.getExecutableReference(), ExpressionNodeFactory.this::bindNode,
+                    ExpressionNodeFactory.this.getReturnType(), parameters, ExpressionNodeFactory.this.lazyParameters);
+            this.parameters = parameters;
+        }
+
+        @Override
+        public ICompiledNode compile(ExpressionCompiler compiler) throws ExpressionException {
+            ExpressionNodeFactory<R, S> factory = ExpressionNodeFactory.this;
+            return compiler.call(new ExpressionCompiler.Call(factory.method, factory.methodOwnerSupplier,
+                    this.parameters, factory.nullableParameters, factory.lazyParameters, factory.getReturnType()));
+        }
+
+        @Override
+        public boolean isPure() {
+            return ExpressionNodeFactory.this.pure && !ExpressionNodeFactory.this.lazyParameters.contains(Boolean.TRUE);
+        }
+
+        @Override
+        public boolean hasSideEffects() {
+            return !ExpressionNodeFactory.this.pure;
+        }
+
+        @Override
+        public List<IExpressionNode<?, ? extends ISupplier<?>>> children() {
+            List<IExpressionNode<?, ? extends ISupplier<?>>> children = new ArrayList<>(this.parameters.size());
+            for (Object parameter : this.parameters) {
+                if (parameter instanceof IExpressionNode<?, ? extends ISupplier<?>> child) {
+                    children.add(child);
+                }
+            }
+            return children;
+        }
+
+        @Override
+        public IExpressionNode<?, ? extends ISupplier<?>> withChildren(
+                List<IExpressionNode<?, ? extends ISupplier<?>>> children) {
+            List<Object> rebuilt = new ArrayList<>(this.parameters.size());
+            int next = 0;
+            for (Object parameter : this.parameters) {
+                rebuilt.add(parameter instanceof IExpressionNode<?, ?> ? children.get(next++) : parameter);
+            }
+            return new FunctionNode(rebuilt);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(ExpressionNodeFactory.this.name).append('(');
+            for (int i = 0; i < this.parameters.size(); i++) {
+                if (i > 0) {
+                    text.append(", ");
+                }
+                Object parameter = this.parameters.get(i);
+                text.append(parameter instanceof String ? "\"" + parameter + "\"" : parameter);
+            }
+            return text.append(')').toString();
+        }
+    }
+
     /**
      * Supplier wrapper that unwraps IMethodReturn and dynamically resolves
      * the actual return type from the result value for generic methods.
@@ -400,6 +484,11 @@ public class ExpressionNodeFactory<R, S extends ISupplier<R>>
         return this.description;
     }
 
+    @Override
+    public boolean pure() {
+        return this.pure;
+    }
+
     @Override
     public String man() {
         StringBuilder manual = new StringBuilder();
@@ -422,7 +511,11 @@ public class ExpressionNodeFactory<R, S extends ISupplier<R>>
         manual.append(")\n\n");
 
         manual.append("DESCRIPTION\n");
-        manual.append("    ").append(this.description).append("\n\n");
+        manual.append("    ").append(this.description).append("\n");
+        if (this.pure) {
+            manual.append("    Pure function: calls with constant arguments are evaluated once, at parse time.\n");
+        }
+        manual.append("\n");
 
         if (this.parameterTypes.length > 0) {
             manual.append("PARAMETERS\n");
@@ -33,6 +33,7 @@ public class ExpressionNodeFactoryBuilder<S>
     private IClass<S> supplied;
     private String name;
     private String description = "No description";
+    private boolean pure;
     private IObjectQuery<?> objectQuery;
 
     public ExpressionNodeFactoryBuilder(IExpressionContextBuilder parent,
@@ -66,7 +67,8 @@ public class ExpressionNodeFactoryBuilder<S>
                 methodAddress,
                 this.nullableParameters(),
                 Optional.ofNullable(this.name),
-                Optional.ofNullable(this.description));
+                Optional.ofNullable(this.description),
+                this.pure);
     }
 
     @Override
@@ -82,6 +84,7 @@ public class ExpressionNodeFactoryBuilder<S>
         if (nodeInfos.description() != null && !nodeInfos.description().isBlank()) {
             this.withDescription(nodeInfos.description());
         }
+        this.pure(nodeInfos.pure());
         IClass<Nullable> nullableClass = IClass.getClass(Nullable.class);
         IParameter[] params = m.getParameters();
         for (int i = 0; i < params.length; i++) {
@@ -231,6 +234,12 @@ public class ExpressionNodeFactoryBuilder<S>
         return this;
     }
 
+    @Override
+    public IExpressionMethodBinderBuilder<S> pure(boolean pure) {
+        this.pure = pure;
+        return this;
+    }
+
     @Override
     protected void doPreBuildWithDependency_(Object dependency) {
     }
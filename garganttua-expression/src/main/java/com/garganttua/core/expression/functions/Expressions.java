@@ -52,7 +52,7 @@ public class Expressions {
      * @param value the value to convert
      * @return the string representation of the value, or null if value is null
      */
-    @Expression(name = "string", description = "Converts any value to its String representation")
+    @Expression(name = "string", description = "Converts any value to its String representation", pure = true)
     public static String string(@Nullable Object value) {
         if (value == null) {
             return null;
@@ -70,7 +70,7 @@ public class Expressions {
      * @return an ISupplier that supplies the parsed integer value
      * @throws ExpressionException if value cannot be parsed as integer
      */
-    @Expression(name = "int", description = "Parses a string to an Integer")
+    @Expression(name = "int", description = "Parses a string to an Integer", pure = true)
     public static int integer(@Nullable String value) {
         log.atTrace().log("Converting '{}' to Integer", value);
         try {
@@ -89,7 +89,7 @@ public class Expressions {
      * @return an ISupplier that supplies the parsed long value
      * @throws ExpressionException if value cannot be parsed as long
      */
-    @Expression(name = "long", description = "Parses a string to a Long")
+    @Expression(name = "long", description = "Parses a string to a Long", pure = true)
     public static long longnumber(@Nullable String value) {
         try {
             return java.lang.Long.parseLong(value);
@@ -105,7 +105,7 @@ public class Expressions {
      * @return an ISupplier that supplies the parsed double value
      * @throws ExpressionException if value cannot be parsed as double
      */
-    @Expression(name = "double", description = "Parses a string to a Double")
+    @Expression(name = "double", description = "Parses a string to a Double", pure = true)
     public static double doublenumber(@Nullable String value) {
         try {
             return java.lang.Double.parseDouble(value);
@@ -121,7 +121,7 @@ public class Expressions {
      * @return an ISupplier that supplies the parsed float value
      * @throws ExpressionException if value cannot be parsed as float
      */
-    @Expression(name = "float", description = "Parses a string to a Float")
+    @Expression(name = "float", description = "Parses a string to a Float", pure = true)
     public static float floatnumber(@Nullable String value) {
         try {
             return java.lang.Float.parseFloat(value);
@@ -136,7 +136,7 @@ public class Expressions {
      * @param value the string representation of a boolean ("true" or "false")
      * @return an ISupplier that supplies the parsed boolean value
      */
-    @Expression(name = "boolean", description = "Parses a string to a Boolean (true/false)")
+    @Expression(name = "boolean", description = "Parses a string to a Boolean (true/false)", pure = true)
     public static boolean booleanValue(@Nullable String value) {
         return java.lang.Boolean.parseBoolean(value);
     }
@@ -148,7 +148,7 @@ public class Expressions {
      * @return an ISupplier that supplies the parsed byte value
      * @throws ExpressionException if value cannot be parsed as byte
      */
-    @Expression(name = "byte", description = "Parses a string to a Byte (-128 to 127)")
+    @Expression(name = "byte", description = "Parses a string to a Byte (-128 to 127)", pure = true)
     public static byte byteValue(@Nullable String value) {
         try {
             return java.lang.Byte.parseByte(value);
@@ -164,7 +164,7 @@ public class Expressions {
      * @return an ISupplier that supplies the parsed short value
      * @throws ExpressionException if value cannot be parsed as short
      */
-    @Expression(name = "short", description = "Parses a string to a Short")
+    @Expression(name = "short", description = "Parses a string to a Short", pure = true)
     public static short shortNumber(@Nullable String value) {
         try {
             return java.lang.Short.parseShort(value);
@@ -180,7 +180,7 @@ public class Expressions {
      * @return an ISupplier that supplies the character value
      * @throws ExpressionException if value is empty
      */
-    @Expression(name = "char", description = "Extracts first character from string as Character")
+    @Expression(name = "char", description = "Extracts first character from string as Character", pure = true)
     public static char character(@Nullable String value) {
         if (value == null || value.isEmpty()) {
             throw new ExpressionException("Cannot convert empty string to Character");
@@ -198,7 +198,7 @@ public class Expressions {
      * @return an ISupplier that supplies the Class object
      * @throws ExpressionException if class cannot be found
      */
-    @Expression(name = "class", description = "Loads a class by fully qualified name or primitive type")
+    @Expression(name = "class", description = "Loads a class by fully qualified name or primitive type", pure = true)
     public static IClass<?> Class(@Nullable String className) {
         log.atTrace().log("Loading class: {}", className);
         if (className == null) {
@@ -265,7 +265,7 @@ public class Expressions {
      * @param value2 the second value
      * @return the concatenation of both values as strings
      */
-    @Expression(name = "concatenate", description = "Concatenates two values into a string")
+    @Expression(name = "concatenate", description = "Concatenates two values into a string", pure = true)
     public static String concatenate(@Nullable Object value1, @Nullable Object value2) {
         String s1 = value1 == null ? "" : value1.toString();
         String s2 = value2 == null ? "" : value2.toString();
@@ -280,7 +280,7 @@ public class Expressions {
      * @param value3 the third value
      * @return the concatenation of all values as strings
      */
-    @Expression(name = "concatenate", description = "Concatenates three values into a string")
+    @Expression(name = "concatenate", description = "Concatenates three values into a string", pure = true)
     public static String concatenate(@Nullable Object value1, @Nullable Object value2, @Nullable Object value3) {
         String s1 = value1 == null ? "" : value1.toString();
         String s2 = value2 == null ? "" : value2.toString();
@@ -290,7 +290,7 @@ public class Expressions {
 
     // ========== Arithmetic Functions ==========
 
-    @Expression(name = "increment", description = "Increments an integer value by 1")
+    @Expression(name = "increment", description = "Increments an integer value by 1", pure = true)
     public static int increment(@Nullable Object value) {
         if (value instanceof Number n) {
             return n.intValue() + 1;
@@ -305,7 +305,7 @@ public class Expressions {
         throw new ExpressionException("Cannot increment value of type: " + (value == null ? "null" : value.getClass().getName()));
     }
 
-    @Expression(name = "decrement", description = "Decrements an integer value by 1")
+    @Expression(name = "decrement", description = "Decrements an integer value by 1", pure = true)
     public static int decrement(@Nullable Object value) {
         if (value instanceof Number n) {
             return n.intValue() - 1;
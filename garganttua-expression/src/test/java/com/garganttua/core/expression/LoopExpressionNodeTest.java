@@ -0,0 +1,258 @@
+package com.garganttua.core.expression;
+
+import static com.garganttua.core.supply.dsl.NullSupplierBuilder.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.expression.context.ExpressionContext;
+import com.garganttua.core.expression.context.ExpressionNodeFactory;
+import com.garganttua.core.expression.context.ExpressionVariableContext;
+import com.garganttua.core.expression.context.IExpressionNodeFactory;
+import com.garganttua.core.expression.functions.Expressions;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IReflection;
+import com.garganttua.core.reflection.ObjectAddress;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+import com.garganttua.core.reflections.ReflectionsAnnotationScanner;
+import com.garganttua.core.supply.ISupplier;
+
+public class LoopExpressionNodeTest {
+
+    private static final List<Object> RECORDED = new ArrayList<>();
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    public static class TestFunctions {
+        public static Object record(Object value) {
+            RECORDED.add(value);
+            return value;
+        }
+
+        public static int next() {
+            return COUNTER.incrementAndGet();
+        }
+
+        public static boolean below(int limit) {
+            return COUNTER.get() < limit;
+        }
+
+        public static boolean yes() {
+            return true;
+        }
+
+        public static boolean pause() throws InterruptedException {
+            Thread.sleep(5);
+            return true;
+        }
+    }
+
+    private static class Variables implements ForLoopExpressionNode.VariableSettableResolver {
+        private final Map<String, Object> values = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> Optional<T> resolve(String name, IClass<T> type) {
+            return Optional.ofNullable((T) this.values.get(name));
+        }
+
+        @Override
+        public void setVariable(String name, Object value) {
+            this.values.put(name, value);
+        }
+    }
+
+    private ExpressionContext expressionContext;
+    private Variables variables;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        IReflection reflection = ReflectionBuilder.builder()
+                .withProvider(new RuntimeReflectionProvider(), 1)
+                .withScanner(new ReflectionsAnnotationScanner(), 1)
+                .build();
+        IClass.setReflection(reflection);
+
+        IClass<TestFunctions> functions = IClass.getClass(TestFunctions.class);
+        IClass<Expressions> expressions = IClass.getClass(Expressions.class);
+        IClass<String> stringClass = IClass.getClass(String.class);
+
+        Set<IExpressionNodeFactory<?, ? extends ISupplier<?>>> factories = Set.of(
+                factory(expressions, "integer", "int", List.of(true), stringClass),
+                factory(expressions, "string", "string", List.of(true), IClass.getClass(Object.class)),
+                factory(functions, "record", "record", List.of(true), IClass.getClass(Object.class)),
+                factory(functions, "next", "next", List.of()),
+                factory(functions, "below", "below", List.of(false), IClass.getClass(int.class)),
+                factory(functions, "yes", "yes", List.of()),
+                factory(functions, "pause", "pause", List.of()));
+
+        this.expressionContext = new ExpressionContext(factories);
+        this.variables = new Variables();
+        ExpressionVariableContext.set(this.variables);
+        RECORDED.clear();
+        COUNTER.set(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExpressionVariableContext.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExpressionNodeFactory<Object, ISupplier<Object>> factory(IClass<?> owner, String name,
+            String key, List<Boolean> nullable, IClass<?>... parameterTypes) throws Exception {
+        return new ExpressionNodeFactory<>(
+                of(owner).build(),
+                (Class<ISupplier<Object>>) (Class<?>) ISupplier.class,
+                owner.getMethod(name, parameterTypes),
+                new ObjectAddress(name),
+                nullable,
+                Optional.of(key),
+                Optional.of(name),
+                false);
+    }
+
+    private Object evaluate(String source) {
+        return this.expressionContext.expression(source).evaluate().supply().orElse(null);
+    }
+
+    @Test
+    public void testRangeIteratesFromStartToEndExcluded() {
+        assertEquals(4, evaluate("range(\"i\", 0, 5, record(@i))"));
+        assertEquals(List.of(0, 1, 2, 3, 4), RECORDED);
+    }
+
+    @Test
+    public void testRangeWithNegativeStep() {
+        evaluate("range(\"i\", 5, 0, -2, record(@i))");
+        assertEquals(List.of(5, 3, 1), RECORDED);
+    }
+
+    @Test
+    public void testEmptyRangeReturnsNull() {
+        assertNull(evaluate("range(\"i\", 3, 3, record(@i))"));
+        assertTrue(RECORDED.isEmpty());
+    }
+
+    @Test
+    public void testRangeRejectsZeroStep() {
+        assertThrows(RuntimeException.class, () -> evaluate("range(\"i\", 0, 3, 0, record(@i))"));
+    }
+
+    @Test
+    public void testForEachOverCollection() {
+        this.variables.setVariable("items", List.of("a", "b", "c"));
+
+        assertEquals("c", evaluate("forEach(\"item\", @items, record(@item))"));
+        assertEquals(List.of("a", "b", "c"), RECORDED);
+    }
+
+    @Test
+    public void testForEachOverArrays() {
+        this.variables.setVariable("items", new String[] { "a", "b" });
+        evaluate("forEach(\"item\", @items, record(@item))");
+        this.variables.setVariable("items", new int[] { 1, 2 });
+        evaluate("forEach(\"item\", @items, record(@item))");
+
+        assertEquals(List.of("a", "b", 1, 2), RECORDED);
+    }
+
+    @Test
+    public void testForEachOverStreamIsLazyAndClosesIt() {
+        AtomicBoolean closed = new AtomicBoolean();
+        this.expressionContext.setLoopBudget(LoopBudget.iterations(3));
+        this.variables.setVariable("items", Stream.iterate(0, i -> i + 1).onClose(() -> closed.set(true)));
+
+        assertThrows(RuntimeException.class, () -> evaluate("forEach(\"item\", @items, record(@item))"));
+        assertEquals(List.of(0, 1, 2), RECORDED, "Infinite stream is read element by element");
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testForEachOverNullIsEmpty() {
+        assertNull(evaluate("forEach(\"item\", @missing, record(@item))"));
+        assertTrue(RECORDED.isEmpty());
+    }
+
+    @Test
+    public void testForEachRejectsScalars() {
+        this.variables.setVariable("items", 12);
+        assertThrows(RuntimeException.class, () -> evaluate("forEach(\"item\", @items, record(@item))"));
+    }
+
+    @Test
+    public void testWhileLoop() {
+        assertEquals(3, evaluate("while(below(3), next())"));
+        assertEquals(3, COUNTER.get());
+    }
+
+    @Test
+    public void testIterationBudget() {
+        this.expressionContext.setLoopBudget(LoopBudget.iterations(10));
+
+        evaluate("range(\"i\", 0, 10, record(@i))");
+        assertEquals(10, RECORDED.size());
+        assertThrows(RuntimeException.class, () -> evaluate("range(\"i\", 0, 11, record(@i))"));
+    }
+
+    @Test
+    public void testDefaultBudget() {
+        assertEquals(LoopBudget.DEFAULT, this.expressionContext.getLoopBudget());
+        assertThrows(RuntimeException.class, () -> evaluate("while(yes(), next())"));
+        assertEquals(LoopBudget.DEFAULT.maxIterations(), COUNTER.get());
+    }
+
+    @Test
+    public void testTimeoutBudget() {
+        this.expressionContext.setLoopBudget(LoopBudget.UNLIMITED.withTimeout(Duration.ofMillis(50)));
+
+        assertThrows(RuntimeException.class, () -> evaluate("while(yes(), pause())"));
+    }
+
+    @Test
+    public void testInterruptedLoopsStop() {
+        this.expressionContext.setLoopBudget(LoopBudget.UNLIMITED);
+        IExpression<?, ?> loop = this.expressionContext.expression("while(yes(), next())");
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(RuntimeException.class, () -> loop.evaluate().supply());
+            assertEquals(0, COUNTER.get());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testInvalidBudgets() {
+        assertThrows(IllegalArgumentException.class, () -> LoopBudget.iterations(0));
+        assertThrows(IllegalArgumentException.class, () -> LoopBudget.DEFAULT.withTimeout(Duration.ZERO));
+    }
+
+    @Test
+    public void testLoopsAreCompiled() {
+        this.variables.setVariable("items", List.of(1, 2));
+
+        assertEquals(2, ((Expression<?>) this.expressionContext.expression(
+                "forEach(\"item\", @items, record(@item))")).compile().evaluate().supply().orElse(null));
+        assertEquals(List.of(1, 2), RECORDED);
+    }
+
+    @Test
+    public void testWrongArityIsRejected() {
+        assertThrows(RuntimeException.class, () -> this.expressionContext.expression("while(yes())"));
+        assertThrows(RuntimeException.class, () -> this.expressionContext.expression("range(\"i\", 0, record(@i))"));
+    }
+}
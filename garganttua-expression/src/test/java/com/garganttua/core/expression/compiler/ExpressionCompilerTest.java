@@ -0,0 +1,165 @@
+package com.garganttua.core.expression.compiler;
+
+import static com.garganttua.core.supply.dsl.NullSupplierBuilder.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.expression.context.ExpressionContext;
+import com.garganttua.core.expression.context.ExpressionNodeFactory;
+import com.garganttua.core.expression.context.ExpressionVariableContext;
+import com.garganttua.core.expression.context.IExpressionNodeFactory;
+import com.garganttua.core.expression.context.IExpressionVariableResolver;
+import com.garganttua.core.expression.functions.Expressions;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IReflection;
+import com.garganttua.core.reflection.ObjectAddress;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+import com.garganttua.core.reflections.ReflectionsAnnotationScanner;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+
+public class ExpressionCompilerTest {
+
+    public static class TestFunctions {
+        public static int add(int a, int b) {
+            return a + b;
+        }
+
+        public static boolean greater(int a, int b) {
+            return a > b;
+        }
+
+        public static String upper(String value) {
+            return value.toUpperCase();
+        }
+    }
+
+    private ExpressionContext expressionContext;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        IReflection reflection = ReflectionBuilder.builder()
+                .withProvider(new RuntimeReflectionProvider(), 1)
+                .withScanner(new ReflectionsAnnotationScanner(), 1)
+                .build();
+        IClass.setReflection(reflection);
+
+        IClass<TestFunctions> functions = IClass.getClass(TestFunctions.class);
+        IClass<Expressions> expressions = IClass.getClass(Expressions.class);
+
+        Set<IExpressionNodeFactory<?, ? extends ISupplier<?>>> factories = Set.of(
+                factory(expressions, "integer", "int", List.of(false), IClass.getClass(String.class)),
+                factory(expressions, "string", "string", List.of(false), IClass.getClass(Object.class)),
+                factory(functions, "add", "add", List.of(false, false), IClass.getClass(int.class),
+                        IClass.getClass(int.class)),
+                factory(functions, "greater", "greater", List.of(false, false), IClass.getClass(int.class),
+                        IClass.getClass(int.class)),
+                factory(functions, "upper", "upper", List.of(false), IClass.getClass(String.class)));
+
+        this.expressionContext = new ExpressionContext(factories);
+        this.expressionContext.registerVariableType("a", IClass.getClass(int.class));
+        this.expressionContext.registerVariableType("s", IClass.getClass(String.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExpressionVariableContext.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExpressionNodeFactory<Object, ISupplier<Object>> factory(IClass<?> owner, String name,
+            String key, List<Boolean> nullable, IClass<?>... parameterTypes) throws Exception {
+        return new ExpressionNodeFactory<>(
+                of(owner).build(),
+                (Class<ISupplier<Object>>) (Class<?>) ISupplier.class,
+                owner.getMethod(name, parameterTypes),
+                new ObjectAddress(name),
+                nullable,
+                Optional.of(key),
+                Optional.of(name));
+    }
+
+    private static void variables(Map<String, Object> values) {
+        ExpressionVariableContext.set(new IExpressionVariableResolver() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> Optional<T> resolve(String name, IClass<T> type) {
+                return Optional.ofNullable((T) values.get(name));
+            }
+        });
+    }
+
+    @Test
+    public void testCompiledResultMatchesTree() {
+        String source = "add(8,add(42, 30))";
+        Object tree = this.expressionContext.expression(source).evaluate().supply().get();
+        CompiledExpression<?> compiled = this.expressionContext.compile(source);
+
+        assertEquals(tree, compiled.value());
+        assertEquals(80, compiled.evaluate().supply().get());
+        assertEquals(80, compiled.intValue());
+    }
+
+    @Test
+    public void testLiteralsAreFolded() {
+        CompiledExpression<?> compiled = this.expressionContext.compile("42");
+
+        assertInstanceOf(CompiledNodes.Constant.class, compiled.getRoot());
+        assertEquals(42, compiled.value());
+    }
+
+    @Test
+    public void testPrimitiveFunctionsAreSpecialized() {
+        CompiledExpression<?> compiled = this.expressionContext.compile("greater(add(@a, 1), 10)");
+
+        assertFalse(compiled.getRoot() instanceof CompiledNodes.Call);
+        assertEquals(boolean.class, compiled.getRoot().type());
+
+        variables(Map.of("a", 10));
+        assertTrue(compiled.booleanValue());
+        assertEquals(Boolean.TRUE, compiled.value());
+
+        variables(Map.of("a", 9));
+        assertFalse(compiled.booleanValue());
+    }
+
+    @Test
+    public void testCompiledExpressionIsShared() {
+        CompiledExpression<?> first = this.expressionContext.compile("upper(@s)");
+        CompiledExpression<?> second = this.expressionContext.compile("upper(@s)");
+
+        assertSame(first, second);
+        assertSame(first.evaluate(), second.evaluate());
+
+        variables(Map.of("s", "hello"));
+        assertEquals("HELLO", first.value());
+        variables(Map.of("s", "world"));
+        assertEquals("WORLD", first.evaluate().supply().get());
+    }
+
+    @Test
+    public void testNullIsRejectedForNonNullableParameter() {
+        CompiledExpression<?> compiled = this.expressionContext.compile("add(@a, 1)");
+        variables(Map.of());
+
+        SupplyException exception = assertThrows(SupplyException.class, compiled::intValue);
+        assertTrue(exception.getMessage().contains("not nullable"), exception.getMessage());
+    }
+
+    @Test
+    public void testVariableWithoutResolverFails() {
+        CompiledExpression<?> compiled = this.expressionContext.compile("upper(@s)");
+
+        SupplyException exception = assertThrows(SupplyException.class, compiled::value);
+        assertEquals("No variable resolver available for @s", exception.getMessage());
+    }
+}
@@ -0,0 +1,236 @@
+package com.garganttua.core.expression.compiler;
+
+import static com.garganttua.core.supply.dsl.NullSupplierBuilder.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.expression.ConstantExpressionNode;
+import com.garganttua.core.expression.Expression;
+import com.garganttua.core.expression.ForLoopExpressionNode;
+import com.garganttua.core.expression.IExpressionNode;
+import com.garganttua.core.expression.context.ExpressionContext;
+import com.garganttua.core.expression.context.ExpressionNodeFactory;
+import com.garganttua.core.expression.context.ExpressionVariableContext;
+import com.garganttua.core.expression.context.IExpressionNodeFactory;
+import com.garganttua.core.expression.functions.Expressions;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IReflection;
+import com.garganttua.core.reflection.ObjectAddress;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+import com.garganttua.core.reflections.ReflectionsAnnotationScanner;
+import com.garganttua.core.supply.ISupplier;
+
+public class ExpressionOptimizerTest {
+
+    private static final AtomicInteger SQUARES = new AtomicInteger();
+    private static final AtomicInteger TICKS = new AtomicInteger();
+
+    public static class TestFunctions {
+        public static String concat(String a, String b) {
+            return a + b;
+        }
+
+        public static int square(int value) {
+            SQUARES.incrementAndGet();
+            return value * value;
+        }
+
+        public static int inc(int value) {
+            return value + 1;
+        }
+
+        public static boolean less(int a, int b) {
+            return a < b;
+        }
+
+        public static int tick(int value) {
+            TICKS.incrementAndGet();
+            return value;
+        }
+    }
+
+    private static class Variables implements ForLoopExpressionNode.VariableSettableResolver {
+        private final Map<String, Object> values = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> Optional<T> resolve(String name, IClass<T> type) {
+            return Optional.ofNullable((T) this.values.get(name));
+        }
+
+        @Override
+        public void setVariable(String name, Object value) {
+            this.values.put(name, value);
+        }
+    }
+
+    private ExpressionContext expressionContext;
+    private Variables variables;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        IReflection reflection = ReflectionBuilder.builder()
+                .withProvider(new RuntimeReflectionProvider(), 1)
+                .withScanner(new ReflectionsAnnotationScanner(), 1)
+                .build();
+        IClass.setReflection(reflection);
+
+        IClass<TestFunctions> functions = IClass.getClass(TestFunctions.class);
+        IClass<Expressions> expressions = IClass.getClass(Expressions.class);
+        IClass<Integer> intClass = IClass.getClass(int.class);
+        IClass<String> stringClass = IClass.getClass(String.class);
+
+        Set<IExpressionNodeFactory<?, ? extends ISupplier<?>>> factories = Set.of(
+                factory(expressions, "integer", "int", true, List.of(true), stringClass),
+                factory(expressions, "string", "string", true, List.of(true), IClass.getClass(Object.class)),
+                factory(functions, "concat", "concat", true, List.of(false, false), stringClass, stringClass),
+                factory(functions, "square", "square", true, List.of(false), intClass),
+                factory(functions, "inc", "inc", true, List.of(false), intClass),
+                factory(functions, "less", "less", true, List.of(false, false), intClass, intClass),
+                factory(functions, "tick", "tick", false, List.of(false), intClass));
+
+        this.expressionContext = new ExpressionContext(factories);
+        this.expressionContext.registerVariableType("i", intClass);
+        this.expressionContext.registerVariableType("n", intClass);
+
+        this.variables = new Variables();
+        ExpressionVariableContext.set(this.variables);
+        SQUARES.set(0);
+        TICKS.set(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExpressionVariableContext.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ExpressionNodeFactory<Object, ISupplier<Object>> factory(IClass<?> owner, String name,
+            String key, boolean pure, List<Boolean> nullable, IClass<?>... parameterTypes) throws Exception {
+        return new ExpressionNodeFactory<>(
+                of(owner).build(),
+                (Class<ISupplier<Object>>) (Class<?>) ISupplier.class,
+                owner.getMethod(name, parameterTypes),
+                new ObjectAddress(name),
+                nullable,
+                Optional.of(key),
+                Optional.of(name),
+                pure);
+    }
+
+    private IExpressionNode<?, ?> root(String source) {
+        return ((Expression<?>) this.expressionContext.expression(source)).getRoot();
+    }
+
+    @Test
+    public void testPureCallsWithConstantArgumentsAreFolded() {
+        IExpressionNode<?, ?> root = root("concat(\"a\", concat(\"b\", \"c\"))");
+
+        ConstantExpressionNode<?> constant = assertInstanceOf(ConstantExpressionNode.class, root);
+        assertEquals("abc", constant.getValue());
+        assertEquals("abc", this.expressionContext.expression("concat(\"a\", concat(\"b\", \"c\"))")
+                .evaluate().supply().get());
+    }
+
+    @Test
+    public void testFoldedCallsAreEvaluatedOnce() {
+        root("square(3)");
+        assertEquals(1, SQUARES.get(), "Folded call is evaluated at parse time");
+
+        assertEquals(9, this.expressionContext.expression("square(3)").evaluate().supply().get());
+        assertEquals(9, this.expressionContext.expression("square(3)").evaluate().supply().get());
+        assertEquals(1, SQUARES.get());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void testOptimizedTreesAreLeftUnchanged() {
+        ExpressionOptimizer optimizer = new ExpressionOptimizer();
+        IExpressionNode<?, ?> root = root("square(@n)");
+
+        assertSame(root, optimizer.optimize((IExpressionNode) root));
+        assertTrue(optimizer.getFolded().isEmpty());
+        assertTrue(optimizer.getHoisted().isEmpty());
+    }
+
+    @Test
+    public void testImpureCallsAreNotFolded() {
+        IExpressionNode<?, ?> root = root("tick(3)");
+
+        assertFalse(root instanceof ConstantExpressionNode);
+        assertEquals(0, TICKS.get());
+        this.expressionContext.expression("tick(3)").evaluate().supply();
+        this.expressionContext.expression("tick(3)").evaluate().supply();
+        assertEquals(2, TICKS.get());
+    }
+
+    @Test
+    public void testFailingCallsAreNotFolded() {
+        IExpressionNode<?, ?> root = root("square(int(\"abc\"))");
+
+        assertFalse(root instanceof ConstantExpressionNode);
+        assertThrows(RuntimeException.class,
+                () -> this.expressionContext.expression("square(int(\"abc\"))").evaluate().supply());
+    }
+
+    @Test
+    public void testCallsReadingVariablesAreNotFolded() {
+        IExpressionNode<?, ?> root = root("square(@n)");
+
+        assertFalse(root instanceof ConstantExpressionNode);
+        this.variables.setVariable("n", 4);
+        assertEquals(16, this.expressionContext.expression("square(@n)").evaluate().supply().get());
+    }
+
+    @Test
+    public void testLoopInvariantsAreHoisted() {
+        String source = "for(\"i\", inc(@i), less(@i, 5), square(@n))";
+        ForLoopExpressionNode loop = assertInstanceOf(ForLoopExpressionNode.class, root(source));
+        assertEquals(1, loop.getHoisted().size());
+
+        this.variables.setVariable("i", 0);
+        this.variables.setVariable("n", 3);
+        assertEquals(9, this.expressionContext.expression(source).evaluate().supply().get());
+        assertEquals(1, SQUARES.get(), "square(@n) is evaluated once per run of the loop");
+
+        this.variables.setVariable("i", 0);
+        this.variables.setVariable("n", 4);
+        assertEquals(16, this.expressionContext.expression(source).evaluate().supply().get());
+        assertEquals(2, SQUARES.get());
+    }
+
+    @Test
+    public void testLoopVariantsAreNotHoisted() {
+        String source = "for(\"i\", inc(@i), less(@i, 3), square(@i))";
+        ForLoopExpressionNode loop = assertInstanceOf(ForLoopExpressionNode.class, root(source));
+        assertTrue(loop.getHoisted().isEmpty());
+
+        this.variables.setVariable("i", 0);
+        assertEquals(4, this.expressionContext.expression(source).evaluate().supply().get());
+        assertEquals(3, SQUARES.get());
+    }
+
+    @Test
+    public void testLoopsCallingImpureFunctionsAreNotHoisted() {
+        String source = "for(\"i\", inc(@i), less(@i, 3), tick(square(@n)))";
+        ForLoopExpressionNode loop = assertInstanceOf(ForLoopExpressionNode.class, root(source));
+        assertTrue(loop.getHoisted().isEmpty(), "tick() may assign @n");
+
+        this.variables.setVariable("i", 0);
+        this.variables.setVariable("n", 3);
+        assertEquals(9, this.expressionContext.expression(source).evaluate().supply().get());
+        assertEquals(3, SQUARES.get(), "square(@n) is evaluated on each iteration");
+        assertEquals(3, TICKS.get());
+    }
+}
@@ -518,4 +518,32 @@ public class ExpressionContextTest {
         IExpression<?, ?> expr = expressionContext.expression(".myVar");
         assertNotNull(expr, "Expression .myVar should be parsed");
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCompiledExpressionsAreCached() throws Exception {
+        ExpressionContext context = (ExpressionContext) expressionContext;
+        ExpressionCache cache = context.getExpressionCache();
+
+        IExpression<?, ? extends ISupplier<?>> first = context.expression("add(8,add(42, 30))");
+        IExpression<?, ? extends ISupplier<?>> second = context.expression("add(8,add(42, 30))");
+
+        assertSame(first, second, "Same source should return the cached expression");
+        assertEquals(80, ((Optional<Integer>) second.evaluate().supply()).get());
+        assertEquals(80, ((Optional<Integer>) second.evaluate().supply()).get());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.parses());
+
+        context.registerVariableType("myVar", IClass.getClass(String.class));
+        assertNotSame(first, context.expression("add(8,add(42, 30))"),
+                "Changing variable types should compile the expression again");
+
+        assertThrows(ExpressionException.class, () -> context.expression("add(8,add(toto, 30))"));
+        assertThrows(ExpressionException.class, () -> context.expression("add(8,add(toto, 30))"));
+        assertEquals(2, cache.size(), "Failed compilations should not be cached");
+
+        context.getExpressionCache().setMaximumSize(0);
+        assertNotSame(context.expression("42"), context.expression("42"));
+        assertEquals(0, cache.size());
+    }
 }
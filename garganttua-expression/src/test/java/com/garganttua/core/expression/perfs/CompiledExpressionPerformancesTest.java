@@ -0,0 +1,118 @@
+package com.garganttua.core.expression.perfs;
+
+import static com.garganttua.core.supply.dsl.NullSupplierBuilder.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.expression.IExpression;
+import com.garganttua.core.expression.compiler.CompiledExpression;
+import com.garganttua.core.expression.context.ExpressionContext;
+import com.garganttua.core.expression.context.ExpressionNodeFactory;
+import com.garganttua.core.expression.context.ExpressionVariableContext;
+import com.garganttua.core.expression.context.IExpressionNodeFactory;
+import com.garganttua.core.expression.context.IExpressionVariableResolver;
+import com.garganttua.core.expression.functions.Expressions;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.ObjectAddress;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+import com.garganttua.core.supply.ISupplier;
+
+/**
+ * Evaluation cost of the same expression through the parsed tree and through
+ * its compiled form, in time and in bytes allocated per evaluation.
+ */
+@Disabled("Performances tests, too heavy for standard build")
+public class CompiledExpressionPerformancesTest {
+
+    private static final String SOURCE = "greater(add(add(@a, 1), @a), 10)";
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+
+    public static class Functions {
+        public static int add(int a, int b) {
+            return a + b;
+        }
+
+        public static boolean greater(int a, int b) {
+            return a > b;
+        }
+    }
+
+    private static ExpressionContext context;
+
+    @BeforeAll
+    @SuppressWarnings("unchecked")
+    public static void setup() throws Exception {
+        IClass.setReflection(ReflectionBuilder.builder().withProvider(new RuntimeReflectionProvider()).build());
+        IClass<Functions> functions = IClass.getClass(Functions.class);
+        IClass<Expressions> expressions = IClass.getClass(Expressions.class);
+        IClass<Integer> intClass = IClass.getClass(int.class);
+        Set<IExpressionNodeFactory<?, ? extends ISupplier<?>>> factories = Set.of(
+                new ExpressionNodeFactory<>(of(expressions).build(),
+                        (Class<ISupplier<Integer>>) (Class<?>) ISupplier.class,
+                        expressions.getMethod("integer", IClass.getClass(String.class)), new ObjectAddress("integer"),
+                        List.of(false), Optional.of("int"), Optional.empty()),
+                new ExpressionNodeFactory<>(of(functions).build(),
+                        (Class<ISupplier<Integer>>) (Class<?>) ISupplier.class,
+                        functions.getMethod("add", intClass, intClass), new ObjectAddress("add"),
+                        List.of(false, false), Optional.of("add"), Optional.empty()),
+                new ExpressionNodeFactory<>(of(functions).build(),
+                        (Class<ISupplier<Boolean>>) (Class<?>) ISupplier.class,
+                        functions.getMethod("greater", intClass, intClass), new ObjectAddress("greater"),
+                        List.of(false, false), Optional.of("greater"), Optional.empty()));
+        context = new ExpressionContext(factories);
+        context.registerVariableType("a", intClass);
+        ExpressionVariableContext.set(new IExpressionVariableResolver() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> Optional<T> resolve(String name, IClass<T> type) {
+                return Optional.of((T) Integer.valueOf(7));
+            }
+        });
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        ExpressionVariableContext.clear();
+        IClass.setReflection(null);
+    }
+
+    @Test
+    public void testTreeVersusCompiled() {
+        IExpression<?, ? extends ISupplier<?>> tree = context.expression(SOURCE);
+        CompiledExpression<?> compiled = context.compile(SOURCE);
+
+        for (int i = 0; i < WARMUP; i++) {
+            tree.evaluate().supply();
+            compiled.booleanValue();
+        }
+
+        System.out.printf("%-10s %12s %14s%n", "Mode", "ns/eval", "bytes/eval");
+        report("tree", () -> tree.evaluate().supply());
+        report("compiled", () -> compiled.value());
+        report("boolean", () -> compiled.booleanValue());
+    }
+
+    private static void report(String mode, Runnable evaluation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long bytes = threads.getThreadAllocatedBytes(thread);
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            evaluation.run();
+        }
+        long elapsed = System.nanoTime() - begin;
+        bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+        System.out.printf("%-10s %12.1f %14.1f%n", mode, (double) elapsed / ITERATIONS, (double) bytes / ITERATIONS);
+    }
+}
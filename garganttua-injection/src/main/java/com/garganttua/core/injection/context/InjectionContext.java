@@ -13,6 +13,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 import com.garganttua.core.bootstrap.banner.IBootstrapSummaryContributor;
@@ -49,6 +51,8 @@ public class InjectionContext extends AbstractLifecycle implements IInjectionCon
     private final Map<String, IBeanProvider> beanProviders;
     private final Map<String, IPropertyProvider> propertyProviders;
     private final List<IInjectionChildContextFactory<? extends IInjectionContext>> childContextFactories;
+    // Factory of each child context class created so far, keyed by class name
+    private final Map<String, IInjectionChildContextFactory<? extends IInjectionContext>> childContextFactoriesByClass = new ConcurrentHashMap<>();
 
     private IInjectableElementResolver resolverDelegate;
 
@@ -93,8 +97,8 @@ public class InjectionContext extends AbstractLifecycle implements IInjectionCon
                 .synchronizedMap(new HashMap<>(Objects.requireNonNull(beanProviders, "beanProviders cannot be null")));
         this.propertyProviders = Collections.synchronizedMap(
                 new HashMap<>(Objects.requireNonNull(propertyProviders, "propertyProviders cannot be null")));
-        this.childContextFactories = Collections.synchronizedList(
-                new ArrayList<>(Objects.requireNonNull(childContextFactories, "childContextFactories cannot be null")));
+        this.childContextFactories = new CopyOnWriteArrayList<>(
+                Objects.requireNonNull(childContextFactories, "childContextFactories cannot be null"));
 
         this.resolverDelegate = Objects.requireNonNull(resolver, "Resolver cannot be null");
         log.atDebug().log("Resolver delegate set, beanProviders: {}, propertyProviders: {}, childFactories: {}",
@@ -209,22 +213,38 @@ public class InjectionContext extends AbstractLifecycle implements IInjectionCon
             Object... args) throws DiException {
         log.atTrace().log("Creating new child context of type: {}", contextClass.getName());
         wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
-        synchronized (this.mutex) {
-            ChildContext ctx = childContextFactories.stream()
-                    .filter(factory -> {
-                        Class<? extends IInjectionContext> childType = getChildContextType(factory);
-                        return childType != null && contextClass.isAssignableFrom(childType);
-                    })
-                    .findFirst()
-                    .map(factory -> contextClass.cast(factory.createChildContext(this.copy(), args)))
-                    .orElseThrow(() -> {
-                        log.atError().log("No child context factory registered for class {}", contextClass.getName());
-                        return new DiException(
-                                "No child context factory registered for context class " + contextClass.getName());
-                    });
-            log.atDebug().log("Child context created: {}", ctx);
-            return ctx;
+        ChildContext ctx = contextClass
+                .cast(childContextFactory(contextClass).createChildContext(new LayeredInjectionContext(this, this), args));
+        log.atDebug().log("Child context created: {}", ctx);
+        return ctx;
+    }
+
+    /**
+     * Returns the factory creating child contexts of the given class, looked up once
+     * per class.
+     *
+     * @throws DiException if no factory creates child contexts of that class
+     */
+    IInjectionChildContextFactory<? extends IInjectionContext> childContextFactory(IClass<?> contextClass)
+            throws DiException {
+        IInjectionChildContextFactory<? extends IInjectionContext> factory = this.childContextFactoriesByClass
+                .get(contextClass.getName());
+        if (factory != null) {
+            return factory;
         }
+        factory = childContextFactories.stream()
+                .filter(f -> {
+                    Class<? extends IInjectionContext> childType = getChildContextType(f);
+                    return childType != null && contextClass.isAssignableFrom(childType);
+                })
+                .findFirst()
+                .orElseThrow(() -> {
+                    log.atError().log("No child context factory registered for class {}", contextClass.getName());
+                    return new DiException(
+                            "No child context factory registered for context class " + contextClass.getName());
+                });
+        this.childContextFactoriesByClass.put(contextClass.getName(), factory);
+        return factory;
     }
 
     @SuppressWarnings("unchecked")
@@ -448,6 +468,7 @@ public class InjectionContext extends AbstractLifecycle implements IInjectionCon
             Objects.requireNonNull(factory, "Factory cannot be null");
             if (childContextFactories.stream().noneMatch(f -> f.getClass().equals(factory.getClass()))) {
                 childContextFactories.add(factory);
+                childContextFactoriesByClass.clear();
                 log.atDebug().log("Child context factory registered: {}", factory);
             } else {
                 log.atWarn().log("Child context factory already registered: {}", factory);
@@ -0,0 +1,388 @@
+package com.garganttua.core.injection.context;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.garganttua.core.injection.BeanReference;
+import com.garganttua.core.injection.DiException;
+import com.garganttua.core.injection.IBeanProvider;
+import com.garganttua.core.injection.IElementResolver;
+import com.garganttua.core.injection.IInjectionChildContextFactory;
+import com.garganttua.core.injection.IInjectionContext;
+import com.garganttua.core.injection.IPropertyProvider;
+import com.garganttua.core.injection.Resolved;
+import com.garganttua.core.injection.context.beans.BeanProvider;
+import com.garganttua.core.injection.context.properties.PropertyProvider;
+import com.garganttua.core.lifecycle.AbstractLifecycle;
+import com.garganttua.core.lifecycle.ILifecycle;
+import com.garganttua.core.lifecycle.LifecycleException;
+import com.garganttua.core.nativve.IReflectionConfigurationEntryBuilder;
+import com.garganttua.core.reflection.IAnnotatedElement;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IExecutable;
+import com.garganttua.core.reflection.IReflection;
+import com.garganttua.core.utils.CopyException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Child injection context layered on top of its parent instead of copying it.
+ *
+ * <p>
+ * The bean and property providers of the parent are shared read-only. Beans added
+ * and properties set on the child go to overlay providers owned by the child,
+ * created on the first write to each provider, so creating a child costs the same
+ * whatever the size of its parent and takes no lock. Properties of the child
+ * shadow those of its parent, while beans of the child come after those of its
+ * parent. Writes are only accepted for providers the parent declares as mutable.
+ * </p>
+ *
+ * <p>
+ * {@link #getBeanProviders()}, {@link #getPropertyProviders()} and their by-name
+ * variants return the shared providers of the parent: child-local beans and
+ * properties are only reachable through the query methods of the child. The
+ * lifecycle of the child only affects its overlays, flushing a child never
+ * flushes its parent.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public class LayeredInjectionContext extends AbstractLifecycle implements IInjectionContext {
+
+    private final InjectionContext root;
+    private final IInjectionContext parent;
+    private final Map<String, IBeanProvider> beanLayers;
+    private final Map<String, IPropertyProvider> propertyLayers;
+
+    /**
+     * @param root   the context owning the shared providers and the child context
+     *               factories
+     * @param parent the context this one is layered on, the root or another layer
+     */
+    LayeredInjectionContext(InjectionContext root, IInjectionContext parent) {
+        this(root, parent, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private LayeredInjectionContext(InjectionContext root, IInjectionContext parent,
+            Map<String, IBeanProvider> beanLayers, Map<String, IPropertyProvider> propertyLayers) {
+        this.root = Objects.requireNonNull(root, "Root context cannot be null");
+        this.parent = Objects.requireNonNull(parent, "Parent context cannot be null");
+        this.beanLayers = beanLayers;
+        this.propertyLayers = propertyLayers;
+    }
+
+    // --- Properties ---
+
+    @Override
+    public Set<IPropertyProvider> getPropertyProviders() throws DiException {
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        return this.parent.getPropertyProviders();
+    }
+
+    @Override
+    public Optional<IPropertyProvider> getPropertyProvider(String name) {
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        return this.parent.getPropertyProvider(name);
+    }
+
+    @Override
+    public <T> Optional<T> getProperty(Optional<String> provider, String key, IClass<T> type) throws DiException {
+        Objects.requireNonNull(provider, "Provider cannot be null");
+        return provider.isPresent() ? this.getProperty(provider.get(), key, type) : this.getProperty(key, type);
+    }
+
+    @Override
+    public <T> Optional<T> getProperty(String key, IClass<T> type) throws DiException {
+        log.atTrace().log("Getting property with key: {}, type: {}", key, type);
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(type, "Type cannnot be null");
+        for (IPropertyProvider layer : this.propertyLayers.values()) {
+            Optional<T> value = layer.getProperty(key, type);
+            if (value.isPresent()) {
+                return value;
+            }
+        }
+        return this.parent.getProperty(key, type);
+    }
+
+    @Override
+    public <T> Optional<T> getProperty(String providerName, String key, IClass<T> type) throws DiException {
+        log.atTrace().log("Getting property from provider: {}, key: {}, type: {}", providerName, key, type);
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        Objects.requireNonNull(providerName, "Provider cannnot be null");
+        Objects.requireNonNull(key, "Key cannnot be null");
+        Objects.requireNonNull(type, "Type cannnot be null");
+        IPropertyProvider layer = this.propertyLayers.get(providerName);
+        if (layer != null) {
+            Optional<T> value = layer.getProperty(key, type);
+            if (value.isPresent()) {
+                return value;
+            }
+        }
+        return this.parent.getProperty(providerName, key, type);
+    }
+
+    @Override
+    public void setProperty(String providerName, String key, Object value) throws DiException {
+        log.atTrace().log("Setting property for provider: {}, key: {}, value: {}", providerName, key, value);
+        Objects.requireNonNull(providerName, "Provider cannot be null");
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null for property '" + key + "' (provider: " + providerName + ")");
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        IPropertyProvider layer = this.propertyLayers.get(providerName);
+        if (layer == null) {
+            if (this.parent.getPropertyProvider(providerName).filter(IPropertyProvider::isMutable).isEmpty()) {
+                log.atError().log("Failed to set property. Provider {} not found or immutable", providerName);
+                throw new DiException("PropertyProvider " + providerName + " not found or immutable");
+            }
+            layer = this.propertyLayers.computeIfAbsent(providerName, name -> new PropertyProvider(Map.of()));
+        }
+        layer.setProperty(key, value);
+    }
+
+    // --- Beans ---
+
+    @Override
+    public Set<IBeanProvider> getBeanProviders() throws DiException {
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        return this.parent.getBeanProviders();
+    }
+
+    @Override
+    public Optional<IBeanProvider> getBeanProvider(String name) {
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        return this.parent.getBeanProvider(name);
+    }
+
+    @Override
+    public <Bean> Optional<Bean> queryBean(Optional<String> provider, BeanReference<Bean> query) throws DiException {
+        Objects.requireNonNull(provider, "Provider cannot be null");
+        return provider.isPresent() ? this.queryBean(provider.get(), query) : this.queryBean(query);
+    }
+
+    @Override
+    public <Bean> Optional<Bean> queryBean(BeanReference<Bean> query) throws DiException {
+        log.atTrace().log("Querying bean from all providers, query: {}", query);
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        Objects.requireNonNull(query, "Bean query cannot be null");
+        Optional<Bean> bean = this.parent.queryBean(query);
+        if (bean.isPresent()) {
+            return bean;
+        }
+        for (IBeanProvider layer : this.beanLayers.values()) {
+            bean = layer.query(query);
+            if (bean.isPresent()) {
+                return bean;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public <Bean> Optional<Bean> queryBean(String provider, BeanReference<Bean> query) throws DiException {
+        log.atTrace().log("Querying bean from provider: {}, query: {}", provider, query);
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        Optional<Bean> bean = this.parent.queryBean(provider, query);
+        IBeanProvider layer = this.beanLayers.get(provider);
+        return bean.isPresent() || layer == null ? bean : layer.query(query);
+    }
+
+    @Override
+    public <Bean> List<Bean> queryBeans(Optional<String> provider, BeanReference<Bean> query) throws DiException {
+        Objects.requireNonNull(provider, "Provider cannot be null");
+        return provider.isPresent() ? this.queryBeans(provider.get(), query) : this.queryBeans(query);
+    }
+
+    @Override
+    public <Bean> List<Bean> queryBeans(BeanReference<Bean> query) throws DiException {
+        log.atTrace().log("Querying beans from all providers, query: {}", query);
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        Objects.requireNonNull(query, "Bean query cannot be null");
+        List<Bean> beans = this.parent.queryBeans(query);
+        if (this.beanLayers.isEmpty()) {
+            return beans;
+        }
+        beans = new ArrayList<>(beans);
+        for (IBeanProvider layer : this.beanLayers.values()) {
+            beans.addAll(layer.queries(query));
+        }
+        return beans;
+    }
+
+    @Override
+    public <Bean> List<Bean> queryBeans(String provider, BeanReference<Bean> query) throws DiException {
+        log.atTrace().log("Querying beans from provider: {}, query: {}", provider, query);
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        List<Bean> beans = this.parent.queryBeans(provider, query);
+        IBeanProvider layer = this.beanLayers.get(provider);
+        if (layer == null) {
+            return beans;
+        }
+        beans = new ArrayList<>(beans);
+        beans.addAll(layer.queries(query));
+        return beans;
+    }
+
+    @Override
+    public <T> void addBean(String provider, BeanReference<T> reference, T bean, boolean autoDetect)
+            throws DiException {
+        log.atTrace().log("Adding bean {} to provider {}", reference, provider);
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        this.beanLayer(provider).add(reference, bean, autoDetect);
+    }
+
+    private IBeanProvider beanLayer(String provider) throws DiException {
+        IBeanProvider layer = this.beanLayers.get(provider);
+        if (layer != null) {
+            return layer;
+        }
+        IBeanProvider shared = this.parent.getBeanProvider(provider).orElseThrow(() -> {
+            log.atError().log("Invalid bean provider: {}", provider);
+            return new DiException("Invalid bean provider " + provider);
+        });
+        if (!(shared instanceof BeanProvider beanProvider) || !shared.isMutable()) {
+            throw new DiException("BeanProvider " + provider + " is not mutable");
+        }
+        return this.beanLayers.computeIfAbsent(provider, name -> {
+            BeanProvider created = beanProvider.newLayer();
+            wrapLifecycle(() -> created.onInit().onStart(), IClass.getClass(DiException.class));
+            return created;
+        });
+    }
+
+    @Override
+    public <T> void addBean(String provider, BeanReference<T> reference, Optional<T> bean, boolean autoDetect)
+            throws DiException {
+        this.addBean(provider, reference, bean.orElse(null), autoDetect);
+    }
+
+    @Override
+    public <T> void addBean(String provider, BeanReference<T> reference, T bean) throws DiException {
+        this.addBean(provider, reference, bean, false);
+    }
+
+    @Override
+    public <T> void addBean(String provider, BeanReference<T> reference, Optional<T> bean) throws DiException {
+        this.addBean(provider, reference, bean.orElse(null), false);
+    }
+
+    @Override
+    public <T> void addBean(String provider, BeanReference<T> reference) throws DiException {
+        this.addBean(provider, reference, Optional.empty(), false);
+    }
+
+    @Override
+    public <T> void addBean(String provider, BeanReference<T> reference, boolean autoDetect) throws DiException {
+        this.addBean(provider, reference, Optional.empty(), autoDetect);
+    }
+
+    // --- Child contexts ---
+
+    @Override
+    public <ChildContext extends IInjectionContext> ChildContext newChildContext(IClass<ChildContext> contextClass,
+            Object... args) throws DiException {
+        log.atTrace().log("Creating new child context of type: {}", contextClass.getName());
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        return contextClass.cast(this.root.childContextFactory(contextClass)
+                .createChildContext(new LayeredInjectionContext(this.root, this), args));
+    }
+
+    /**
+     * Registers the factory on the root context, child context factories are not
+     * layered.
+     */
+    @Override
+    public void registerChildContextFactory(IInjectionChildContextFactory<? extends IInjectionContext> factory) {
+        this.root.registerChildContextFactory(factory);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <ChildContext extends IInjectionContext> Set<IInjectionChildContextFactory<ChildContext>> getChildContextFactories()
+            throws DiException {
+        return (Set<IInjectionChildContextFactory<ChildContext>>) (Set<?>) this.root.getChildContextFactories();
+    }
+
+    // --- Resolution ---
+
+    @Override
+    public Resolved resolve(IClass<?> elementType, IAnnotatedElement element) throws DiException {
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        return this.parent.resolve(elementType, element);
+    }
+
+    @Override
+    public Set<Resolved> resolve(IExecutable method) throws DiException {
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
+        return this.parent.resolve(method);
+    }
+
+    @Override
+    public void addResolver(IClass<? extends Annotation> annotation, IElementResolver resolver) {
+        this.parent.addResolver(annotation, resolver);
+    }
+
+    @Override
+    public Set<IReflectionConfigurationEntryBuilder> reflectionUsage() {
+        return this.parent.reflectionUsage();
+    }
+
+    @Override
+    public IReflection reflection() {
+        return IClass.getReflection();
+    }
+
+    /**
+     * Copies the overlays of this context, the parent is shared by the copy.
+     */
+    @Override
+    public IInjectionContext copy() throws CopyException {
+        log.atTrace().log("Copying LayeredInjectionContext");
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(CopyException.class));
+        Map<String, IBeanProvider> beanLayersCopy = new ConcurrentHashMap<>();
+        this.beanLayers.forEach((name, layer) -> beanLayersCopy.put(name, layer.copy()));
+        Map<String, IPropertyProvider> propertyLayersCopy = new ConcurrentHashMap<>();
+        this.propertyLayers.forEach((name, layer) -> propertyLayersCopy.put(name, layer.copy()));
+        return new LayeredInjectionContext(this.root, this.parent, beanLayersCopy, propertyLayersCopy);
+    }
+
+    // --- Lifecycle methods ---
+
+    @Override
+    protected ILifecycle doInit() throws LifecycleException {
+        return this;
+    }
+
+    @Override
+    protected ILifecycle doStart() throws LifecycleException {
+        return this;
+    }
+
+    @Override
+    protected ILifecycle doFlush() throws LifecycleException {
+        log.atTrace().log("Flushing {} bean and {} property overlays", this.beanLayers.size(),
+                this.propertyLayers.size());
+        for (IBeanProvider layer : this.beanLayers.values()) {
+            layer.onFlush();
+        }
+        this.beanLayers.clear();
+        this.propertyLayers.clear();
+        return this;
+    }
+
+    @Override
+    protected ILifecycle doStop() throws LifecycleException {
+        for (IBeanProvider layer : this.beanLayers.values()) {
+            layer.onStop();
+        }
+        return this;
+    }
+}
@@ -5,31 +5,31 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
-import com.garganttua.core.dsl.DslException;
 import com.garganttua.core.injection.BeanDefinition;
 import com.garganttua.core.injection.BeanReference;
 import com.garganttua.core.injection.BeanStrategy;
 import com.garganttua.core.injection.DiException;
 import com.garganttua.core.injection.IBeanFactory;
-import com.garganttua.core.injection.context.dsl.IBeanPostConstructMethodBinderBuilder;
 import com.garganttua.core.nativve.IReflectionConfigurationEntryBuilder;
 import com.garganttua.core.nativve.image.config.reflection.ReflectConfigEntryBuilder;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IMethod;
 import com.garganttua.core.reflection.ReflectionException;
-import com.garganttua.core.reflection.binders.IMethodBinder;
 import com.garganttua.core.supply.SupplyException;
-import com.garganttua.core.supply.dsl.FixedSupplierBuilder;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class BeanFactory<Bean> implements IBeanFactory<Bean> {
 
-	private volatile Bean bean;
+	// Singleton instance, guarded by beanMutex until initialized
+	private Bean bean;
+	// Published once the singleton is fully initialized, read without locking
+	private volatile Bean singleton;
 	private BeanDefinition<Bean> definition;
 	private final Object beanMutex = new Object();
-	private boolean singletonBeanInitialized = false;
+	// Compiled on first creation, then applied to every instance
+	private volatile InjectionPlan<Bean> plan;
 
 	public BeanFactory(BeanDefinition<Bean> definition) {
 		this(definition, Optional.empty());
@@ -83,13 +83,6 @@ public class BeanFactory<Bean> implements IBeanFactory<Bean> {
 		return bean;
 	}
 
-	private void doInjection(Bean onBean) {
-		log.atTrace().log("Performing field injection for bean: {}", onBean);
-		this.definition.injectableFields()
-				.forEach(builder -> builder.ownerSupplierBuilder(new FixedSupplierBuilder<>(onBean, this.definition.reference().type())).build().setValue());
-		log.atDebug().log("Field injection completed for bean: {}", onBean);
-	}
-
 	private Bean createBeanInstance() throws DiException {
 		log.atTrace().log("Instantiating bean of type: {}", definition.reference().type());
 		try {
@@ -136,28 +129,18 @@ public class BeanFactory<Bean> implements IBeanFactory<Bean> {
 		}
 	}
 
-	private void invokePostConstructMethods(Bean bean) throws DiException {
-		log.atTrace().log("Invoking post construct methods for bean: {}", bean);
-		if (this.definition.postConstructMethodBinderBuilders().isEmpty()) {
-			log.atDebug().log("No post construct methods to invoke for bean: {}", bean);
-			return;
-		}
-
-		for (IBeanPostConstructMethodBinderBuilder<Bean> methodBinderBuilder : this.definition
-				.postConstructMethodBinderBuilders()) {
-			try {
-				IMethodBinder<Void> methodBinder = methodBinderBuilder.build(FixedSupplierBuilder.of(bean, this.definition.reference().type()));
-				methodBinder.execute();
-				log.atDebug().log("Post construct method executed for bean: {}", bean);
-			} catch (DslException | ReflectionException e) {
-				log.atError().log("Post construct method binder failed for bean {}: {}",
-						this.definition.reference().effectiveName(), e.getMessage());
-				throw new DiException(
-						"Post construct method binder failed for bean of type "
-								+ this.definition.reference().effectiveName(),
-						e);
+	private InjectionPlan<Bean> plan() throws DiException {
+		InjectionPlan<Bean> current = this.plan;
+		if (current == null) {
+			synchronized (this.beanMutex) {
+				current = this.plan;
+				if (current == null) {
+					current = InjectionPlan.compile(this.definition);
+					this.plan = current;
+				}
 			}
 		}
+		return current;
 	}
 
 	@Override
@@ -170,10 +153,10 @@ public class BeanFactory<Bean> implements IBeanFactory<Bean> {
 				if (strat.get() == BeanStrategy.prototype) {
 					bean = createAndInitializePrototype();
 				} else {
-					bean = createAnInitializeSingleton(bean);
+					bean = createAnInitializeSingleton();
 				}
 			} else {
-				bean = createAnInitializeSingleton(bean);
+				bean = createAnInitializeSingleton();
 			}
 			log.atDebug().log("Bean supplied: {}", bean);
 			return Optional.ofNullable(bean);
@@ -184,29 +167,28 @@ public class BeanFactory<Bean> implements IBeanFactory<Bean> {
 	}
 
 	private Bean createAndInitializePrototype() {
-		Bean bean;
-		synchronized (this.beanMutex) {
-			log.atDebug().log("Using prototype strategy for bean");
-			bean = getBean();
-			this.doInjection(bean);
-			this.invokePostConstructMethods(bean);
-		}
+		log.atDebug().log("Using prototype strategy for bean");
+		Bean bean = getBean();
+		plan().apply(this, bean);
 		return bean;
 	}
 
-	private Bean createAnInitializeSingleton(Bean bean) {
+	private Bean createAnInitializeSingleton() {
+		Bean ready = this.singleton;
+		if (ready != null) {
+			return ready;
+		}
 		synchronized (this.beanMutex) {
-			if (this.bean == null) {
-				log.atDebug().log("Creating singleton bean");
-				this.bean = getBean();
-			}
-			if (!this.singletonBeanInitialized) {
-				this.doInjection(this.bean);
-				this.invokePostConstructMethods(this.bean);
-				this.singletonBeanInitialized = true;
-				log.atDebug().log("Singleton bean initialized flag set to true");
+			if (this.singleton == null) {
+				if (this.bean == null) {
+					log.atDebug().log("Creating singleton bean");
+					this.bean = getBean();
+				}
+				plan().apply(this, this.bean);
+				this.singleton = this.bean;
+				log.atDebug().log("Singleton bean initialized");
 			}
-			return this.bean;
+			return this.singleton;
 		}
 	}
 
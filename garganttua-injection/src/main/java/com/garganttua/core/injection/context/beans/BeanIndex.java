@@ -0,0 +1,192 @@
+package com.garganttua.core.injection.context.beans;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.garganttua.core.injection.BeanReference;
+import com.garganttua.core.injection.IBeanFactory;
+import com.garganttua.core.reflection.IClass;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lookup indexes of the bean factories of a {@link BeanProvider}.
+ *
+ * <p>
+ * Each factory is indexed under the name of its bean type and of every supertype
+ * and interface of it but {@link Object}, under its effective name and under each
+ * of its qualifiers. Every bean, interface typed ones included, is an
+ * {@link Object}, so {@link Object} queries are not narrowed by type.
+ * A query is answered from the smallest bucket matching its criteria, filtered
+ * with {@link IBeanFactory#matches(BeanReference)}, so results and their order are
+ * the same as a scan of every factory. Buckets are immutable lists replaced on
+ * each addition, so lookups never lock. Queries matching no factory are
+ * remembered until the next addition, up to {@value #MAX_MISSES} of them.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+final class BeanIndex {
+
+	private static final String OBJECT = Object.class.getName();
+	static final int MAX_MISSES = 1024;
+
+	private final List<IBeanFactory<?>> all;
+	private final Map<String, List<IBeanFactory<?>>> byType = new ConcurrentHashMap<>();
+	private final Map<String, List<IBeanFactory<?>>> byName = new ConcurrentHashMap<>();
+	private final Map<String, List<IBeanFactory<?>>> byQualifier = new ConcurrentHashMap<>();
+	// Replaced, not cleared, on additions so that a lookup racing with an addition
+	// records its miss in the discarded set
+	private volatile Set<BeanReference<?>> misses = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * @param all the live list of every factory, scanned for queries without criteria
+	 */
+	BeanIndex(List<IBeanFactory<?>> all) {
+		this.all = all;
+		Map<String, List<IBeanFactory<?>>> types = new HashMap<>();
+		Map<String, List<IBeanFactory<?>>> names = new HashMap<>();
+		Map<String, List<IBeanFactory<?>>> qualifiers = new HashMap<>();
+		for (IBeanFactory<?> factory : all) {
+			index(factory, types, names, qualifiers,
+					(index, key, f) -> index.computeIfAbsent(key, k -> new ArrayList<>()).add(f));
+		}
+		types.forEach((key, bucket) -> byType.put(key, List.copyOf(bucket)));
+		names.forEach((key, bucket) -> byName.put(key, List.copyOf(bucket)));
+		qualifiers.forEach((key, bucket) -> byQualifier.put(key, List.copyOf(bucket)));
+		log.atDebug().log("Bean index built for {} factories, {} types, {} names, {} qualifiers", all.size(),
+				byType.size(), byName.size(), byQualifier.size());
+	}
+
+	void add(IBeanFactory<?> factory) {
+		index(factory, byType, byName, byQualifier, BeanIndex::append);
+		misses = ConcurrentHashMap.newKeySet();
+	}
+
+	void clear() {
+		byType.clear();
+		byName.clear();
+		byQualifier.clear();
+		misses = ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * Returns the first factory matching the query, in registration order.
+	 */
+	IBeanFactory<?> first(BeanReference<?> query) {
+		Set<BeanReference<?>> misses = this.misses;
+		if (misses.contains(query)) {
+			return null;
+		}
+		for (IBeanFactory<?> factory : candidates(query)) {
+			if (factory.matches(query)) {
+				return factory;
+			}
+		}
+		remember(misses, query);
+		return null;
+	}
+
+	/**
+	 * Returns every factory matching the query, in registration order.
+	 */
+	List<IBeanFactory<?>> matching(BeanReference<?> query) {
+		Set<BeanReference<?>> misses = this.misses;
+		if (misses.contains(query)) {
+			return List.of();
+		}
+		List<IBeanFactory<?>> result = new ArrayList<>();
+		for (IBeanFactory<?> factory : candidates(query)) {
+			if (factory.matches(query)) {
+				result.add(factory);
+			}
+		}
+		if (result.isEmpty()) {
+			remember(misses, query);
+		}
+		return result;
+	}
+
+	int missCount() {
+		return misses.size();
+	}
+
+	// Further misses are not remembered once the set is full, so that it stays
+	// bounded whatever the variety of failed lookups
+	private static void remember(Set<BeanReference<?>> misses, BeanReference<?> query) {
+		if (misses.size() < MAX_MISSES) {
+			misses.add(query);
+		}
+	}
+
+	private List<IBeanFactory<?>> candidates(BeanReference<?> query) {
+		List<IBeanFactory<?>> candidates = null;
+		// Array types are assignable from arrays of their subtypes, which are not indexed
+		if (query.type() != null && !query.type().isArray() && !OBJECT.equals(query.type().getName())) {
+			candidates = byType.getOrDefault(query.type().getName(), List.of());
+		}
+		if (query.name().isPresent()) {
+			candidates = smallest(candidates, byName.getOrDefault(query.effectiveName(), List.of()));
+		}
+		if (query.qualifiers() != null) {
+			for (IClass<? extends Annotation> qualifier : query.qualifiers()) {
+				candidates = smallest(candidates, byQualifier.getOrDefault(qualifier.getName(), List.of()));
+			}
+		}
+		return candidates == null ? all : candidates;
+	}
+
+	private static List<IBeanFactory<?>> smallest(List<IBeanFactory<?>> current, List<IBeanFactory<?>> other) {
+		return current == null || other.size() < current.size() ? other : current;
+	}
+
+	private interface Indexer {
+		void put(Map<String, List<IBeanFactory<?>>> index, String key, IBeanFactory<?> factory);
+	}
+
+	private static void index(IBeanFactory<?> factory, Map<String, List<IBeanFactory<?>>> types,
+			Map<String, List<IBeanFactory<?>>> names, Map<String, List<IBeanFactory<?>>> qualifiers,
+			Indexer indexer) {
+		BeanReference<?> reference = factory.definition().reference();
+		Set<String> typeNames = new HashSet<>();
+		collectTypes(reference.type(), typeNames);
+		for (String type : typeNames) {
+			indexer.put(types, type, factory);
+		}
+		indexer.put(names, reference.effectiveName(), factory);
+		if (reference.qualifiers() != null) {
+			for (IClass<? extends Annotation> qualifier : reference.qualifiers()) {
+				indexer.put(qualifiers, qualifier.getName(), factory);
+			}
+		}
+	}
+
+	private static void collectTypes(IClass<?> type, Set<String> types) {
+		if (type == null || OBJECT.equals(type.getName()) || !types.add(type.getName())) {
+			return;
+		}
+		collectTypes(type.getSuperclass(), types);
+		for (IClass<?> iface : type.getInterfaces()) {
+			collectTypes(iface, types);
+		}
+	}
+
+	private static void append(Map<String, List<IBeanFactory<?>>> index, String key, IBeanFactory<?> factory) {
+		index.compute(key, (k, bucket) -> {
+			if (bucket == null) {
+				return List.of(factory);
+			}
+			List<IBeanFactory<?>> copy = new ArrayList<>(bucket.size() + 1);
+			copy.addAll(bucket);
+			copy.add(factory);
+			return List.copyOf(copy);
+		});
+	}
+}
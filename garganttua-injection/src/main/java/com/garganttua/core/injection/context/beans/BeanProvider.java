@@ -1,11 +1,11 @@
 package com.garganttua.core.injection.context.beans;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 import com.garganttua.core.injection.BeanReference;
@@ -34,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 
 	private List<IBeanFactory<?>> beanFactories;
+	private volatile BeanIndex index;
 	private final Object copyMutex = new Object();
 	private boolean mutable = true;
 	private IInjectableElementResolverBuilder resolverBuilder = null;
@@ -63,8 +64,8 @@ public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 		log.atTrace().log("Entering BeanProvider constructor with beanFactories: {}", beanFactories);
 		this.mutable = mutable;
 		this.resolverBuilder = resolverBuilder;
-		this.beanFactories = Collections
-				.synchronizedList(Objects.requireNonNull(beanFactories, "Bean factories cannot be null"));
+		this.beanFactories = new CopyOnWriteArrayList<>(
+				Objects.requireNonNull(beanFactories, "Bean factories cannot be null"));
 		log.atDebug().log("BeanProvider initialized with {} bean factories", beanFactories.size());
 		log.atTrace().log("Exiting BeanProvider constructor");
 	}
@@ -75,13 +76,11 @@ public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 		log.atTrace().log("Entering getBean with type: {}", type);
 		wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
 
-		Optional<IBeanFactory<?>> factoryOpt = this.beanFactories.stream()
-				.filter(factory -> type.isAssignableFrom(factory.getSuppliedClass()))
-				.findFirst();
+		IBeanFactory<?> factory = this.index().first(byType(type));
 
-		if (factoryOpt.isPresent()) {
+		if (factory != null) {
 			try {
-				Optional<T> result = (Optional<T>) factoryOpt.get().supply();
+				Optional<T> result = (Optional<T>) factory.supply();
 				log.atDebug().log("Bean found for type {}: {}", type, result.orElse(null));
 				return result;
 			} catch (SupplyException e) {
@@ -110,8 +109,7 @@ public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 	@Override
 	public <T> List<T> get(IClass<T> interfasse, boolean includePrototypes) {
 		log.atTrace().log("Getting beans implementing interface: {}", interfasse);
-		List<T> result = this.beanFactories.stream()
-				.filter(factory -> interfasse.isAssignableFrom(factory.getSuppliedClass()))
+		List<T> result = this.index().matching(byType(interfasse)).stream()
 				.map(factory -> {
 					try {
 						return factory.supply().orElse(null);
@@ -127,6 +125,24 @@ public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 		return result;
 	}
 
+	private static <T> BeanReference<T> byType(IClass<T> type) {
+		return new BeanReference<>(type, Optional.empty(), Optional.empty(), Set.of());
+	}
+
+	private BeanIndex index() {
+		BeanIndex current = this.index;
+		if (current == null) {
+			synchronized (this.copyMutex) {
+				current = this.index;
+				if (current == null) {
+					current = new BeanIndex(this.beanFactories);
+					this.index = current;
+				}
+			}
+		}
+		return current;
+	}
+
 	@Override
 	public IReflection reflection() {
 		return IClass.getReflection();
@@ -141,6 +157,7 @@ public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 			log.atError().log("Dependency cycle detected during init: {}", e.getMessage());
 			throw new LifecycleException(e);
 		}
+		this.index();
 		log.atTrace().log("BeanProvider initialized");
 		return this;
 	}
@@ -163,7 +180,10 @@ public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 	@Override
 	protected ILifecycle doFlush() throws LifecycleException {
 		log.atDebug().log("Flushing BeanProvider: clearing bean factories");
-		this.beanFactories.clear();
+		synchronized (this.copyMutex) {
+			this.beanFactories.clear();
+			this.index = null;
+		}
 		return this;
 	}
 
@@ -179,13 +199,11 @@ public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 		log.atTrace().log("Querying single bean with query: {}", query);
 		wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
 
-		Optional<IBeanFactory<?>> factoryOpt = this.beanFactories.stream()
-				.filter(factory -> factory.matches(query))
-				.findFirst();
+		IBeanFactory<?> factory = this.index().first(query);
 
-		if (factoryOpt.isPresent()) {
+		if (factory != null) {
 			try {
-				Optional<T> result = (Optional<T>) factoryOpt.get().supply();
+				Optional<T> result = (Optional<T>) factory.supply();
 				log.atDebug().log("Bean found for query {}: {}", query, result.orElse(null));
 				return result;
 			} catch (SupplyException e) {
@@ -204,8 +222,7 @@ public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 		log.atTrace().log("Querying multiple beans with query: {}", query);
 		wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(DiException.class));
 
-		List<T> result = (List<T>) this.beanFactories.stream()
-				.filter(factory -> factory.matches(query))
+		List<T> result = (List<T>) this.index().matching(query).stream()
 				.map(ISupplier::supply)
 				.map(Optional::get)
 				.toList();
@@ -225,6 +242,17 @@ public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 		}
 	}
 
+	/**
+	 * Creates an empty provider accepting the beans added on top of this one, such
+	 * as the child-local beans of a layered injection context. The new provider is
+	 * mutable like this one and resolves the dependencies of added beans the same way.
+	 *
+	 * @since 2.0.0-ALPHA02
+	 */
+	public BeanProvider newLayer() {
+		return new BeanProvider(new ArrayList<>(), this.resolverBuilder, this.mutable);
+	}
+
 	@Override
 	public int size() {
 		log.atTrace().log("Returning BeanProvider size: {}", this.beanFactories.size());
@@ -288,6 +316,13 @@ public class BeanProvider extends AbstractLifecycle implements IBeanProvider {
 		if (bean != null) {
 			factory.bean(bean);
 		}
-		this.beanFactories.add(factory.build());
+		IBeanFactory<T> built = factory.build();
+		synchronized (this.copyMutex) {
+			this.beanFactories.add(built);
+			BeanIndex current = this.index;
+			if (current != null) {
+				current.add(built);
+			}
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.garganttua.core.injection.context.beans;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.garganttua.core.injection.DiException;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+import com.garganttua.core.supply.dsl.ISupplierBuilder;
+
+/**
+ * Supplies the bean that the current thread is initializing.
+ *
+ * <p>
+ * The {@link InjectionPlan} of a {@link BeanFactory} binds its field injections and
+ * post-construct methods once to this supplier, then initializes each instance
+ * between {@link #enter} and {@link #exit}. Threads thus initialize their own
+ * instances concurrently through the same binders. Initializations nest when a bean needs another one; a factory
+ * asked for a new instance while one of its instances is being initialized on the
+ * same thread is a dependency cycle.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+final class InitializingBeanSupplier<Bean> implements ISupplierBuilder<Bean, ISupplier<Bean>>, ISupplier<Bean> {
+
+	private record Frame(Object factory, Object bean) {
+	}
+
+	private static final ThreadLocal<ArrayDeque<Frame>> FRAMES = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private final IClass<Bean> beanClass;
+
+	InitializingBeanSupplier(IClass<Bean> beanClass) {
+		this.beanClass = Objects.requireNonNull(beanClass, "Bean class cannot be null");
+	}
+
+	/**
+	 * Marks the bean as being initialized by the factory on the current thread.
+	 *
+	 * @throws DiException if the factory is already initializing an instance on this thread
+	 */
+	static void enter(Object factory, Object bean) throws DiException {
+		ArrayDeque<Frame> frames = FRAMES.get();
+		for (Frame frame : frames) {
+			if (frame.factory() == factory) {
+				throw new DiException("Circular dependency detected while initializing bean " + bean.getClass().getName());
+			}
+		}
+		frames.push(new Frame(factory, bean));
+	}
+
+	static void exit() {
+		ArrayDeque<Frame> frames = FRAMES.get();
+		frames.pop();
+		if (frames.isEmpty()) {
+			FRAMES.remove();
+		}
+	}
+
+	/**
+	 * Returns the innermost bean being initialized on the current thread.
+	 *
+	 * @throws SupplyException if no bean is being initialized, or if the innermost
+	 *                         one is not of the supplied type
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<Bean> supply() throws SupplyException {
+		Frame frame = FRAMES.get().peek();
+		if (frame == null) {
+			throw new SupplyException("No bean of type " + beanClass.getName() + " is being initialized");
+		}
+		if (!this.beanClass.isInstance(frame.bean())) {
+			throw new SupplyException("Bean being initialized is of type " + frame.bean().getClass().getName()
+					+ ", not " + beanClass.getName());
+		}
+		return Optional.of((Bean) frame.bean());
+	}
+
+	@Override
+	public ISupplier<Bean> build() {
+		return this;
+	}
+
+	@Override
+	public Type getSuppliedType() {
+		return this.beanClass.getType();
+	}
+
+	@Override
+	public IClass<Bean> getSuppliedClass() {
+		return this.beanClass;
+	}
+
+	@Override
+	public boolean isContextual() {
+		return false;
+	}
+}
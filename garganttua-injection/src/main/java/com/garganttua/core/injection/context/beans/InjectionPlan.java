@@ -0,0 +1,135 @@
+package com.garganttua.core.injection.context.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.garganttua.core.dsl.DslException;
+import com.garganttua.core.injection.BeanDefinition;
+import com.garganttua.core.injection.DiException;
+import com.garganttua.core.injection.context.dsl.IBeanInjectableFieldBuilder;
+import com.garganttua.core.injection.context.dsl.IBeanPostConstructMethodBinderBuilder;
+import com.garganttua.core.reflection.ReflectionException;
+import com.garganttua.core.reflection.binders.IContextualMethodBinder;
+import com.garganttua.core.reflection.binders.IExplicitOwnerFieldBinder;
+import com.garganttua.core.reflection.binders.IExplicitOwnerMethodBinder;
+import com.garganttua.core.reflection.binders.IFieldBinder;
+import com.garganttua.core.reflection.binders.IMethodBinder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Field injections and post-construct invocations of a bean definition, compiled
+ * once and applied to every instance the factory creates.
+ *
+ * <p>
+ * Compiling resolves the injected fields, their value suppliers and the
+ * post-construct methods with their argument suppliers. Applying the plan to an
+ * instance then only writes the fields and invokes the methods on that instance,
+ * see {@link IExplicitOwnerFieldBinder} and {@link IExplicitOwnerMethodBinder}.
+ * Instances are applied between {@link InitializingBeanSupplier#enter} and
+ * {@link InitializingBeanSupplier#exit}, which detects dependency cycles and
+ * supplies the instance to the other binders, which read their owner from a
+ * supplier.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+final class InjectionPlan<Bean> {
+
+	private interface Step<Bean> {
+		void apply(Bean bean) throws ReflectionException;
+	}
+
+	private final String beanName;
+	private final Step<Bean>[] fields;
+	private final Step<Bean>[] postConstructs;
+
+	private InjectionPlan(String beanName, List<Step<Bean>> fields, List<Step<Bean>> postConstructs) {
+		this.beanName = beanName;
+		this.fields = toArray(fields);
+		this.postConstructs = toArray(postConstructs);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <Bean> Step<Bean>[] toArray(List<Step<Bean>> steps) {
+		return steps.toArray(new Step[steps.size()]);
+	}
+
+	/**
+	 * Compiles the field injections and post-construct methods of the definition.
+	 *
+	 * @throws DiException if a post-construct method binder cannot be built
+	 */
+	@SuppressWarnings("unchecked")
+	static <Bean> InjectionPlan<Bean> compile(BeanDefinition<Bean> definition) throws DiException {
+		String beanName = definition.reference().effectiveName();
+		log.atTrace().log("Compiling injection plan for bean {}", beanName);
+		InitializingBeanSupplier<Bean> owner = new InitializingBeanSupplier<>(definition.reference().type());
+
+		List<Step<Bean>> fields = new ArrayList<>();
+		for (IBeanInjectableFieldBuilder<?, Bean> builder : definition.injectableFields()) {
+			IFieldBinder<Bean, ?> binder = (IFieldBinder<Bean, ?>) builder.ownerSupplierBuilder(owner).build();
+			if (binder instanceof IExplicitOwnerFieldBinder<?> explicit) {
+				IExplicitOwnerFieldBinder<Bean> field = (IExplicitOwnerFieldBinder<Bean>) explicit;
+				fields.add(field::setValueOn);
+			} else {
+				fields.add(bean -> binder.setValue());
+			}
+		}
+
+		List<Step<Bean>> postConstructs = new ArrayList<>();
+		for (IBeanPostConstructMethodBinderBuilder<Bean> builder : definition.postConstructMethodBinderBuilders()) {
+			IMethodBinder<Void> binder;
+			try {
+				binder = builder.build(owner);
+			} catch (DslException e) {
+				log.atError().log("Post construct method binder failed for bean {}: {}", beanName, e.getMessage());
+				throw new DiException("Post construct method binder failed for bean of type " + beanName, e);
+			}
+			if (binder instanceof IExplicitOwnerMethodBinder<?> explicit
+					&& !(binder instanceof IContextualMethodBinder<?, ?>)) {
+				postConstructs.add(explicit::executeOn);
+			} else {
+				// Contextual binders only run with an owner context, the instance is read from the supplier
+				postConstructs.add(bean -> binder.execute());
+			}
+		}
+
+		log.atDebug().log("Compiled injection plan of {} field injections and {} post construct methods for bean {}",
+				fields.size(), postConstructs.size(), beanName);
+		return new InjectionPlan<>(beanName, fields, postConstructs);
+	}
+
+	/**
+	 * Injects the fields of the instance then invokes its post-construct methods.
+	 *
+	 * @param factory the factory that created the instance
+	 * @param bean    the instance to initialize
+	 * @throws DiException if a dependency cycle is detected or a post-construct
+	 *                     method fails
+	 */
+	void apply(Object factory, Bean bean) throws DiException {
+		InitializingBeanSupplier.enter(factory, bean);
+		try {
+			log.atTrace().log("Performing field injection for bean: {}", bean);
+			for (Step<Bean> field : this.fields) {
+				field.apply(bean);
+			}
+			log.atDebug().log("Field injection completed for bean: {}", bean);
+			for (Step<Bean> postConstruct : this.postConstructs) {
+				try {
+					postConstruct.apply(bean);
+					log.atDebug().log("Post construct method executed for bean: {}", bean);
+				} catch (ReflectionException e) {
+					log.atError().log("Post construct method binder failed for bean {}: {}", this.beanName,
+							e.getMessage());
+					throw new DiException("Post construct method binder failed for bean of type " + this.beanName,
+							e);
+				}
+			}
+		} finally {
+			InitializingBeanSupplier.exit();
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.garganttua.core.injection.context.beans;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.dsl.DslException;
+import com.garganttua.core.injection.BeanReference;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+public class BeanIndexTest {
+
+    @BeforeAll
+    static void setUpReflection() throws DslException {
+        ReflectionBuilder.builder().withProvider(new RuntimeReflectionProvider()).build();
+    }
+
+    private static BeanReference<String> named(String name) {
+        return new BeanReference<>(IClass.getClass(String.class), Optional.empty(), Optional.of(name), Set.of());
+    }
+
+    @Test
+    public void testMissesAreBounded() {
+        BeanIndex index = new BeanIndex(new ArrayList<>());
+
+        for (int i = 0; i < BeanIndex.MAX_MISSES * 2; i++) {
+            assertNull(index.first(named("missing-" + i)));
+            assertTrue(index.matching(named("missing-" + i)).isEmpty());
+        }
+
+        assertEquals(BeanIndex.MAX_MISSES, index.missCount());
+        assertNull(index.first(named("missing-" + (BeanIndex.MAX_MISSES * 2))));
+        assertEquals(BeanIndex.MAX_MISSES, index.missCount());
+    }
+
+    @Test
+    public void testMissesAreForgottenOnClear() {
+        BeanIndex index = new BeanIndex(new ArrayList<>());
+        index.first(named("missing"));
+        assertEquals(1, index.missCount());
+
+        index.clear();
+
+        assertEquals(0, index.missCount());
+    }
+}
@@ -0,0 +1,62 @@
+package com.garganttua.core.injection.context.beans;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.dsl.DslException;
+import com.garganttua.core.injection.DiException;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+import com.garganttua.core.supply.SupplyException;
+
+public class InitializingBeanSupplierTest {
+
+    public static class Outer {
+    }
+
+    public static class Inner {
+    }
+
+    @BeforeAll
+    static void setUpReflection() throws DslException {
+        ReflectionBuilder.builder().withProvider(new RuntimeReflectionProvider()).build();
+    }
+
+    @Test
+    public void testSuppliesTheInnermostBean() throws DiException, SupplyException {
+        Outer outer = new Outer();
+        Inner inner = new Inner();
+        InitializingBeanSupplier<Outer> outers = new InitializingBeanSupplier<>(IClass.getClass(Outer.class));
+        InitializingBeanSupplier<Inner> inners = new InitializingBeanSupplier<>(IClass.getClass(Inner.class));
+
+        InitializingBeanSupplier.enter("outer", outer);
+        try {
+            assertSame(outer, outers.supply().orElseThrow());
+            InitializingBeanSupplier.enter("inner", inner);
+            try {
+                assertSame(inner, inners.supply().orElseThrow());
+            } finally {
+                InitializingBeanSupplier.exit();
+            }
+            assertSame(outer, outers.supply().orElseThrow());
+        } finally {
+            InitializingBeanSupplier.exit();
+        }
+    }
+
+    @Test
+    public void testRejectsABeanOfAnotherType() throws DiException {
+        InitializingBeanSupplier<Outer> outers = new InitializingBeanSupplier<>(IClass.getClass(Outer.class));
+
+        assertThrows(SupplyException.class, outers::supply);
+        InitializingBeanSupplier.enter("inner", new Inner());
+        try {
+            assertThrows(SupplyException.class, outers::supply);
+        } finally {
+            InitializingBeanSupplier.exit();
+        }
+    }
+}
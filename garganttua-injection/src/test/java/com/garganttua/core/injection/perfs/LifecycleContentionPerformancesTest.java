@@ -0,0 +1,119 @@
+package com.garganttua.core.injection.perfs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.injection.BeanReference;
+import com.garganttua.core.injection.BeanStrategy;
+import com.garganttua.core.injection.IInjectionContext;
+import com.garganttua.core.injection.Predefined;
+import com.garganttua.core.injection.context.InjectionContext;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.dsl.IReflectionBuilder;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+/**
+ * Throughput of concurrent bean and property reads on a started injection
+ * context, for an increasing number of threads. Every read goes through the
+ * lifecycle state check, so this shows how that check scales under contention.
+ */
+@Disabled("Performances tests, too heavy for standard build")
+public class LifecycleContentionPerformancesTest {
+
+    private static final String PROVIDER = Predefined.PropertyProviders.garganttua.toString();
+    private static final String BEANS = Predefined.BeanProviders.garganttua.toString();
+    private static final int WARMUP = 200_000;
+    private static final int READS_PER_THREAD = 500_000;
+
+    public static class Service {
+    }
+
+    private static IInjectionContext context;
+    private static BeanReference<Service> reference;
+    private static IClass<String> stringClass;
+
+    @BeforeAll
+    public static void setup() throws Exception {
+        IReflectionBuilder reflectionBuilder = ReflectionBuilder.builder()
+                .withProvider(new RuntimeReflectionProvider());
+        reflectionBuilder.build();
+        stringClass = IClass.getClass(String.class);
+        context = InjectionContext.builder().provide(reflectionBuilder)
+                .propertyProvider(PROVIDER)
+                .withProperty(stringClass, "key", "value")
+                .up()
+                .build();
+        context.onInit().onStart();
+        reference = new BeanReference<>(IClass.getClass(Service.class), Optional.of(BeanStrategy.singleton),
+                Optional.empty(), Set.of());
+        context.addBean(BEANS, reference, new Service());
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        IClass.setReflection(null);
+    }
+
+    @Test
+    public void testReadThroughputByThreadCount() throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            read();
+        }
+
+        int processors = java.lang.Runtime.getRuntime().availableProcessors();
+        System.out.printf("%-8s %14s %14s %10s%n", "Threads", "Reads/s", "ns/read", "Speedup");
+        double single = 0;
+        for (int threads = 1; threads <= Math.max(8, processors * 2); threads *= 2) {
+            double throughput = measure(threads);
+            if (threads == 1) {
+                single = throughput;
+            }
+            System.out.printf("%-8d %14.0f %14.0f %10.2f%n", threads, throughput,
+                    1_000_000_000d / throughput * threads, throughput / single);
+        }
+    }
+
+    private static Object read() throws Exception {
+        Object bean = context.queryBean(reference).orElseThrow();
+        Object property = context.getProperty(PROVIDER, "key", stringClass).orElseThrow();
+        return bean == property ? null : bean;
+    }
+
+    private static double measure(int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < READS_PER_THREAD; i++) {
+                        read();
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+            return (double) threads * READS_PER_THREAD * 1_000_000_000d / elapsed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,8 +2,13 @@ package com.garganttua.di.impl.supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,7 +18,9 @@ import com.garganttua.core.injection.BeanDefinition;
 import com.garganttua.core.injection.BeanReference;
 import com.garganttua.core.injection.BeanStrategy;
 import com.garganttua.core.injection.DiException;
+import com.garganttua.core.injection.IBeanSupplier;
 import com.garganttua.core.injection.context.beans.BeanFactory;
+import com.garganttua.core.injection.context.dsl.BeanFactoryBuilder;
 import com.garganttua.core.injection.dummies.DummyBean;
 import com.garganttua.core.injection.dummies.DummyConstructorBinderBuilder;
 import com.garganttua.core.reflection.binders.IConstructorBinder;
@@ -22,6 +29,7 @@ import com.garganttua.core.reflection.dsl.IReflectionBuilder;
 import com.garganttua.core.reflection.dsl.ReflectionBuilder;
 import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
 import com.garganttua.core.supply.SupplyException;
+import com.garganttua.core.supply.dsl.FixedSupplierBuilder;
 
 public class BeanFactoryTest {
 
@@ -31,10 +39,11 @@ public class BeanFactoryTest {
         private IConstructorBinder<DummyBean> constructorWithParamBinder;
         private BeanFactory<DummyBean> singletonWithConstructorWithNoParamFactory;
         private BeanFactory<DummyBean> singletonWithConstructorWithParamFactory;
+        private IReflectionBuilder rb;
 
         @BeforeEach
         void setup() throws DslException {
-                IReflectionBuilder rb = ReflectionBuilder.builder().withProvider(new RuntimeReflectionProvider());
+                rb = ReflectionBuilder.builder().withProvider(new RuntimeReflectionProvider());
                 rb.build();
 
                 this.constructorWithNoParamBinder = new DummyConstructorBinderBuilder<DummyBean>(DummyBean.class)
@@ -135,4 +144,56 @@ public class BeanFactoryTest {
                                 "Singleton strategy should return the same bean instance");
         }
 
+        @Test
+        void testConcurrentPrototypesAreEachInjectedAndPostConstructed() throws Exception {
+                IBeanSupplier<DummyBean> factory = this.injectedBeanFactory(BeanStrategy.prototype);
+
+                List<DummyBean> beans = this.supplyConcurrently(factory);
+
+                assertEquals(beans.size(), beans.stream().distinct().count());
+                for (DummyBean bean : beans) {
+                        assertEquals("injected", bean.getAnotherValue());
+                        assertTrue(bean.isPostConstructCalled());
+                }
+        }
+
+        @Test
+        void testConcurrentSingletonSupplyReturnsOneInitializedInstance() throws Exception {
+                IBeanSupplier<DummyBean> factory = this.injectedBeanFactory(BeanStrategy.singleton);
+
+                List<DummyBean> beans = this.supplyConcurrently(factory);
+
+                assertEquals(1, beans.stream().distinct().count());
+                assertEquals("injected", beans.get(0).getAnotherValue());
+                assertTrue(beans.get(0).isPostConstructCalled());
+        }
+
+        private IBeanSupplier<DummyBean> injectedBeanFactory(BeanStrategy strategy) throws DslException {
+                return new BeanFactoryBuilder<>(IClass.getClass(DummyBean.class))
+                                .provide(rb)
+                                .strategy(strategy)
+                                .field(IClass.getClass(String.class)).field("anotherValue")
+                                .withValue(FixedSupplierBuilder.of("injected", IClass.getClass(String.class))).up()
+                                .postConstruction().method("markPostConstruct", IClass.getClass(void.class), new IClass<?>[0])
+                                .up()
+                                .build();
+        }
+
+        private List<DummyBean> supplyConcurrently(IBeanSupplier<DummyBean> factory) throws Exception {
+                ExecutorService executor = Executors.newFixedThreadPool(8);
+                try {
+                        List<Future<DummyBean>> futures = new ArrayList<>();
+                        for (int i = 0; i < 400; i++) {
+                                futures.add(executor.submit(() -> factory.supply().orElseThrow()));
+                        }
+                        List<DummyBean> beans = new ArrayList<>();
+                        for (Future<DummyBean> future : futures) {
+                                beans.add(future.get());
+                        }
+                        return beans;
+                } finally {
+                        executor.shutdownNow();
+                }
+        }
+
 }
@@ -0,0 +1,109 @@
+package com.garganttua.di.impl.supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.dsl.DslException;
+import com.garganttua.core.injection.BeanReference;
+import com.garganttua.core.injection.BeanStrategy;
+import com.garganttua.core.injection.DiException;
+import com.garganttua.core.injection.IBeanFactory;
+import com.garganttua.core.injection.context.InjectionContext;
+import com.garganttua.core.injection.context.beans.BeanProvider;
+import com.garganttua.core.injection.context.dsl.BeanFactoryBuilder;
+import com.garganttua.core.injection.context.dsl.InjectableElementResolverBuilder;
+import com.garganttua.core.injection.dummies.DummyBeanQualifier;
+import com.garganttua.core.lifecycle.LifecycleException;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.dsl.IReflectionBuilder;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+public class BeanProviderTest {
+
+    public interface Service {
+    }
+
+    public static class ServiceA implements Service {
+    }
+
+    public static class ServiceB extends ServiceA {
+    }
+
+    public static class Other {
+    }
+
+    private IReflectionBuilder reflectionBuilder;
+    private ServiceA a;
+    private ServiceB b;
+    private BeanProvider provider;
+
+    @BeforeEach
+    void setUp() throws DslException, LifecycleException {
+        reflectionBuilder = ReflectionBuilder.builder().withProvider(new RuntimeReflectionProvider());
+        reflectionBuilder.build();
+
+        a = new ServiceA();
+        b = new ServiceB();
+        List<IBeanFactory<?>> factories = new ArrayList<>();
+        factories.add(new BeanFactoryBuilder<>(IClass.getClass(ServiceA.class)).provide(reflectionBuilder)
+                .strategy(BeanStrategy.singleton).name("first").bean(a).build());
+        factories.add(new BeanFactoryBuilder<>(IClass.getClass(ServiceB.class)).provide(reflectionBuilder)
+                .strategy(BeanStrategy.singleton).name("second").qualifier(IClass.getClass(DummyBeanQualifier.class))
+                .bean(b).build());
+        provider = new BeanProvider(factories, new InjectableElementResolverBuilder(InjectionContext.builder()), true);
+        provider.onInit().onStart();
+    }
+
+    @Test
+    public void testLookupBySupertypeKeepsRegistrationOrder() throws DiException {
+        assertSame(a, provider.get(IClass.getClass(Service.class)).orElseThrow());
+        assertSame(b, provider.get(IClass.getClass(ServiceB.class)).orElseThrow());
+        assertEquals(List.of(a, b), provider.get(IClass.getClass(Service.class), true));
+        assertEquals(2, provider.get(IClass.getClass(Object.class), true).size());
+    }
+
+    @Test
+    public void testLookupByNameAndQualifier() throws DiException {
+        assertSame(b, provider.query(new BeanReference<>(null, Optional.empty(), Optional.of("second"), Set.of()))
+                .orElseThrow());
+        assertSame(b, provider.query(new BeanReference<>(IClass.getClass(Service.class), Optional.empty(),
+                Optional.empty(), Set.of(IClass.getClass(DummyBeanQualifier.class)))).orElseThrow());
+        assertTrue(provider.query(new BeanReference<>(IClass.getClass(ServiceB.class), Optional.empty(),
+                Optional.of("first"), Set.of())).isEmpty());
+        assertEquals(List.of(a, b), provider.queries(new BeanReference<>(IClass.getClass(ServiceA.class),
+                Optional.of(BeanStrategy.singleton), Optional.empty(), Set.of())));
+    }
+
+    @Test
+    public void testInterfaceTypedBeansAreObjects() throws DiException {
+        Service service = new Service() {
+        };
+        provider.add(new BeanReference<>(IClass.getClass(Service.class), Optional.of(BeanStrategy.singleton),
+                Optional.of("service"), Set.of()), service);
+
+        assertEquals(List.of(a, b, service), provider.get(IClass.getClass(Object.class), true));
+        assertSame(service, provider.query(new BeanReference<>(IClass.getClass(Object.class), Optional.empty(),
+                Optional.of("service"), Set.of())).orElseThrow());
+    }
+
+    @Test
+    public void testMissesAreForgottenWhenABeanIsAdded() throws DiException {
+        assertTrue(provider.get(IClass.getClass(Other.class)).isEmpty());
+        assertTrue(provider.get(IClass.getClass(Other.class)).isEmpty());
+
+        Other other = new Other();
+        provider.add(new BeanReference<>(IClass.getClass(Other.class), Optional.of(BeanStrategy.singleton),
+                Optional.empty(), Set.of()), other);
+
+        assertSame(other, provider.get(IClass.getClass(Other.class)).orElseThrow());
+        assertEquals(3, provider.size());
+    }
+}
@@ -0,0 +1,127 @@
+package com.garganttua.di.impl.supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.dsl.DslException;
+import com.garganttua.core.injection.BeanReference;
+import com.garganttua.core.injection.BeanStrategy;
+import com.garganttua.core.injection.DiException;
+import com.garganttua.core.injection.IInjectionChildContextFactory;
+import com.garganttua.core.injection.IInjectionContext;
+import com.garganttua.core.injection.Predefined;
+import com.garganttua.core.injection.context.InjectionContext;
+import com.garganttua.core.lifecycle.LifecycleException;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.dsl.IReflectionBuilder;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+public class LayeredInjectionContextTest {
+
+    private static final String PROVIDER = Predefined.PropertyProviders.garganttua.toString();
+    private static final String BEANS = Predefined.BeanProviders.garganttua.toString();
+
+    public interface ScopedContext<T> extends IInjectionContext {
+    }
+
+    // Exposes the layered context created by the parent under the requested child type
+    public static class ScopedContextFactory implements IInjectionChildContextFactory<ScopedContext<?>> {
+        @Override
+        public ScopedContext<?> createChildContext(IInjectionContext parent, Object... args) throws DiException {
+            return (ScopedContext<?>) Proxy.newProxyInstance(ScopedContext.class.getClassLoader(),
+                    new Class<?>[] { ScopedContext.class }, (proxy, method, arguments) -> {
+                        try {
+                            return method.invoke(parent, arguments);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    public static class Service {
+    }
+
+    private IInjectionContext parent;
+
+    @BeforeEach
+    void setUp() throws DslException, LifecycleException {
+        IReflectionBuilder rb = ReflectionBuilder.builder().withProvider(new RuntimeReflectionProvider());
+        rb.build();
+        parent = InjectionContext.builder().provide(rb)
+                .propertyProvider(PROVIDER)
+                .withProperty(IClass.getClass(String.class), "shared", "parent")
+                .up()
+                .childContextFactory(new ScopedContextFactory())
+                .build();
+        parent.onInit().onStart();
+    }
+
+    private IInjectionContext child(IInjectionContext context) throws LifecycleException {
+        IInjectionContext child = context.newChildContext(IClass.getClass(ScopedContext.class));
+        child.onInit().onStart();
+        return child;
+    }
+
+    @Test
+    public void testChildPropertiesShadowTheParentOnes() throws LifecycleException {
+        IInjectionContext child = child(parent);
+        assertEquals("parent", child.getProperty(PROVIDER, "shared", IClass.getClass(String.class)).orElseThrow());
+
+        child.setProperty(PROVIDER, "shared", "child");
+        child.setProperty(PROVIDER, "local", "child");
+
+        assertEquals("child", child.getProperty(PROVIDER, "shared", IClass.getClass(String.class)).orElseThrow());
+        assertEquals("child", child.getProperty("local", IClass.getClass(String.class)).orElseThrow());
+        assertEquals("parent", parent.getProperty(PROVIDER, "shared", IClass.getClass(String.class)).orElseThrow());
+        assertTrue(parent.getProperty("local", IClass.getClass(String.class)).isEmpty());
+        assertTrue(child(parent).getProperty("local", IClass.getClass(String.class)).isEmpty());
+        assertThrows(DiException.class, () -> child.setProperty("unknown", "key", "value"));
+    }
+
+    @Test
+    public void testChildBeansStayInTheChild() throws LifecycleException {
+        IInjectionContext child = child(parent);
+        Service service = new Service();
+        BeanReference<Service> reference = new BeanReference<>(IClass.getClass(Service.class),
+                Optional.of(BeanStrategy.singleton), Optional.empty(), Set.of());
+
+        child.addBean(BEANS, reference, service);
+
+        assertSame(service, child.queryBean(reference).orElseThrow());
+        assertSame(service, child.queryBean(BEANS, reference).orElseThrow());
+        assertEquals(1, child.queryBeans(reference).size());
+        assertTrue(parent.queryBean(reference).isEmpty());
+        assertTrue(child(parent).queryBean(reference).isEmpty());
+    }
+
+    @Test
+    public void testNestedChildrenSeeTheirParentsLayers() throws LifecycleException {
+        IInjectionContext child = child(parent);
+        child.setProperty(PROVIDER, "shared", "child");
+        IInjectionContext grandChild = child(child);
+
+        assertEquals("child", grandChild.getProperty(PROVIDER, "shared", IClass.getClass(String.class)).orElseThrow());
+        grandChild.setProperty(PROVIDER, "shared", "grandchild");
+        assertEquals("child", child.getProperty(PROVIDER, "shared", IClass.getClass(String.class)).orElseThrow());
+    }
+
+    @Test
+    public void testFlushingAChildKeepsTheParent() throws LifecycleException {
+        IInjectionContext child = child(parent);
+        child.setProperty(PROVIDER, "local", "child");
+        child.onStop();
+        child.onFlush();
+
+        assertEquals("parent", parent.getProperty(PROVIDER, "shared", IClass.getClass(String.class)).orElseThrow());
+        assertEquals(parent.getPropertyProviders().size(), child(parent).getPropertyProviders().size());
+    }
+}
@@ -1,6 +1,6 @@
 package com.garganttua.core.lifecycle;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IReflectionUser;
@@ -10,10 +10,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class AbstractLifecycle implements ILifecycle, IReflectionUser {
 
-    protected final AtomicBoolean initialized = new AtomicBoolean(false);
-    protected final AtomicBoolean started = new AtomicBoolean(false);
-    protected final AtomicBoolean flushed = new AtomicBoolean(false);
-    protected final AtomicBoolean stopped = new AtomicBoolean(false);
+    private static final int INITIALIZED = 1;
+    private static final int STARTED = 1 << 1;
+    private static final int STOPPED = 1 << 2;
+    private static final int FLUSHED = 1 << 3;
+    private static final int READY = INITIALIZED | STARTED;
+
+    // Lifecycle flags, read without locking and only changed under lifecycleMutex
+    private final AtomicInteger state = new AtomicInteger();
 
     protected abstract ILifecycle doInit() throws LifecycleException;
 
@@ -45,25 +49,28 @@ public abstract class AbstractLifecycle implements ILifecycle, IReflectionUser {
 
     @Override
     public LifecycleStatus status() {
-        synchronized (this.lifecycleMutex) {
+        int current = this.state.get();
 
-            if (!initialized.get()) {
-                return LifecycleStatus.NEW;
-            }
+        if ((current & INITIALIZED) == 0) {
+            return LifecycleStatus.NEW;
+        }
 
-            if (started.get()) {
-                return LifecycleStatus.STARTED;
-            }
+        if ((current & STARTED) != 0) {
+            return LifecycleStatus.STARTED;
+        }
 
-            if (stopped.get()) {
-                if (flushed.get()) {
-                    return LifecycleStatus.FLUSHED;
-                }
-                return LifecycleStatus.STOPPED;
+        if ((current & STOPPED) != 0) {
+            if ((current & FLUSHED) != 0) {
+                return LifecycleStatus.FLUSHED;
             }
-
-            return LifecycleStatus.INITIALIZED;
+            return LifecycleStatus.STOPPED;
         }
+
+        return LifecycleStatus.INITIALIZED;
+    }
+
+    private void transition(int set, int clear) {
+        this.state.set((this.state.get() | set) & ~clear);
     }
 
     @Override
@@ -73,8 +80,7 @@ public abstract class AbstractLifecycle implements ILifecycle, IReflectionUser {
             ensureNotInitialized();
             log.atDebug().log("Initializing lifecycle");
             doInit();
-            initialized.set(true);
-            stopped.set(false);
+            transition(INITIALIZED, STOPPED);
             log.atDebug().log("Lifecycle initialized successfully");
         }
         log.atTrace().log("Exiting onInit()");
@@ -89,7 +95,7 @@ public abstract class AbstractLifecycle implements ILifecycle, IReflectionUser {
             ensureNotStarted();
             log.atDebug().log("Starting lifecycle");
             doStart();
-            started.set(true);
+            transition(STARTED, 0);
             log.atDebug().log("Lifecycle started successfully");
         }
         log.atTrace().log("Exiting onStart()");
@@ -103,7 +109,7 @@ public abstract class AbstractLifecycle implements ILifecycle, IReflectionUser {
             ensureStopped();
             log.atDebug().log("Flushing lifecycle");
             doFlush();
-            flushed.set(true);
+            transition(FLUSHED, 0);
             log.atDebug().log("Lifecycle flushed successfully");
         }
         log.atTrace().log("Exiting onFlush()");
@@ -115,14 +121,13 @@ public abstract class AbstractLifecycle implements ILifecycle, IReflectionUser {
         log.atTrace().log("Entering onStop()");
         synchronized (this.lifecycleMutex) {
             ensureInitialized();
-            if (!started.get()) {
+            if (!isStarted()) {
                 log.atDebug().log("Lifecycle not started, skipping onStop");
                 return this;
             }
             log.atDebug().log("Stopping lifecycle");
             doStop();
-            started.set(false);
-            stopped.set(true);
+            transition(STOPPED, STARTED);
             log.atDebug().log("Lifecycle stopped successfully");
         }
         log.atTrace().log("Exiting onStop()");
@@ -133,7 +138,7 @@ public abstract class AbstractLifecycle implements ILifecycle, IReflectionUser {
     public ILifecycle onReload() throws LifecycleException {
         log.atTrace().log("Entering onReload()");
         synchronized (this.lifecycleMutex) {
-            if (!initialized.get() && !started.get()) {
+            if (!has(INITIALIZED) && !has(STARTED)) {
                 log.atError().log("Cannot reload: lifecycle not initialized or started");
                 throw new LifecycleException("Lifecycle not initialized or started");
             }
@@ -142,7 +147,7 @@ public abstract class AbstractLifecycle implements ILifecycle, IReflectionUser {
             this.onStop();
             log.atDebug().log("Reloading lifecycle: flushing");
             this.onFlush();
-            initialized.set(false);
+            transition(0, INITIALIZED);
             log.atDebug().log("Reloading lifecycle: re-initializing");
             this.onInit();
             log.atDebug().log("Reloading lifecycle: starting");
@@ -154,133 +159,107 @@ public abstract class AbstractLifecycle implements ILifecycle, IReflectionUser {
     }
 
     protected void ensureInitializedAndStarted() throws LifecycleException {
-        log.atTrace().log("Entering ensureInitializedAndStarted()");
-        synchronized (this.lifecycleMutex) {
-            if (!initialized.get()) {
-                log.atError().log("Lifecycle not initialized");
-                throw new LifecycleException("Lifecycle not initialized");
-            }
-            if (!started.get()) {
-                log.atError().log("Lifecycle not started");
-                throw new LifecycleException("Lifecycle not started");
-            }
+        int current = this.state.get();
+        if ((current & READY) == READY) {
+            return;
         }
-        log.atTrace().log("Exiting ensureInitializedAndStarted()");
+        if ((current & INITIALIZED) == 0) {
+            log.atError().log("Lifecycle not initialized");
+            throw new LifecycleException("Lifecycle not initialized");
+        }
+        log.atError().log("Lifecycle not started");
+        throw new LifecycleException("Lifecycle not started");
     }
 
     protected void ensureInitialized() throws LifecycleException {
         log.atTrace().log("Entering ensureInitialized()");
-        synchronized (this.lifecycleMutex) {
-            if (!initialized.get()) {
-                log.atError().log("Lifecycle not initialized");
-                throw new LifecycleException("Lifecycle not initialized");
-            }
+        if (!has(INITIALIZED)) {
+            log.atError().log("Lifecycle not initialized");
+            throw new LifecycleException("Lifecycle not initialized");
         }
         log.atTrace().log("Exiting ensureInitialized()");
     }
 
     protected void ensureNotInitialized() throws LifecycleException {
         log.atTrace().log("Entering ensureNotInitialized()");
-        synchronized (this.lifecycleMutex) {
-            if (initialized.get()) {
-                log.atError().log("Lifecycle already initialized");
-                throw new LifecycleException("Lifecycle already initialized");
-            }
+        if (has(INITIALIZED)) {
+            log.atError().log("Lifecycle already initialized");
+            throw new LifecycleException("Lifecycle already initialized");
         }
         log.atTrace().log("Exiting ensureNotInitialized()");
     }
 
     protected void ensureStarted() throws LifecycleException {
         log.atTrace().log("Entering ensureStarted()");
-        synchronized (this.lifecycleMutex) {
-            if (!started.get()) {
-                log.atError().log("Lifecycle not started");
-                throw new LifecycleException("Lifecycle not started");
-            }
+        if (!has(STARTED)) {
+            log.atError().log("Lifecycle not started");
+            throw new LifecycleException("Lifecycle not started");
         }
         log.atTrace().log("Exiting ensureStarted()");
     }
 
     protected void ensureNotStarted() throws LifecycleException {
         log.atTrace().log("Entering ensureNotStarted()");
-        synchronized (this.lifecycleMutex) {
-            if (started.get()) {
-                log.atError().log("Lifecycle already started");
-                throw new LifecycleException("Lifecycle already started");
-            }
+        if (has(STARTED)) {
+            log.atError().log("Lifecycle already started");
+            throw new LifecycleException("Lifecycle already started");
         }
         log.atTrace().log("Exiting ensureNotStarted()");
     }
 
     protected void ensureNotStopped() throws LifecycleException {
         log.atTrace().log("Entering ensureNotStopped()");
-        synchronized (this.lifecycleMutex) {
-            if (stopped.get()) {
-                log.atError().log("Lifecycle already stopped");
-                throw new LifecycleException("Lifecycle already stopped");
-            }
+        if (has(STOPPED)) {
+            log.atError().log("Lifecycle already stopped");
+            throw new LifecycleException("Lifecycle already stopped");
         }
         log.atTrace().log("Exiting ensureNotStopped()");
     }
 
     protected void ensureFlushed() throws LifecycleException {
         log.atTrace().log("Entering ensureFlushed()");
-        synchronized (this.lifecycleMutex) {
-            if (!flushed.get()) {
-                log.atError().log("Lifecycle not flushed");
-                throw new LifecycleException("Lifecycle not flushed");
-            }
+        if (!has(FLUSHED)) {
+            log.atError().log("Lifecycle not flushed");
+            throw new LifecycleException("Lifecycle not flushed");
         }
         log.atTrace().log("Exiting ensureFlushed()");
     }
 
     protected void ensureStopped() throws LifecycleException {
         log.atTrace().log("Entering ensureStopped()");
-        synchronized (this.lifecycleMutex) {
-            if (!stopped.get()) {
-                log.atError().log("Lifecycle not stopped");
-                throw new LifecycleException("Lifecycle not stopped");
-            }
+        if (!has(STOPPED)) {
+            log.atError().log("Lifecycle not stopped");
+            throw new LifecycleException("Lifecycle not stopped");
         }
         log.atTrace().log("Exiting ensureStopped()");
     }
 
     protected void ensureNotFlushed() throws LifecycleException {
         log.atTrace().log("Entering ensureNotFlushed()");
-        synchronized (this.lifecycleMutex) {
-            if (flushed.get()) {
-                log.atError().log("Lifecycle already flushed");
-                throw new LifecycleException("Lifecycle flushed");
-            }
+        if (has(FLUSHED)) {
+            log.atError().log("Lifecycle already flushed");
+            throw new LifecycleException("Lifecycle flushed");
         }
         log.atTrace().log("Exiting ensureNotFlushed()");
     }
 
     public boolean isInitialized() {
-        synchronized (this.lifecycleMutex) {
-            log.atDebug().log("Checking isInitialized(): {}", initialized.get());
-            return initialized.get();
-        }
+        return has(INITIALIZED);
     }
 
     public boolean isStarted() {
-        synchronized (this.lifecycleMutex) {
-            log.atDebug().log("Checking isStarted(): {}", started.get());
-            return started.get();
-        }
+        return has(STARTED);
     }
 
     public boolean isFlushed() {
-        synchronized (this.lifecycleMutex) {
-            log.atDebug().log("Checking isFlushed(): {}", flushed.get());
-            return flushed.get();
-        }
+        return has(FLUSHED);
     }
 
     public boolean isStopped() {
-        synchronized (this.lifecycleMutex) {
-            log.atDebug().log("Checking isStopped(): {}", stopped.get());
-            return stopped.get();
-        }
+        return has(STOPPED);
+    }
+
+    private boolean has(int flag) {
+        return (this.state.get() & flag) != 0;
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@ package com.garganttua.core.lifecycle;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -115,4 +117,28 @@ public class AbstractLifecycleTest {
         lifecycle.onInit().onStart();
         assertThrows(LifecycleException.class, () -> lifecycle.onStart());
     }
+
+    @Test
+    void testStateChecksDoNotWaitForTransitions() throws Exception {
+        lifecycle.onInit().onStart();
+
+        synchronized (lifecycle.lifecycleMutex) {
+            // Another thread holding the mutex must not block readers
+            LifecycleStatus status = CompletableFuture.supplyAsync(() -> {
+                try {
+                    lifecycle.ensureInitializedAndStarted();
+                } catch (LifecycleException e) {
+                    throw new IllegalStateException(e);
+                }
+                return lifecycle.status();
+            }).get(5, TimeUnit.SECONDS);
+            assertEquals(LifecycleStatus.STARTED, status);
+        }
+
+        lifecycle.onStop();
+        assertEquals(LifecycleStatus.STOPPED, lifecycle.status());
+        assertThrows(LifecycleException.class, () -> lifecycle.ensureInitializedAndStarted());
+        lifecycle.onFlush();
+        assertEquals(LifecycleStatus.FLUSHED, lifecycle.status());
+    }
 }
@@ -1,6 +1,7 @@
 package com.garganttua.core.mapper;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Caches the pre-computed executors alongside the mapping configuration
@@ -9,9 +10,15 @@ import java.util.List;
  * @param config the mapping configuration
  * @param destinationExecutors pre-computed executors for REGULAR direction
  * @param sourceExecutors pre-computed executors for REVERSE direction
+ * @param generatedMapper mapper running instead of the REGULAR executors, or null
+ * @param recordPlan plan building the destination record, or null if it is not a record
+ * @param acyclicClasses classes of the source object graphs when they cannot hold cycles, or null
  */
 record CachedMappingConfiguration(
 		MappingConfiguration config,
 		List<IMappingRuleExecutor> destinationExecutors,
-		List<IMappingRuleExecutor> sourceExecutors
+		List<IMappingRuleExecutor> sourceExecutors,
+		IGeneratedMapper<Object, Object> generatedMapper,
+		RecordMappingPlan recordPlan,
+		Set<Class<?>> acyclicClasses
 ) {}
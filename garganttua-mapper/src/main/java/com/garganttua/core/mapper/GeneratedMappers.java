@@ -0,0 +1,138 @@
+package com.garganttua.core.mapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.garganttua.core.mapper.rules.SimpleFieldMappingExecutor;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IField;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves the {@link IGeneratedMapper} of a pair of classes from its rule
+ * executors.
+ *
+ * <p>
+ * A pair has a generated mapper only when all its executors copy a field to a
+ * field of the same type, as {@link SimpleFieldMappingExecutor}s do. The mapper
+ * generated at compile time for the pair, listed in
+ * {@code META-INF/garganttua/aot/mappers/<destination>}, is used when it copies
+ * the same fields as the executors; otherwise a mapper is synthesized at runtime.
+ * </p>
+ */
+@Slf4j
+final class GeneratedMappers {
+
+	private static final String AOT_MAPPERS_DIR = "META-INF/garganttua/aot/mappers/";
+
+	private GeneratedMappers() {
+	}
+
+	/**
+	 * Returns the generated mapper doing the same as the given executors.
+	 *
+	 * @return the generated mapper, or null when the executors must run
+	 */
+	static IGeneratedMapper<Object, Object> find(IClass<?> source, IClass<?> destination,
+			List<IMappingRuleExecutor> executors) {
+		if (executors.isEmpty() || destination.isRecord()
+				|| !(source.getType() instanceof Class<?> sourceClass)
+				|| !(destination.getType() instanceof Class<?> destinationClass)) {
+			return null;
+		}
+
+		List<Field> sourceFields = new ArrayList<>();
+		List<Field> destinationFields = new ArrayList<>();
+		Set<String> mappedFields = new HashSet<>();
+		for (IMappingRuleExecutor executor : executors) {
+			if (executor.getClass() != SimpleFieldMappingExecutor.class) {
+				return null;
+			}
+			SimpleFieldMappingExecutor fieldExecutor = (SimpleFieldMappingExecutor) executor;
+			Field sourceField = field(fieldExecutor.getSourceField());
+			Field destinationField = field(fieldExecutor.getDestinationField());
+			if (sourceField == null || destinationField == null) {
+				return null;
+			}
+			sourceFields.add(sourceField);
+			destinationFields.add(destinationField);
+			mappedFields.add(sourceField.getName() + "->" + destinationField.getName());
+		}
+
+		IGeneratedMapper<Object, Object> mapper = compiled(sourceClass, destinationClass, mappedFields);
+		if (mapper == null) {
+			mapper = SynthesizedMapper.synthesize(sourceClass, destinationClass, sourceFields, destinationFields);
+		}
+		if (mapper != null) {
+			log.atDebug().log("Using generated mapper {} for {} -> {}", mapper, sourceClass.getSimpleName(),
+					destinationClass.getSimpleName());
+		}
+		return mapper;
+	}
+
+	private static Field field(IField field) {
+		if (!(field.getDeclaringClass().getType() instanceof Class<?> declaringClass)) {
+			return null;
+		}
+		try {
+			return declaringClass.getDeclaredField(field.getName());
+		} catch (NoSuchFieldException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the mapper generated at compile time for the pair and copying the
+	 * given fields, or null if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	private static IGeneratedMapper<Object, Object> compiled(Class<?> sourceClass, Class<?> destinationClass,
+			Set<String> mappedFields) {
+		ClassLoader classLoader = destinationClass.getClassLoader();
+		if (classLoader == null) {
+			return null;
+		}
+		try {
+			Enumeration<URL> listings = classLoader.getResources(AOT_MAPPERS_DIR + destinationClass.getName());
+			while (listings.hasMoreElements()) {
+				try (BufferedReader reader = new BufferedReader(
+						new InputStreamReader(listings.nextElement().openStream(), StandardCharsets.UTF_8))) {
+					String line;
+					while ((line = reader.readLine()) != null) {
+						String mapperClass = line.trim();
+						if (mapperClass.isEmpty()) {
+							continue;
+						}
+						Object candidate = Class.forName(mapperClass, true, classLoader).getDeclaredConstructor()
+								.newInstance();
+						if (candidate instanceof IGeneratedMapper<?, ?> mapper
+								&& mapper.sourceClass() == sourceClass
+								&& mapper.destinationClass() == destinationClass) {
+							if (new HashSet<>(Arrays.asList(mapper.mappedFields())).equals(mappedFields)) {
+								return (IGeneratedMapper<Object, Object>) mapper;
+							}
+							log.atDebug().log("Generated mapper {} does not copy the fields of the mapping rules {}",
+									mapperClass, mappedFields);
+						}
+					}
+				}
+			}
+		} catch (IOException | ReflectiveOperationException | LinkageError e) {
+			log.atWarn().log("Unable to load the generated mappers of {}: {}", destinationClass.getName(),
+					e.getMessage());
+		}
+		return null;
+	}
+
+}
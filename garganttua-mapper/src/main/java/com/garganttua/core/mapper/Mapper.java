@@ -1,21 +1,23 @@
 package com.garganttua.core.mapper;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.IdentityHashMap;
-import java.util.LinkedHashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 import com.garganttua.core.mapper.annotations.MappingIgnore;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IField;
 import com.garganttua.core.reflection.IReflection;
-import com.garganttua.core.reflection.ReflectionException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,7 +32,10 @@ public class Mapper implements IMapper {
 	private final List<IMappingListener> listeners = new CopyOnWriteArrayList<>();
 	private final MapperMetrics metrics = new MapperMetrics();
 
-	private static final ThreadLocal<Set<Object>> VISITED = new ThreadLocal<>();
+	private static final ThreadLocal<MappingContext> CONTEXT = new ThreadLocal<>();
+
+	// Slices of a parallel bulk mapping per worker of the fork/join pool
+	private static final int SLICES_PER_WORKER = 4;
 
 	public Mapper(IReflection reflection) {
 		this.reflection = Objects.requireNonNull(reflection, "IReflection implementation cannot be null");
@@ -61,11 +66,19 @@ public class Mapper implements IMapper {
 	@Override
 	public <destination> destination map(Object source, IClass<destination> destinationClass, destination destination)
 			throws MapperException {
-		// Determine if this is the root call (for metrics/listeners/cycle init)
-		boolean isRoot = VISITED.get() == null;
+		return this.map(source, destinationClass, destination, null);
+	}
+
+	/**
+	 * Maps a source, resolving its configuration through the given bulk mapping if
+	 * any.
+	 */
+	private <destination> destination map(Object source, IClass<destination> destinationClass, destination destination,
+			Bulk<destination> bulk) throws MapperException {
+		// Determine if this is the root call (for metrics/listeners/context init)
+		boolean isRoot = CONTEXT.get() == null;
 
 		if (isRoot) {
-			VISITED.set(Collections.newSetFromMap(new IdentityHashMap<>()));
 			notifyBeforeMapping(source, destinationClass);
 		}
 
@@ -75,46 +88,19 @@ public class Mapper implements IMapper {
 			if (destinationClass == null)
 				destinationClass = (IClass<destination>) this.reflection.getClass(destination.getClass());
 
-			// Cycle detection
-			if (source != null) {
-				Set<Object> visited = VISITED.get();
-				if (!visited.add(source)) {
-					if (this.configuration.failOnCycle()) {
-						throw new MapperException("Mapping cycle detected for object of type " + source.getClass().getSimpleName());
-					} else {
-						log.atWarn().log("Cycle detected for {}, returning null", source.getClass().getSimpleName());
-						return destination;
-					}
-				}
-			}
+			CachedMappingConfiguration cachedConfig = bulk != null
+					? bulk.configuration(source)
+					: this.getCachedMappingConfiguration(this.reflection.getClass(source.getClass()), destinationClass);
 
-			IClass<?> sourceClass = this.reflection.getClass(source.getClass());
-			CachedMappingConfiguration cachedConfig = this.getCachedMappingConfiguration(sourceClass, destinationClass);
-			MappingConfiguration mappingConfig = cachedConfig.config();
-
-			log.atDebug().log("Mapping {} -> {} ({})", sourceClass.getSimpleName(), destinationClass.getSimpleName(), mappingConfig.mappingDirection());
-
-			destination result;
-			switch (mappingConfig.mappingDirection()) {
-				case REGULAR:
-					result = this.doMapping(mappingConfig.mappingDirection(), destinationClass, destination,
-							source, cachedConfig.destinationExecutors());
-					break;
-				case REVERSE:
-					result = this.doMapping(mappingConfig.mappingDirection(), destinationClass, destination,
-							source, cachedConfig.sourceExecutors());
-					break;
-				default:
-					result = this.doMapping(mappingConfig.mappingDirection(), destinationClass, destination,
-							source, cachedConfig.destinationExecutors());
+			if (isRoot) {
+				CONTEXT.set(new MappingContext(cachedConfig.acyclicClasses(), this.configuration.reuseMappedInstances()));
 			}
 
+			destination result = this.mapInContext(CONTEXT.get(), cachedConfig, destinationClass, destination, source);
+
 			if (isRoot) {
 				long durationNanos = System.nanoTime() - startNanos;
-				int rulesCount = mappingConfig.mappingDirection() == MappingDirection.REGULAR
-						? cachedConfig.destinationExecutors().size()
-						: cachedConfig.sourceExecutors().size();
-				this.metrics.recordMapping(durationNanos, rulesCount);
+				this.metrics.recordMapping(durationNanos, rulesCount(cachedConfig));
 				notifyAfterMapping(source, result, durationNanos);
 			}
 			return result;
@@ -127,19 +113,151 @@ public class Mapper implements IMapper {
 			throw new MapperException(e.getMessage(), e);
 		} finally {
 			if (isRoot) {
-				VISITED.remove();
+				CONTEXT.remove();
 			}
 		}
 	}
 
+	@Override
+	public <destination> List<destination> mapAll(Collection<?> sources, IClass<destination> destinationClass)
+			throws MapperException {
+		Objects.requireNonNull(sources, "Sources cannot be null");
+		return this.mapBulk(sources, destinationClass, new ArrayList<>(sources.size()));
+	}
+
+	@Override
+	public <destination> List<destination> mapInto(List<?> sources, IClass<destination> destinationClass,
+			List<destination> destinations) throws MapperException {
+		Objects.requireNonNull(sources, "Sources cannot be null");
+		Objects.requireNonNull(destinations, "Destinations cannot be null");
+		if (destinations instanceof ArrayList<destination> arrayList) {
+			arrayList.ensureCapacity(arrayList.size() + sources.size());
+		}
+		return this.mapBulk(sources, destinationClass, destinations);
+	}
+
+	@Override
+	public <destination> Stream<destination> mapStream(Stream<?> sources, IClass<destination> destinationClass) {
+		Objects.requireNonNull(sources, "Sources cannot be null");
+		if (destinationClass == null)
+			throw new MapperException("destination class cannot be null");
+		Bulk<destination> bulk = new Bulk<>(destinationClass);
+		return sources.map(source -> source == null ? null
+				: this.map(source, destinationClass, null, bulk));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <destination> List<destination> mapBulk(Collection<?> sources, IClass<destination> destinationClass,
+			List<destination> destinations) throws MapperException {
+		if (destinationClass == null)
+			throw new MapperException("destination class cannot be null");
+		Bulk<destination> bulk = new Bulk<>(destinationClass);
+
+		// Nested in a mapping: part of it, sharing its cycle detection, metrics and listeners
+		if (CONTEXT.get() != null) {
+			for (Object source : sources) {
+				destinations.add(bulk.map(source, false));
+			}
+			return destinations;
+		}
+
+		notifyBeforeBulkMapping(sources.size(), destinationClass);
+		long startNanos = System.nanoTime();
+		try {
+			int threshold = this.configuration.parallelMappingThreshold();
+			if (threshold > 0 && sources.size() >= threshold) {
+				List<?> indexed = sources instanceof List<?> list && sources instanceof RandomAccess
+						? list
+						: new ArrayList<>(sources);
+				Object[] results = new Object[indexed.size()];
+				int slice = Math.max(1, results.length / (ForkJoinPool.getCommonPoolParallelism() * SLICES_PER_WORKER));
+				ForkJoinPool.commonPool().invoke(new BulkTask<>(bulk, indexed, results, 0, results.length, slice));
+				for (Object result : results) {
+					destinations.add((destination) result);
+				}
+			} else {
+				bulk.inOwnContext(() -> {
+					for (Object source : sources) {
+						destinations.add(bulk.map(source, true));
+					}
+				});
+			}
+		} catch (MapperException e) {
+			this.metrics.recordFailure();
+			throw e;
+		}
+
+		long durationNanos = System.nanoTime() - startNanos;
+		this.metrics.recordMappings(sources.size(), durationNanos, bulk.rules.sum());
+		notifyAfterBulkMapping(sources.size(), destinationClass, durationNanos);
+		return destinations;
+	}
+
+	/**
+	 * Maps a source within the given context, reusing its destination if it has
+	 * already been mapped, and skipping it if it is being mapped by an enclosing
+	 * mapping.
+	 */
+	@SuppressWarnings("unchecked")
+	private <destination> destination mapInContext(MappingContext context, CachedMappingConfiguration cachedConfig,
+			IClass<destination> destinationClass, destination destination, Object source) throws MapperException {
+		if (destination == null) {
+			Object mapped = context.destinationOf(source);
+			if (mapped != null && destinationClass.isInstance(mapped)) {
+				return (destination) mapped;
+			}
+		}
+		if (!context.enter(source)) {
+			if (this.configuration.failOnCycle()) {
+				throw new MapperException("Mapping cycle detected for object of type " + source.getClass().getSimpleName());
+			}
+			log.atWarn().log("Cycle detected for {}, returning null", source.getClass().getSimpleName());
+			return destination;
+		}
+		try {
+			destination result = this.doConfiguredMapping(cachedConfig, destinationClass, destination, source);
+			context.mapped(source, result);
+			return result;
+		} finally {
+			context.exit(source);
+		}
+	}
+
+	private <destination> destination doConfiguredMapping(CachedMappingConfiguration cachedConfig,
+			IClass<destination> destinationClass, destination destination, Object source) throws MapperException {
+		MappingConfiguration mappingConfig = cachedConfig.config();
+
+		log.atDebug().log("Mapping {} -> {} ({})", mappingConfig.source().getSimpleName(), destinationClass.getSimpleName(), mappingConfig.mappingDirection());
+
+		switch (mappingConfig.mappingDirection()) {
+			case REGULAR:
+				return cachedConfig.generatedMapper() != null
+						? this.doGeneratedMapping(cachedConfig, destinationClass, destination, source)
+						: this.doMapping(mappingConfig.mappingDirection(), destinationClass, destination,
+								source, cachedConfig.destinationExecutors(), cachedConfig.recordPlan());
+			case REVERSE:
+				return this.doMapping(mappingConfig.mappingDirection(), destinationClass, destination,
+						source, cachedConfig.sourceExecutors(), cachedConfig.recordPlan());
+			default:
+				return this.doMapping(mappingConfig.mappingDirection(), destinationClass, destination,
+						source, cachedConfig.destinationExecutors(), cachedConfig.recordPlan());
+		}
+	}
+
+	private static int rulesCount(CachedMappingConfiguration cachedConfig) {
+		return cachedConfig.config().mappingDirection() == MappingDirection.REGULAR
+				? cachedConfig.destinationExecutors().size()
+				: cachedConfig.sourceExecutors().size();
+	}
+
 	@SuppressWarnings("unchecked")
 	private <destination> destination doMapping(MappingDirection mappingDirection,
 			IClass<destination> destinationIClass, destination destObject, Object source,
-			List<IMappingRuleExecutor> executors) throws MapperException {
+			List<IMappingRuleExecutor> executors, RecordMappingPlan recordPlan) throws MapperException {
 
 		// Record mapping: build via canonical constructor
 		if (destinationIClass.isRecord()) {
-			return doRecordMapping(mappingDirection, destinationIClass, destObject, source, executors);
+			return doRecordMapping(destinationIClass, source, recordPlan);
 		}
 
 		for (IMappingRuleExecutor executor : executors) {
@@ -158,77 +276,29 @@ public class Mapper implements IMapper {
 	}
 
 	@SuppressWarnings("unchecked")
-	private <destination> destination doRecordMapping(MappingDirection mappingDirection,
-			IClass<destination> destinationIClass, destination destObject, Object source,
-			List<IMappingRuleExecutor> executors) throws MapperException {
+	private <destination> destination doGeneratedMapping(CachedMappingConfiguration cachedConfig,
+			IClass<destination> destinationIClass, destination destObject, Object source) throws MapperException {
 		try {
-			var components = destinationIClass.getRecordComponents();
-			Map<String, Object> values = new LinkedHashMap<>();
-
-			// Initialize with default values for primitives, null for objects
-			for (var component : components) {
-				values.put(component.getName(), defaultValueForClass(component.getType()));
-			}
-
-			// Read source fields directly for each record component
-			IClass<?> sourceClass = this.reflection.getClass(source.getClass());
-			for (var component : components) {
-				String name = component.getName();
-				try {
-					var sourceQuery = this.reflection.query(sourceClass);
-					var sourceFields = sourceQuery.find(new com.garganttua.core.reflection.ObjectAddress(name));
-					if (!sourceFields.isEmpty()) {
-						IField sourceField = (IField) sourceFields.get(sourceFields.size() - 1);
-						com.garganttua.core.reflection.fields.FieldAccessor<Object> accessor =
-								new com.garganttua.core.reflection.fields.FieldAccessor<>(
-										new com.garganttua.core.reflection.fields.ResolvedField(
-												new com.garganttua.core.reflection.ObjectAddress(name, false),
-												List.of(sourceField)));
-						Object val = accessor.getValue(source).single();
-						if (val != null) {
-							values.put(name, val);
-						}
-					}
-				} catch (ReflectionException e) {
-					// Field not found in source, keep default
-				}
-			}
-
-			// Build the record via canonical constructor using raw reflection
-			Class<?>[] paramTypes = new Class<?>[components.length];
-			Object[] args = new Object[components.length];
-			for (int i = 0; i < components.length; i++) {
-				paramTypes[i] = (Class<?>) components[i].getType().getType();
-				args[i] = values.get(components[i].getName());
+			return (destination) cachedConfig.generatedMapper().map(source, destObject);
+		} catch (RuntimeException e) {
+			if (this.configuration.failOnError()) {
+				throw new MapperException("Unable to do mapping, aborting", e);
 			}
-			java.lang.reflect.Constructor<?> ctor = ((Class<?>) destinationIClass.getType()).getDeclaredConstructor(paramTypes);
-			ctor.setAccessible(true);
-			return (destination) ctor.newInstance(args);
-
-		} catch (MapperException e) {
-			throw e;
-		} catch (Exception e) {
-			throw new MapperException("Record mapping failed: " + e.getMessage(),
-					e instanceof Exception ex ? ex : new RuntimeException(e));
+			// Replay the mapping rule by rule, so that only the failing rules are skipped
+			log.atWarn().log("Generated mapping failed, falling back to the mapping rules: {}", e.getMessage());
+			return this.doMapping(MappingDirection.REGULAR, destinationIClass, destObject, source,
+					cachedConfig.destinationExecutors(), cachedConfig.recordPlan());
 		}
 	}
 
-	private static Object defaultValueForClass(IClass<?> type) {
-		if (type.isPrimitive()) {
-			String name = type.getName();
-			return switch (name) {
-				case "int" -> 0;
-				case "long" -> 0L;
-				case "double" -> 0.0;
-				case "float" -> 0.0f;
-				case "boolean" -> false;
-				case "byte" -> (byte) 0;
-				case "short" -> (short) 0;
-				case "char" -> '\0';
-				default -> null;
-			};
+	@SuppressWarnings("unchecked")
+	private <destination> destination doRecordMapping(IClass<destination> destinationIClass, Object source,
+			RecordMappingPlan recordPlan) throws MapperException {
+		if (recordPlan == null) {
+			recordPlan = RecordMappingPlan.create(this.reflection, this.reflection.getClass(source.getClass()),
+					destinationIClass);
 		}
-		return null;
+		return (destination) recordPlan.map(source);
 	}
 
 	private MappingDirection determineMapingDirection(List<MappingRule> sourceRules,
@@ -307,7 +377,31 @@ public class Mapper implements IMapper {
 		List<IMappingRuleExecutor> srcExecutors = precomputeExecutors(MappingDirection.REVERSE,
 				sourceRules, source, destination);
 
-		return new CachedMappingConfiguration(mappingConfig, destExecutors, srcExecutors);
+		return new CachedMappingConfiguration(mappingConfig, destExecutors, srcExecutors,
+				this.generatedMapper(mappingDirection, source, destination, destExecutors),
+				this.recordPlan(source, destination), MappingGraph.acyclicClasses(source));
+	}
+
+	private RecordMappingPlan recordPlan(IClass<?> source, IClass<?> destination) {
+		if (!destination.isRecord()) {
+			return null;
+		}
+		try {
+			return RecordMappingPlan.create(this.reflection, source, destination);
+		} catch (MapperException e) {
+			// Reported when mapping
+			log.atDebug().log("Unable to plan record mapping {} -> {}: {}", source.getSimpleName(),
+					destination.getSimpleName(), e.getMessage());
+			return null;
+		}
+	}
+
+	private IGeneratedMapper<Object, Object> generatedMapper(MappingDirection direction, IClass<?> source,
+			IClass<?> destination, List<IMappingRuleExecutor> destExecutors) {
+		if (direction != MappingDirection.REGULAR || !this.configuration.generatedMappers()) {
+			return null;
+		}
+		return GeneratedMappers.find(source, destination, destExecutors);
 	}
 
 	private List<MappingRule> complementRules(List<MappingRule> annotatedRules, List<MappingRule> conventionRules) {
@@ -441,7 +535,10 @@ public class Mapper implements IMapper {
 		List<IMappingRuleExecutor> srcExecutors = precomputeExecutors(MappingDirection.REVERSE,
 				config.sourceRules(), config.source(), config.destination());
 
-		this.mappingConfigurations.put(key, new CachedMappingConfiguration(config, destExecutors, srcExecutors));
+		this.mappingConfigurations.put(key, new CachedMappingConfiguration(config, destExecutors, srcExecutors,
+				this.generatedMapper(config.mappingDirection(), config.source(), config.destination(), destExecutors),
+				this.recordPlan(config.source(), config.destination()),
+				MappingGraph.acyclicClasses(config.source())));
 	}
 
 	@Override
@@ -484,6 +581,140 @@ public class Mapper implements IMapper {
 		}
 	}
 
+	private void notifyBeforeBulkMapping(int sourceCount, IClass<?> destClass) {
+		for (IMappingListener listener : this.listeners) {
+			try {
+				listener.onBeforeBulkMapping(sourceCount, destClass);
+			} catch (Exception e) {
+				log.atWarn().log("Listener onBeforeBulkMapping failed: {}", e.getMessage());
+			}
+		}
+	}
+
+	private void notifyAfterBulkMapping(int sourceCount, IClass<?> destClass, long durationNanos) {
+		for (IMappingListener listener : this.listeners) {
+			try {
+				listener.onAfterBulkMapping(sourceCount, destClass, durationNanos);
+			} catch (Exception e) {
+				log.atWarn().log("Listener onAfterBulkMapping failed: {}", e.getMessage());
+			}
+		}
+	}
+
+	private record Resolved(Class<?> sourceType, CachedMappingConfiguration config) {
+	}
+
+	/**
+	 * Maps sources to one destination class, resolving the configuration once per
+	 * source class. Shared by the tasks of a parallel bulk mapping.
+	 */
+	private final class Bulk<destination> {
+
+		private final IClass<destination> destinationClass;
+		private final boolean reuseMappedInstances;
+		private final LongAdder rules = new LongAdder();
+		// Last resolved configuration, immutable so that threads can share it
+		private Resolved resolved;
+
+		private Bulk(IClass<destination> destinationClass) {
+			this.destinationClass = destinationClass;
+			this.reuseMappedInstances = configuration.reuseMappedInstances();
+		}
+
+		/**
+		 * Runs root mappings on the current thread within their own context, restoring
+		 * the one of the thread afterwards.
+		 */
+		private void inOwnContext(Runnable mappings) {
+			MappingContext previous = CONTEXT.get();
+			CONTEXT.set(new MappingContext(null, this.reuseMappedInstances));
+			try {
+				mappings.run();
+			} finally {
+				if (previous == null) {
+					CONTEXT.remove();
+				} else {
+					CONTEXT.set(previous);
+				}
+			}
+		}
+
+		private CachedMappingConfiguration configuration(Object source) throws MapperException {
+			Resolved resolved = this.resolved;
+			if (resolved == null || resolved.sourceType() != source.getClass()) {
+				resolved = new Resolved(source.getClass(), getCachedMappingConfiguration(
+						reflection.getClass(source.getClass()), this.destinationClass));
+				this.resolved = resolved;
+			}
+			return resolved.config();
+		}
+
+		/**
+		 * Maps a source within the mapping context of the current thread, reset first
+		 * when each source is a root mapping.
+		 */
+		private destination map(Object source, boolean root) throws MapperException {
+			if (source == null) {
+				return null;
+			}
+			try {
+				CachedMappingConfiguration cachedConfig = this.configuration(source);
+				MappingContext context = CONTEXT.get();
+				if (root) {
+					context.reset(cachedConfig.acyclicClasses());
+				}
+				destination result = mapInContext(context, cachedConfig, this.destinationClass, null, source);
+				this.rules.add(rulesCount(cachedConfig));
+				return result;
+			} catch (MapperException e) {
+				if (root) {
+					notifyMappingError(source, this.destinationClass, e);
+				}
+				throw new MapperException(e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Maps a slice of the sources of a parallel bulk mapping, splitting it in halves
+	 * until it is small enough.
+	 */
+	private static final class BulkTask<destination> extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient Mapper.Bulk<destination> bulk;
+		private final transient List<?> sources;
+		private final transient Object[] results;
+		private final int from;
+		private final int to;
+		private final int slice;
+
+		private BulkTask(Mapper.Bulk<destination> bulk, List<?> sources, Object[] results, int from, int to, int slice) {
+			this.bulk = bulk;
+			this.sources = sources;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+			this.slice = slice;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= this.slice) {
+				this.bulk.inOwnContext(() -> {
+					for (int i = this.from; i < this.to; i++) {
+						this.results[i] = this.bulk.map(this.sources.get(i), true);
+					}
+				});
+				return;
+			}
+			int middle = (this.from + this.to) >>> 1;
+			invokeAll(new BulkTask<>(this.bulk, this.sources, this.results, this.from, middle, this.slice),
+					new BulkTask<>(this.bulk, this.sources, this.results, middle, this.to, this.slice));
+		}
+	}
+
 	private static class MapperRuntimeException extends RuntimeException {
 		public MapperRuntimeException(String message, MapperException cause) {
 			super(message, cause);
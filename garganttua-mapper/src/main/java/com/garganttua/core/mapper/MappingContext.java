@@ -0,0 +1,125 @@
+package com.garganttua.core.mapper;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * State of a root mapping, shared by its nested mappings on the thread running
+ * it.
+ *
+ * <p>
+ * A source is part of a cycle when it is being mapped by an enclosing mapping.
+ * The sources being mapped are kept as a path: the first ones are found by
+ * scanning it, the deeper ones through an identity map. A root source whose
+ * object graphs cannot hold cycles, as computed by {@link MappingGraph}, is not
+ * tracked, until a nested source of a class outside of these graphs is met.
+ * </p>
+ *
+ * <p>
+ * When mapped instances are reused, the destination of each source is kept so
+ * that a source referenced twice is mapped once.
+ * </p>
+ */
+final class MappingContext {
+
+	// Sources of the path found by scanning it before looking into the identity map
+	private static final int SCANNED_DEPTH = 16;
+
+	private final boolean reuseMappedInstances;
+	// Classes of the root graph while it needs no tracking, null once tracking
+	private Set<Class<?>> untrackedClasses;
+	private Object[] path = new Object[SCANNED_DEPTH];
+	private int depth;
+	// Sources of the path deeper than the scanned ones
+	private Map<Object, Boolean> deepPath;
+	private Map<Object, Object> destinations;
+
+	MappingContext(Set<Class<?>> acyclicClasses, boolean reuseMappedInstances) {
+		this.reuseMappedInstances = reuseMappedInstances;
+		this.untrackedClasses = reuseMappedInstances ? null : acyclicClasses;
+	}
+
+	/**
+	 * Resets the context for a new root mapping.
+	 */
+	void reset(Set<Class<?>> acyclicClasses) {
+		this.untrackedClasses = this.reuseMappedInstances ? null : acyclicClasses;
+		Arrays.fill(this.path, 0, this.depth, null);
+		this.depth = 0;
+		if (this.deepPath != null) {
+			this.deepPath.clear();
+		}
+		if (this.destinations != null) {
+			this.destinations.clear();
+		}
+	}
+
+	/**
+	 * Enters the mapping of the given source.
+	 *
+	 * @return false if the source is being mapped by an enclosing mapping
+	 */
+	boolean enter(Object source) {
+		if (this.untrackedClasses != null) {
+			if (this.untrackedClasses.contains(source.getClass())) {
+				return true;
+			}
+			// Outside of the analyzed graphs, track from there on
+			this.untrackedClasses = null;
+		}
+		int scanned = Math.min(this.depth, SCANNED_DEPTH);
+		for (int i = 0; i < scanned; i++) {
+			if (this.path[i] == source) {
+				return false;
+			}
+		}
+		if (this.depth >= SCANNED_DEPTH) {
+			if (this.deepPath == null) {
+				this.deepPath = new IdentityHashMap<>();
+			}
+			if (this.deepPath.putIfAbsent(source, Boolean.TRUE) != null) {
+				return false;
+			}
+		}
+		if (this.depth == this.path.length) {
+			this.path = Arrays.copyOf(this.path, this.depth * 2);
+		}
+		this.path[this.depth++] = source;
+		return true;
+	}
+
+	/**
+	 * Exits the mapping of the given source, entered successfully.
+	 */
+	void exit(Object source) {
+		if (this.depth == 0 || this.path[this.depth - 1] != source) {
+			// Not tracked
+			return;
+		}
+		this.path[--this.depth] = null;
+		if (this.depth >= SCANNED_DEPTH) {
+			this.deepPath.remove(source);
+		}
+	}
+
+	/**
+	 * Returns the destination the given source has been mapped to, if mapped
+	 * instances are reused.
+	 */
+	Object destinationOf(Object source) {
+		return this.destinations == null ? null : this.destinations.get(source);
+	}
+
+	void mapped(Object source, Object destination) {
+		if (!this.reuseMappedInstances || destination == null) {
+			return;
+		}
+		if (this.destinations == null) {
+			this.destinations = new IdentityHashMap<>();
+		}
+		this.destinations.put(source, destination);
+	}
+
+}
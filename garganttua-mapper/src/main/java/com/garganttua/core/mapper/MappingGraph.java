@@ -0,0 +1,158 @@
+package com.garganttua.core.mapper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.garganttua.core.reflection.IClass;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Static analysis of the object graphs a source class can hold, telling whether
+ * mapping them needs cycle detection.
+ *
+ * <p>
+ * The analysis follows the fields of the source class and of its superclasses,
+ * the elements of their arrays, collections and maps, and the fields of the
+ * classes they declare, down to JDK and enum types. Each class is linked to the
+ * classes of its fields and to the analyzed subclasses of these. The graphs
+ * cannot hold cycles when these links have none and every field declares a
+ * concrete class: a field of an interface, abstract, generic or {@code Object}
+ * type may reference anything.
+ * </p>
+ */
+@Slf4j
+final class MappingGraph {
+
+	private MappingGraph() {
+	}
+
+	/**
+	 * Returns the classes of the objects the graphs of the given source class can
+	 * hold, when these graphs cannot hold cycles.
+	 *
+	 * @return the classes, or null when the graphs may hold cycles
+	 */
+	static Set<Class<?>> acyclicClasses(IClass<?> source) {
+		if (!(source.getType() instanceof Class<?> sourceClass)) {
+			return null;
+		}
+		Map<Class<?>, Set<Class<?>>> links = new LinkedHashMap<>();
+		if (!collect(sourceClass, links)) {
+			log.atDebug().log("Object graphs of {} may reference any class", sourceClass.getSimpleName());
+			return null;
+		}
+		// An object of a class can reference the objects of the subclasses of its field classes
+		for (Set<Class<?>> targets : links.values()) {
+			for (Class<?> target : List.copyOf(targets)) {
+				for (Class<?> candidate : links.keySet()) {
+					if (target.isAssignableFrom(candidate)) {
+						targets.add(candidate);
+					}
+				}
+			}
+		}
+		Map<Class<?>, Boolean> onPath = new HashMap<>();
+		for (Class<?> type : links.keySet()) {
+			if (hasCycle(type, links, onPath)) {
+				log.atDebug().log("Object graphs of {} may hold cycles through {}", sourceClass.getSimpleName(),
+						type.getSimpleName());
+				return null;
+			}
+		}
+		return Set.copyOf(links.keySet());
+	}
+
+	private static boolean collect(Class<?> type, Map<Class<?>, Set<Class<?>>> links) {
+		if (links.containsKey(type)) {
+			return true;
+		}
+		Set<Class<?>> targets = new LinkedHashSet<>();
+		links.put(type, targets);
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+					continue;
+				}
+				if (!targets(field.getGenericType(), targets)) {
+					return false;
+				}
+			}
+		}
+		for (Class<?> target : List.copyOf(targets)) {
+			if (!collect(target, links)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Adds the classes whose fields an object of the given type can lead to.
+	 *
+	 * @return false when the type may reference any class
+	 */
+	private static boolean targets(Type type, Set<Class<?>> targets) {
+		if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+			if (Collection.class.isAssignableFrom(raw) || Map.class.isAssignableFrom(raw)) {
+				for (Type argument : parameterized.getActualTypeArguments()) {
+					if (!targets(argument, targets)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			return targets(raw, targets);
+		}
+		if (type instanceof GenericArrayType array) {
+			return targets(array.getGenericComponentType(), targets);
+		}
+		if (!(type instanceof Class<?> clazz)) {
+			// Type variable or wildcard
+			return false;
+		}
+		if (clazz.isArray()) {
+			return targets(clazz.getComponentType(), targets);
+		}
+		if (clazz.isPrimitive() || clazz.isEnum()) {
+			return true;
+		}
+		if (clazz == Object.class || Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz)) {
+			return false;
+		}
+		if (clazz.getName().startsWith("java.") || clazz.getName().startsWith("javax.")) {
+			return true;
+		}
+		if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
+			return false;
+		}
+		targets.add(clazz);
+		return true;
+	}
+
+	private static boolean hasCycle(Class<?> type, Map<Class<?>, Set<Class<?>>> links, Map<Class<?>, Boolean> onPath) {
+		Boolean state = onPath.get(type);
+		if (state != null) {
+			return state;
+		}
+		onPath.put(type, true);
+		for (Class<?> target : links.get(type)) {
+			if (hasCycle(target, links, onPath)) {
+				return true;
+			}
+		}
+		onPath.put(type, false);
+		return false;
+	}
+
+}
@@ -0,0 +1,135 @@
+package com.garganttua.core.mapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.IReflection;
+import com.garganttua.core.reflection.ObjectAddress;
+import com.garganttua.core.reflection.ReflectionException;
+import com.garganttua.core.reflection.fields.FieldAccessor;
+import com.garganttua.core.reflection.fields.ResolvedField;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plan building a record from a source object, computed once per source and
+ * record classes.
+ *
+ * <p>
+ * For each record component, in the order of the canonical constructor, the plan
+ * holds the default value of its type and the accessor of the source field of the
+ * same name, if the source has one. The canonical constructor is bound to a method
+ * handle taking the arguments as an array. Mapping a source then fills a copy of
+ * the default values with the non-null source values and calls the constructor.
+ * </p>
+ */
+@Slf4j
+final class RecordMappingPlan {
+
+	private final Object[] defaults;
+	// Null for the components without source field
+	private final FieldAccessor<Object>[] accessors;
+	private final MethodHandle constructor;
+
+	private RecordMappingPlan(Object[] defaults, FieldAccessor<Object>[] accessors, MethodHandle constructor) {
+		this.defaults = defaults;
+		this.accessors = accessors;
+		this.constructor = constructor;
+	}
+
+	/**
+	 * Computes the plan building the given record from the given source class.
+	 *
+	 * @throws MapperException if the canonical constructor cannot be bound
+	 */
+	@SuppressWarnings("unchecked")
+	static RecordMappingPlan create(IReflection reflection, IClass<?> source, IClass<?> record)
+			throws MapperException {
+		var components = record.getRecordComponents();
+		Object[] defaults = new Object[components.length];
+		FieldAccessor<Object>[] accessors = new FieldAccessor[components.length];
+		Class<?>[] parameterTypes = new Class<?>[components.length];
+
+		for (int i = 0; i < components.length; i++) {
+			String name = components[i].getName();
+			defaults[i] = defaultValueForClass(components[i].getType());
+			parameterTypes[i] = (Class<?>) components[i].getType().getType();
+			try {
+				List<Object> sourceFields = reflection.query(source).find(new ObjectAddress(name));
+				if (!sourceFields.isEmpty() && sourceFields.get(sourceFields.size() - 1) instanceof IField sourceField) {
+					accessors[i] = new FieldAccessor<>(
+							new ResolvedField(new ObjectAddress(name, false), List.of(sourceField)));
+				}
+			} catch (ReflectionException e) {
+				// Field not found in source, keep default
+			}
+		}
+
+		try {
+			Constructor<?> canonical = ((Class<?>) record.getType()).getDeclaredConstructor(parameterTypes);
+			canonical.setAccessible(true);
+			MethodHandle constructor = MethodHandles.lookup().unreflectConstructor(canonical)
+					.asSpreader(Object[].class, components.length)
+					.asType(MethodType.methodType(Object.class, Object[].class));
+			log.atDebug().log("Record mapping plan computed: {} -> {}", source.getSimpleName(), record.getSimpleName());
+			return new RecordMappingPlan(defaults, accessors, constructor);
+		} catch (Exception e) {
+			throw new MapperException("Record mapping failed: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Builds a record from the given source.
+	 *
+	 * @throws MapperException if the record cannot be built
+	 */
+	Object map(Object source) throws MapperException {
+		Object[] args = this.defaults.clone();
+		for (int i = 0; i < args.length; i++) {
+			FieldAccessor<Object> accessor = this.accessors[i];
+			if (accessor == null) {
+				continue;
+			}
+			try {
+				Object value = accessor.getValue(source).single();
+				if (value != null) {
+					args[i] = value;
+				}
+			} catch (ReflectionException e) {
+				// Field not readable from source, keep default
+			}
+		}
+		try {
+			return (Object) this.constructor.invokeExact(args);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new MapperException("Record mapping failed: " + e.getMessage(),
+					e instanceof Exception ex ? ex : new RuntimeException(e));
+		}
+	}
+
+	private static Object defaultValueForClass(IClass<?> type) {
+		if (type.isPrimitive()) {
+			String name = type.getName();
+			return switch (name) {
+				case "int" -> 0;
+				case "long" -> 0L;
+				case "double" -> 0.0;
+				case "float" -> 0.0f;
+				case "boolean" -> false;
+				case "byte" -> (byte) 0;
+				case "short" -> (short) 0;
+				case "char" -> '\0';
+				default -> null;
+			};
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,141 @@
+package com.garganttua.core.mapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mapper synthesized at runtime for a pair of classes whose rules only copy fields
+ * to fields of the same or of a wider type.
+ *
+ * <p>
+ * The copies are composed once into a single method handle taking the destination
+ * and the source: each copy filters the source through the getter handle of its
+ * source field into the setter handle of its destination field, and the copies are
+ * chained with {@link MethodHandles#foldArguments}. A mapping then reads and writes
+ * the fields without reflective accessors nor intermediate values.
+ * </p>
+ */
+@Slf4j
+final class SynthesizedMapper implements IGeneratedMapper<Object, Object> {
+
+	private static final MethodType COPY_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final Class<Object> sourceClass;
+	private final Class<Object> destinationClass;
+	private final String[] mappedFields;
+	// Null when the destination has no constructor without arguments
+	private final MethodHandle constructor;
+	private final MethodHandle copy;
+
+	@SuppressWarnings("unchecked")
+	private SynthesizedMapper(Class<?> sourceClass, Class<?> destinationClass, String[] mappedFields,
+			MethodHandle constructor, MethodHandle copy) {
+		this.sourceClass = (Class<Object>) sourceClass;
+		this.destinationClass = (Class<Object>) destinationClass;
+		this.mappedFields = mappedFields;
+		this.constructor = constructor;
+		this.copy = copy;
+	}
+
+	/**
+	 * Synthesizes the mapper copying each source field to the destination field at
+	 * the same index.
+	 *
+	 * @return the mapper, or null when a field cannot be copied by a method handle
+	 */
+	static SynthesizedMapper synthesize(Class<?> sourceClass, Class<?> destinationClass, List<Field> sourceFields,
+			List<Field> destinationFields) {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		String[] mappedFields = new String[sourceFields.size()];
+		MethodHandle copy = MethodHandles.empty(COPY_TYPE);
+		try {
+			for (int i = 0; i < mappedFields.length; i++) {
+				Field sourceField = sourceFields.get(i);
+				Field destinationField = destinationFields.get(i);
+				Class<?> type = destinationField.getType();
+				if (Modifier.isStatic(sourceField.getModifiers()) || Modifier.isStatic(destinationField.getModifiers())
+						|| Modifier.isFinal(destinationField.getModifiers())
+						|| !type.isAssignableFrom(sourceField.getType())
+						|| !sourceField.getDeclaringClass().isAssignableFrom(sourceClass)
+						|| !destinationField.getDeclaringClass().isAssignableFrom(destinationClass)) {
+					log.atDebug().log("Field {} cannot be copied to {} by a synthesized mapper", sourceField, destinationField);
+					return null;
+				}
+				MethodHandle getter = MethodHandles.privateLookupIn(sourceField.getDeclaringClass(), lookup)
+						.unreflectGetter(sourceField);
+				getter = getter.asType(getter.type().changeReturnType(type));
+				MethodHandle setter = MethodHandles.privateLookupIn(destinationField.getDeclaringClass(), lookup)
+						.unreflectSetter(destinationField);
+				MethodHandle fieldCopy = MethodHandles.filterArguments(setter, 1, getter).asType(COPY_TYPE);
+				// Runs the previous copies, then this one
+				copy = MethodHandles.foldArguments(fieldCopy, copy);
+				mappedFields[i] = sourceField.getName() + "->" + destinationField.getName();
+			}
+		} catch (IllegalAccessException e) {
+			log.atDebug().log("Unable to synthesize mapper {} -> {}: {}", sourceClass.getSimpleName(),
+					destinationClass.getSimpleName(), e.getMessage());
+			return null;
+		}
+		return new SynthesizedMapper(sourceClass, destinationClass, mappedFields, constructor(lookup, destinationClass),
+				copy);
+	}
+
+	private static MethodHandle constructor(MethodHandles.Lookup lookup, Class<?> destinationClass) {
+		if (Modifier.isAbstract(destinationClass.getModifiers())) {
+			return null;
+		}
+		try {
+			return MethodHandles.privateLookupIn(destinationClass, lookup)
+					.findConstructor(destinationClass, MethodType.methodType(void.class))
+					.asType(MethodType.methodType(Object.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public Class<Object> sourceClass() {
+		return this.sourceClass;
+	}
+
+	@Override
+	public Class<Object> destinationClass() {
+		return this.destinationClass;
+	}
+
+	@Override
+	public String[] mappedFields() {
+		return this.mappedFields.clone();
+	}
+
+	@Override
+	public Object map(Object source, Object destination) throws MapperException {
+		try {
+			if (destination == null) {
+				if (this.constructor == null) {
+					throw new MapperException("No constructor without arguments to create " + this.destinationClass.getName());
+				}
+				destination = (Object) this.constructor.invokeExact();
+			}
+			this.copy.invokeExact(destination, source);
+			return destination;
+		} catch (MapperException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new MapperException("Synthesized mapping failed: " + e.getMessage(),
+					e instanceof Exception ex ? ex : new RuntimeException(e));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SynthesizedMapper[" + this.sourceClass.getSimpleName() + " -> " + this.destinationClass.getSimpleName() + "]";
+	}
+
+}
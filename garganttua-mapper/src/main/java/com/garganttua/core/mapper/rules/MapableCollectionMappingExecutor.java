@@ -65,7 +65,7 @@ public class MapableCollectionMappingExecutor implements IMappingRuleExecutor {
 		this.collectionClass = reflection.getClass(Collection.class);
 	}
 
-	@SuppressWarnings({ "rawtypes"})
+	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public <destination> destination doMapping(IClass<destination> destinationClass, destination destinationObject,
 			Object sourceObject) throws MapperException {
@@ -91,10 +91,7 @@ public class MapableCollectionMappingExecutor implements IMappingRuleExecutor {
 			Collection sourceCollection = (Collection) sourceFieldObject;
 
 			IClass<?> genericType = getFieldGenericType(this.destinationField, 0);
-			for (Object item: sourceCollection) {
-				destination destinationItem = (destination) this.mapper.map(item, genericType);
-				((Collection) destinationFieldObject).add(destinationItem);
-			}
+			((Collection) destinationFieldObject).addAll(this.mapper.mapAll(sourceCollection, genericType));
 
 			this.destinationFieldAccessor.setValue(destinationObject,
 					SingleFieldValue.of(destinationFieldObject, (IClass<Object>) this.destinationField.getType()));
@@ -58,4 +58,12 @@ public class SimpleFieldMappingExecutor implements IMappingRuleExecutor {
 		return destinationObject;
 	}
 
+	public IField getSourceField() {
+		return this.sourceField;
+	}
+
+	public IField getDestinationField() {
+		return this.destinationField;
+	}
+
 }
@@ -0,0 +1,191 @@
+package com.garganttua.core.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IReflection;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+import lombok.Data;
+
+class BulkMappingTest {
+
+	private static IReflection reflection;
+
+	@BeforeAll
+	static void setUp() throws Exception {
+		reflection = ReflectionBuilder.builder()
+				.withProvider(new RuntimeReflectionProvider())
+				.build();
+		IClass.setReflection(reflection);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		IClass.setReflection(null);
+	}
+
+	@Data
+	static class BulkSource {
+		private String name;
+		private int index;
+	}
+
+	@Data
+	static class BulkDest {
+		private String name;
+		private int index;
+	}
+
+	private static List<BulkSource> sources(int count) {
+		return IntStream.range(0, count).mapToObj(i -> {
+			BulkSource source = new BulkSource();
+			source.setName("name" + i);
+			source.setIndex(i);
+			return source;
+		}).collect(Collectors.toList());
+	}
+
+	@Test
+	void testMapAllKeepsOrderAndNulls() throws MapperException {
+		Mapper mapper = new Mapper(reflection);
+		List<BulkSource> sources = new LinkedList<>(sources(3));
+		sources.add(1, null);
+
+		List<BulkDest> dests = mapper.mapAll(sources, reflection.getClass(BulkDest.class));
+
+		assertEquals(4, dests.size());
+		assertEquals("name0", dests.get(0).getName());
+		assertNull(dests.get(1));
+		assertEquals(1, dests.get(2).getIndex());
+		assertEquals("name2", dests.get(3).getName());
+	}
+
+	@Test
+	void testMapIntoAppendsToDestinations() throws MapperException {
+		Mapper mapper = new Mapper(reflection);
+		BulkDest existing = new BulkDest();
+		List<BulkDest> dests = new ArrayList<>(List.of(existing));
+
+		List<BulkDest> result = mapper.mapInto(sources(2), reflection.getClass(BulkDest.class), dests);
+
+		assertSame(dests, result);
+		assertEquals(3, dests.size());
+		assertSame(existing, dests.get(0));
+		assertEquals("name1", dests.get(2).getName());
+	}
+
+	@Test
+	void testBulkMappingBatchesMetricsAndListeners() throws MapperException {
+		Mapper mapper = new Mapper(reflection);
+		AtomicInteger singleCount = new AtomicInteger();
+		AtomicInteger bulkCount = new AtomicInteger();
+		mapper.addListener(new IMappingListener() {
+			@Override
+			public void onBeforeMapping(Object source, IClass<?> destClass) {
+				singleCount.incrementAndGet();
+			}
+
+			@Override
+			public void onAfterMapping(Object source, Object dest, long durationNanos) {
+				singleCount.incrementAndGet();
+			}
+
+			@Override
+			public void onMappingError(Object source, IClass<?> destClass, Exception error) {
+				singleCount.incrementAndGet();
+			}
+
+			@Override
+			public void onBeforeBulkMapping(int sourceCount, IClass<?> destClass) {
+				bulkCount.addAndGet(sourceCount);
+			}
+
+			@Override
+			public void onAfterBulkMapping(int sourceCount, IClass<?> destClass, long durationNanos) {
+				bulkCount.addAndGet(sourceCount);
+			}
+		});
+
+		mapper.mapAll(sources(5), reflection.getClass(BulkDest.class));
+
+		assertEquals(0, singleCount.get());
+		assertEquals(10, bulkCount.get());
+		assertEquals(5, mapper.getMetrics().getTotalMappings());
+		assertEquals(10, mapper.getMetrics().getTotalRulesExecuted());
+	}
+
+	@Test
+	void testParallelMappingMatchesSequentialMapping() throws MapperException {
+		List<BulkSource> sources = sources(10_000);
+		Mapper sequential = new Mapper(reflection);
+		Mapper parallel = new Mapper(reflection).configure(MapperConfigurationItem.PARALLEL_MAPPING_THRESHOLD, 100);
+
+		List<BulkDest> expected = sequential.mapAll(sources, reflection.getClass(BulkDest.class));
+		List<BulkDest> actual = parallel.mapAll(sources, reflection.getClass(BulkDest.class));
+
+		assertEquals(expected, actual);
+		assertEquals(sources.size(), parallel.getMetrics().getTotalMappings());
+	}
+
+	@Test
+	void testSameSourceIsNotACycleAcrossElements() throws MapperException {
+		Mapper mapper = new Mapper(reflection).configure(MapperConfigurationItem.FAIL_ON_CYCLE, true);
+		BulkSource source = sources(1).get(0);
+
+		List<BulkDest> dests = mapper.mapAll(Arrays.asList(source, source), reflection.getClass(BulkDest.class));
+
+		assertEquals(2, dests.size());
+		assertNotSame(dests.get(0), dests.get(1));
+		assertEquals("name0", dests.get(1).getName());
+	}
+
+	@Test
+	void testBulkMappingFailureIsRecorded() {
+		Mapper mapper = new Mapper(reflection).configure(MapperConfigurationItem.AUTO_CONVENTION_MAPPING, false);
+		AtomicInteger errorCount = new AtomicInteger();
+		mapper.addListener(new IMappingListener() {
+			@Override
+			public void onBeforeMapping(Object source, IClass<?> destClass) {}
+
+			@Override
+			public void onAfterMapping(Object source, Object dest, long durationNanos) {}
+
+			@Override
+			public void onMappingError(Object source, IClass<?> destClass, Exception error) {
+				errorCount.incrementAndGet();
+			}
+		});
+
+		assertThrows(MapperException.class, () -> mapper.mapAll(sources(3), reflection.getClass(BulkDest.class)));
+		assertEquals(1, errorCount.get());
+		assertEquals(1, mapper.getMetrics().getFailedMappings());
+	}
+
+	@Test
+	void testMapStreamMapsLazily() throws MapperException {
+		Mapper mapper = new Mapper(reflection);
+
+		List<BulkDest> dests = mapper.mapStream(sources(4).stream(), reflection.getClass(BulkDest.class))
+				.limit(2)
+				.toList();
+
+		assertEquals(2, dests.size());
+		assertEquals("name1", dests.get(1).getName());
+		assertEquals(2, mapper.getMetrics().getTotalMappings());
+	}
+
+}
@@ -2,6 +2,8 @@ package com.garganttua.core.mapper;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,8 @@ import com.garganttua.core.reflection.dsl.ReflectionBuilder;
 import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
 
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
 class CycleDetectionTest {
 
@@ -96,4 +100,124 @@ class CycleDetectionTest {
 		assertNotNull(result);
 		assertEquals("A", result.getName());
 	}
+
+	@Data
+	static class LeafSource {
+		private String name;
+	}
+
+	@Data
+	static class Leaf {
+		@FieldMappingRule(sourceFieldAddress = "name")
+		private String name;
+	}
+
+	@Data
+	static class SharedSource {
+		private LeafSource left;
+		private LeafSource right;
+	}
+
+	@Data
+	static class Shared {
+		@FieldMappingRule(sourceFieldAddress = "left")
+		private Leaf left;
+
+		@FieldMappingRule(sourceFieldAddress = "right")
+		private Leaf right;
+	}
+
+	@Data
+	static class OwnerSource {
+		private String name;
+		private ItemSource item;
+	}
+
+	@Data
+	static class ItemSource {
+		private String name;
+	}
+
+	@Getter
+	@Setter
+	static class OwnedItemSource extends ItemSource {
+		private OwnerSource owner;
+	}
+
+	@Data
+	static class Owner {
+		@FieldMappingRule(sourceFieldAddress = "name")
+		private String name;
+
+		@FieldMappingRule(sourceFieldAddress = "item")
+		private OwnedItem item;
+	}
+
+	@Data
+	static class OwnedItem {
+		@FieldMappingRule(sourceFieldAddress = "name")
+		private String name;
+
+		@FieldMappingRule(sourceFieldAddress = "owner")
+		private Owner owner;
+	}
+
+	private static SharedSource sharedSource() {
+		LeafSource leaf = new LeafSource();
+		leaf.setName("leaf");
+		SharedSource source = new SharedSource();
+		source.setLeft(leaf);
+		source.setRight(leaf);
+		return source;
+	}
+
+	@Test
+	void testAcyclicClassesOfSourceGraphs() {
+		assertEquals(Set.of(SharedSource.class, LeafSource.class),
+				MappingGraph.acyclicClasses(reflection.getClass(SharedSource.class)));
+		assertEquals(Set.of(OwnerSource.class, ItemSource.class),
+				MappingGraph.acyclicClasses(reflection.getClass(OwnerSource.class)));
+		assertNull(MappingGraph.acyclicClasses(reflection.getClass(CycleSourceA.class)));
+		assertNull(MappingGraph.acyclicClasses(reflection.getClass(OwnedItemSource.class)));
+	}
+
+	@Test
+	void testSharedReferenceIsNotACycle() throws MapperException {
+		Mapper mapper = new Mapper(reflection);
+		mapper.configure(MapperConfigurationItem.FAIL_ON_CYCLE, true);
+
+		Shared result = mapper.map(sharedSource(), reflection.getClass(Shared.class));
+
+		assertEquals("leaf", result.getLeft().getName());
+		assertEquals("leaf", result.getRight().getName());
+		assertNotSame(result.getLeft(), result.getRight());
+	}
+
+	@Test
+	void testSharedReferenceReusesMappedInstance() throws MapperException {
+		Mapper mapper = new Mapper(reflection);
+		mapper.configure(MapperConfigurationItem.REUSE_MAPPED_INSTANCES, true);
+
+		Shared result = mapper.map(sharedSource(), reflection.getClass(Shared.class));
+
+		assertEquals("leaf", result.getLeft().getName());
+		assertSame(result.getLeft(), result.getRight());
+	}
+
+	@Test
+	void testCycleThroughSubclassOfAcyclicGraphIsDetected() {
+		Mapper mapper = new Mapper(reflection);
+		mapper.configure(MapperConfigurationItem.FAIL_ON_CYCLE, true);
+
+		OwnerSource owner = new OwnerSource();
+		OwnedItemSource item = new OwnedItemSource();
+		owner.setName("owner");
+		owner.setItem(item);
+		item.setName("item");
+		item.setOwner(owner); // cycle through a subclass of ItemSource
+
+		assertThrows(MapperException.class, () -> {
+			mapper.map(owner, reflection.getClass(Owner.class));
+		});
+	}
 }
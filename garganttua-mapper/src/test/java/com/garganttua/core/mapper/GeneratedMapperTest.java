@@ -0,0 +1,223 @@
+package com.garganttua.core.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.mapper.annotations.FieldMappingRule;
+import com.garganttua.core.mapper.annotations.MappedFrom;
+import com.garganttua.core.mapper.annotations.MappingIgnore;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IReflection;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+import lombok.Data;
+
+class GeneratedMapperTest {
+
+	private static IReflection reflection;
+
+	@BeforeAll
+	static void setUp() throws Exception {
+		reflection = ReflectionBuilder.builder()
+				.withProvider(new RuntimeReflectionProvider())
+				.build();
+		IClass.setReflection(reflection);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		IClass.setReflection(null);
+	}
+
+	@Data
+	static class PersonSource {
+		private String name;
+		private int age;
+		private long[] scores;
+	}
+
+	@Data
+	static class PersonDest {
+		private String name;
+		private int age;
+		private long[] scores;
+	}
+
+	static class AotSource {
+		String name;
+		int age;
+		String mail;
+	}
+
+	@MappedFrom(AotSource.class)
+	static class AotDest {
+		String name;
+		int age;
+
+		@FieldMappingRule(sourceFieldAddress = "mail")
+		String email;
+
+		@MappingIgnore
+		String internal;
+	}
+
+	@Data
+	static class NumberSource {
+		private String name;
+		private int count;
+	}
+
+	@Data
+	static class TextDest {
+		private String name;
+		private String count;
+	}
+
+	private static IGeneratedMapper<Object, Object> generatedMapper(Mapper mapper) {
+		return mapper.mappingConfigurations.values().iterator().next().generatedMapper();
+	}
+
+	@Test
+	void testConventionPairUsesSynthesizedMapper() throws MapperException {
+		PersonSource source = new PersonSource();
+		source.setName("Alice");
+		source.setAge(30);
+		source.setScores(new long[] { 1, 2 });
+
+		Mapper mapper = new Mapper(reflection);
+		PersonDest dest = mapper.map(source, reflection.getClass(PersonDest.class));
+
+		assertEquals("Alice", dest.getName());
+		assertEquals(30, dest.getAge());
+		assertSame(source.getScores(), dest.getScores());
+		assertInstanceOf(SynthesizedMapper.class, generatedMapper(mapper));
+		assertEquals(3, generatedMapper(mapper).mappedFields().length);
+	}
+
+	@Test
+	void testSynthesizedMapperFillsExistingDestination() throws MapperException {
+		PersonSource source = new PersonSource();
+		source.setName("Bob");
+		PersonDest existing = new PersonDest();
+		existing.setAge(12);
+
+		Mapper mapper = new Mapper(reflection);
+		PersonDest dest = mapper.map(source, existing);
+
+		assertSame(existing, dest);
+		assertEquals("Bob", dest.getName());
+		assertEquals(0, dest.getAge());
+	}
+
+	@Test
+	void testAnnotatedPairUsesCompiledMapper() throws MapperException {
+		AotSource source = new AotSource();
+		source.name = "Carol";
+		source.age = 41;
+		source.mail = "carol@example.com";
+
+		Mapper mapper = new Mapper(reflection);
+		AotDest dest = mapper.map(source, reflection.getClass(AotDest.class));
+
+		assertEquals("Carol", dest.name);
+		assertEquals(41, dest.age);
+		assertEquals("carol@example.com", dest.email);
+		assertNull(dest.internal);
+		assertTrue(generatedMapper(mapper).getClass().getSimpleName().startsWith("AOTMapper_"));
+	}
+
+	@Test
+	void testConvertingPairKeepsRuleExecutors() throws MapperException {
+		NumberSource source = new NumberSource();
+		source.setName("Dan");
+		source.setCount(7);
+
+		Mapper mapper = new Mapper(reflection);
+		TextDest dest = mapper.map(source, reflection.getClass(TextDest.class));
+
+		assertEquals("Dan", dest.getName());
+		assertEquals("7", dest.getCount());
+		assertNull(generatedMapper(mapper));
+	}
+
+	// Replaces the generated mappers of the mapper with ones that fail
+	private static void failGeneratedMappers(Mapper mapper) {
+		for (Map.Entry<?, CachedMappingConfiguration> entry : mapper.mappingConfigurations.entrySet()) {
+			CachedMappingConfiguration cached = entry.getValue();
+			entry.setValue(new CachedMappingConfiguration(cached.config(), cached.destinationExecutors(),
+					cached.sourceExecutors(), failing(cached.generatedMapper()), cached.recordPlan(),
+					cached.acyclicClasses()));
+		}
+	}
+
+	private static IGeneratedMapper<Object, Object> failing(IGeneratedMapper<Object, Object> generated) {
+		assertNotNull(generated);
+		return new IGeneratedMapper<>() {
+			@Override
+			public Class<Object> sourceClass() {
+				return generated.sourceClass();
+			}
+
+			@Override
+			public Class<Object> destinationClass() {
+				return generated.destinationClass();
+			}
+
+			@Override
+			public String[] mappedFields() {
+				return generated.mappedFields();
+			}
+
+			@Override
+			public Object map(Object source, Object destination) throws MapperException {
+				throw new MapperException("Generated mapper failure");
+			}
+		};
+	}
+
+	@Test
+	void testFailingGeneratedMapperFallsBackToRuleExecutors() throws MapperException {
+		PersonSource source = new PersonSource();
+		source.setName("Fay");
+		source.setAge(22);
+
+		Mapper mapper = new Mapper(reflection).configure(MapperConfigurationItem.FAIL_ON_ERROR, false);
+		mapper.map(source, reflection.getClass(PersonDest.class));
+		failGeneratedMappers(mapper);
+		PersonDest dest = mapper.map(source, reflection.getClass(PersonDest.class));
+
+		assertEquals("Fay", dest.getName());
+		assertEquals(22, dest.getAge());
+	}
+
+	@Test
+	void testFailingGeneratedMapperFailsOnError() throws MapperException {
+		PersonSource source = new PersonSource();
+		source.setName("Gus");
+
+		Mapper mapper = new Mapper(reflection);
+		mapper.map(source, reflection.getClass(PersonDest.class));
+		failGeneratedMappers(mapper);
+
+		assertThrows(MapperException.class, () -> mapper.map(source, reflection.getClass(PersonDest.class)));
+	}
+
+	@Test
+	void testGeneratedMappersCanBeDisabled() throws MapperException {
+		PersonSource source = new PersonSource();
+		source.setName("Eve");
+
+		Mapper mapper = new Mapper(reflection).configure(MapperConfigurationItem.GENERATED_MAPPERS, false);
+		PersonDest dest = mapper.map(source, reflection.getClass(PersonDest.class));
+
+		assertEquals("Eve", dest.getName());
+		assertNull(generatedMapper(mapper));
+	}
+
+}
@@ -92,4 +92,32 @@ class RecordMappingTest {
 		assertEquals(0, result.count()); // default
 		assertFalse(result.active()); // default
 	}
+
+	@Test
+	void testRecordPlanIsComputedOnceAndReused() throws MapperException {
+		Mapper mapper = new Mapper(reflection);
+
+		PartialPojo first = new PartialPojo();
+		first.setName("Carol");
+		PartialPojo second = new PartialPojo();
+
+		DefaultsRecord firstResult = mapper.map(first, reflection.getClass(DefaultsRecord.class));
+		RecordMappingPlan plan = mapper.mappingConfigurations.values().iterator().next().recordPlan();
+		DefaultsRecord secondResult = mapper.map(second, reflection.getClass(DefaultsRecord.class));
+
+		assertNotNull(plan);
+		assertSame(plan, mapper.mappingConfigurations.values().iterator().next().recordPlan());
+		assertEquals(new DefaultsRecord("Carol", 0, false), firstResult);
+		// The second mapping starts again from the default values
+		assertEquals(new DefaultsRecord(null, 0, false), secondResult);
+	}
+
+	@Test
+	void testNoRecordPlanForClasses() throws MapperException {
+		Mapper mapper = new Mapper(reflection);
+
+		mapper.map(new SimplePojo(), reflection.getClass(SimplePojo.class));
+
+		assertNull(mapper.mappingConfigurations.values().iterator().next().recordPlan());
+	}
 }
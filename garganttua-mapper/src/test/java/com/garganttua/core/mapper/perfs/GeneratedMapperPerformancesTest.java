@@ -0,0 +1,93 @@
+package com.garganttua.core.mapper.perfs;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.mapper.Mapper;
+import com.garganttua.core.mapper.MapperConfigurationItem;
+import com.garganttua.core.mapper.annotations.MappedFrom;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IReflection;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+/**
+ * Time and bytes allocated per mapping of the same pair, by the rule executors, by
+ * a mapper synthesized at runtime and by a mapper generated at compile time.
+ */
+@Disabled("Performances tests, too heavy for standard build")
+public class GeneratedMapperPerformancesTest {
+
+	private static final int WARMUP = 200_000;
+	private static final int ITERATIONS = 1_000_000;
+
+	static class Source {
+		String name = "name";
+		String email = "name@example.com";
+		int age = 42;
+		long id = 7L;
+		boolean active = true;
+		double score = 12.5;
+	}
+
+	static class Destination {
+		String name;
+		String email;
+		int age;
+		long id;
+		boolean active;
+		double score;
+	}
+
+	@MappedFrom(Source.class)
+	static class CompiledDestination {
+		String name;
+		String email;
+		int age;
+		long id;
+		boolean active;
+		double score;
+	}
+
+	@Test
+	public void testRuleExecutorsVersusGeneratedMappers() throws Exception {
+		IReflection reflection = ReflectionBuilder.builder()
+				.withProvider(new RuntimeReflectionProvider())
+				.build();
+		IClass.setReflection(reflection);
+		IClass<Destination> destination = reflection.getClass(Destination.class);
+		IClass<CompiledDestination> compiledDestination = reflection.getClass(CompiledDestination.class);
+		Source source = new Source();
+
+		Mapper executors = new Mapper(reflection).configure(MapperConfigurationItem.GENERATED_MAPPERS, false);
+		Mapper generated = new Mapper(reflection);
+
+		for (int i = 0; i < WARMUP; i++) {
+			executors.map(source, destination);
+			generated.map(source, destination);
+			generated.map(source, compiledDestination);
+		}
+
+		System.out.printf("%-12s %12s %14s%n", "Mode", "ns/map", "bytes/map");
+		report("executors", () -> executors.map(source, destination));
+		report("synthesized", () -> generated.map(source, destination));
+		report("compiled", () -> generated.map(source, compiledDestination));
+		IClass.setReflection(null);
+	}
+
+	private static void report(String mode, Runnable mapping) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		long bytes = threads.getThreadAllocatedBytes(thread);
+		long begin = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			mapping.run();
+		}
+		long elapsed = System.nanoTime() - begin;
+		bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+		System.out.printf("%-12s %12.1f %14.1f%n", mode, (double) elapsed / ITERATIONS, (double) bytes / ITERATIONS);
+	}
+}
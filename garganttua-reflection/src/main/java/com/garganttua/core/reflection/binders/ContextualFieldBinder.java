@@ -31,6 +31,8 @@ public class ContextualFieldBinder<OnwerType, FieldType, OwnerContextType, Field
     private final ISupplier<OnwerType> ownerSupplier;
     private final IReflectionProvider reflectionProvider;
     private final ResolvedField resolvedField;
+    @SuppressWarnings("rawtypes")
+    private final FieldAccessor accessor;
 
     public ContextualFieldBinder(ISupplier<OnwerType> ownerSupplier, ObjectAddress fieldAddress,
             ISupplier<FieldType> valueSupplier, IReflectionProvider reflectionProvider) throws ReflectionException {
@@ -40,6 +42,7 @@ public class ContextualFieldBinder<OnwerType, FieldType, OwnerContextType, Field
         this.valueSupplier = Objects.requireNonNull(valueSupplier, "Value supplier cannot be null");
         this.ownerSupplier = Objects.requireNonNull(ownerSupplier, "Owner supplier cannot be null");
         this.resolvedField = FieldResolver.fieldByAddress(ownerSupplier.getSuppliedClass(), reflectionProvider, fieldAddress);
+        this.accessor = new FieldAccessor<>(this.resolvedField);
         log.atDebug().log("ContextualFieldBinder created for field {}", fieldAddress);
     }
 
@@ -76,7 +79,7 @@ public class ContextualFieldBinder<OnwerType, FieldType, OwnerContextType, Field
 
             log.atDebug().log("Setting field {} value", address);
             IFieldValue wrappedValue = SingleFieldValue.of(value, (IClass) valueSupplier.getSuppliedClass());
-            new FieldAccessor(resolvedField).setValue(owner, wrappedValue);
+            this.accessor.setValue(owner, wrappedValue);
             log.atDebug().log("Successfully set field {} value", address);
 
         } catch (SupplyException e) {
@@ -98,7 +101,7 @@ public class ContextualFieldBinder<OnwerType, FieldType, OwnerContextType, Field
 
             log.atDebug().log("Getting field {} value", address);
             Object owner = ownerSupplier.supply().get();
-            IFieldValue<?> fieldValue = new FieldAccessor<>(resolvedField).getValue(owner);
+            IFieldValue<?> fieldValue = this.accessor.getValue(owner);
             FieldType value = (FieldType) fieldValue.first();
             log.atDebug().log("Successfully retrieved field {} value", address);
             return value;
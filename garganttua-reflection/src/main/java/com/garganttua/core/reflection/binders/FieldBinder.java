@@ -2,6 +2,7 @@ package com.garganttua.core.reflection.binders;
 
 import java.lang.reflect.Type;
 import java.util.Objects;
+import java.util.Optional;
 
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IField;
@@ -20,13 +21,16 @@ import com.garganttua.core.supply.SupplyException;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-public class FieldBinder<OnwerType, FieldType> implements IFieldBinder<OnwerType, FieldType> {
+public class FieldBinder<OnwerType, FieldType>
+        implements IFieldBinder<OnwerType, FieldType>, IExplicitOwnerFieldBinder<OnwerType> {
 
     private final ObjectAddress address;
     private final ISupplier<?> valueSupplier;
     private final ISupplier<OnwerType> ownerSupplier;
     private final IReflectionProvider reflectionProvider;
     private final ResolvedField resolvedField;
+    @SuppressWarnings("rawtypes")
+    private final FieldAccessor accessor;
 
     public FieldBinder(ISupplier<OnwerType> ownerSupplier, ObjectAddress fieldAddress,
             ISupplier<FieldType> valueSupplier, IReflectionProvider reflectionProvider) throws ReflectionException {
@@ -36,23 +40,34 @@ public class FieldBinder<OnwerType, FieldType> implements IFieldBinder<OnwerType
         this.ownerSupplier = Objects.requireNonNull(ownerSupplier, "Owner supplier cannot be null");
         this.reflectionProvider = Objects.requireNonNull(reflectionProvider, "Reflection provider cannot be null");
         this.resolvedField = FieldResolver.fieldByAddress(ownerSupplier.getSuppliedClass(), reflectionProvider, fieldAddress);
+        this.accessor = new FieldAccessor<>(this.resolvedField);
         log.atDebug().log("FieldBinder created for field {}", fieldAddress);
     }
 
-    @SuppressWarnings({"rawtypes"})
     @Override
     public void setValue() throws ReflectionException {
         log.atTrace().log("Setting value for field {}", address);
         try {
-            if (this.ownerSupplier.supply().isEmpty()) {
+            Optional<OnwerType> owner = this.ownerSupplier.supply();
+            if (owner.isEmpty()) {
                 log.atError().log("Owner supplier did not supply any object for field {}", address);
                 throw new ReflectionException("Owner supplier did not supply any object");
             }
+            this.setValueOn(owner.get());
+        } catch (SupplyException e) {
+            log.atError().log("Supply error setting field {}", address, e);
+            throw new ReflectionException(e);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    public void setValueOn(OnwerType owner) throws ReflectionException {
+        try {
             log.atDebug().log("Setting field {} value", address);
-            Object owner = ownerSupplier.supply().get();
             Object value = this.valueSupplier.supply().get();
             IFieldValue wrappedValue = SingleFieldValue.of(value, (IClass) valueSupplier.getSuppliedClass());
-            new FieldAccessor(resolvedField).setValue(owner, wrappedValue);
+            this.accessor.setValue(owner, wrappedValue);
             log.atDebug().log("Field {} value set successfully", address);
 
         } catch (SupplyException e) {
@@ -71,7 +86,7 @@ public class FieldBinder<OnwerType, FieldType> implements IFieldBinder<OnwerType
             }
 
             Object owner = ownerSupplier.supply().get();
-            IFieldValue<?> fieldValue = new FieldAccessor<>(resolvedField).getValue(owner);
+            IFieldValue<?> fieldValue = this.accessor.getValue(owner);
             FieldType value = (FieldType) fieldValue.first();
             log.atDebug().log("Field {} value retrieved: {}", address, value);
             return value;
@@ -0,0 +1,31 @@
+package com.garganttua.core.reflection.binders;
+
+import com.garganttua.core.reflection.ReflectionException;
+
+/**
+ * Field binder that can write to an explicit instance instead of the one supplied
+ * by its owner supplier.
+ *
+ * <p>
+ * Bean factories resolve their field binders once and then inject every instance
+ * they create through this interface. It is an optional capability rather than
+ * part of the {@link IFieldBinder} contract: {@link FieldBinder} implements it,
+ * contextual binders do not, so callers check for it and otherwise fall back to
+ * {@link IFieldBinder#setValue()}.
+ * </p>
+ *
+ * @param <OwnerType> the type of the object that owns the field
+ * @since 2.0.0-ALPHA02
+ */
+public interface IExplicitOwnerFieldBinder<OwnerType> {
+
+    /**
+     * Sets the field value on the given instance.
+     *
+     * @param owner the instance owning the field
+     * @throws ReflectionException if the field cannot be accessed, the value type
+     *                            is incompatible, or the field is final
+     */
+    void setValueOn(OwnerType owner) throws ReflectionException;
+
+}
@@ -0,0 +1,34 @@
+package com.garganttua.core.reflection.binders;
+
+import java.util.Optional;
+
+import com.garganttua.core.reflection.IMethodReturn;
+import com.garganttua.core.reflection.ReflectionException;
+
+/**
+ * Method binder that can be invoked on an explicit instance instead of the one
+ * supplied by its object supplier.
+ *
+ * <p>
+ * Bean factories resolve their post-construct binders once and then invoke them on
+ * every instance they create through this interface. It is an optional capability
+ * rather than part of the {@link IMethodBinder} contract: {@link MethodBinder}
+ * implements it, contextual binders do not, so callers check for it and otherwise
+ * fall back to {@link IMethodBinder#execute()}.
+ * </p>
+ *
+ * @param <Returned> the return type of the bound method
+ * @since 2.0.0-ALPHA02
+ */
+public interface IExplicitOwnerMethodBinder<Returned> {
+
+    /**
+     * Invokes the bound method on the given instance.
+     *
+     * @param owner the instance to invoke the method on
+     * @return the method return wrapped in an Optional
+     * @throws ReflectionException if the method cannot be invoked
+     */
+    Optional<IMethodReturn<Returned>> executeOn(Object owner) throws ReflectionException;
+
+}
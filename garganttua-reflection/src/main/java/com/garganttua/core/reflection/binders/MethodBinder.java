@@ -22,11 +22,13 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MethodBinder<Returned>
         extends ExecutableBinder<Returned>
-        implements IMethodBinder<Returned> {
+        implements IMethodBinder<Returned>, IExplicitOwnerMethodBinder<Returned> {
 
     private final ResolvedMethod method;
     private final ISupplier<?> objectSupplier;
     private final boolean collection;
+    // Built on first execution, then shared by every call
+    private volatile MethodInvoker<Object, Returned> invoker;
 
     public MethodBinder(ISupplier<?> objectSupplier,
             ResolvedMethod method,
@@ -89,12 +91,7 @@ public class MethodBinder<Returned>
         log.atTrace().log("Executing MethodBinder for method {}", method);
         Object[] args = this.buildArguments();
         try {
-            Optional<IMethodReturn<Returned>> result = execute(
-                    objectSupplier.supply().orElse(null),
-                    objectSupplier.getSuppliedClass(),
-                    this.method,
-                    collection,
-                    args);
+            Optional<IMethodReturn<Returned>> result = this.invoke(objectSupplier.supply().orElse(null), args);
             log.atDebug().log("MethodBinder execution completed for method {}", method);
             return result;
         } catch (SupplyException e) {
@@ -103,6 +100,35 @@ public class MethodBinder<Returned>
         }
     }
 
+    @Override
+    public Optional<IMethodReturn<Returned>> executeOn(Object owner) throws ReflectionException {
+        log.atTrace().log("Executing MethodBinder for method {} on given owner", method);
+        return this.invoke(owner, this.buildArguments());
+    }
+
+    private Optional<IMethodReturn<Returned>> invoke(Object owner, Object[] args) throws ReflectionException {
+        if (!Methods.isStatic(method))
+            Objects.requireNonNull(owner, "Owner cannot be null");
+        MethodInvoker<Object, Returned> invoker = this.invoker();
+        if (collection && owner instanceof Collection<?> col) {
+            List<IMethodReturn<Returned>> results = new ArrayList<>(col.size());
+            for (Object element : col) {
+                results.add(invoker.invoke(element, args));
+            }
+            return Optional.of(MultipleMethodReturn.ofMethodReturns(results, method.getReturnType()));
+        }
+        return Optional.ofNullable(invoker.invoke(owner, args));
+    }
+
+    private MethodInvoker<Object, Returned> invoker() throws ReflectionException {
+        MethodInvoker<Object, Returned> invoker = this.invoker;
+        if (invoker == null) {
+            invoker = new MethodInvoker<>(this.method);
+            this.invoker = invoker;
+        }
+        return invoker;
+    }
+
     @Override
     public String getExecutableReference() {
         log.atTrace().log("Getting executable reference for method {}", method);
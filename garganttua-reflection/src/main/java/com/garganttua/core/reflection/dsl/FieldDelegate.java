@@ -16,6 +16,7 @@ import com.garganttua.core.reflection.fields.FieldResolver;
 import com.garganttua.core.reflection.fields.Fields;
 import com.garganttua.core.reflection.fields.ResolvedField;
 import com.garganttua.core.reflection.fields.SingleFieldValue;
+import com.garganttua.core.reflection.query.ObjectQueryCache;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -135,8 +136,7 @@ class FieldDelegate {
 
     Object getFieldValue(Object object, ObjectAddress address, boolean force) throws ReflectionException {
         IClass<?> objectClass = provider.getClass(object.getClass());
-        ResolvedField resolved = FieldResolver.fieldByAddress(objectClass, provider, address);
-        var accessor = new FieldAccessor<>(resolved, force);
+        FieldAccessor<?> accessor = ObjectQueryCache.fieldAccessor(objectClass, provider, address, force);
         IFieldValue<?> result = accessor.getValue(object);
         if (result.hasException()) {
             throw new ReflectionException(
@@ -151,8 +151,8 @@ class FieldDelegate {
 
     void setFieldValue(Object object, ObjectAddress address, Object value, boolean force) throws ReflectionException {
         IClass<?> objectClass = provider.getClass(object.getClass());
-        ResolvedField resolved = FieldResolver.fieldByAddress(objectClass, provider, address);
-        var accessor = new FieldAccessor<>(resolved, force);
+        ResolvedField resolved = ObjectQueryCache.field(objectClass, provider, address);
+        FieldAccessor<Object> accessor = ObjectQueryCache.fieldAccessor(objectClass, provider, address, force);
         accessor.setValue(object, singleValue(value, resolved));
     }
 
@@ -207,7 +207,7 @@ class FieldDelegate {
 
     Optional<ObjectAddress> resolveFieldAddress(ObjectAddress address, IClass<?> entityClass) throws ReflectionException {
         try {
-            ResolvedField resolved = FieldResolver.fieldByAddress(entityClass, provider, address);
+            ResolvedField resolved = ObjectQueryCache.field(entityClass, provider, address);
             return Optional.ofNullable(resolved.address());
         } catch (ReflectionException e) {
             return Optional.empty();
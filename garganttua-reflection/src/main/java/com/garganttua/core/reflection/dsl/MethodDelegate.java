@@ -15,6 +15,7 @@ import com.garganttua.core.reflection.ReflectionException;
 import com.garganttua.core.reflection.methods.MethodInvoker;
 import com.garganttua.core.reflection.methods.MethodResolver;
 import com.garganttua.core.reflection.methods.ResolvedMethod;
+import com.garganttua.core.reflection.query.ObjectQueryCache;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -100,7 +101,7 @@ class MethodDelegate {
 
     Optional<IMethod> resolveMethod(IClass<?> ownerType, ObjectAddress methodAddress) throws ReflectionException {
         try {
-            ResolvedMethod resolved = MethodResolver.methodByAddress(ownerType, provider, methodAddress);
+            ResolvedMethod resolved = ObjectQueryCache.method(ownerType, provider, methodAddress);
             return Optional.of(resolved);
         } catch (ReflectionException e) {
             return Optional.empty();
@@ -169,13 +170,13 @@ class MethodDelegate {
         return invokeDeep(object, address, returnType, false, paramTypes, args);
     }
 
-    @SuppressWarnings("unchecked")
     <R> IMethodReturn<R> invokeDeep(Object object, ObjectAddress address, IClass<R> returnType, boolean force,
             IClass<?>[] paramTypes, Object... args)
             throws ReflectionException {
         IClass<?> ownerType = provider.getClass(object.getClass());
-        ResolvedMethod resolvedMethod = MethodResolver.methodByAddress(ownerType, provider, address, returnType, paramTypes);
-        return (IMethodReturn<R>) new MethodInvoker<>(resolvedMethod, force).invoke(object, args);
+        MethodInvoker<Object, R> invoker = ObjectQueryCache.methodInvoker(ownerType, provider, address, returnType, paramTypes,
+                force);
+        return invoker.invoke(object, args);
     }
 
     private static String buildMethodSignature(IMethod method) {
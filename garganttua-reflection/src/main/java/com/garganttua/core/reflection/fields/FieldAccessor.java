@@ -17,6 +17,8 @@ import com.garganttua.core.reflection.IFieldValue;
 import com.garganttua.core.reflection.ObjectAddress;
 import com.garganttua.core.reflection.ReflectionException;
 import com.garganttua.core.reflection.constructors.ConstructorAccessManager;
+import com.garganttua.core.reflection.invocation.IFieldHandle;
+import com.garganttua.core.reflection.invocation.Invocations;
 import com.garganttua.core.supply.ISupplier;
 import com.garganttua.core.supply.SupplyException;
 
@@ -30,6 +32,7 @@ public class FieldAccessor<T> implements ISupplier<IFieldValue<T>> {
 	private final ObjectAddress address;
 	private final IClass<T> fieldType;
 	private final boolean force;
+	private final IFieldHandle[] handles;
 
 	public FieldAccessor(ResolvedField resolvedField) throws ReflectionException {
 		this(resolvedField, false);
@@ -46,6 +49,10 @@ public class FieldAccessor<T> implements ISupplier<IFieldValue<T>> {
 		this.address = Objects.requireNonNull(resolvedField.address(), "Address cannot be null");
 		this.fieldType = (IClass<T>) ((IField) fieldPath.getLast()).getType();
 		this.force = force;
+		this.handles = new IFieldHandle[this.fieldPath.size()];
+		for (int i = 0; i < this.handles.length; i++) {
+			this.handles[i] = Invocations.field((IField) this.fieldPath.get(i));
+		}
 		log.atDebug().log("FieldAccessor initialized for ownerType={}, address={}, force={}", ownerType.getName(), address, force);
 	}
 
@@ -401,9 +408,18 @@ public class FieldAccessor<T> implements ISupplier<IFieldValue<T>> {
 		}
 	}
 
+	private IFieldHandle handleOf(IField field) {
+		for (IFieldHandle handle : this.handles) {
+			if (handle.field().equals(field)) {
+				return handle;
+			}
+		}
+		return Invocations.field(field);
+	}
+
 	private Object getFieldValue(Object object, IField field) throws ReflectionException {
-		try (var mgr = new FieldAccessManager(field, this.force)) {
-			return field.get(object);
+		try {
+			return handleOf(field).get(object);
 		} catch (IllegalAccessException | IllegalArgumentException e) {
 			throw new ReflectionException(
 					"Cannot get field " + field.getName() + " of object " + object.getClass().getName(), e);
@@ -411,8 +427,8 @@ public class FieldAccessor<T> implements ISupplier<IFieldValue<T>> {
 	}
 
 	private void setFieldValue(Object object, IField field, Object value) throws ReflectionException {
-		try (var mgr = new FieldAccessManager(field, this.force)) {
-			field.set(object, value);
+		try {
+			handleOf(field).set(object, value);
 		} catch (IllegalAccessException | IllegalArgumentException e) {
 			throw new ReflectionException(
 					"Cannot set field " + field.getName() + " of object " + object.getClass().getName()
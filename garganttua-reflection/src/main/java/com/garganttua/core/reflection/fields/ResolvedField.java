@@ -226,6 +226,11 @@ public record ResolvedField(ObjectAddress address, List<Object> fieldPath) imple
         field().setDouble(obj, d);
     }
 
+    @Override
+    public boolean isDirect() {
+        return field().isDirect();
+    }
+
     // --- AnnotatedElement (IClass overloads) ---
 
     @Override
@@ -0,0 +1,174 @@
+package com.garganttua.core.reflection.invocation;
+
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+import com.garganttua.core.reflection.IField;
+
+/**
+ * {@link IFieldHandle} of a field bound to generated code, reading and writing it
+ * through the accessors of the {@link IField} itself, without toggling
+ * accessibility.
+ *
+ * <p>
+ * Writes to {@code final} fields are not generated; they are delegated to a
+ * {@link ReflectiveFieldHandle}.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public final class DirectFieldHandle implements IFieldHandle {
+
+	private final IField field;
+	private final IFieldHandle fallback;
+
+	public DirectFieldHandle(IField field) {
+		this.field = Objects.requireNonNull(field, "Field cannot be null");
+		this.fallback = Modifier.isFinal(field.getModifiers()) ? new ReflectiveFieldHandle(field) : null;
+	}
+
+	@Override
+	public IField field() {
+		return this.field;
+	}
+
+	@Override
+	public InvocationMode mode() {
+		return InvocationMode.DIRECT;
+	}
+
+	// --- Object access ---
+
+	@Override
+	public Object get(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return this.field.get(target);
+	}
+
+	@Override
+	public void set(Object target, Object value) throws IllegalArgumentException, IllegalAccessException {
+		if (this.fallback != null) {
+			this.fallback.set(target, value);
+			return;
+		}
+		this.field.set(target, value);
+	}
+
+	// --- Primitive access ---
+
+	@Override
+	public boolean getBoolean(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return this.field.getBoolean(target);
+	}
+
+	@Override
+	public void setBoolean(Object target, boolean z) throws IllegalArgumentException, IllegalAccessException {
+		if (this.fallback != null) {
+			this.fallback.setBoolean(target, z);
+			return;
+		}
+		this.field.setBoolean(target, z);
+	}
+
+	@Override
+	public byte getByte(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return this.field.getByte(target);
+	}
+
+	@Override
+	public void setByte(Object target, byte b) throws IllegalArgumentException, IllegalAccessException {
+		if (this.fallback != null) {
+			this.fallback.setByte(target, b);
+			return;
+		}
+		this.field.setByte(target, b);
+	}
+
+	@Override
+	public char getChar(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return this.field.getChar(target);
+	}
+
+	@Override
+	public void setChar(Object target, char c) throws IllegalArgumentException, IllegalAccessException {
+		if (this.fallback != null) {
+			this.fallback.setChar(target, c);
+			return;
+		}
+		this.field.setChar(target, c);
+	}
+
+	@Override
+	public short getShort(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return this.field.getShort(target);
+	}
+
+	@Override
+	public void setShort(Object target, short s) throws IllegalArgumentException, IllegalAccessException {
+		if (this.fallback != null) {
+			this.fallback.setShort(target, s);
+			return;
+		}
+		this.field.setShort(target, s);
+	}
+
+	@Override
+	public int getInt(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return this.field.getInt(target);
+	}
+
+	@Override
+	public void setInt(Object target, int i) throws IllegalArgumentException, IllegalAccessException {
+		if (this.fallback != null) {
+			this.fallback.setInt(target, i);
+			return;
+		}
+		this.field.setInt(target, i);
+	}
+
+	@Override
+	public long getLong(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return this.field.getLong(target);
+	}
+
+	@Override
+	public void setLong(Object target, long l) throws IllegalArgumentException, IllegalAccessException {
+		if (this.fallback != null) {
+			this.fallback.setLong(target, l);
+			return;
+		}
+		this.field.setLong(target, l);
+	}
+
+	@Override
+	public float getFloat(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return this.field.getFloat(target);
+	}
+
+	@Override
+	public void setFloat(Object target, float f) throws IllegalArgumentException, IllegalAccessException {
+		if (this.fallback != null) {
+			this.fallback.setFloat(target, f);
+			return;
+		}
+		this.field.setFloat(target, f);
+	}
+
+	@Override
+	public double getDouble(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return this.field.getDouble(target);
+	}
+
+	@Override
+	public void setDouble(Object target, double d) throws IllegalArgumentException, IllegalAccessException {
+		if (this.fallback != null) {
+			this.fallback.setDouble(target, d);
+			return;
+		}
+		this.field.setDouble(target, d);
+	}
+
+	@Override
+	public String toString() {
+		return "DirectFieldHandle[" + this.field + "]";
+	}
+}
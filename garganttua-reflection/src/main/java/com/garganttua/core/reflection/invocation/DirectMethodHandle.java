@@ -0,0 +1,42 @@
+package com.garganttua.core.reflection.invocation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+
+import com.garganttua.core.reflection.IMethod;
+
+/**
+ * {@link IMethodHandle} of a method bound to generated code, calling
+ * {@link IMethod#invoke(Object, Object...)} without toggling accessibility.
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public final class DirectMethodHandle implements IMethodHandle {
+
+	private final IMethod method;
+
+	public DirectMethodHandle(IMethod method) {
+		this.method = Objects.requireNonNull(method, "Method cannot be null");
+	}
+
+	@Override
+	public IMethod method() {
+		return this.method;
+	}
+
+	@Override
+	public InvocationMode mode() {
+		return InvocationMode.DIRECT;
+	}
+
+	@Override
+	public Object invoke(Object target, Object... args)
+			throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		return this.method.invoke(target, args);
+	}
+
+	@Override
+	public String toString() {
+		return "DirectMethodHandle[" + this.method + "]";
+	}
+}
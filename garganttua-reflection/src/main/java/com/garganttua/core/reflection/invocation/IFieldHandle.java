@@ -0,0 +1,64 @@
+package com.garganttua.core.reflection.invocation;
+
+import com.garganttua.core.reflection.IField;
+
+/**
+ * Pre-bound accessor for a single {@link IField}.
+ *
+ * <p>
+ * A field handle is resolved once per field (see {@link Invocations#field(IField)})
+ * and can then be used to read or write the field without any accessibility
+ * toggling or member lookup on the hot path. Primitive getters and setters avoid
+ * boxing when the field is primitive and follow the widening rules of
+ * {@link java.lang.reflect.Field}.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public interface IFieldHandle {
+
+	IField field();
+
+	InvocationMode mode();
+
+	// --- Object access ---
+
+	Object get(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+	void set(Object target, Object value) throws IllegalArgumentException, IllegalAccessException;
+
+	// --- Primitive access ---
+
+	boolean getBoolean(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+	void setBoolean(Object target, boolean z) throws IllegalArgumentException, IllegalAccessException;
+
+	byte getByte(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+	void setByte(Object target, byte b) throws IllegalArgumentException, IllegalAccessException;
+
+	char getChar(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+	void setChar(Object target, char c) throws IllegalArgumentException, IllegalAccessException;
+
+	short getShort(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+	void setShort(Object target, short s) throws IllegalArgumentException, IllegalAccessException;
+
+	int getInt(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+	void setInt(Object target, int i) throws IllegalArgumentException, IllegalAccessException;
+
+	long getLong(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+	void setLong(Object target, long l) throws IllegalArgumentException, IllegalAccessException;
+
+	float getFloat(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+	void setFloat(Object target, float f) throws IllegalArgumentException, IllegalAccessException;
+
+	double getDouble(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+	void setDouble(Object target, double d) throws IllegalArgumentException, IllegalAccessException;
+
+}
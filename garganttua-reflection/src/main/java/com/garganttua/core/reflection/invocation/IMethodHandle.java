@@ -0,0 +1,28 @@
+package com.garganttua.core.reflection.invocation;
+
+import java.lang.reflect.InvocationTargetException;
+
+import com.garganttua.core.reflection.IMethod;
+
+/**
+ * Pre-bound invoker for a single {@link IMethod}.
+ *
+ * <p>
+ * Mirrors the contract of {@link IMethod#invoke(Object, Object...)}: exceptions
+ * thrown by the invoked method are wrapped in an {@link InvocationTargetException},
+ * argument mismatches raise an {@link IllegalArgumentException}, and {@code void}
+ * methods return {@code null}. The target is ignored for static methods.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public interface IMethodHandle {
+
+	IMethod method();
+
+	InvocationMode mode();
+
+	Object invoke(Object target, Object... args)
+			throws IllegalAccessException, IllegalArgumentException, InvocationTargetException;
+
+}
@@ -0,0 +1,48 @@
+package com.garganttua.core.reflection.invocation;
+
+/**
+ * Backend used by {@link Invocations} to build field and method handles.
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public enum InvocationMode {
+
+	/**
+	 * Members are resolved once into cached {@link java.lang.invoke.MethodHandle}s.
+	 * Members that cannot be unreflected (e.g. static finals, inaccessible modules)
+	 * silently fall back to {@link #REFLECTION}.
+	 */
+	METHOD_HANDLE,
+
+	/**
+	 * Members bound to generated code (see {@link com.garganttua.core.reflection.IField#isDirect()})
+	 * are accessed through their own accessors. Handles of such members report this
+	 * mode; they are used in place of {@link #METHOD_HANDLE} handles, and selecting
+	 * this mode behaves like {@link #METHOD_HANDLE}.
+	 */
+	DIRECT,
+
+	/**
+	 * Plain {@code java.lang.reflect} access, toggling accessibility around each call.
+	 */
+	REFLECTION;
+
+	/**
+	 * Parses a mode from its name, case-insensitively.
+	 *
+	 * @param value the mode name, may be {@code null}
+	 * @param defaultMode the mode returned when {@code value} is blank or unknown
+	 * @return the parsed mode
+	 */
+	public static InvocationMode parse(String value, InvocationMode defaultMode) {
+		if (value == null || value.isBlank()) {
+			return defaultMode;
+		}
+		for (InvocationMode mode : values()) {
+			if (mode.name().equalsIgnoreCase(value.trim().replace('-', '_'))) {
+				return mode;
+			}
+		}
+		return defaultMode;
+	}
+}
@@ -0,0 +1,143 @@
+package com.garganttua.core.reflection.invocation;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.IMethod;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Entry point of the invocation backend used by
+ * {@link com.garganttua.core.reflection.fields.FieldAccessor} and
+ * {@link com.garganttua.core.reflection.methods.MethodInvoker}.
+ *
+ * <p>
+ * Each {@link IField} and {@link IMethod} is resolved once into a cached
+ * {@link IFieldHandle} / {@link IMethodHandle}. The default backend is
+ * {@link InvocationMode#METHOD_HANDLE}, under which members bound to generated code
+ * ({@link IField#isDirect()}, {@link IMethod#isDirect()}) get {@link InvocationMode#DIRECT}
+ * handles instead of method handles. It can be switched back to plain reflection
+ * with {@link #setMode(InvocationMode)} or the {@value #MODE_PROPERTY} system
+ * property ({@code method_handle} or {@code reflection}). Accessors capture their
+ * handles when they are built, so switching modes only affects accessors created
+ * afterwards.
+ * </p>
+ *
+ * <p>
+ * Handles are cached on their declaring class through a {@link ClassValue}, so the
+ * cache does not keep user classes and their class loaders alive. Members whose
+ * declaring class is not backed by a {@link Class} get a new handle on each call.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public class Invocations {
+
+	public static final String MODE_PROPERTY = "garganttua.reflection.invocation";
+
+	private static volatile InvocationMode mode = InvocationMode.parse(System.getProperty(MODE_PROPERTY),
+			InvocationMode.METHOD_HANDLE);
+
+	private static volatile ClassValue<Handles> handles = new HandlesValue();
+
+	// Handles of the members of one declaring class
+	private static final class Handles {
+		private final Map<IField, IFieldHandle> fields = new ConcurrentHashMap<>();
+		private final Map<IMethod, IMethodHandle> methods = new ConcurrentHashMap<>();
+	}
+
+	private static final class HandlesValue extends ClassValue<Handles> {
+		@Override
+		protected Handles computeValue(Class<?> type) {
+			return new Handles();
+		}
+	}
+
+	private Invocations() {
+		/* This utility class should not be instantiated */
+	}
+
+	public static InvocationMode getMode() {
+		return mode;
+	}
+
+	public static void setMode(InvocationMode newMode) {
+		log.atDebug().log("Switching invocation mode from {} to {}", mode, newMode);
+		mode = Objects.requireNonNull(newMode, "Invocation mode cannot be null");
+	}
+
+	/**
+	 * Returns the handle of the given field for the current mode.
+	 *
+	 * @param field the field
+	 * @return the handle, cached on the declaring class, never {@code null}
+	 */
+	public static IFieldHandle field(IField field) {
+		Objects.requireNonNull(field, "Field cannot be null");
+		if (mode == InvocationMode.REFLECTION) {
+			return new ReflectiveFieldHandle(field);
+		}
+		Handles cached = handles(field.getDeclaringClass());
+		return cached == null ? bindField(field) : cached.fields.computeIfAbsent(field, Invocations::bindField);
+	}
+
+	/**
+	 * Returns the handle of the given method for the current mode.
+	 *
+	 * @param method the method
+	 * @return the handle, cached on the declaring class, never {@code null}
+	 */
+	public static IMethodHandle method(IMethod method) {
+		Objects.requireNonNull(method, "Method cannot be null");
+		if (mode == InvocationMode.REFLECTION) {
+			return new ReflectiveMethodHandle(method);
+		}
+		Handles cached = handles(method.getDeclaringClass());
+		return cached == null ? bindMethod(method) : cached.methods.computeIfAbsent(method, Invocations::bindMethod);
+	}
+
+	/**
+	 * Drops every cached handle.
+	 */
+	public static void clearCache() {
+		log.atDebug().log("Clearing invocation handles");
+		handles = new HandlesValue();
+	}
+
+	private static Handles handles(IClass<?> declaringClass) {
+		Type type = declaringClass == null ? null : declaringClass.getType();
+		return type instanceof Class<?> clazz ? handles.get(clazz) : null;
+	}
+
+	private static IFieldHandle bindField(IField field) {
+		if (field.isDirect()) {
+			return new DirectFieldHandle(field);
+		}
+		try {
+			return new LookupFieldHandle(field);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			log.atDebug().log("Cannot bind method handle for field {}, falling back to reflection: {}",
+					field.getName(), e.getMessage());
+			return new ReflectiveFieldHandle(field);
+		}
+	}
+
+	private static IMethodHandle bindMethod(IMethod method) {
+		if (method.isDirect()) {
+			return new DirectMethodHandle(method);
+		}
+		try {
+			return new LookupMethodHandle(method);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			log.atDebug().log("Cannot bind method handle for method {}, falling back to reflection: {}",
+					method.getName(), e.getMessage());
+			return new ReflectiveMethodHandle(method);
+		}
+	}
+}
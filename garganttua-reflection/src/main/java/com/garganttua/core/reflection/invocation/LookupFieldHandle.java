@@ -0,0 +1,370 @@
+package com.garganttua.core.reflection.invocation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+import com.garganttua.core.reflection.IField;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link IFieldHandle} backed by {@link MethodHandle}s unreflected once from the
+ * underlying {@link Field}.
+ *
+ * <p>
+ * The generic getter and setter are adapted to {@code (Object)Object} and
+ * {@code (Object,Object)void} so they can be invoked with
+ * {@link MethodHandle#invokeExact}. Primitive accessors are adapted lazily, per
+ * primitive kind, on first use. Writes to {@code static final} fields, which cannot
+ * be unreflected, are delegated to a {@link ReflectiveFieldHandle}.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public final class LookupFieldHandle implements IFieldHandle {
+
+	private static final int BOOLEAN = 0;
+	private static final int BYTE = 1;
+	private static final int CHAR = 2;
+	private static final int SHORT = 3;
+	private static final int INT = 4;
+	private static final int LONG = 5;
+	private static final int FLOAT = 6;
+	private static final int DOUBLE = 7;
+
+	private final IField field;
+	private final Class<?> fieldType;
+	private final boolean statix;
+	private final MethodHandle rawGetter;
+	private final MethodHandle rawSetter;
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+	private final IFieldHandle fallback;
+	private final MethodHandle[] primitiveGetters = new MethodHandle[8];
+	private final MethodHandle[] primitiveSetters = new MethodHandle[8];
+
+	/**
+	 * Unreflects the given field.
+	 *
+	 * @param field the field to bind
+	 * @throws ReflectiveOperationException if the underlying field cannot be found or unreflected
+	 */
+	public LookupFieldHandle(IField field) throws ReflectiveOperationException {
+		this.field = Objects.requireNonNull(field, "Field cannot be null");
+		Class<?> owner = (Class<?>) field.getDeclaringClass().getType();
+		Field jdkField = owner.getDeclaredField(field.getName());
+		jdkField.setAccessible(true);
+
+		this.fieldType = jdkField.getType();
+		this.statix = Modifier.isStatic(jdkField.getModifiers());
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodHandle get = lookup.unreflectGetter(jdkField);
+		MethodHandle set = null;
+		if (!(this.statix && Modifier.isFinal(jdkField.getModifiers()))) {
+			try {
+				set = lookup.unreflectSetter(jdkField);
+			} catch (IllegalAccessException e) {
+				log.atDebug().log("Field {} is not writable through a method handle, writes will use reflection",
+						field.getName());
+			}
+		}
+
+		if (this.statix) {
+			get = MethodHandles.dropArguments(get, 0, Object.class);
+			set = set == null ? null : MethodHandles.dropArguments(set, 0, Object.class);
+		}
+		this.rawGetter = get.asType(MethodType.methodType(this.fieldType, Object.class));
+		this.getter = this.rawGetter.asType(MethodType.methodType(Object.class, Object.class));
+		if (set != null) {
+			this.rawSetter = set.asType(MethodType.methodType(void.class, Object.class, this.fieldType));
+			this.setter = this.rawSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			this.fallback = null;
+		} else {
+			this.rawSetter = null;
+			this.setter = null;
+			this.fallback = new ReflectiveFieldHandle(field);
+		}
+		log.atTrace().log("Bound method handles for field {}, static={}", field.getName(), this.statix);
+	}
+
+	@Override
+	public IField field() {
+		return this.field;
+	}
+
+	@Override
+	public InvocationMode mode() {
+		return InvocationMode.METHOD_HANDLE;
+	}
+
+	// --- Object access ---
+
+	@Override
+	public Object get(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try {
+			return (Object) this.getter.invokeExact(target);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public void set(Object target, Object value) throws IllegalArgumentException, IllegalAccessException {
+		if (this.setter == null) {
+			this.fallback.set(target, value);
+			return;
+		}
+		try {
+			this.setter.invokeExact(target, value);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	// --- Primitive access ---
+
+	@Override
+	public boolean getBoolean(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try {
+			return (boolean) primitiveGetter(BOOLEAN, boolean.class).invokeExact(target);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public void setBoolean(Object target, boolean z) throws IllegalArgumentException, IllegalAccessException {
+		if (this.setter == null) {
+			this.fallback.setBoolean(target, z);
+			return;
+		}
+		try {
+			primitiveSetter(BOOLEAN, boolean.class).invokeExact(target, z);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public byte getByte(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try {
+			return (byte) primitiveGetter(BYTE, byte.class).invokeExact(target);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public void setByte(Object target, byte b) throws IllegalArgumentException, IllegalAccessException {
+		if (this.setter == null) {
+			this.fallback.setByte(target, b);
+			return;
+		}
+		try {
+			primitiveSetter(BYTE, byte.class).invokeExact(target, b);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public char getChar(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try {
+			return (char) primitiveGetter(CHAR, char.class).invokeExact(target);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public void setChar(Object target, char c) throws IllegalArgumentException, IllegalAccessException {
+		if (this.setter == null) {
+			this.fallback.setChar(target, c);
+			return;
+		}
+		try {
+			primitiveSetter(CHAR, char.class).invokeExact(target, c);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public short getShort(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try {
+			return (short) primitiveGetter(SHORT, short.class).invokeExact(target);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public void setShort(Object target, short s) throws IllegalArgumentException, IllegalAccessException {
+		if (this.setter == null) {
+			this.fallback.setShort(target, s);
+			return;
+		}
+		try {
+			primitiveSetter(SHORT, short.class).invokeExact(target, s);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public int getInt(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try {
+			return (int) primitiveGetter(INT, int.class).invokeExact(target);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public void setInt(Object target, int i) throws IllegalArgumentException, IllegalAccessException {
+		if (this.setter == null) {
+			this.fallback.setInt(target, i);
+			return;
+		}
+		try {
+			primitiveSetter(INT, int.class).invokeExact(target, i);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public long getLong(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try {
+			return (long) primitiveGetter(LONG, long.class).invokeExact(target);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public void setLong(Object target, long l) throws IllegalArgumentException, IllegalAccessException {
+		if (this.setter == null) {
+			this.fallback.setLong(target, l);
+			return;
+		}
+		try {
+			primitiveSetter(LONG, long.class).invokeExact(target, l);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public float getFloat(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try {
+			return (float) primitiveGetter(FLOAT, float.class).invokeExact(target);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public void setFloat(Object target, float f) throws IllegalArgumentException, IllegalAccessException {
+		if (this.setter == null) {
+			this.fallback.setFloat(target, f);
+			return;
+		}
+		try {
+			primitiveSetter(FLOAT, float.class).invokeExact(target, f);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public double getDouble(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try {
+			return (double) primitiveGetter(DOUBLE, double.class).invokeExact(target);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	@Override
+	public void setDouble(Object target, double d) throws IllegalArgumentException, IllegalAccessException {
+		if (this.setter == null) {
+			this.fallback.setDouble(target, d);
+			return;
+		}
+		try {
+			primitiveSetter(DOUBLE, double.class).invokeExact(target, d);
+		} catch (Throwable t) {
+			throw translate(target, t);
+		}
+	}
+
+	// --- Helpers ---
+
+	/*
+	 * Adapts the raw getter to (Object)primitive. Only primitive fields may be read
+	 * through primitive accessors, and only with widening conversions, as with Field.
+	 */
+	private MethodHandle primitiveGetter(int kind, Class<?> type) {
+		MethodHandle handle = this.primitiveGetters[kind];
+		if (handle == null) {
+			checkPrimitive(type);
+			try {
+				handle = this.rawGetter.asType(MethodType.methodType(type, Object.class));
+			} catch (WrongMethodTypeException e) {
+				throw new IllegalArgumentException("Cannot read field " + this.field.getName() + " of type "
+						+ this.fieldType.getName() + " as " + type.getName(), e);
+			}
+			this.primitiveGetters[kind] = handle;
+		}
+		return handle;
+	}
+
+	private MethodHandle primitiveSetter(int kind, Class<?> type) {
+		MethodHandle handle = this.primitiveSetters[kind];
+		if (handle == null) {
+			checkPrimitive(type);
+			try {
+				handle = this.rawSetter.asType(MethodType.methodType(void.class, Object.class, type));
+			} catch (WrongMethodTypeException e) {
+				throw new IllegalArgumentException("Cannot write " + type.getName() + " into field "
+						+ this.field.getName() + " of type " + this.fieldType.getName(), e);
+			}
+			this.primitiveSetters[kind] = handle;
+		}
+		return handle;
+	}
+
+	private void checkPrimitive(Class<?> type) {
+		if (!this.fieldType.isPrimitive()) {
+			throw new IllegalArgumentException("Field " + this.field.getName() + " of type "
+					+ this.fieldType.getName() + " cannot be accessed as " + type.getName());
+		}
+	}
+
+	private RuntimeException translate(Object target, Throwable t) {
+		if (t instanceof Error error) {
+			throw error;
+		}
+		if (t instanceof IllegalArgumentException iae) {
+			return iae;
+		}
+		if (t instanceof NullPointerException npe && target == null && !this.statix) {
+			return npe;
+		}
+		return new IllegalArgumentException("Cannot access field " + this.field.getName() + " on "
+				+ (target == null ? "null" : target.getClass().getName()), t);
+	}
+
+	@Override
+	public String toString() {
+		return "LookupFieldHandle[" + this.field + "]";
+	}
+}
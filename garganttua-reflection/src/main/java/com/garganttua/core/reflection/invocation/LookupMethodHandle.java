@@ -0,0 +1,184 @@
+package com.garganttua.core.reflection.invocation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IMethod;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link IMethodHandle} backed by a {@link MethodHandle} unreflected once from the
+ * underlying {@link Method}.
+ *
+ * <p>
+ * The handle is adapted to the generic {@code (Object,Object...)Object} shape so it
+ * can be invoked with {@link MethodHandle#invokeExact}; methods with up to four
+ * parameters are invoked with exact arity, larger ones through an array spreader.
+ * Arguments are checked against the parameter types before the call (with the same
+ * unboxing and widening rules as {@link Method#invoke}), so any throwable raised by
+ * the call itself comes from the target method and is wrapped in an
+ * {@link InvocationTargetException}.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public final class LookupMethodHandle implements IMethodHandle {
+
+	private static final Object[] NO_ARGS = new Object[0];
+	private static final int MAX_SPECIALIZED_ARITY = 4;
+	private static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(
+			Boolean.class, boolean.class,
+			Byte.class, byte.class,
+			Character.class, char.class,
+			Short.class, short.class,
+			Integer.class, int.class,
+			Long.class, long.class,
+			Float.class, float.class,
+			Double.class, double.class);
+
+	private final IMethod method;
+	private final Class<?> owner;
+	private final Class<?>[] parameterTypes;
+	private final Class<?>[] boxedParameterTypes;
+	private final boolean statix;
+	private final int arity;
+	private final MethodHandle handle;
+
+	/**
+	 * Unreflects the given method.
+	 *
+	 * @param method the method to bind
+	 * @throws ReflectiveOperationException if the underlying method cannot be found or unreflected
+	 */
+	public LookupMethodHandle(IMethod method) throws ReflectiveOperationException {
+		this.method = Objects.requireNonNull(method, "Method cannot be null");
+		this.owner = (Class<?>) method.getDeclaringClass().getType();
+		IClass<?>[] declaredParameters = method.getParameterTypes();
+		this.parameterTypes = new Class<?>[declaredParameters.length];
+		for (int i = 0; i < declaredParameters.length; i++) {
+			this.parameterTypes[i] = (Class<?>) declaredParameters[i].getType();
+		}
+		this.boxedParameterTypes = new Class<?>[this.parameterTypes.length];
+		for (int i = 0; i < this.parameterTypes.length; i++) {
+			this.boxedParameterTypes[i] = MethodType.methodType(this.parameterTypes[i]).wrap().returnType();
+		}
+		Method jdkMethod = this.owner.getDeclaredMethod(method.getName(), this.parameterTypes);
+		jdkMethod.setAccessible(true);
+		this.statix = Modifier.isStatic(jdkMethod.getModifiers());
+
+		MethodHandle mh = MethodHandles.lookup().unreflect(jdkMethod).asFixedArity();
+		if (this.statix) {
+			mh = MethodHandles.dropArguments(mh, 0, Object.class);
+		}
+		this.arity = this.parameterTypes.length;
+		mh = mh.asType(MethodType.genericMethodType(this.arity + 1));
+		this.handle = this.arity <= MAX_SPECIALIZED_ARITY ? mh : mh.asSpreader(Object[].class, this.arity);
+		log.atTrace().log("Bound method handle for method {}, static={}", method.getName(), this.statix);
+	}
+
+	@Override
+	public IMethod method() {
+		return this.method;
+	}
+
+	@Override
+	public InvocationMode mode() {
+		return InvocationMode.METHOD_HANDLE;
+	}
+
+	@Override
+	public Object invoke(Object target, Object... args)
+			throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		Object[] arguments = args == null ? NO_ARGS : args;
+		checkTarget(target);
+		checkArguments(arguments);
+		try {
+			return switch (this.arity) {
+				case 0 -> (Object) this.handle.invokeExact(target);
+				case 1 -> (Object) this.handle.invokeExact(target, arguments[0]);
+				case 2 -> (Object) this.handle.invokeExact(target, arguments[0], arguments[1]);
+				case 3 -> (Object) this.handle.invokeExact(target, arguments[0], arguments[1], arguments[2]);
+				case 4 -> (Object) this.handle.invokeExact(target, arguments[0], arguments[1], arguments[2],
+						arguments[3]);
+				default -> (Object) this.handle.invokeExact(target, arguments);
+			};
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	private void checkTarget(Object target) {
+		if (this.statix) {
+			return;
+		}
+		if (target == null) {
+			throw new NullPointerException("Cannot invoke non static method " + this.method.getName() + " on null");
+		}
+		if (!this.owner.isInstance(target)) {
+			throw new IllegalArgumentException("object of type " + target.getClass().getName()
+					+ " is not an instance of " + this.owner.getName());
+		}
+	}
+
+	private void checkArguments(Object[] args) {
+		if (args.length != this.parameterTypes.length) {
+			throw new IllegalArgumentException("wrong number of arguments: " + args.length + " expected: "
+					+ this.parameterTypes.length);
+		}
+		for (int i = 0; i < args.length; i++) {
+			Class<?> parameterType = this.parameterTypes[i];
+			Object arg = args[i];
+			boolean compatible = arg == null
+					? !parameterType.isPrimitive()
+					: this.boxedParameterTypes[i].isInstance(arg)
+							|| parameterType.isPrimitive() && isWidenable(arg.getClass(), parameterType);
+			if (!compatible) {
+				throw new IllegalArgumentException("argument type mismatch at index " + i + ": expected "
+						+ parameterType.getName() + " but was " + (arg == null ? "null" : arg.getClass().getName()));
+			}
+		}
+	}
+
+	/*
+	 * Unboxing followed by an optional primitive widening conversion, as accepted by Method.invoke.
+	 */
+	static boolean isWidenable(Class<?> boxed, Class<?> target) {
+		Class<?> source = PRIMITIVES.get(boxed);
+		if (source == null) {
+			return false;
+		}
+		if (source == target) {
+			return true;
+		}
+		if (source == boolean.class || target == boolean.class || target == char.class || target == byte.class) {
+			return false;
+		}
+		if (target == double.class) {
+			return true;
+		}
+		if (target == float.class) {
+			return source != double.class;
+		}
+		if (target == long.class) {
+			return source == int.class || source == short.class || source == char.class || source == byte.class;
+		}
+		if (target == int.class) {
+			return source == short.class || source == char.class || source == byte.class;
+		}
+		return target == short.class && source == byte.class;
+	}
+
+	@Override
+	public String toString() {
+		return "LookupMethodHandle[" + this.method + "]";
+	}
+}
@@ -0,0 +1,162 @@
+package com.garganttua.core.reflection.invocation;
+
+import java.util.Objects;
+
+import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.fields.FieldAccessManager;
+
+/**
+ * {@link IFieldHandle} delegating to {@link IField} through a
+ * {@link FieldAccessManager} on each call.
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public final class ReflectiveFieldHandle implements IFieldHandle {
+
+	private final IField field;
+
+	public ReflectiveFieldHandle(IField field) {
+		this.field = Objects.requireNonNull(field, "Field cannot be null");
+	}
+
+	@Override
+	public IField field() {
+		return this.field;
+	}
+
+	@Override
+	public InvocationMode mode() {
+		return InvocationMode.REFLECTION;
+	}
+
+	@Override
+	public Object get(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			return this.field.get(target);
+		}
+	}
+
+	@Override
+	public void set(Object target, Object value) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			this.field.set(target, value);
+		}
+	}
+
+	@Override
+	public boolean getBoolean(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			return this.field.getBoolean(target);
+		}
+	}
+
+	@Override
+	public void setBoolean(Object target, boolean z) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			this.field.setBoolean(target, z);
+		}
+	}
+
+	@Override
+	public byte getByte(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			return this.field.getByte(target);
+		}
+	}
+
+	@Override
+	public void setByte(Object target, byte b) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			this.field.setByte(target, b);
+		}
+	}
+
+	@Override
+	public char getChar(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			return this.field.getChar(target);
+		}
+	}
+
+	@Override
+	public void setChar(Object target, char c) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			this.field.setChar(target, c);
+		}
+	}
+
+	@Override
+	public short getShort(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			return this.field.getShort(target);
+		}
+	}
+
+	@Override
+	public void setShort(Object target, short s) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			this.field.setShort(target, s);
+		}
+	}
+
+	@Override
+	public int getInt(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			return this.field.getInt(target);
+		}
+	}
+
+	@Override
+	public void setInt(Object target, int i) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			this.field.setInt(target, i);
+		}
+	}
+
+	@Override
+	public long getLong(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			return this.field.getLong(target);
+		}
+	}
+
+	@Override
+	public void setLong(Object target, long l) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			this.field.setLong(target, l);
+		}
+	}
+
+	@Override
+	public float getFloat(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			return this.field.getFloat(target);
+		}
+	}
+
+	@Override
+	public void setFloat(Object target, float f) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			this.field.setFloat(target, f);
+		}
+	}
+
+	@Override
+	public double getDouble(Object target) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			return this.field.getDouble(target);
+		}
+	}
+
+	@Override
+	public void setDouble(Object target, double d) throws IllegalArgumentException, IllegalAccessException {
+		try (var mgr = new FieldAccessManager(this.field)) {
+			this.field.setDouble(target, d);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ReflectiveFieldHandle[" + this.field + "]";
+	}
+}
@@ -0,0 +1,45 @@
+package com.garganttua.core.reflection.invocation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+
+import com.garganttua.core.reflection.IMethod;
+import com.garganttua.core.reflection.methods.MethodAccessManager;
+
+/**
+ * {@link IMethodHandle} delegating to {@link IMethod#invoke(Object, Object...)}
+ * through a {@link MethodAccessManager} on each call.
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public final class ReflectiveMethodHandle implements IMethodHandle {
+
+	private final IMethod method;
+
+	public ReflectiveMethodHandle(IMethod method) {
+		this.method = Objects.requireNonNull(method, "Method cannot be null");
+	}
+
+	@Override
+	public IMethod method() {
+		return this.method;
+	}
+
+	@Override
+	public InvocationMode mode() {
+		return InvocationMode.REFLECTION;
+	}
+
+	@Override
+	public Object invoke(Object target, Object... args)
+			throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+		try (var mgr = new MethodAccessManager(this.method)) {
+			return this.method.invoke(target, args);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ReflectiveMethodHandle[" + this.method + "]";
+	}
+}
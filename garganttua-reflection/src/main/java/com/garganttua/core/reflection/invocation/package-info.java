@@ -0,0 +1,39 @@
+/**
+ * Invocation backend for field access and method calls.
+ *
+ * <h2>Overview</h2>
+ * <p>
+ * This package resolves reflective members once into pre-bound handles so that
+ * repeated reads, writes and calls do not go through {@code java.lang.reflect}
+ * and accessibility toggling on every invocation. It is used by
+ * {@link com.garganttua.core.reflection.fields.FieldAccessor} and
+ * {@link com.garganttua.core.reflection.methods.MethodInvoker}.
+ * </p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * IFieldHandle handle = Invocations.field(IClass.getClass(User.class).getDeclaredField("age"));
+ * int age = handle.getInt(user);
+ * handle.setInt(user, age + 1);
+ *
+ * IMethodHandle greet = Invocations.method(greetMethod);
+ * Object message = greet.invoke(service, "Alice");
+ *
+ * // Fall back to plain reflection (or -Dgarganttua.reflection.invocation=reflection)
+ * Invocations.setMode(InvocationMode.REFLECTION);
+ * }</pre>
+ *
+ * <h2>Features</h2>
+ * <ul>
+ *   <li>Cached {@link java.lang.invoke.MethodHandle}-backed field and method handles</li>
+ *   <li>Primitive-specialized getters and setters</li>
+ *   <li>{@link java.lang.reflect.Method#invoke}-compatible exception semantics</li>
+ *   <li>Members bound to generated code used through their own accessors</li>
+ *   <li>Automatic fallback to reflection for members that cannot be unreflected</li>
+ * </ul>
+ *
+ * @since 2.0.0-ALPHA02
+ * @see com.garganttua.core.reflection.fields
+ * @see com.garganttua.core.reflection.methods
+ */
+package com.garganttua.core.reflection.invocation;
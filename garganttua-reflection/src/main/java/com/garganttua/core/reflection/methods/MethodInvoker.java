@@ -16,8 +16,10 @@ import com.garganttua.core.reflection.IMethod;
 import com.garganttua.core.reflection.IMethodReturn;
 import com.garganttua.core.reflection.ObjectAddress;
 import com.garganttua.core.reflection.ReflectionException;
-import com.garganttua.core.reflection.fields.FieldAccessManager;
 import com.garganttua.core.reflection.fields.Fields;
+import com.garganttua.core.reflection.invocation.IFieldHandle;
+import com.garganttua.core.reflection.invocation.IMethodHandle;
+import com.garganttua.core.reflection.invocation.Invocations;
 import com.garganttua.core.supply.ISupplier;
 import com.garganttua.core.supply.SupplyException;
 
@@ -32,6 +34,7 @@ public class MethodInvoker<T, R> implements ISupplier<IMethodReturn<R>> {
 	private IClass<R> returnType;
 	private boolean statix;
 	private boolean force;
+	private Object[] handles;
 
 	public MethodInvoker(ResolvedMethod method) throws ReflectionException {
 		this(method, false);
@@ -47,6 +50,11 @@ public class MethodInvoker<T, R> implements ISupplier<IMethodReturn<R>> {
 		this.address = Objects.requireNonNull(method.address(), "Address cannot be null");
 		this.statix = Methods.isStatic(method);
 		this.force = force;
+		this.handles = new Object[this.methodPath.size()];
+		for (int i = 0; i < this.handles.length; i++) {
+			Object element = this.methodPath.get(i);
+			this.handles[i] = element instanceof IMethod m ? Invocations.method(m) : Invocations.field((IField) element);
+		}
 		log.atDebug().log("ObjectMethodInvoker initialized for ownerType={}, address={}, force={}", ownerType.getName(), address, force);
 	}
 
@@ -209,8 +217,8 @@ public class MethodInvoker<T, R> implements ISupplier<IMethodReturn<R>> {
 
 		checkMethodAndParams(method, returnType, args);
 
-		try (var mgr = new MethodAccessManager(method, this.force)) {
-			R result = (R) method.invoke(object, args);
+		try {
+			R result = (R) methodHandleOf(method).invoke(object, args);
 			log.atDebug().log("Successfully invoked method {} on object of type {}", methodName,
 					object != null ? object.getClass().getName() : "null");
 			return new SingleMethodReturn<>(result, returnType);
@@ -254,9 +262,27 @@ public class MethodInvoker<T, R> implements ISupplier<IMethodReturn<R>> {
 		}
 	}
 
+	private IMethodHandle methodHandleOf(IMethod method) {
+		for (Object handle : this.handles) {
+			if (handle instanceof IMethodHandle methodHandle && methodHandle.method().equals(method)) {
+				return methodHandle;
+			}
+		}
+		return Invocations.method(method);
+	}
+
+	private IFieldHandle fieldHandleOf(IField field) {
+		for (Object handle : this.handles) {
+			if (handle instanceof IFieldHandle fieldHandle && fieldHandle.field().equals(field)) {
+				return fieldHandle;
+			}
+		}
+		return Invocations.field(field);
+	}
+
 	private Object getFieldValue(Object object, IField field) throws ReflectionException {
-		try (var mgr = new FieldAccessManager(field, this.force)) {
-			return field.get(object);
+		try {
+			return fieldHandleOf(field).get(object);
 		} catch (IllegalAccessException | IllegalArgumentException e) {
 			throw new ReflectionException("Cannot get field " + field.getName() + " of object " + object.getClass().getName(), e);
 		}
@@ -221,6 +221,11 @@ public record ResolvedMethod(ObjectAddress address, List<Object> methodPath) imp
         return method().invoke(obj, args);
     }
 
+    @Override
+    public boolean isDirect() {
+        return method().isDirect();
+    }
+
     // --- Annotated types ---
 
     @Override
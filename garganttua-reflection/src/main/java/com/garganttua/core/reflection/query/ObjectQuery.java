@@ -8,6 +8,7 @@ import java.util.Map;
 
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.IMemberTable;
 import com.garganttua.core.reflection.IMethod;
 import com.garganttua.core.reflection.IObjectQuery;
 import com.garganttua.core.reflection.IReflectionProvider;
@@ -46,8 +47,14 @@ public class ObjectQuery<T> implements IObjectQuery<T> {
     }
 
     // --- Local helpers for IClass-based field/method lookup ---
+    // Backed by the class member table when the reflection provider maintains one,
+    // scanning the declared members of the hierarchy otherwise.
 
     private static IField getField(IClass<?> clazz, String name) {
+        IMemberTable table = clazz.getMemberTable().orElse(null);
+        if (table != null) {
+            return table.findField(name);
+        }
         for (IField f : clazz.getDeclaredFields()) {
             if (f.getName().equals(name)) {
                 return f;
@@ -61,6 +68,10 @@ public class ObjectQuery<T> implements IObjectQuery<T> {
     }
 
     private static IMethod getMethod(IClass<?> clazz, String name) {
+        IMemberTable table = clazz.getMemberTable().orElse(null);
+        if (table != null) {
+            return table.findMethod(name);
+        }
         for (IMethod m : clazz.getDeclaredMethods()) {
             if (m.getName().equals(name)) {
                 return m;
@@ -81,6 +92,10 @@ public class ObjectQuery<T> implements IObjectQuery<T> {
     }
 
     private static List<IMethod> getMethods(IClass<?> clazz, String name) {
+        IMemberTable table = clazz.getMemberTable().orElse(null);
+        if (table != null) {
+            return table.findMethods(name);
+        }
         List<IMethod> methods = new ArrayList<>();
         HashSet<String> seenSignatures = new HashSet<>();
 
@@ -138,28 +153,51 @@ public class ObjectQuery<T> implements IObjectQuery<T> {
     @Override
     public List<Object> find(String elementName) throws ReflectionException {
         log.atTrace().log("find(String) called with elementName='{}'", elementName);
-        return this.find(new ObjectAddress(elementName, true));
+        return new ArrayList<>(ObjectQueryCache.get(this.objectClass, this.provider, ObjectQueryCache.Kind.FIND, elementName,
+                () -> resolve(new ObjectAddress(elementName, true))));
     }
 
     @Override
     public List<Object> find(ObjectAddress elementName) throws ReflectionException {
         log.atDebug().log("find(ObjectAddress) called with elementName={} in class={}", elementName, objectClass);
+        return new ArrayList<>(ObjectQueryCache.get(this.objectClass, this.provider, ObjectQueryCache.Kind.FIND, elementName,
+                () -> resolve(elementName)));
+    }
+
+    private List<Object> resolve(ObjectAddress elementName) throws ReflectionException {
         List<Object> list = new ArrayList<>();
         List<Object> result = findRecursively(this.objectClass, elementName, 0, list, false);
         log.atTrace().log("find result for {} : {}", elementName, result);
-        return result;
+        return List.copyOf(result);
     }
 
     @Override
     public List<List<Object>> findAll(String elementName) throws ReflectionException {
         log.atTrace().log("findAll(String) called with elementName='{}'", elementName);
-        return this.findAll(new ObjectAddress(elementName, true));
+        return copy(ObjectQueryCache.get(this.objectClass, this.provider, ObjectQueryCache.Kind.FIND_ALL, elementName,
+                () -> resolveAll(new ObjectAddress(elementName, true))));
     }
 
     @Override
     public List<List<Object>> findAll(ObjectAddress elementName) throws ReflectionException {
         log.atDebug().log("findAll(ObjectAddress) called with elementName={} in class={}", elementName, objectClass);
-        return findAllRecursively(this.objectClass, elementName, 0, new ArrayList<>());
+        return copy(ObjectQueryCache.get(this.objectClass, this.provider, ObjectQueryCache.Kind.FIND_ALL, elementName,
+                () -> resolveAll(elementName)));
+    }
+
+    private List<List<Object>> resolveAll(ObjectAddress elementName) throws ReflectionException {
+        return findAllRecursively(this.objectClass, elementName, 0, new ArrayList<>()).stream()
+                .map(List::copyOf)
+                .toList();
+    }
+
+    // Cached results are shared and immutable, callers get mutable copies as before
+    private static List<List<Object>> copy(List<List<Object>> paths) {
+        List<List<Object>> result = new ArrayList<>(paths.size());
+        for (List<Object> path : paths) {
+            result.add(new ArrayList<>(path));
+        }
+        return result;
     }
 
     private List<List<Object>> findAllRecursively(IClass<?> clazz, ObjectAddress address, int index, List<Object> currentPath)
@@ -314,13 +352,15 @@ public class ObjectQuery<T> implements IObjectQuery<T> {
     @Override
     public ObjectAddress address(String elementName) throws ReflectionException {
         log.atDebug().log("address(String) called for element='{}' in class={}", elementName, objectClass);
-        return address(this.objectClass, elementName, null);
+        return ObjectQueryCache.get(this.objectClass, this.provider, ObjectQueryCache.Kind.ADDRESS, elementName,
+                () -> address(this.objectClass, elementName, null));
     }
 
     @Override
     public List<ObjectAddress> addresses(String elementName) throws ReflectionException {
         log.atDebug().log("addresses(String) called for element='{}' in class={}", elementName, objectClass);
-        return addresses(this.objectClass, elementName, null);
+        return new ArrayList<>(ObjectQueryCache.get(this.objectClass, this.provider, ObjectQueryCache.Kind.ADDRESSES, elementName,
+                () -> List.copyOf(addresses(this.objectClass, elementName, null))));
     }
 
     private List<ObjectAddress> addresses(IClass<?> objectClass, String elementName, ObjectAddress baseAddress)
@@ -0,0 +1,317 @@
+package com.garganttua.core.reflection.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.IMethod;
+import com.garganttua.core.reflection.IReflectionProvider;
+import com.garganttua.core.reflection.ObjectAddress;
+import com.garganttua.core.reflection.ReflectionException;
+import com.garganttua.core.reflection.fields.FieldAccessor;
+import com.garganttua.core.reflection.fields.FieldResolver;
+import com.garganttua.core.reflection.fields.ResolvedField;
+import com.garganttua.core.reflection.methods.MethodInvoker;
+import com.garganttua.core.reflection.methods.MethodResolver;
+import com.garganttua.core.reflection.methods.ResolvedMethod;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of the address lookups performed by {@link ObjectQuery}, keyed by the
+ * queried class, the reflection provider and the address.
+ *
+ * <p>
+ * Every {@code find}, {@code findAll}, {@code address} and {@code addresses} call
+ * of an object query is resolved once per class and address; later calls return
+ * a copy of the cached result. On top of that, the cache keeps the
+ * {@link ResolvedField} / {@link ResolvedMethod} of an address together with a
+ * ready-made {@link FieldAccessor} / {@link MethodInvoker}, see
+ * {@link #fieldAccessor(IClass, IReflectionProvider, ObjectAddress, boolean)} and
+ * {@link #methodInvoker(IClass, IReflectionProvider, ObjectAddress, IClass, IClass[], boolean)},
+ * which the reflection DSL uses for its address based accesses. Failed lookups are
+ * not cached.
+ * </p>
+ *
+ * <p>
+ * The cache holds at most {@value #DEFAULT_MAXIMUM_SIZE} entries by default, which
+ * can be changed with {@link #setMaximumSize(int)} or the {@value #SIZE_PROPERTY}
+ * system property; {@code 0} disables it. When the limit is exceeded, the least
+ * recently used quarter of the entries is evicted. Entries must be dropped with
+ * {@link #invalidate(IClass)} when a class is redefined: this removes every entry
+ * queried on that class or whose resolved path goes through one of its members.
+ * Accessors capture their invocation handles when they are built, so
+ * {@link #clear()} should also be called after switching the
+ * {@link com.garganttua.core.reflection.invocation.Invocations} mode.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public class ObjectQueryCache {
+
+    public static final String SIZE_PROPERTY = "garganttua.reflection.query.cache.size";
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    enum Kind {
+        FIND, FIND_ALL, ADDRESS, ADDRESSES, FIELD, METHOD, FIELD_ACCESSOR, METHOD_INVOKER
+    }
+
+    private record Key(IClass<?> owner, IReflectionProvider provider, Kind kind, Object element) {
+    }
+
+    // Element of the accessor and invoker keys
+    private record Access(ObjectAddress address, boolean force, IClass<?> returnType, List<IClass<?>> parameterTypes) {
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final Set<IClass<?>> classes;
+        private volatile long lastAccess;
+
+        private Entry(Object value, Set<IClass<?>> classes, long lastAccess) {
+            this.value = value;
+            this.classes = classes;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private static final Map<Key, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final AtomicLong CLOCK = new AtomicLong();
+    private static final AtomicBoolean EVICTING = new AtomicBoolean();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private static volatile int maximumSize = Integer.getInteger(SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE);
+
+    private ObjectQueryCache() {
+        /* This utility class should not be instantiated */
+    }
+
+    // --- Resolved members and accessors ---
+
+    /**
+     * Returns the resolved field at the given address of the owner type.
+     *
+     * @see FieldResolver#fieldByAddress(IClass, IReflectionProvider, ObjectAddress)
+     */
+    public static ResolvedField field(IClass<?> ownerType, IReflectionProvider provider, ObjectAddress address)
+            throws ReflectionException {
+        return get(ownerType, provider, Kind.FIELD, address,
+                () -> FieldResolver.fieldByAddress(ownerType, provider, address), ResolvedField::fieldPath);
+    }
+
+    /**
+     * Returns the resolved method at the given address of the owner type.
+     *
+     * @see MethodResolver#methodByAddress(IClass, IReflectionProvider, ObjectAddress)
+     */
+    public static ResolvedMethod method(IClass<?> ownerType, IReflectionProvider provider, ObjectAddress address)
+            throws ReflectionException {
+        return get(ownerType, provider, Kind.METHOD, address,
+                () -> MethodResolver.methodByAddress(ownerType, provider, address), ResolvedMethod::methodPath);
+    }
+
+    /**
+     * Returns a shared accessor of the field at the given address of the owner type.
+     *
+     * @see FieldAccessor#FieldAccessor(ResolvedField, boolean)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> FieldAccessor<T> fieldAccessor(IClass<?> ownerType, IReflectionProvider provider,
+            ObjectAddress address, boolean force) throws ReflectionException {
+        Access access = new Access(address, force, null, null);
+        Compiled compiled = get(ownerType, provider, Kind.FIELD_ACCESSOR, access, () -> {
+            ResolvedField field = field(ownerType, provider, address);
+            return new Compiled(field.fieldPath(), new FieldAccessor<>(field, force));
+        }, Compiled::path);
+        return (FieldAccessor<T>) compiled.accessor();
+    }
+
+    /**
+     * Returns a shared invoker of the method at the given address of the owner type
+     * matching the given return and parameter types.
+     *
+     * @see MethodResolver#methodByAddress(IClass, IReflectionProvider, ObjectAddress, IClass, IClass[])
+     * @see MethodInvoker#MethodInvoker(ResolvedMethod, boolean)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> MethodInvoker<T, R> methodInvoker(IClass<?> ownerType, IReflectionProvider provider,
+            ObjectAddress address, IClass<?> returnType, IClass<?>[] parameterTypes, boolean force)
+            throws ReflectionException {
+        Access access = new Access(address, force, returnType,
+                parameterTypes == null ? null : Arrays.asList(parameterTypes.clone()));
+        Compiled compiled = get(ownerType, provider, Kind.METHOD_INVOKER, access, () -> {
+            ResolvedMethod method = MethodResolver.methodByAddress(ownerType, provider, address, returnType,
+                    parameterTypes);
+            return new Compiled(method.methodPath(), new MethodInvoker<>(method, force));
+        }, Compiled::path);
+        return (MethodInvoker<T, R>) compiled.accessor();
+    }
+
+    private record Compiled(List<Object> path, Object accessor) {
+    }
+
+    // --- Object query results ---
+
+    /**
+     * Returns the cached result of an object query lookup, computing it on a miss.
+     * Cached values are shared: callers must not expose mutable values as is.
+     */
+    static <V> V get(IClass<?> owner, IReflectionProvider provider, Kind kind, Object element, Supplier<V> loader)
+            throws ReflectionException {
+        return get(owner, provider, kind, element, loader, Function.identity());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V get(IClass<?> owner, IReflectionProvider provider, Kind kind, Object element,
+            Supplier<V> loader, Function<? super V, ?> members) throws ReflectionException {
+        if (maximumSize <= 0) {
+            MISSES.increment();
+            return loader.get();
+        }
+        Key key = new Key(owner, provider, kind, element);
+        Entry entry = ENTRIES.get(key);
+        if (entry != null) {
+            HITS.increment();
+            // Already the most recently used entry when it holds the current tick
+            if (entry.lastAccess != CLOCK.get()) {
+                entry.lastAccess = CLOCK.incrementAndGet();
+            }
+            return (V) entry.value;
+        }
+        MISSES.increment();
+        V value = loader.get();
+        Set<IClass<?>> classes = new HashSet<>();
+        classes.add(owner);
+        collectClasses(members.apply(value), classes);
+        ENTRIES.put(key, new Entry(value, Set.copyOf(classes), CLOCK.incrementAndGet()));
+        if (ENTRIES.size() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+
+    private static void collectClasses(Object member, Set<IClass<?>> classes) {
+        if (member instanceof List<?> list) {
+            for (Object element : list) {
+                collectClasses(element, classes);
+            }
+        } else if (member instanceof IField field) {
+            classes.add(field.getDeclaringClass());
+        } else if (member instanceof IMethod method) {
+            classes.add(method.getDeclaringClass());
+        }
+    }
+
+    private static void evict() {
+        if (!EVICTING.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int size = ENTRIES.size();
+            int count = Math.max(size - maximumSize, size / 4);
+            List<Map.Entry<Key, Entry>> snapshot = new ArrayList<>(ENTRIES.entrySet());
+            snapshot.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+            int evicted = 0;
+            for (int i = 0; i < count && i < snapshot.size(); i++) {
+                Map.Entry<Key, Entry> e = snapshot.get(i);
+                if (ENTRIES.remove(e.getKey(), e.getValue())) {
+                    evicted++;
+                }
+            }
+            EVICTIONS.add(evicted);
+            log.atDebug().log("Evicted {} object query cache entries out of {}", evicted, size);
+        } finally {
+            EVICTING.set(false);
+        }
+    }
+
+    // --- Invalidation ---
+
+    /**
+     * Drops every entry queried on the given class or resolved through one of its
+     * members. Must be called when the class is redefined.
+     *
+     * @param clazz the redefined class
+     */
+    public static void invalidate(IClass<?> clazz) {
+        Objects.requireNonNull(clazz, "Class cannot be null");
+        int before = ENTRIES.size();
+        ENTRIES.values().removeIf(entry -> entry.classes.contains(clazz));
+        log.atDebug().log("Invalidated {} object query cache entries for class {}", before - ENTRIES.size(),
+                clazz.getName());
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public static void clear() {
+        log.atDebug().log("Clearing {} object query cache entries", ENTRIES.size());
+        ENTRIES.clear();
+    }
+
+    // --- Configuration and statistics ---
+
+    public static int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of entries, {@code 0} disabling the cache. Exceeding
+     * entries are evicted right away.
+     *
+     * @param size the maximum number of entries
+     */
+    public static void setMaximumSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Maximum size cannot be negative");
+        }
+        log.atDebug().log("Setting object query cache maximum size from {} to {}", maximumSize, size);
+        maximumSize = size;
+        if (size == 0) {
+            clear();
+        } else if (ENTRIES.size() > size) {
+            evict();
+        }
+    }
+
+    public static int size() {
+        return ENTRIES.size();
+    }
+
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    public static long evictions() {
+        return EVICTIONS.sum();
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public static void resetStatistics() {
+        HITS.reset();
+        MISSES.reset();
+        EVICTIONS.reset();
+    }
+}
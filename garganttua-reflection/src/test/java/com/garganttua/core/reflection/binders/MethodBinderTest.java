@@ -48,6 +48,18 @@ public class MethodBinderTest {
         }
     }
 
+    static class NamedObject {
+        private final String name;
+
+        public NamedObject(String name) {
+            this.name = name;
+        }
+
+        String greet(String greeting) {
+            return greeting + " " + name;
+        }
+    }
+
     class ConcreteMethodBinderBuilder
             extends AbstractMethodBinderBuilder<String, ConcreteMethodBinderBuilder, Object, IMethodBinder<String>> {
 
@@ -97,4 +109,21 @@ public class MethodBinderTest {
         assertEquals("Hello", mb.supply().get().single());
     }
 
+    @Test
+    public void testExecuteOnExplicitOwner() throws DslException {
+        ConcreteMethodBinderBuilder b = new ConcreteMethodBinderBuilder(new Object(),
+                FixedSupplierBuilder.of(new NamedObject("supplied"), RuntimeClass.of(NamedObject.class)));
+        b.method("greet", RuntimeClass.of(String.class), RuntimeClass.of(String.class))
+                .withParam("Hello");
+        b.provide(ReflectionBuilder.builder().withProvider(new RuntimeReflectionProvider()));
+
+        IMethodBinder<String> mb = b.build();
+        assertInstanceOf(IExplicitOwnerMethodBinder.class, mb);
+        @SuppressWarnings("unchecked")
+        IExplicitOwnerMethodBinder<String> explicit = (IExplicitOwnerMethodBinder<String>) mb;
+        assertEquals("Hello first", explicit.executeOn(new NamedObject("first")).get().single());
+        assertEquals("Hello second", explicit.executeOn(new NamedObject("second")).get().single());
+        assertEquals("Hello supplied", mb.execute().get().single());
+    }
+
 }
@@ -0,0 +1,281 @@
+package com.garganttua.core.reflection.invocation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.IMethod;
+import com.garganttua.core.reflection.runtime.RuntimeClass;
+
+public class InvocationsTest {
+
+    // --- Test domain objects ---
+
+    public static class Target {
+        private int count = 1;
+        private long total = 2L;
+        private byte small = 3;
+        private String name = "name";
+        private final String constant = "constant";
+        private static String shared = "shared";
+        private static final String FIXED = "fixed";
+
+        public Target() {}
+
+        private String greet(String who, int times) {
+            return "Hello " + who + " x" + times;
+        }
+
+        private long widen(long value) {
+            return value * 2;
+        }
+
+        private void fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        private static String concat(String a, String b) {
+            return a + b;
+        }
+    }
+
+    @AfterEach
+    public void resetMode() {
+        Invocations.setMode(InvocationMode.METHOD_HANDLE);
+    }
+
+    private static IField field(String name) throws NoSuchFieldException {
+        return RuntimeClass.of(Target.class).getDeclaredField(name);
+    }
+
+    private static IMethod method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return RuntimeClass.of(Target.class).getDeclaredMethod(name,
+                Arrays.stream(parameterTypes).map(RuntimeClass::of).toArray(IClass[]::new));
+    }
+
+    // ========================================================================
+    // Fields
+    // ========================================================================
+
+    @Test
+    public void testFieldHandleIsCachedAndMethodHandleBacked() throws Exception {
+        IFieldHandle first = Invocations.field(field("name"));
+        IFieldHandle second = Invocations.field(field("name"));
+
+        assertSame(first, second);
+        assertEquals(InvocationMode.METHOD_HANDLE, first.mode());
+    }
+
+    @Test
+    public void testClearCacheDropsHandles() throws Exception {
+        IFieldHandle field = Invocations.field(field("name"));
+        IMethodHandle method = Invocations.method(method("fail"));
+
+        Invocations.clearCache();
+
+        IFieldHandle rebound = Invocations.field(field("name"));
+        assertNotSame(field, rebound);
+        assertSame(rebound, Invocations.field(field("name")));
+        assertNotSame(method, Invocations.method(method("fail")));
+    }
+
+    @Test
+    public void testGetAndSetObjectField() throws Exception {
+        Target target = new Target();
+        IFieldHandle handle = Invocations.field(field("name"));
+
+        assertEquals("name", handle.get(target));
+        handle.set(target, "updated");
+        assertEquals("updated", target.name);
+    }
+
+    @Test
+    public void testPrimitiveAccessWithWidening() throws Exception {
+        Target target = new Target();
+        IFieldHandle count = Invocations.field(field("count"));
+        IFieldHandle total = Invocations.field(field("total"));
+        IFieldHandle small = Invocations.field(field("small"));
+
+        assertEquals(1, count.getInt(target));
+        assertEquals(1L, count.getLong(target));
+        count.setInt(target, 42);
+        assertEquals(42, target.count);
+
+        total.setInt(target, 7);
+        assertEquals(7L, total.getLong(target));
+        assertEquals(3, small.getInt(target));
+
+        assertThrows(IllegalArgumentException.class, () -> total.getInt(target));
+        assertThrows(IllegalArgumentException.class, () -> count.getBoolean(target));
+    }
+
+    @Test
+    public void testWrongValueTypeIsIllegalArgument() throws Exception {
+        Target target = new Target();
+        IFieldHandle count = Invocations.field(field("count"));
+        IFieldHandle name = Invocations.field(field("name"));
+
+        assertThrows(IllegalArgumentException.class, () -> count.set(target, "not an int"));
+        assertThrows(IllegalArgumentException.class, () -> count.set(target, null));
+        assertThrows(IllegalArgumentException.class, () -> name.set(target, 12));
+        assertThrows(IllegalArgumentException.class, () -> name.getInt(target));
+    }
+
+    @Test
+    public void testFinalAndStaticFields() throws Exception {
+        Target target = new Target();
+        IFieldHandle constant = Invocations.field(field("constant"));
+        IFieldHandle shared = Invocations.field(field("shared"));
+        IFieldHandle fixed = Invocations.field(field("FIXED"));
+
+        constant.set(target, "changed");
+        assertEquals("changed", constant.get(target));
+
+        shared.set(null, "other");
+        assertEquals("other", shared.get(null));
+        shared.set(null, "shared");
+
+        assertEquals("fixed", fixed.get(null));
+        assertThrows(IllegalAccessException.class, () -> fixed.set(null, "nope"));
+    }
+
+    // ========================================================================
+    // Methods
+    // ========================================================================
+
+    @Test
+    public void testInvokeInstanceMethod() throws Exception {
+        IMethodHandle handle = Invocations.method(method("greet", String.class, int.class));
+
+        assertEquals(InvocationMode.METHOD_HANDLE, handle.mode());
+        assertEquals("Hello Bob x2", handle.invoke(new Target(), "Bob", 2));
+    }
+
+    @Test
+    public void testInvokeStaticMethodIgnoresTarget() throws Exception {
+        IMethodHandle handle = Invocations.method(method("concat", String.class, String.class));
+
+        assertEquals("ab", handle.invoke(null, "a", "b"));
+    }
+
+    @Test
+    public void testInvokeWidensPrimitiveArguments() throws Exception {
+        IMethodHandle handle = Invocations.method(method("widen", long.class));
+
+        assertEquals(6L, handle.invoke(new Target(), 3));
+    }
+
+    @Test
+    public void testInvokeVoidMethodWrapsTargetException() throws Exception {
+        IMethodHandle handle = Invocations.method(method("fail"));
+
+        InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                () -> handle.invoke(new Target()));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    public void testInvokeRejectsBadArguments() throws Exception {
+        IMethodHandle handle = Invocations.method(method("greet", String.class, int.class));
+
+        assertThrows(IllegalArgumentException.class, () -> handle.invoke(new Target(), "Bob"));
+        assertThrows(IllegalArgumentException.class, () -> handle.invoke(new Target(), "Bob", "two"));
+        assertThrows(IllegalArgumentException.class, () -> handle.invoke(new Target(), "Bob", null));
+        assertThrows(IllegalArgumentException.class, () -> handle.invoke("not a target", "Bob", 2));
+        assertThrows(NullPointerException.class, () -> handle.invoke(null, "Bob", 2));
+    }
+
+    // ========================================================================
+    // Direct members
+    // ========================================================================
+
+    /*
+     * Stands for a member bound to generated code: reports itself as direct and
+     * records the calls made on it, delegating them to the runtime member.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T direct(Class<T> type, Object delegate, List<String> calls) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, m, args) -> {
+            switch (m.getName()) {
+                case "isDirect":
+                    return true;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    calls.add(m.getName());
+                    try {
+                        return m.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        });
+    }
+
+    @Test
+    public void testDirectFieldUsesItsOwnAccessors() throws Exception {
+        List<String> calls = new ArrayList<>();
+        IField count = field("count");
+        count.setAccessible(true);
+        IField field = direct(IField.class, count, calls);
+        Target target = new Target();
+
+        IFieldHandle handle = Invocations.field(field);
+        assertEquals(InvocationMode.DIRECT, handle.mode());
+        assertSame(handle, Invocations.field(field));
+
+        handle.setInt(target, 5);
+        assertEquals(5, handle.getInt(target));
+        assertTrue(calls.containsAll(List.of("setInt", "getInt")));
+    }
+
+    @Test
+    public void testDirectMethodUsesItsOwnInvoke() throws Exception {
+        List<String> calls = new ArrayList<>();
+        IMethod greet = method("greet", String.class, int.class);
+        greet.setAccessible(true);
+        IMethod method = direct(IMethod.class, greet, calls);
+
+        IMethodHandle handle = Invocations.method(method);
+        assertEquals(InvocationMode.DIRECT, handle.mode());
+        assertEquals("Hello Al x2", handle.invoke(new Target(), "Al", 2));
+        assertTrue(calls.contains("invoke"));
+    }
+
+    // ========================================================================
+    // Reflection fallback
+    // ========================================================================
+
+    @Test
+    public void testReflectionModeProducesReflectiveHandles() throws Exception {
+        Invocations.setMode(InvocationMode.REFLECTION);
+        Target target = new Target();
+
+        IFieldHandle fieldHandle = Invocations.field(field("count"));
+        IMethodHandle methodHandle = Invocations.method(method("greet", String.class, int.class));
+
+        assertEquals(InvocationMode.REFLECTION, fieldHandle.mode());
+        assertEquals(InvocationMode.REFLECTION, methodHandle.mode());
+        assertEquals(1, fieldHandle.getInt(target));
+        assertEquals("Hello Al x1", methodHandle.invoke(target, "Al", 1));
+    }
+
+    @Test
+    public void testParseMode() {
+        assertEquals(InvocationMode.REFLECTION, InvocationMode.parse("reflection", InvocationMode.METHOD_HANDLE));
+        assertEquals(InvocationMode.METHOD_HANDLE, InvocationMode.parse("method-handle", InvocationMode.REFLECTION));
+        assertEquals(InvocationMode.METHOD_HANDLE, InvocationMode.parse(null, InvocationMode.METHOD_HANDLE));
+        assertEquals(InvocationMode.REFLECTION, InvocationMode.parse("unknown", InvocationMode.REFLECTION));
+    }
+}
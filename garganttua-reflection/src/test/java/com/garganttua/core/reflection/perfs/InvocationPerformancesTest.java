@@ -0,0 +1,99 @@
+package com.garganttua.core.reflection.perfs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.reflection.IReflectionProvider;
+import com.garganttua.core.reflection.ObjectAddress;
+import com.garganttua.core.reflection.fields.FieldAccessor;
+import com.garganttua.core.reflection.fields.FieldResolver;
+import com.garganttua.core.reflection.fields.SingleFieldValue;
+import com.garganttua.core.reflection.invocation.InvocationMode;
+import com.garganttua.core.reflection.invocation.Invocations;
+import com.garganttua.core.reflection.methods.MethodInvoker;
+import com.garganttua.core.reflection.methods.MethodResolver;
+import com.garganttua.core.reflection.runtime.RuntimeClass;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+/**
+ * Before/after comparison of the reflection and method handle invocation backends
+ * on {@link FieldAccessor} and {@link MethodInvoker}.
+ */
+@Disabled("Performances tests, too heavy for standard build")
+public class InvocationPerformancesTest {
+
+    private static final IReflectionProvider PROVIDER = new RuntimeReflectionProvider();
+    private static final int WARMUP = 2_000_000;
+    private static final int RUNS = 2_000_000;
+
+    public static class Bean {
+        private String name = "bean";
+        private int counter;
+
+        public Bean() {}
+
+        private int increment(int step) {
+            return this.counter += step;
+        }
+    }
+
+    @AfterEach
+    public void resetMode() {
+        Invocations.setMode(InvocationMode.METHOD_HANDLE);
+    }
+
+    @Test
+    public void testFieldAccessorBackends() throws Exception {
+        for (InvocationMode mode : InvocationMode.values()) {
+            Invocations.setMode(mode);
+            FieldAccessor<String> accessor = new FieldAccessor<>(
+                    FieldResolver.fieldByFieldName(RuntimeClass.of(Bean.class), PROVIDER, "name"));
+            Bean bean = new Bean();
+            SingleFieldValue<String> value = SingleFieldValue.of("updated", RuntimeClass.of(String.class));
+
+            long elapsed = measure(() -> {
+                accessor.setValue(bean, value);
+                accessor.getValue(bean);
+            });
+            report("FieldAccessor get+set", mode, elapsed);
+        }
+    }
+
+    @Test
+    public void testMethodInvokerBackends() throws Exception {
+        for (InvocationMode mode : InvocationMode.values()) {
+            Invocations.setMode(mode);
+            MethodInvoker<Bean, Integer> invoker = new MethodInvoker<>(MethodResolver.methodByAddress(
+                    RuntimeClass.of(Bean.class), PROVIDER, new ObjectAddress("increment"),
+                    RuntimeClass.of(int.class), RuntimeClass.of(int.class)));
+            Bean bean = new Bean();
+
+            long elapsed = measure(() -> invoker.invoke(bean, 1));
+            report("MethodInvoker invoke", mode, elapsed);
+        }
+    }
+
+    private interface Run {
+        void run() throws Exception;
+    }
+
+    private static long measure(Run run) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            run.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            run.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void report(String name, InvocationMode mode, long elapsed) {
+        System.out.println("===================================");
+        System.out.println("Case      : " + name);
+        System.out.println("Mode      : " + mode);
+        System.out.println("Runs      : " + RUNS);
+        System.out.println("ns/op     : " + (elapsed / (double) RUNS));
+    }
+}
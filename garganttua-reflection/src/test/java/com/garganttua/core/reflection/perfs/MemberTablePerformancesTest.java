@@ -0,0 +1,139 @@
+package com.garganttua.core.reflection.perfs;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.IObjectQuery;
+import com.garganttua.core.reflection.IReflectionProvider;
+import com.garganttua.core.reflection.ObjectAddress;
+import com.garganttua.core.reflection.query.ObjectQueryCache;
+import com.garganttua.core.reflection.query.ObjectQueryFactory;
+import com.garganttua.core.reflection.runtime.RuntimeClass;
+import com.garganttua.core.reflection.runtime.RuntimeField;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+/**
+ * Lookup cost of the {@link RuntimeClass} member tables, compared with wrapping
+ * the JDK member arrays on every call, footprint of the tables once warm, and
+ * cost of object query lookups with and without the {@link ObjectQueryCache}.
+ */
+@Disabled("Performances tests, too heavy for standard build")
+public class MemberTablePerformancesTest {
+
+    private static final IReflectionProvider PROVIDER = new RuntimeReflectionProvider();
+    private static final int WARMUP = 200_000;
+    private static final int RUNS = 1_000_000;
+
+    public static class Base {
+        protected String id;
+        protected long version;
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    public static class Address {
+        private String street;
+        private String city;
+    }
+
+    public static class Entity extends Base {
+        private String name;
+        private Address address;
+        private List<Address> previous;
+        private Map<String, Address> others;
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    @Test
+    public void testDeclaredFields() throws Exception {
+        long wrapped = measure(() -> Arrays.stream(Entity.class.getDeclaredFields())
+                .map(RuntimeField::of)
+                .toArray(IField[]::new));
+        report("getDeclaredFields (JDK + wrap)", wrapped);
+
+        RuntimeClass<Entity> entity = RuntimeClass.of(Entity.class);
+        long cached = measure(entity::getDeclaredFields);
+        report("getDeclaredFields (member table)", cached);
+    }
+
+    @Test
+    public void testObjectQueryLookups() throws Exception {
+        IObjectQuery<Entity> query = ObjectQueryFactory.objectQuery(RuntimeClass.of(Entity.class), PROVIDER);
+        ObjectAddress inherited = new ObjectAddress("version", true);
+        ObjectAddress nested = new ObjectAddress("address.city", true);
+        ObjectAddress method = new ObjectAddress("getId", true);
+
+        report("find inherited field", measure(() -> query.find(inherited)));
+        report("find nested field", measure(() -> query.find(nested)));
+        report("findAll inherited method", measure(() -> query.findAll(method)));
+
+        System.out.println("===================================");
+        System.out.println("Member tables : " + RuntimeClass.memberTableCount());
+        System.out.println("Footprint     : " + RuntimeClass.memberTableFootprint() + " bytes");
+    }
+
+    @Test
+    public void testObjectQueryCache() throws Exception {
+        RuntimeClass<Entity> entity = RuntimeClass.of(Entity.class);
+        ObjectAddress nested = new ObjectAddress("address.city", true);
+        ObjectAddress method = new ObjectAddress("getId", true);
+
+        try {
+            ObjectQueryCache.setMaximumSize(0);
+            report("find nested field (no cache)",
+                    measure(() -> ObjectQueryFactory.objectQuery(entity, PROVIDER).find(nested)));
+            report("findAll inherited method (no cache)",
+                    measure(() -> ObjectQueryFactory.objectQuery(entity, PROVIDER).findAll(method)));
+        } finally {
+            ObjectQueryCache.setMaximumSize(ObjectQueryCache.DEFAULT_MAXIMUM_SIZE);
+        }
+        ObjectQueryCache.resetStatistics();
+        report("find nested field (cache)",
+                measure(() -> ObjectQueryFactory.objectQuery(entity, PROVIDER).find(nested)));
+        report("findAll inherited method (cache)",
+                measure(() -> ObjectQueryFactory.objectQuery(entity, PROVIDER).findAll(method)));
+        report("field accessor (cache)",
+                measure(() -> ObjectQueryCache.fieldAccessor(entity, PROVIDER, nested, false)));
+
+        System.out.println("===================================");
+        System.out.println("Hits          : " + ObjectQueryCache.hits());
+        System.out.println("Misses        : " + ObjectQueryCache.misses());
+    }
+
+    private interface Run {
+        Object run() throws Exception;
+    }
+
+    private static long measure(Run run) throws Exception {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = run.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            sink = run.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == null) {
+            System.out.println("no result");
+        }
+        return elapsed;
+    }
+
+    private static void report(String name, long elapsed) {
+        System.out.println("===================================");
+        System.out.println("Case      : " + name);
+        System.out.println("Runs      : " + RUNS);
+        System.out.println("ns/op     : " + (elapsed / (double) RUNS));
+    }
+}
@@ -0,0 +1,180 @@
+package com.garganttua.core.reflection.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IObjectQuery;
+import com.garganttua.core.reflection.ObjectAddress;
+import com.garganttua.core.reflection.ReflectionException;
+import com.garganttua.core.reflection.fields.FieldAccessor;
+import com.garganttua.core.reflection.methods.MethodInvoker;
+import com.garganttua.core.reflection.runtime.RuntimeClass;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+
+public class ObjectQueryCacheTest {
+
+    private static final RuntimeReflectionProvider PROVIDER = new RuntimeReflectionProvider();
+
+    public static class Address {
+        private String city;
+    }
+
+    public static class Person {
+        private String name;
+        private Address address;
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        ObjectQueryCache.setMaximumSize(ObjectQueryCache.DEFAULT_MAXIMUM_SIZE);
+        ObjectQueryCache.clear();
+        ObjectQueryCache.resetStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ObjectQueryCache.setMaximumSize(ObjectQueryCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @Test
+    public void testRepeatedLookupsHitTheCache() throws ReflectionException {
+        IObjectQuery<Person> query = ObjectQueryFactory.objectQuery(RuntimeClass.of(Person.class), PROVIDER);
+
+        List<Object> first = query.find("address.city");
+        List<Object> second = ObjectQueryFactory.objectQuery(RuntimeClass.of(Person.class), PROVIDER)
+                .find("address.city");
+
+        assertEquals(first, second);
+        assertNotSame(first, second, "Callers must get their own copy");
+        assertEquals(1, ObjectQueryCache.misses());
+        assertEquals(1, ObjectQueryCache.hits());
+
+        // Returned lists stay mutable and do not leak into the cache
+        second.clear();
+        assertEquals(2, query.find("address.city").size());
+    }
+
+    @Test
+    public void testFailedLookupsAreNotCached() throws ReflectionException {
+        IObjectQuery<Person> query = ObjectQueryFactory.objectQuery(RuntimeClass.of(Person.class), PROVIDER);
+
+        assertThrows(ReflectionException.class, () -> query.find("unknown"));
+        assertThrows(ReflectionException.class, () -> query.find("unknown"));
+
+        assertEquals(0, ObjectQueryCache.size());
+        assertEquals(2, ObjectQueryCache.misses());
+    }
+
+    @Test
+    public void testReadyMadeAccessors() throws ReflectionException {
+        Person person = new Person();
+        person.name = "John";
+        person.address = new Address();
+        person.address.city = "Paris";
+
+        ObjectAddress city = new ObjectAddress("address.city", true);
+        FieldAccessor<String> accessor = ObjectQueryCache.fieldAccessor(RuntimeClass.of(Person.class), PROVIDER, city,
+                false);
+        assertSame(accessor, ObjectQueryCache.fieldAccessor(RuntimeClass.of(Person.class), PROVIDER, city, false));
+        assertNotSame(accessor, ObjectQueryCache.fieldAccessor(RuntimeClass.of(Person.class), PROVIDER, city, true));
+        assertEquals("Paris", accessor.getValue(person).single());
+
+        ObjectAddress getName = new ObjectAddress("getName", true);
+        MethodInvoker<Person, String> invoker = ObjectQueryCache.methodInvoker(RuntimeClass.of(Person.class),
+                PROVIDER, getName, RuntimeClass.of(String.class), new IClass<?>[0], false);
+        assertSame(invoker, ObjectQueryCache.methodInvoker(RuntimeClass.of(Person.class), PROVIDER, getName,
+                RuntimeClass.of(String.class), new IClass<?>[0], false));
+        assertEquals("John", invoker.invoke(person).single());
+    }
+
+    @Test
+    public void testEntriesArePerProvider() throws ReflectionException {
+        ObjectQueryFactory.objectQuery(RuntimeClass.of(Person.class), PROVIDER).find("name");
+        ObjectQueryFactory.objectQuery(RuntimeClass.of(Person.class), new RuntimeReflectionProvider()).find("name");
+
+        assertEquals(2, ObjectQueryCache.size());
+        assertEquals(2, ObjectQueryCache.misses());
+        assertEquals(0, ObjectQueryCache.hits());
+    }
+
+    @Test
+    public void testInvalidateDropsEntriesGoingThroughTheClass() throws ReflectionException {
+        ObjectQueryFactory.objectQuery(RuntimeClass.of(Person.class), PROVIDER).find("address.city");
+        ObjectQueryFactory.objectQuery(RuntimeClass.of(Person.class), PROVIDER).find("name");
+        assertEquals(2, ObjectQueryCache.size());
+
+        ObjectQueryCache.invalidate(RuntimeClass.of(Address.class));
+        assertEquals(1, ObjectQueryCache.size(), "Only the path through Address should be dropped");
+
+        ObjectQueryCache.invalidate(RuntimeClass.of(Person.class));
+        assertEquals(0, ObjectQueryCache.size());
+    }
+
+    @Test
+    public void testBoundedEviction() throws ReflectionException {
+        ObjectQueryCache.setMaximumSize(4);
+        IObjectQuery<Person> query = ObjectQueryFactory.objectQuery(RuntimeClass.of(Person.class), PROVIDER);
+
+        query.find("name");
+        query.find("address");
+        query.find("address.city");
+        query.find("getName");
+        query.find("name");
+        query.findAll("getName");
+
+        assertTrue(ObjectQueryCache.size() <= 4);
+        assertTrue(ObjectQueryCache.evictions() > 0);
+        // The most recently used entry survives
+        long misses = ObjectQueryCache.misses();
+        query.find("name");
+        assertEquals(misses, ObjectQueryCache.misses());
+    }
+
+    @Test
+    public void testHitsRefreshRecency() throws ReflectionException {
+        ObjectQueryCache.setMaximumSize(4);
+        IObjectQuery<Person> query = ObjectQueryFactory.objectQuery(RuntimeClass.of(Person.class), PROVIDER);
+
+        query.find("name");
+        query.find("address");
+        query.find("address.city");
+        query.find("getName");
+        // The oldest entries are used again, leaving getName as the least recently used one
+        query.find("name");
+        query.find("address");
+        query.find("address.city");
+        query.findAll("name");
+        assertEquals(1, ObjectQueryCache.evictions());
+
+        long misses = ObjectQueryCache.misses();
+        query.find("name");
+        query.find("address");
+        query.find("address.city");
+        assertEquals(misses, ObjectQueryCache.misses());
+        query.find("getName");
+        assertEquals(misses + 1, ObjectQueryCache.misses());
+    }
+
+    @Test
+    public void testDisabledCache() throws ReflectionException {
+        ObjectQueryCache.setMaximumSize(0);
+        IObjectQuery<Person> query = ObjectQueryFactory.objectQuery(RuntimeClass.of(Person.class), PROVIDER);
+
+        query.find("name");
+        query.find("name");
+
+        assertEquals(0, ObjectQueryCache.size());
+        assertEquals(0, ObjectQueryCache.hits());
+        assertEquals(2, ObjectQueryCache.misses());
+    }
+}
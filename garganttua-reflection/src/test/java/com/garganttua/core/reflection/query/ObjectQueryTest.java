@@ -7,6 +7,8 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.IMemberTable;
 import com.garganttua.core.reflection.IMethod;
 import com.garganttua.core.reflection.IObjectQuery;
 import com.garganttua.core.reflection.ObjectAddress;
@@ -52,6 +54,21 @@ public class ObjectQueryTest {
         }
     }
 
+    public interface Named {
+        default String label() {
+            return "named";
+        }
+    }
+
+    // Subclass overriding an inherited method and inheriting an interface default
+    public static class SubTestClass extends TestClass implements Named {
+        private String extra;
+
+        @Override
+        public void testMethod(int arg) {
+        }
+    }
+
     @Test
     public void testFindSingleMethod() throws ReflectionException {
         IObjectQuery query = new ObjectQuery<>(RuntimeClass.of(TestClass.class), PROVIDER);
@@ -230,4 +247,31 @@ public class ObjectQueryTest {
         assertEquals(singleAddress.toString(), multipleAddresses.get(0).toString(),
                 "Single address should match the address from the list");
     }
+
+    @Test
+    public void testInheritedMembersAreResolvedOncePerSignature() throws ReflectionException {
+        IObjectQuery query = new ObjectQuery<>(RuntimeClass.of(SubTestClass.class), PROVIDER);
+
+        List<List<Object>> overloads = query.findAll("testMethod");
+        List<Object> field = query.find("name");
+        List<Object> label = query.find("label");
+
+        assertEquals(4, overloads.size(), "Overridden method should be listed once");
+        assertEquals(RuntimeClass.of(SubTestClass.class), ((IMethod) overloads.get(0).get(0)).getDeclaringClass());
+        assertEquals("name", ((IField) field.get(0)).getName());
+        assertEquals(RuntimeClass.of(Named.class), ((IMethod) label.get(0)).getDeclaringClass());
+    }
+
+    @Test
+    public void testRuntimeClassMemberTable() throws Exception {
+        IMemberTable table = RuntimeClass.of(SubTestClass.class).getMemberTable().orElseThrow();
+
+        assertSame(table, RuntimeClass.of(SubTestClass.class).getMemberTable().orElseThrow());
+        assertEquals(RuntimeClass.of(TestClass.class).getDeclaredField("value"), table.findField("value"));
+        assertNull(table.findField("nonExistent"));
+        assertTrue(table.findMethods("nonExistent").isEmpty());
+        assertEquals(3, table.getAllFields().size());
+        assertTrue(table.footprint() > 0);
+        assertThrows(NoSuchFieldException.class, () -> RuntimeClass.of(SubTestClass.class).getDeclaredField("value"));
+    }
 }
@@ -15,6 +15,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IConstructor;
 import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.IMemberTable;
 import com.garganttua.core.reflection.IMethod;
 import com.garganttua.core.reflection.IRecordComponent;
 import com.garganttua.core.reflection.IReflection;
@@ -26,6 +27,8 @@ public class RuntimeClass<T> implements IClass<T> {
 
 	private final Class<T> clazz;
 
+	private volatile RuntimeMemberTable memberTable;
+
 	private RuntimeClass(Class<T> clazz) {
 		this.clazz = clazz;
 	}
@@ -228,28 +231,26 @@ public class RuntimeClass<T> implements IClass<T> {
 
 	@Override
 	public IField[] getDeclaredFields() {
-		return Arrays.stream(clazz.getDeclaredFields())
-				.map(RuntimeField::of)
-				.toArray(IField[]::new);
+		return memberTable().declaredFields().clone();
 	}
 
 	@Override
 	public IMethod[] getDeclaredMethods() {
-		return Arrays.stream(clazz.getDeclaredMethods())
-				.map(RuntimeMethod::of)
-				.toArray(IMethod[]::new);
+		return memberTable().declaredMethods().clone();
 	}
 
 	@Override
 	public IConstructor<?>[] getDeclaredConstructors() {
-		return Arrays.stream(clazz.getDeclaredConstructors())
-				.map(RuntimeConstructor::ofUnchecked)
-				.toArray(IConstructor<?>[]::new);
+		return memberTable().declaredConstructors().clone();
 	}
 
 	@Override
 	public IField getDeclaredField(String name) throws NoSuchFieldException, SecurityException {
-		return RuntimeField.of(clazz.getDeclaredField(name));
+		IField field = memberTable().declaredField(name);
+		if (field == null) {
+			throw new NoSuchFieldException(name);
+		}
+		return field;
 	}
 
 	@Override
@@ -271,23 +272,17 @@ public class RuntimeClass<T> implements IClass<T> {
 
 	@Override
 	public IField[] getFields() {
-		return Arrays.stream(clazz.getFields())
-				.map(RuntimeField::of)
-				.toArray(IField[]::new);
+		return memberTable().publicFields().clone();
 	}
 
 	@Override
 	public IMethod[] getMethods() {
-		return Arrays.stream(clazz.getMethods())
-				.map(RuntimeMethod::of)
-				.toArray(IMethod[]::new);
+		return memberTable().publicMethods().clone();
 	}
 
 	@Override
 	public IConstructor<?>[] getConstructors() {
-		return Arrays.stream(clazz.getConstructors())
-				.map(RuntimeConstructor::ofUnchecked)
-				.toArray(IConstructor<?>[]::new);
+		return memberTable().publicConstructors().clone();
 	}
 
 	@Override
@@ -310,6 +305,50 @@ public class RuntimeClass<T> implements IClass<T> {
 		return (IConstructor<T>) RuntimeConstructor.ofUnchecked(clazz.getConstructor(rawTypes));
 	}
 
+	// --- Member table ---
+
+	@Override
+	public Optional<IMemberTable> getMemberTable() {
+		return Optional.of(memberTable());
+	}
+
+	RuntimeMemberTable memberTable() {
+		RuntimeMemberTable cached = memberTable;
+		if (cached == null) {
+			cached = new RuntimeMemberTable(clazz);
+			memberTable = cached;
+		}
+		return cached;
+	}
+
+	/**
+	 * Returns the number of classes whose member table has been built.
+	 */
+	public static int memberTableCount() {
+		int count = 0;
+		for (RuntimeClass<?> runtimeClass : CACHE.values()) {
+			if (runtimeClass.memberTable != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the estimated heap retained by all the member tables built so far,
+	 * see {@link IMemberTable#footprint()}.
+	 */
+	public static long memberTableFootprint() {
+		long footprint = 0;
+		for (RuntimeClass<?> runtimeClass : CACHE.values()) {
+			RuntimeMemberTable table = runtimeClass.memberTable;
+			if (table != null) {
+				footprint += table.footprint();
+			}
+		}
+		return footprint;
+	}
+
 	// --- Record components ---
 
 	@Override
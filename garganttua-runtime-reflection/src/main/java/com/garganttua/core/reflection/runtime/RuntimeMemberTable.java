@@ -0,0 +1,248 @@
+package com.garganttua.core.reflection.runtime;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.garganttua.core.reflection.IConstructor;
+import com.garganttua.core.reflection.IField;
+import com.garganttua.core.reflection.IMemberTable;
+import com.garganttua.core.reflection.IMethod;
+
+/**
+ * Member table of a {@link RuntimeClass}, built once from {@code java.lang.reflect}.
+ *
+ * <p>
+ * Declared members and their name indexes are computed when the table is created.
+ * Public members and the flattened hierarchy views are computed on first use, the
+ * latter from the tables of the superclass and interfaces so each class of a
+ * hierarchy is introspected only once. Lazy parts are published through volatile
+ * fields without locking: concurrent first uses may compute them twice, which is
+ * harmless since members are interned by {@link RuntimeField}, {@link RuntimeMethod}
+ * and {@link RuntimeConstructor}.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+final class RuntimeMemberTable implements IMemberTable {
+
+	// Rough object sizes on a 64-bit JVM with compressed oops, used by footprint()
+	private static final long OBJECT_HEADER = 16;
+	private static final long REFERENCE = 4;
+	private static final long MAP_ENTRY = 32;
+	private static final long LIST = 24;
+
+	private final Class<?> clazz;
+
+	private final IField[] declaredFields;
+	private final IMethod[] declaredMethods;
+	private final IConstructor<?>[] declaredConstructors;
+	private final Map<String, IField> declaredFieldsByName;
+
+	private volatile IField[] publicFields;
+	private volatile IMethod[] publicMethods;
+	private volatile IConstructor<?>[] publicConstructors;
+	private volatile Hierarchy hierarchy;
+
+	private record Hierarchy(List<IField> fields, Map<String, IField> fieldsByName,
+			List<IMethod> methods, Map<String, List<IMethod>> methodsByName) {
+	}
+
+	RuntimeMemberTable(Class<?> clazz) {
+		this.clazz = clazz;
+
+		Field[] fields = clazz.getDeclaredFields();
+		this.declaredFields = new IField[fields.length];
+		this.declaredFieldsByName = new HashMap<>(capacity(fields.length));
+		for (int i = 0; i < fields.length; i++) {
+			this.declaredFields[i] = RuntimeField.of(fields[i]);
+			this.declaredFieldsByName.putIfAbsent(fields[i].getName(), this.declaredFields[i]);
+		}
+
+		Method[] methods = clazz.getDeclaredMethods();
+		this.declaredMethods = new IMethod[methods.length];
+		for (int i = 0; i < methods.length; i++) {
+			this.declaredMethods[i] = RuntimeMethod.of(methods[i]);
+		}
+
+		Constructor<?>[] constructors = clazz.getDeclaredConstructors();
+		this.declaredConstructors = new IConstructor<?>[constructors.length];
+		for (int i = 0; i < constructors.length; i++) {
+			this.declaredConstructors[i] = RuntimeConstructor.ofUnchecked(constructors[i]);
+		}
+	}
+
+	// --- Cached arrays, shared: callers must copy before exposing them ---
+
+	IField[] declaredFields() {
+		return declaredFields;
+	}
+
+	IMethod[] declaredMethods() {
+		return declaredMethods;
+	}
+
+	IConstructor<?>[] declaredConstructors() {
+		return declaredConstructors;
+	}
+
+	IField declaredField(String name) {
+		return declaredFieldsByName.get(name);
+	}
+
+	IField[] publicFields() {
+		IField[] cached = publicFields;
+		if (cached == null) {
+			cached = Arrays.stream(clazz.getFields()).map(RuntimeField::of).toArray(IField[]::new);
+			publicFields = cached;
+		}
+		return cached;
+	}
+
+	IMethod[] publicMethods() {
+		IMethod[] cached = publicMethods;
+		if (cached == null) {
+			cached = Arrays.stream(clazz.getMethods()).map(RuntimeMethod::of).toArray(IMethod[]::new);
+			publicMethods = cached;
+		}
+		return cached;
+	}
+
+	IConstructor<?>[] publicConstructors() {
+		IConstructor<?>[] cached = publicConstructors;
+		if (cached == null) {
+			cached = Arrays.stream(clazz.getConstructors()).map(RuntimeConstructor::ofUnchecked)
+					.toArray(IConstructor<?>[]::new);
+			publicConstructors = cached;
+		}
+		return cached;
+	}
+
+	// --- IMemberTable ---
+
+	@Override
+	public IField findField(String name) {
+		return hierarchy().fieldsByName().get(name);
+	}
+
+	@Override
+	public IMethod findMethod(String name) {
+		List<IMethod> methods = hierarchy().methodsByName().get(name);
+		return methods == null ? null : methods.get(0);
+	}
+
+	@Override
+	public List<IMethod> findMethods(String name) {
+		return hierarchy().methodsByName().getOrDefault(name, List.of());
+	}
+
+	@Override
+	public List<IField> getAllFields() {
+		return hierarchy().fields();
+	}
+
+	@Override
+	public List<IMethod> getAllMethods() {
+		return hierarchy().methods();
+	}
+
+	@Override
+	public long footprint() {
+		long size = OBJECT_HEADER + 8 * REFERENCE;
+		size += array(declaredFields.length) + array(declaredMethods.length) + array(declaredConstructors.length);
+		size += map(declaredFieldsByName.size());
+		IField[] pf = publicFields;
+		IMethod[] pm = publicMethods;
+		IConstructor<?>[] pc = publicConstructors;
+		size += pf == null ? 0 : array(pf.length);
+		size += pm == null ? 0 : array(pm.length);
+		size += pc == null ? 0 : array(pc.length);
+		Hierarchy h = hierarchy;
+		if (h != null) {
+			size += OBJECT_HEADER + 4 * REFERENCE;
+			size += LIST + array(h.fields().size()) + map(h.fieldsByName().size());
+			size += LIST + array(h.methods().size()) + map(h.methodsByName().size());
+			size += h.methodsByName().size() * (LIST + OBJECT_HEADER) + h.methods().size() * REFERENCE;
+		}
+		return size;
+	}
+
+	// --- Hierarchy ---
+
+	private Hierarchy hierarchy() {
+		Hierarchy cached = hierarchy;
+		if (cached == null) {
+			cached = buildHierarchy();
+			hierarchy = cached;
+		}
+		return cached;
+	}
+
+	private Hierarchy buildHierarchy() {
+		Class<?> superclass = clazz.getSuperclass();
+		Hierarchy parent = superclass == null ? null : RuntimeClass.ofUnchecked(superclass).memberTable().hierarchy();
+
+		List<IField> fields = new ArrayList<>(Arrays.asList(declaredFields));
+		if (parent != null) {
+			fields.addAll(parent.fields());
+		}
+		Map<String, IField> fieldsByName = new HashMap<>(capacity(fields.size()));
+		for (IField field : fields) {
+			fieldsByName.putIfAbsent(field.getName(), field);
+		}
+
+		// name -> (parameter types -> method), first seen wins
+		Map<String, Map<List<Class<?>>, IMethod>> signatures = new LinkedHashMap<>();
+		for (IMethod method : declaredMethods) {
+			addMethod(signatures, method);
+		}
+		for (Class<?> iface : clazz.getInterfaces()) {
+			for (IMethod method : RuntimeClass.ofUnchecked(iface).memberTable().hierarchy().methods()) {
+				addMethod(signatures, method);
+			}
+		}
+		if (parent != null) {
+			for (IMethod method : parent.methods()) {
+				addMethod(signatures, method);
+			}
+		}
+		List<IMethod> methods = new ArrayList<>();
+		Map<String, List<IMethod>> methodsByName = new HashMap<>(capacity(signatures.size()));
+		for (Map.Entry<String, Map<List<Class<?>>, IMethod>> entry : signatures.entrySet()) {
+			List<IMethod> overloads = List.copyOf(entry.getValue().values());
+			methods.addAll(overloads);
+			methodsByName.put(entry.getKey(), overloads);
+		}
+
+		return new Hierarchy(Collections.unmodifiableList(fields), Collections.unmodifiableMap(fieldsByName),
+				Collections.unmodifiableList(methods), Collections.unmodifiableMap(methodsByName));
+	}
+
+	private static void addMethod(Map<String, Map<List<Class<?>>, IMethod>> signatures, IMethod method) {
+		Method raw = RuntimeMethod.unwrap(method);
+		signatures.computeIfAbsent(raw.getName(), k -> new LinkedHashMap<>())
+				.putIfAbsent(List.of(raw.getParameterTypes()), method);
+	}
+
+	// --- Helpers ---
+
+	private static int capacity(int size) {
+		return (int) (size / 0.75f) + 1;
+	}
+
+	private static long array(int length) {
+		return OBJECT_HEADER + length * REFERENCE;
+	}
+
+	private static long map(int size) {
+		return 3 * OBJECT_HEADER + array(Integer.highestOneBit(Math.max(1, capacity(size)) * 2 - 1))
+				+ size * MAP_ENTRY;
+	}
+}
@@ -8,8 +8,7 @@ import java.util.UUID;
 
 import org.slf4j.MDC;
 
-import com.garganttua.core.execution.ExecutorChain;
-import com.garganttua.core.execution.IExecutorChain;
+import com.garganttua.core.execution.ExecutionPlan;
 import com.garganttua.core.injection.IInjectionContext;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.supply.ISupplier;
@@ -26,6 +25,7 @@ public class Runtime<InputType, OutputType> implements IRuntime<InputType, Outpu
         private final Class<OutputType> outputType;
         private final Map<String, IRuntimeStep<?, InputType, OutputType>> steps;
         private final Map<String, ISupplier<?>> presetVariables;
+        private final ExecutionPlan<IRuntimeContext<InputType, OutputType>> plan;
 
         public Runtime(
                         String name,
@@ -49,6 +49,12 @@ public class Runtime<InputType, OutputType> implements IRuntime<InputType, Outpu
                 this.presetVariables = Collections.synchronizedMap(
                                 Map.copyOf(Objects.requireNonNull(variables, "Preset variables map cannot be null")));
 
+                // Steps are linked once, every execution runs the same plan
+                this.plan = ExecutionPlan.compile(false, chain -> this.steps.values().forEach(step -> {
+                        log.atTrace().log("Registering step");
+                        step.defineExecutionStep(chain);
+                }));
+
                 log.atDebug().log("[Runtime.<init>] Runtime initialized successfully with name={}", this.name);
         }
 
@@ -81,20 +87,10 @@ public class Runtime<InputType, OutputType> implements IRuntime<InputType, Outpu
 
                         runtimeContext.onInit().onStart();
 
-                        // BUILD EXECUTION CHAIN
-                        log.atDebug().log("Building executor chain");
-
-                        IExecutorChain<IRuntimeContext<InputType, OutputType>> chain = new ExecutorChain<>(false);
-
-                        this.steps.values().forEach(step -> {
-                                log.atTrace().log("Registering step");
-                                step.defineExecutionStep(chain);
-                        });
-
                         // EXECUTE
-                        log.atDebug().log("Executing runtime chain");
+                        log.atDebug().log("Executing runtime plan");
 
-                        chain.execute(runtimeContext);
+                        this.plan.execute(runtimeContext);
 
                 } catch (Exception e) {
 
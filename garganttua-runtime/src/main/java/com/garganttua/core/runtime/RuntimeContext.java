@@ -11,8 +11,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.garganttua.core.expression.context.VariableSlots;
 import com.garganttua.core.injection.BeanReference;
 import com.garganttua.core.injection.DiException;
 import com.garganttua.core.injection.IBeanProvider;
@@ -45,17 +48,23 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
     private final InputType input;
     @Getter
     private final IClass<?> outputType;
-    private OutputType output;
+    private volatile OutputType output;
     private final Map<String, ISupplier<?>> presetVariables = Collections.synchronizedMap(new HashMap<>());
-    private final Map<String, Object> variables = Collections.synchronizedMap(new HashMap<>());
+    private final VariableFrame variables;
     private Instant start;
     private Instant stop;
     private long startNano;
     private long stopNano;
     private final UUID uuid;
-    private Integer code = IRuntime.GENERIC_RUNTIME_SUCCESS_CODE;
+    private volatile Integer code = IRuntime.GENERIC_RUNTIME_SUCCESS_CODE;
     private final IInjectionContext delegateContext;
 
+    // Set on branches created by fork()
+    private final RuntimeContext<InputType, OutputType> origin;
+    private final Set<String> writtenNames;
+    private volatile boolean outputWritten;
+    private volatile boolean codeWritten;
+
     private final Object lifecycleMutex = new Object();
     private final Set<RuntimeExceptionRecord> recordedException = Collections.synchronizedSet(new HashSet<>());
 
@@ -70,9 +79,82 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
         this.outputType = IClass.getClass(Objects.requireNonNull(outputType, "Output type cannot be null"));
         this.presetVariables
                 .putAll(Map.copyOf(Objects.requireNonNull(presetVariables, "Preset variables map cannot be null")));
+        this.variables = new VariableFrame();
+        this.origin = null;
+        this.writtenNames = null;
         log.atDebug().log("[RuntimeContext.<init>] RuntimeContext created with uuid={}", this.uuid);
     }
 
+    private RuntimeContext(RuntimeContext<InputType, OutputType> origin) {
+        this.uuid = origin.uuid;
+        this.delegateContext = origin.delegateContext;
+        this.input = origin.input;
+        this.outputType = origin.outputType;
+        this.variables = origin.variables.copy();
+        this.code = origin.code;
+        this.origin = origin;
+        this.writtenNames = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Creates a branch of this context, for a part of the execution running
+     * concurrently with the rest of it, such as a branch of a parallel script group.
+     *
+     * <p>
+     * The branch starts with the variables and code of this context as they are when
+     * it is forked, and without output, so that its output is the one it produces.
+     * Its own changes, and the exceptions it records, are kept apart, so that
+     * branches running at the same time do not see each other; they are applied to
+     * this context by {@link #merge(RuntimeContext)}. Beans and properties are
+     * shared with this context.
+     * </p>
+     *
+     * @return the started branch
+     * @since 2.0.0-ALPHA02
+     */
+    public RuntimeContext<InputType, OutputType> fork() {
+        wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(RuntimeException.class));
+        RuntimeContext<InputType, OutputType> branch = new RuntimeContext<>(this);
+        branch.onInit().onStart();
+        log.atDebug().log("[RuntimeContext.fork] Forked branch of context uuid={}", this.uuid);
+        return branch;
+    }
+
+    /**
+     * Applies the changes of a finished branch of this context: the variables it
+     * set, its output and code if it set them, and the exceptions it recorded.
+     * Branches merged one after the other override each other in merge order, which
+     * the caller keeps independent of the order in which they finished.
+     *
+     * @param branch a branch created by {@link #fork()} on this context
+     * @throws IllegalArgumentException if the branch was not forked from this context
+     * @since 2.0.0-ALPHA02
+     */
+    public void merge(RuntimeContext<InputType, OutputType> branch) {
+        Objects.requireNonNull(branch, "Branch cannot be null");
+        if (branch.origin != this) {
+            throw new IllegalArgumentException("Context " + branch.uuid + " is not a branch of this context");
+        }
+        for (String name : new TreeSet<>(branch.writtenNames)) {
+            int slot = VariableSlots.find(name);
+            Object value = branch.variables.get(slot, name);
+            if (value != null) {
+                this.setVariable(slot, name, value);
+            }
+        }
+        if (branch.outputWritten) {
+            this.setOutput(branch.output);
+        }
+        if (branch.codeWritten) {
+            this.setCode(branch.code);
+        }
+        synchronized (branch.recordedException) {
+            this.recordedException.addAll(branch.recordedException);
+        }
+        log.atDebug().log("[RuntimeContext.merge] Merged {} variables of branch into context uuid={}",
+                branch.writtenNames.size(), this.uuid);
+    }
+
     @Override
     public IRuntimeResult<InputType, OutputType> getResult() {
         log.atTrace().log("[RuntimeContext.getResult] Entering getResult()");
@@ -84,7 +166,7 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
             exceptionsCopy = Set.copyOf(this.recordedException);
         }
         IRuntimeResult<InputType, OutputType> result = new RuntimeResult<>(uuid, input, output, start, stop, startNano,
-                stopNano, code, exceptionsCopy, Map.copyOf(this.variables));
+                stopNano, code, exceptionsCopy, Map.copyOf(this.variables.toMap()));
         log.atDebug().log("[RuntimeContext.getResult] Returning result with uuid={}, code={}", uuid, code);
         return result;
     }
@@ -94,8 +176,9 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
             String variableName, IClass<VariableType> variableType) {
         log.atTrace().log("[RuntimeContext.variable] Creating variable supplier for {} of type {}", variableName,
                 variableType);
+        int slot = VariableSlots.slot(variableName);
         return new ContextualSupplierBuilder<>((context, others) -> {
-            return context.getVariable(variableName, variableType);
+            return context.getVariable(slot, variableName, variableType);
         }, variableType, (IClass<IRuntimeContext<InputType, OutputType>>) (IClass<?>) IClass.getClass(IRuntimeContext.class));
     }
 
@@ -144,8 +227,19 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
 
     @Override
     public <VariableType> Optional<VariableType> getVariable(String variableName, IClass<VariableType> variableType) {
+        return this.getVariable(VariableSlots.find(variableName), variableName, variableType);
+    }
+
+    @Override
+    public <VariableType> Optional<VariableType> getVariable(int slot, String variableName,
+            IClass<VariableType> variableType) {
         log.atTrace().log("[RuntimeContext.getVariable] Fetching variable '{}' of type {}", variableName, variableType);
         wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(RuntimeException.class));
+        Object stored = this.variables.get(slot, variableName);
+        if (stored != null && variableType.isInstance(stored)) {
+            return Optional.of(variableType.cast(stored));
+        }
+        // Values needing a conversion, or set on the delegate context, go through the property provider
         Optional<VariableType> value = this.delegateContext
                 .getProperty(Predefined.PropertyProviders.garganttua.toString(), variableName, variableType);
         log.atDebug().log("[RuntimeContext.getVariable] Fetched value={}", value);
@@ -199,11 +293,23 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
 
     @Override
     public <VariableType> void setVariable(String variableName, VariableType variable) {
+        this.setVariable(VariableSlots.slot(variableName), variableName, variable);
+    }
+
+    @Override
+    public <VariableType> void setVariable(int slot, String variableName, VariableType variable) {
         log.atTrace().log("[RuntimeContext.setVariable] Setting variable '{}' to value={}", variableName, variable);
         wrapLifecycle(this::ensureInitialized, IClass.getClass(RuntimeException.class));
+        int index = slot >= 0 ? slot : VariableSlots.slot(variableName);
+        if (this.origin != null) {
+            // Branches keep their variables to themselves until merged
+            this.variables.set(index, variableName, variable);
+            this.writtenNames.add(variableName);
+            return;
+        }
         this.delegateContext.setProperty(Predefined.PropertyProviders.garganttua.toString(), variableName,
                 variable);
-        this.variables.put(variableName, variable);
+        this.variables.set(index, variableName, variable);
     }
 
     @Override
@@ -218,6 +324,7 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
         log.atTrace().log("[RuntimeContext.setOutput] Setting output={}", output);
         wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(RuntimeException.class));
         this.output = output;
+        this.outputWritten = true;
     }
 
     @Override
@@ -231,7 +338,9 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
     protected ILifecycle doInit() throws LifecycleException {
         log.atTrace().log("[RuntimeContext.doInit] Initializing lifecycle");
         synchronized (this.lifecycleMutex) {
-            this.delegateContext.onInit();
+            if (this.origin == null) {
+                this.delegateContext.onInit();
+            }
             return this;
         }
     }
@@ -240,7 +349,9 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
     protected ILifecycle doStart() throws LifecycleException {
         log.atTrace().log("[RuntimeContext.doStart] Starting lifecycle");
         synchronized (this.lifecycleMutex) {
-            this.delegateContext.onStart();
+            if (this.origin == null) {
+                this.delegateContext.onStart();
+            }
             this.presetVariables.entrySet().forEach(e -> this.setVariable(e.getKey(), e.getValue().supply().get()));
             this.start = Instant.now();
             this.startNano = System.nanoTime();
@@ -253,7 +364,9 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
     protected ILifecycle doFlush() throws LifecycleException {
         log.atTrace().log("[RuntimeContext.doFlush] Flushing lifecycle");
         synchronized (this.lifecycleMutex) {
-            this.delegateContext.onFlush();
+            if (this.origin == null) {
+                this.delegateContext.onFlush();
+            }
             this.presetVariables.clear();
             log.atDebug().log("[RuntimeContext.doFlush] Preset variables cleared");
         }
@@ -264,7 +377,9 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
     protected ILifecycle doStop() throws LifecycleException {
         log.atTrace().log("[RuntimeContext.doStop] Stopping lifecycle");
         synchronized (this.lifecycleMutex) {
-            this.delegateContext.onStop();
+            if (this.origin == null) {
+                this.delegateContext.onStop();
+            }
             this.stop = Instant.now();
             this.stopNano = System.nanoTime();
             log.atDebug().log("[RuntimeContext.doStop] Lifecycle stopped at {} (nano={})", this.stop, this.stopNano);
@@ -277,6 +392,7 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
         log.atTrace().log("[RuntimeContext.setCode] Setting code={}", code);
         wrapLifecycle(this::ensureInitializedAndStarted, IClass.getClass(RuntimeException.class));
         this.code = Objects.requireNonNull(code, "Code cannot be null");
+        this.codeWritten = true;
     }
 
     @Override
@@ -369,6 +485,9 @@ public class RuntimeContext<InputType, OutputType> extends AbstractLifecycle
         log.atTrace().log("[RuntimeContext.setProperty] Setting property with provider={} key={} value={}", provider,
                 key, value);
         this.delegateContext.setProperty(provider, key, value);
+        if (Predefined.PropertyProviders.garganttua.toString().equals(provider)) {
+            this.variables.set(VariableSlots.slot(key), key, value);
+        }
     }
 
     @Override
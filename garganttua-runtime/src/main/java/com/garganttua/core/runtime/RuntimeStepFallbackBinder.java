@@ -30,6 +30,7 @@ public class RuntimeStepFallbackBinder<ExecutionReturned, InputType, OutputType>
     private final List<IRuntimeStepOnException> onExceptions;
     private final Boolean nullable;
     private final String expressionReference;
+    private final String logLineHeader;
 
     public RuntimeStepFallbackBinder(String runtimeName, String stepName,
             IExpression<ExecutionReturned, ? extends ISupplier<ExecutionReturned>> expression,
@@ -48,6 +49,8 @@ public class RuntimeStepFallbackBinder<ExecutionReturned, InputType, OutputType>
         this.onExceptions = List.copyOf(Objects.requireNonNull(onExceptions, "OnException list cannot be null"));
         this.nullable = Objects.requireNonNull(nullable, "Nullable cannot be null");
         this.expressionReference = Objects.requireNonNull(expressionReference, "expressionReference cannot be null");
+        this.logLineHeader = "[Runtime " + runtimeName + "][Step " + stepName + "][Fallback "
+                + this.expressionReference + "] ";
 
         log.atDebug().log("{}Fallback binder initialized. OnExceptions count={}", logLineHeader(),
                 this.onExceptions.size());
@@ -175,8 +178,7 @@ public class RuntimeStepFallbackBinder<ExecutionReturned, InputType, OutputType>
     }
 
     private String logLineHeader() {
-        return "[Runtime " + runtimeName + "][Step " + stepName + "][Fallback "
-                + this.expressionReference + "] ";
+        return this.logLineHeader;
     }
 
     @Override
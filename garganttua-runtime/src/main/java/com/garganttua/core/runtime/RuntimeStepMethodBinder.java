@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 import com.garganttua.core.CoreException;
+import com.garganttua.core.condition.CompiledCondition;
 import com.garganttua.core.condition.ICondition;
 import com.garganttua.core.execution.ExecutorException;
 import com.garganttua.core.execution.IExecutorChain;
@@ -15,7 +17,6 @@ import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.reflection.IMethodReturn;
 import com.garganttua.core.reflection.ReflectionException;
 import com.garganttua.core.reflection.methods.SingleMethodReturn;
-import com.garganttua.core.supply.FixedSupplier;
 import com.garganttua.core.supply.ISupplier;
 import com.garganttua.core.supply.SupplyException;
 
@@ -35,10 +36,13 @@ public class RuntimeStepMethodBinder<ExecutionReturned, InputType, OutputType>
     private final Integer code;
     private final String runtimeName;
     private final String stepName;
-    private final Optional<ICondition> condition;
+    // Compiled once, null when the step has no condition
+    private final BooleanSupplier condition;
     private final Boolean abortOnUncatchedException;
     private final Boolean nullable;
     private final String expressionReference;
+    // Built once, it prefixes the log lines of every execution
+    private final String logLineHeader;
 
     public RuntimeStepMethodBinder(String runtimeName, String stepName,
             IExpression<ExecutionReturned, ? extends ISupplier<ExecutionReturned>> expression,
@@ -68,11 +72,14 @@ public class RuntimeStepMethodBinder<ExecutionReturned, InputType, OutputType>
         this.code = Objects.requireNonNull(successCode, "Success code cannot be null");
         this.catches = Set.copyOf(Objects.requireNonNull(catches, "Catches cannot be null"));
         this.pipes = List.copyOf(Objects.requireNonNull(pipes, "Pipes cannot be null"));
-        this.condition = Objects.requireNonNull(condition, "Condition optional cannot be null");
+        this.condition = Objects.requireNonNull(condition, "Condition optional cannot be null")
+                .map(CompiledCondition::compile).orElse(null);
         this.abortOnUncatchedException = Objects.requireNonNull(abortOnUncatchedException,
                 "abortOnUncatchedException cannot be null");
         this.nullable = Objects.requireNonNull(nullable, "nullable cannot be null");
         this.expressionReference = Objects.requireNonNull(expressionReference, "expressionReference cannot be null");
+        this.logLineHeader = "[Runtime " + runtimeName + "][Step " + stepName + "][Expression "
+                + this.expressionReference + "] ";
 
         log.atDebug().log("{}Method binder initialized. Catches count={}, pipes count={}",
                 logLineHeader(), this.catches.size(), this.pipes.size());
@@ -140,7 +147,7 @@ public class RuntimeStepMethodBinder<ExecutionReturned, InputType, OutputType>
 
         log.atDebug().log("{}Starting method execution", logLineHeader());
 
-        if (!condition.map(ICondition::evaluate).orElse(new FixedSupplier<Boolean>(true, IClass.getClass(Boolean.class))).supply().get()) {
+        if (this.condition != null && !this.condition.getAsBoolean()) {
             log.atTrace().log("{}Condition not met, skipping step", logLineHeader());
             next.execute(context);
             return;
@@ -215,7 +222,8 @@ public class RuntimeStepMethodBinder<ExecutionReturned, InputType, OutputType>
         if (pipes.isEmpty()) {
             return currentResult;
         }
-        for (IRuntimeStepPipe pipe : pipes) {
+        for (int i = 0; i < pipes.size(); i++) {
+            IRuntimeStepPipe pipe = pipes.get(i);
             boolean matches;
             if (pipe.condition().isEmpty()) {
                 // Default pipe — always matches
@@ -263,8 +271,7 @@ public class RuntimeStepMethodBinder<ExecutionReturned, InputType, OutputType>
     }
 
     private String logLineHeader() {
-        return "[Runtime " + runtimeName + "][Step " + stepName + "][Expression "
-                + this.expressionReference + "] ";
+        return this.logLineHeader;
     }
 
     @Override
@@ -4,8 +4,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
-import com.garganttua.core.execution.ExecutorChain;
-import com.garganttua.core.execution.IExecutorChain;
+import com.garganttua.core.execution.ExecutionPlan;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,11 +27,14 @@ public class SubRuntime<InputType, OutputType> {
 
     private final String name;
     private final Map<String, IRuntimeStep<?, InputType, OutputType>> steps;
+    private final ExecutionPlan<IRuntimeContext<InputType, OutputType>> plan;
 
     public SubRuntime(String name, Map<String, IRuntimeStep<?, InputType, OutputType>> steps) {
         this.name = Objects.requireNonNull(name, "Name cannot be null");
         this.steps = Collections.unmodifiableMap(
                 new java.util.LinkedHashMap<>(Objects.requireNonNull(steps, "Steps cannot be null")));
+        this.plan = ExecutionPlan.compile(true, chain -> this.steps.values().forEach(
+                step -> step.defineExecutionStep(chain)));
     }
 
     /**
@@ -44,9 +46,7 @@ public class SubRuntime<InputType, OutputType> {
     public void execute(IRuntimeContext<InputType, OutputType> context) {
         log.atDebug().log("[SubRuntime {}] Executing {} steps in parent context", name, steps.size());
 
-        IExecutorChain<IRuntimeContext<InputType, OutputType>> chain = new ExecutorChain<>(true);
-        steps.values().forEach(step -> step.defineExecutionStep(chain));
-        chain.execute(context);
+        plan.execute(context);
 
         log.atDebug().log("[SubRuntime {}] Execution complete", name);
     }
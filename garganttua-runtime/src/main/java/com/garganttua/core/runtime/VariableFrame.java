@@ -0,0 +1,139 @@
+package com.garganttua.core.runtime;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.garganttua.core.expression.context.VariableSlots;
+
+/**
+ * Variables of one runtime execution, indexed by their
+ * {@link VariableSlots slot}.
+ *
+ * <p>
+ * Values are stored in fixed size pages that are never copied, so reads and writes
+ * neither hash the variable name nor take a lock. Only adding a page, when a slot
+ * allocated after the frame was created is first written, is synchronized.
+ * Variables whose name got no slot, the registry being full, are kept in a map
+ * by name.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+final class VariableFrame {
+
+    private static final int PAGE_BITS = 5;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    @SuppressWarnings("unchecked")
+    private volatile AtomicReferenceArray<Object>[] pages = new AtomicReferenceArray[0];
+    private final Map<String, Object> unslotted = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the value of a variable, read from its slot or, for a name without
+     * slot, by name.
+     *
+     * @param slot the slot, or {@link VariableSlots#NONE}
+     * @param name the variable name
+     * @return the value, or {@code null} if none was stored
+     */
+    Object get(int slot, String name) {
+        if (slot < 0) {
+            return name == null ? null : this.unslotted.get(name);
+        }
+        AtomicReferenceArray<Object>[] current = this.pages;
+        int index = slot >>> PAGE_BITS;
+        if (index >= current.length || current[index] == null) {
+            return null;
+        }
+        return current[index].get(slot & PAGE_MASK);
+    }
+
+    /**
+     * Stores the value of a variable at its slot or, for a name without slot, by
+     * name.
+     *
+     * @param slot  the slot, or {@link VariableSlots#NONE}
+     * @param name  the variable name
+     * @param value the value
+     */
+    void set(int slot, String name, Object value) {
+        if (slot >= 0) {
+            page(slot >>> PAGE_BITS).set(slot & PAGE_MASK, value);
+        } else if (name == null) {
+            throw new IllegalArgumentException("Variable name cannot be null without slot");
+        } else if (value == null) {
+            this.unslotted.remove(name);
+        } else {
+            this.unslotted.put(name, value);
+        }
+    }
+
+    /**
+     * Returns the stored values by variable name.
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> values = new HashMap<>(this.unslotted);
+        AtomicReferenceArray<Object>[] current = this.pages;
+        for (int index = 0; index < current.length; index++) {
+            AtomicReferenceArray<Object> page = current[index];
+            if (page == null) {
+                continue;
+            }
+            for (int offset = 0; offset < PAGE_SIZE; offset++) {
+                Object value = page.get(offset);
+                if (value != null) {
+                    values.put(VariableSlots.name((index << PAGE_BITS) | offset), value);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns a frame holding the values stored in this one, which then changes
+     * independently of it.
+     */
+    @SuppressWarnings("unchecked")
+    VariableFrame copy() {
+        AtomicReferenceArray<Object>[] current = this.pages;
+        AtomicReferenceArray<Object>[] copied = new AtomicReferenceArray[current.length];
+        for (int index = 0; index < current.length; index++) {
+            AtomicReferenceArray<Object> page = current[index];
+            if (page == null) {
+                continue;
+            }
+            copied[index] = new AtomicReferenceArray<>(PAGE_SIZE);
+            for (int offset = 0; offset < PAGE_SIZE; offset++) {
+                copied[index].set(offset, page.get(offset));
+            }
+        }
+        VariableFrame copy = new VariableFrame();
+        copy.pages = copied;
+        copy.unslotted.putAll(this.unslotted);
+        return copy;
+    }
+
+    private AtomicReferenceArray<Object> page(int index) {
+        AtomicReferenceArray<Object>[] current = this.pages;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        return addPage(index);
+    }
+
+    private synchronized AtomicReferenceArray<Object> addPage(int index) {
+        AtomicReferenceArray<Object>[] current = this.pages;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        AtomicReferenceArray<Object>[] grown = Arrays.copyOf(current, Math.max(current.length, index + 1));
+        AtomicReferenceArray<Object> page = new AtomicReferenceArray<>(PAGE_SIZE);
+        grown[index] = page;
+        this.pages = grown;
+        return page;
+    }
+}
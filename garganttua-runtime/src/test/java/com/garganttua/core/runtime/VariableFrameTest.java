@@ -0,0 +1,103 @@
+package com.garganttua.core.runtime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.expression.context.VariableSlots;
+
+class VariableFrameTest {
+
+    @Test
+    void testValuesAreStoredBySlot() {
+        VariableFrame frame = new VariableFrame();
+        int slot = VariableSlots.slot("frame-test-a");
+
+        assertNull(frame.get(slot, "frame-test-a"));
+        frame.set(slot, "frame-test-a", "value");
+        assertEquals("value", frame.get(slot, "frame-test-a"));
+        frame.set(slot, "frame-test-a", 12);
+        assertEquals(12, frame.get(slot, "frame-test-a"));
+    }
+
+    @Test
+    void testSlotsAllocatedLaterAreStored() {
+        VariableFrame frame = new VariableFrame();
+        int first = VariableSlots.slot("frame-test-b");
+        frame.set(first, "frame-test-b", "b");
+        int slot = VariableSlots.slot("frame-test-late");
+        for (int i = 0; i < 100; i++) {
+            VariableSlots.slot("frame-test-filler-" + i);
+        }
+        int farSlot = VariableSlots.slot("frame-test-far");
+
+        frame.set(farSlot, "frame-test-far", "far");
+        frame.set(slot, "frame-test-late", "late");
+
+        assertEquals("b", frame.get(first, "frame-test-b"));
+        assertEquals("late", frame.get(slot, "frame-test-late"));
+        assertEquals("far", frame.get(farSlot, "frame-test-far"));
+    }
+
+    @Test
+    void testUnknownSlotsAreEmpty() {
+        VariableFrame frame = new VariableFrame();
+
+        assertNull(frame.get(VariableSlots.NONE, "frame-test-unknown"));
+        assertNull(frame.get(VariableSlots.NONE, null));
+        assertNull(frame.get(Integer.MAX_VALUE, "frame-test-unknown"));
+        assertThrows(IllegalArgumentException.class, () -> frame.set(VariableSlots.NONE, null, "value"));
+    }
+
+    @Test
+    void testNamesWithoutSlotAreStoredByName() {
+        VariableFrame frame = new VariableFrame();
+
+        frame.set(VariableSlots.NONE, "frame-test-unslotted", "value");
+        assertEquals("value", frame.get(VariableSlots.NONE, "frame-test-unslotted"));
+        assertEquals(Map.of("frame-test-unslotted", "value"), frame.toMap());
+
+        VariableFrame copy = frame.copy();
+        copy.set(VariableSlots.NONE, "frame-test-unslotted", null);
+        assertNull(copy.get(VariableSlots.NONE, "frame-test-unslotted"));
+        assertEquals("value", frame.get(VariableSlots.NONE, "frame-test-unslotted"));
+    }
+
+    @Test
+    void testToMapUsesVariableNames() {
+        VariableFrame frame = new VariableFrame();
+        frame.set(VariableSlots.slot("frame-test-x"), "frame-test-x", 1);
+        frame.set(VariableSlots.slot("frame-test-y"), "frame-test-y", "y");
+
+        assertEquals(Map.of("frame-test-x", 1, "frame-test-y", "y"), frame.toMap());
+    }
+
+    @Test
+    void testCopyChangesIndependently() {
+        VariableFrame frame = new VariableFrame();
+        int slot = VariableSlots.slot("frame-test-copied");
+        frame.set(slot, "frame-test-copied", "original");
+
+        VariableFrame copy = frame.copy();
+        int copyOnly = VariableSlots.slot("frame-test-copy-only");
+        copy.set(slot, "frame-test-copied", "changed");
+        copy.set(copyOnly, "frame-test-copy-only", "copy");
+
+        assertEquals("original", frame.get(slot, "frame-test-copied"));
+        assertNull(frame.get(copyOnly, "frame-test-copy-only"));
+        assertEquals("changed", copy.get(slot, "frame-test-copied"));
+    }
+
+    @Test
+    void testSlotsAreStablePerName() {
+        int slot = VariableSlots.slot("frame-test-stable");
+
+        assertEquals(slot, VariableSlots.slot("frame-test-stable"));
+        assertEquals(slot, VariableSlots.find("frame-test-stable"));
+        assertEquals("frame-test-stable", VariableSlots.name(slot));
+        assertEquals(VariableSlots.NONE, VariableSlots.find("frame-test-never-allocated"));
+        assertTrue(VariableSlots.size() <= VariableSlots.capacity());
+    }
+}
@@ -0,0 +1,113 @@
+package com.garganttua.core.runtime.perfs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import com.garganttua.core.injection.context.InjectionContext;
+import com.garganttua.core.injection.context.dsl.IInjectionContextBuilder;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.dsl.IReflectionBuilder;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflection.runtime.RuntimeReflectionProvider;
+import com.garganttua.core.reflections.ReflectionsAnnotationScanner;
+import com.garganttua.core.runtime.IRuntime;
+import com.garganttua.core.runtime.dsl.RuntimesBuilder;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * Throughput of concurrent runtime executions, each one creating its own child
+ * injection context, for an increasing number of threads.
+ */
+@Disabled("Performances tests, too heavy for standard build")
+public class ExecutionScalingPerformancesTest {
+
+        private static final int WARMUP = 20_000;
+        private static final int EXECUTIONS_PER_THREAD = 20_000;
+
+        private static IReflectionBuilder reflectionBuilder;
+
+        @BeforeAll
+        public static void setup() throws Exception {
+                reflectionBuilder = ReflectionBuilder.builder()
+                                .withProvider(new RuntimeReflectionProvider())
+                                .withScanner(new ReflectionsAnnotationScanner());
+                reflectionBuilder.build();
+        }
+
+        @AfterAll
+        public static void tearDown() {
+                IClass.setReflection(null);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void testExecutionThroughputByThreadCount() throws Exception {
+                IInjectionContextBuilder contextBuilder = InjectionContext.builder().provide(reflectionBuilder)
+                                .autoDetect(true)
+                                .withPackage("com.garganttua.core.runtime.annotations")
+                                .withPackage("com.garganttua.core.runtime");
+                contextBuilder.build().onInit().onStart();
+                Map<String, IRuntime<?, ?>> runtimes = RuntimesBuilder.builder().provide(reflectionBuilder)
+                                .provide(contextBuilder)
+                                .autoDetect(true).build();
+                IRuntime<String, String> runtime = (IRuntime<String, String>) runtimes.get("runtime-1");
+
+                ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.OFF);
+
+                for (int i = 0; i < WARMUP; i++) {
+                        runtime.execute("warmup-" + i);
+                }
+
+                int processors = java.lang.Runtime.getRuntime().availableProcessors();
+                System.out.printf("%-8s %14s %14s %10s%n", "Threads", "Executions/s", "ns/execution", "Speedup");
+                double single = 0;
+                for (int threads = 1; threads <= processors * 2; threads *= 2) {
+                        double throughput = measure(runtime, threads);
+                        if (threads == 1) {
+                                single = throughput;
+                        }
+                        System.out.printf("%-8d %14.0f %14.0f %10.2f%n", threads, throughput,
+                                        1_000_000_000d / throughput * threads, throughput / single);
+                }
+        }
+
+        private static double measure(IRuntime<String, String> runtime, int threads) throws Exception {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                try {
+                        CountDownLatch start = new CountDownLatch(1);
+                        List<Future<?>> futures = new ArrayList<>();
+                        for (int t = 0; t < threads; t++) {
+                                int thread = t;
+                                futures.add(executor.submit(() -> {
+                                        start.await();
+                                        for (int i = 0; i < EXECUTIONS_PER_THREAD; i++) {
+                                                runtime.execute("input-" + thread + "-" + i);
+                                        }
+                                        return null;
+                                }));
+                        }
+                        long begin = System.nanoTime();
+                        start.countDown();
+                        for (Future<?> future : futures) {
+                                future.get();
+                        }
+                        long elapsed = System.nanoTime() - begin;
+                        return (double) threads * EXECUTIONS_PER_THREAD * 1_000_000_000d / elapsed;
+                } finally {
+                        executor.shutdownNow();
+                }
+        }
+}
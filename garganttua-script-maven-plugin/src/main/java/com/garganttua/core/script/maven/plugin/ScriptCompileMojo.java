@@ -0,0 +1,188 @@
+package com.garganttua.core.script.maven.plugin;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Maven plugin Mojo that precompiles Garganttua scripts ({@code .gs} files) to the
+ * {@code .gsc} binary format, which the script engine loads without parsing.
+ *
+ * <p>
+ * Scripts are precompiled with the {@code garganttua-script} engine found on the
+ * runtime classpath of the project, so that they are compiled against the same
+ * expression functions as when they run. A precompiled script is only used when
+ * the engine running it has the same functions; otherwise the script is compiled
+ * from the source embedded in the {@code .gsc} file.
+ * </p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * <plugin>
+ *     <groupId>com.garganttua.core</groupId>
+ *     <artifactId>garganttua-script-maven-plugin</artifactId>
+ *     <version>${garganttua.version}</version>
+ *     <executions>
+ *         <execution>
+ *             <goals>
+ *                 <goal>compile-scripts</goal>
+ *             </goals>
+ *         </execution>
+ *     </executions>
+ *     <configuration>
+ *         <!-- Optional: defaults to src/main/scripts -->
+ *         <scriptDirectory>${project.basedir}/src/main/scripts</scriptDirectory>
+ *     </configuration>
+ * </plugin>
+ * }</pre>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Mojo(name = "compile-scripts", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.RUNTIME)
+public class ScriptCompileMojo extends AbstractMojo {
+
+    private static final String SCRIPT_EXTENSION = ".gs";
+    private static final String PRECOMPILED_EXTENSION = ".gsc";
+    private static final String MAIN_CLASS = "com.garganttua.core.script.Main";
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    /**
+     * Directory containing the scripts to precompile, scanned recursively.
+     */
+    @Parameter(property = "scriptDirectory", defaultValue = "${project.basedir}/src/main/scripts")
+    private File scriptDirectory;
+
+    /**
+     * Directory the precompiled scripts are written to, keeping the layout of the
+     * script directory.
+     */
+    @Parameter(property = "scriptOutputDirectory", defaultValue = "${project.build.outputDirectory}")
+    private File scriptOutputDirectory;
+
+    /**
+     * Whether to skip precompiling scripts.
+     */
+    @Parameter(property = "garganttua.script.compile.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Skipping script precompilation");
+            return;
+        }
+        if (!scriptDirectory.isDirectory()) {
+            getLog().info("No script directory: " + scriptDirectory);
+            return;
+        }
+
+        List<File> scripts = findScripts(scriptDirectory);
+        if (scripts.isEmpty()) {
+            getLog().info("No scripts found in " + scriptDirectory);
+            return;
+        }
+
+        getLog().info("Garganttua Script Maven Plugin - Precompiling " + scripts.size() + " scripts");
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = createProjectClassLoader()) {
+            thread.setContextClassLoader(classLoader);
+            Method precompile = loadPrecompileMethod(classLoader);
+            String root = scriptDirectory.getAbsolutePath();
+            for (File script : scripts) {
+                String relative = script.getAbsolutePath().substring(root.length() + 1);
+                File target = new File(scriptOutputDirectory,
+                        relative.substring(0, relative.length() - SCRIPT_EXTENSION.length()) + PRECOMPILED_EXTENSION);
+                File parent = target.getParentFile();
+                if (parent != null && !parent.exists() && !parent.mkdirs()) {
+                    throw new MojoExecutionException("Failed to create directory: " + parent);
+                }
+                precompile(precompile, script, target);
+                getLog().debug("Precompiled " + relative + " to " + target);
+            }
+        } catch (MojoExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MojoExecutionException("Failed to precompile scripts", e);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+
+        getLog().info("Precompiled " + scripts.size() + " scripts to " + scriptOutputDirectory);
+    }
+
+    /**
+     * Creates a classloader with the runtime classpath of the project, isolated from
+     * the plugin classpath.
+     *
+     * @return the classloader
+     * @throws Exception if the classpath cannot be resolved
+     */
+    private URLClassLoader createProjectClassLoader() throws Exception {
+        List<URL> urls = new ArrayList<>();
+        for (String element : project.getRuntimeClasspathElements()) {
+            urls.add(new File(element).toURI().toURL());
+        }
+        return new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getPlatformClassLoader());
+    }
+
+    private Method loadPrecompileMethod(ClassLoader classLoader) throws MojoExecutionException {
+        try {
+            return classLoader.loadClass(MAIN_CLASS).getMethod("precompile", File.class, File.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            throw new MojoExecutionException("garganttua-script is not on the runtime classpath of the project. "
+                    + "Add com.garganttua.core:garganttua-script as a dependency to precompile scripts.", e);
+        }
+    }
+
+    private void precompile(Method precompile, File script, File target) throws MojoExecutionException {
+        try {
+            precompile.invoke(null, script, target);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new MojoExecutionException("Failed to precompile " + script + ": " + cause.getMessage(), cause);
+        } catch (IllegalAccessException e) {
+            throw new MojoExecutionException("Failed to precompile " + script, e);
+        }
+    }
+
+    /**
+     * Finds the script files of a directory and its subdirectories.
+     *
+     * @param dir the directory to scan
+     * @return the script files
+     */
+    private List<File> findScripts(File dir) {
+        List<File> scripts = new ArrayList<>();
+
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return scripts;
+        }
+
+        for (File file : files) {
+            if (file.isDirectory()) {
+                scripts.addAll(findScripts(file));
+            } else if (file.getName().endsWith(SCRIPT_EXTENSION)) {
+                scripts.add(file);
+            }
+        }
+
+        return scripts;
+    }
+}
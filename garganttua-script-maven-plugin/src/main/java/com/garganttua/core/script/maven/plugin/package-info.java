@@ -1,5 +1,6 @@
 /**
  * Maven plugin mojos for packaging and preparing script plugin JARs,
- * including annotation scanning and manifest generation.
+ * including annotation scanning and manifest generation, and for
+ * precompiling scripts.
  */
 package com.garganttua.core.script.maven.plugin;
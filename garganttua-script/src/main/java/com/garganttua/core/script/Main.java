@@ -2,6 +2,7 @@ package com.garganttua.core.script;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.util.Arrays;
@@ -17,6 +18,7 @@ import com.garganttua.core.reflection.IReflectionProvider;
 import com.garganttua.core.reflection.dsl.IReflectionBuilder;
 import com.garganttua.core.reflection.dsl.ReflectionBuilder;
 import com.garganttua.core.runtime.dsl.RuntimesBuilder;
+import com.garganttua.core.script.context.PrecompiledScript;
 import com.garganttua.core.script.context.ScriptContext;
 
 public class Main {
@@ -69,6 +71,25 @@ public class Main {
             }
         }
 
+        if ("--compile".equals(firstArg)) {
+            if (args.length < 2) {
+                printUsage();
+                System.exit(1);
+            }
+            try {
+                File source = new File(args[1]);
+                File target = args.length > 2 ? new File(args[2]) : null;
+                System.out.println("Precompiled " + source + " to " + precompile(source, target));
+                System.exit(0);
+            } catch (Exception e) {
+                System.err.println("Compile error: " + e.getMessage());
+                if (e.getCause() != null) {
+                    System.err.println("Caused by: " + e.getCause().getMessage());
+                }
+                System.exit(1);
+            }
+        }
+
         // Check for --dump flag
         boolean dumpOnError = false;
         String[] filteredArgs = args;
@@ -125,8 +146,7 @@ public class Main {
         }
     }
 
-    private static int executeScript(File scriptFile, String[] args, boolean dumpOnError)
-            throws ScriptException, IOException {
+    private static ScriptContext createScriptContext() {
         IReflectionBuilder reflectionBuilder = ReflectionBuilder.builder()
                 .withProvider(loadReflectionProvider())
                 .withScanner(new ReflectionsAnnotationScanner());
@@ -153,10 +173,59 @@ public class Main {
         // Now build expression context
         IExpressionContext expressionContext = expressionContextBuilder.build();
 
-        ScriptContext script = new ScriptContext(expressionContext, () -> RuntimesBuilder.builder().provide(injectionContextBuilder), null);
+        return new ScriptContext(expressionContext, () -> RuntimesBuilder.builder().provide(injectionContextBuilder), null);
+    }
+
+    /**
+     * Precompiles a script file to the {@value PrecompiledScript#EXTENSION} format,
+     * in the same context the script would be run in. The precompiled file is used
+     * instead of the source when running a script next to it.
+     *
+     * @param scriptFile the script file
+     * @param target     the precompiled file, or null for the script file with the
+     *                   {@value PrecompiledScript#EXTENSION} extension
+     * @return the precompiled file
+     * @throws ScriptException if the script cannot be read, parsed or written
+     */
+    public static File precompile(File scriptFile, File target) throws ScriptException {
+        if (scriptFile == null || !scriptFile.exists()) {
+            throw new ScriptException("Script file does not exist: " + scriptFile);
+        }
+        if (target == null) {
+            String name = scriptFile.getName();
+            int dot = name.lastIndexOf('.');
+            target = new File(scriptFile.getAbsoluteFile().getParentFile(),
+                    (dot > 0 ? name.substring(0, dot) : name) + PrecompiledScript.EXTENSION);
+        }
+        ScriptContext script = createScriptContext();
+        try {
+            script.load(readScriptFile(scriptFile));
+        } catch (IOException e) {
+            throw new ScriptException("Failed to read script file: " + scriptFile, e);
+        }
+        try (OutputStream out = Files.newOutputStream(target.toPath())) {
+            script.precompile(out);
+        } catch (IOException e) {
+            throw new ScriptException("Failed to write precompiled script: " + target, e);
+        }
+        return target;
+    }
 
-        String scriptContent = readScriptFile(scriptFile);
-        script.load(scriptContent);
+    private static int executeScript(File scriptFile, String[] args, boolean dumpOnError)
+            throws ScriptException, IOException {
+        ScriptContext script = createScriptContext();
+
+        // A .gsc file is run directly, a .gs file through its precompiled file if up to date
+        String scriptContent;
+        if (scriptFile.getName().endsWith(PrecompiledScript.EXTENSION)) {
+            PrecompiledScript precompiled = PrecompiledScript.read(scriptFile);
+            scriptContent = precompiled.getSource();
+            script.load(precompiled);
+        } else {
+            scriptContent = readScriptFile(scriptFile);
+            script.load(scriptContent);
+            PrecompiledScript.findFor(scriptFile, scriptContent).ifPresent(script::load);
+        }
         script.compile();
 
         int exitCode = script.execute((Object[]) args);
@@ -279,6 +348,8 @@ public class Main {
         System.out.println();
         System.out.println("Options:");
         System.out.println("  -c, --console      Start interactive console (REPL, requires garganttua-console)");
+        System.out.println("  --compile <script.gs> [out.gsc]");
+        System.out.println("                     Precompile a script for faster start-up");
         System.out.println("  -d, --dump         Print error dump on crash (variables, context, source)");
         System.out.println("  -h, --help         Show this help message");
         System.out.println("  -v, --version      Show version information");
@@ -298,6 +369,7 @@ public class Main {
         System.out.println("  garganttua-script                     # Start console");
         System.out.println("  garganttua-script myscript.gs         # Run script");
         System.out.println("  garganttua-script script.gs arg1 arg2 # Run with arguments");
+        System.out.println("  garganttua-script --compile script.gs # Write script.gsc, used by later runs");
     }
 
     private static IExpressionContext buildExpressionContext() {
@@ -0,0 +1,80 @@
+package com.garganttua.core.script.context;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import com.garganttua.core.CoreException;
+import com.garganttua.core.runtime.IRuntime;
+import com.garganttua.core.runtime.IRuntimeResult;
+
+/**
+ * Script compiled by a {@link ScriptContext}: the runtime built from its
+ * statements, blocks and initial variables.
+ *
+ * <p>
+ * A compiled script is immutable. Each execution runs the runtime with its own
+ * runtime context, which holds the variables of that execution, and returns them
+ * in a {@link ScriptExecution}; one compiled script can then be executed any
+ * number of times, concurrently, from any thread. Compiled scripts are shared
+ * between script contexts through a {@link ScriptCache}.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public final class CompiledScript {
+
+    private final String hash;
+    private final IRuntime<Object[], Object> runtime;
+    private final ScriptContext template;
+
+    CompiledScript(String hash, IRuntime<Object[], Object> runtime, ScriptContext template) {
+        this.hash = Objects.requireNonNull(hash, "Hash cannot be null");
+        this.runtime = Objects.requireNonNull(runtime, "Runtime cannot be null");
+        this.template = Objects.requireNonNull(template, "Template context cannot be null");
+    }
+
+    /**
+     * Returns the SHA-256 hash of the source of the script.
+     */
+    public String getHash() {
+        return this.hash;
+    }
+
+    /**
+     * Executes the script. Scripts included by this execution are registered in a
+     * script context of its own.
+     *
+     * @param args the arguments of the script
+     * @return the result of the execution
+     */
+    public ScriptExecution execute(Object... args) {
+        return execute(this.template.createChildScript(), args);
+    }
+
+    /**
+     * Executes the script on behalf of the given script context, which receives the
+     * scripts it includes.
+     */
+    ScriptExecution execute(ScriptContext context, Object... args) {
+        ScriptContext previous = ScriptExecutionContext.get();
+        ScriptExecutionContext.set(context);
+        try {
+            Optional<IRuntimeResult<Object[], Object>> result = this.runtime.execute(args);
+            return result.map(ScriptExecution::of).orElse(ScriptExecution.EMPTY);
+        } catch (CoreException e) {
+            // Capture RuntimeException and ScriptException (both extend CoreException)
+            return ScriptExecution.failed(e);
+        } finally {
+            if (previous != null) {
+                ScriptExecutionContext.set(previous);
+            } else {
+                ScriptExecutionContext.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledScript[" + this.hash + "]";
+    }
+}
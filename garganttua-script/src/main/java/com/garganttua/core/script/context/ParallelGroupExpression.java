@@ -0,0 +1,118 @@
+package com.garganttua.core.script.context;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.garganttua.core.expression.ExpressionException;
+import com.garganttua.core.expression.IExpression;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.runtime.IRuntimeContext;
+import com.garganttua.core.runtime.RuntimeExpressionContext;
+import com.garganttua.core.runtime.SubRuntime;
+import com.garganttua.core.script.ScriptException;
+import com.garganttua.core.supply.ISupplier;
+import com.garganttua.core.supply.SupplyException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Expression that executes the branches of a {@code parallel( ... )} group, each
+ * one as a {@link ScriptTask} in its own branch of the current runtime context.
+ *
+ * <p>
+ * All branches run to completion, even when one of them fails. They are then
+ * merged into the context in declaration order, whatever the order in which they
+ * finished: when several branches set the same variable, the last declared one
+ * wins. The expression returns the list of the branch results, in declaration
+ * order, or fails with the first failing branch in declaration order, so that the
+ * catch clauses of the group apply.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+class ParallelGroupExpression implements IExpression<Object, ISupplier<Object>> {
+
+    private final String name;
+    private final List<SubRuntime<Object[], Object>> branches;
+
+    ParallelGroupExpression(String name, List<SubRuntime<Object[], Object>> branches) {
+        this.name = name;
+        this.branches = List.copyOf(branches);
+    }
+
+    @Override
+    public ISupplier<Object> evaluate() throws ExpressionException {
+        return new ParallelGroupSupplier();
+    }
+
+    @Override
+    public Type getSuppliedType() {
+        return Object.class;
+    }
+
+    @Override
+    public IClass<Object> getSuppliedClass() {
+        return IClass.getClass(Object.class);
+    }
+
+    @Override
+    public boolean isContextual() {
+        return false;
+    }
+
+    private class ParallelGroupSupplier implements ISupplier<Object> {
+
+        @Override
+        public Optional<Object> supply() throws SupplyException {
+            IRuntimeContext<?, ?> context = RuntimeExpressionContext.get();
+            if (context == null) {
+                throw new SupplyException("No runtime context available for parallel group execution");
+            }
+
+            List<ScriptTask> tasks = new ArrayList<>(branches.size());
+            try {
+                for (int i = 0; i < branches.size(); i++) {
+                    SubRuntime<Object[], Object> branch = branches.get(i);
+                    tasks.add(ScriptTask.start(name + "-" + i, context, branchContext -> {
+                        branch.execute(branchContext);
+                        return branchContext.getOutput();
+                    }));
+                }
+            } catch (ScriptException e) {
+                throw new SupplyException("Parallel group " + name + " could not be started", e);
+            }
+            log.atDebug().log("[ParallelGroupExpression] Started {} branches of group {}", tasks.size(), name);
+
+            List<Object> results = new ArrayList<>(tasks.size());
+            ScriptException failure = null;
+            for (ScriptTask task : tasks) {
+                try {
+                    results.add(task.await());
+                } catch (ScriptException e) {
+                    results.add(null);
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw new SupplyException("Parallel group " + name + " failed", failure);
+            }
+            return Optional.of(Collections.unmodifiableList(results));
+        }
+
+        @Override
+        public Type getSuppliedType() {
+            return Object.class;
+        }
+
+        @Override
+        public IClass<Object> getSuppliedClass() {
+            return IClass.getClass(Object.class);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.garganttua.core.script.context;
+
+import java.util.List;
+import java.util.Map;
+
+import com.garganttua.core.expression.IExpression;
+import com.garganttua.core.script.nodes.IScriptNode;
+import com.garganttua.core.supply.ISupplier;
+
+/**
+ * Statements and blocks of a script, either parsed from its source or decoded from
+ * a {@link PrecompiledScript}, from which {@link ScriptContext} builds the runtime.
+ *
+ * @param blocks            the statements of each block, by block name
+ * @param statements        the top-level statements
+ * @param expressionSources the source of each expression of the statements, empty
+ *                          when decoded
+ */
+record ParsedScript(Map<String, List<IScriptNode>> blocks, List<IScriptNode> statements,
+        Map<IExpression<?, ? extends ISupplier<?>>, String> expressionSources) {
+}
@@ -0,0 +1,508 @@
+package com.garganttua.core.script.context;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import com.garganttua.core.expression.IExpression;
+import com.garganttua.core.expression.context.ExpressionCode;
+import com.garganttua.core.expression.context.ExpressionContext;
+import com.garganttua.core.expression.context.IExpressionContext;
+import com.garganttua.core.script.ScriptException;
+import com.garganttua.core.script.nodes.CatchClause;
+import com.garganttua.core.script.nodes.FunctionDefNode;
+import com.garganttua.core.script.nodes.IScriptNode;
+import com.garganttua.core.script.nodes.PipeClause;
+import com.garganttua.core.script.nodes.StatementGroupNode;
+import com.garganttua.core.script.nodes.StatementNode;
+import com.garganttua.core.supply.ISupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Script compiled ahead of time to the {@value #EXTENSION} binary format, which a
+ * {@link ScriptContext} loads without parsing the source again.
+ *
+ * <p>
+ * A precompiled script holds the statements and blocks of the script, with the
+ * {@link ExpressionCode} of each expression, in which the node factory of every
+ * function call is already resolved to its key. It also holds the source of the
+ * script, its SHA-256 hash and the {@link ExpressionContext#getRegistryVersion()
+ * registry version} of the expression context it was compiled with. When the
+ * source does not match its hash, or the expression context the script is loaded
+ * in has another registry version, for instance because other functions are on
+ * the classpath, the script is compiled from its source instead. Expressions are
+ * optimized again when loaded.
+ * </p>
+ *
+ * <p>
+ * The file starts with the {@code GSC1} magic number and the format version, and
+ * ends with a CRC32 of the preceding bytes; files that fail these checks are
+ * rejected.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public final class PrecompiledScript {
+
+    public static final String EXTENSION = ".gsc";
+
+    static final int MAGIC = 0x47534331;
+    static final short FORMAT_VERSION = 2;
+
+    private static final byte NULL = 0;
+    private static final byte STATEMENT = 1;
+    private static final byte GROUP = 2;
+    private static final byte FUNCTION = 3;
+
+    private final String registryVersion;
+    private final String sourceHash;
+    private final String source;
+    private final byte[] body;
+
+    private PrecompiledScript(String registryVersion, String sourceHash, String source, byte[] body) {
+        this.registryVersion = registryVersion;
+        this.sourceHash = sourceHash;
+        this.source = source;
+        this.body = body;
+    }
+
+    /**
+     * Encodes a parsed script. Expression codes are recorded again from the source
+     * of each expression; identical expressions are stored once.
+     */
+    static PrecompiledScript of(String source, ParsedScript parsed, ExpressionContext expressionContext)
+            throws ScriptException {
+        Map<IExpression<?, ? extends ISupplier<?>>, Integer> indexes = new IdentityHashMap<>();
+        Map<String, Integer> indexesBySource = new HashMap<>();
+        List<ExpressionCode> codes = new ArrayList<>();
+        Encoder encoder = expression -> indexes.computeIfAbsent(expression, e -> {
+            String text = parsed.expressionSources().get(e);
+            if (text == null) {
+                throw new ScriptException("Expression has no recorded source: " + e);
+            }
+            return indexesBySource.computeIfAbsent(text, t -> {
+                codes.add(expressionContext.code(t));
+                return codes.size() - 1;
+            });
+        });
+        try {
+            ByteArrayOutputStream nodes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(nodes);
+            out.writeInt(parsed.blocks().size());
+            for (Map.Entry<String, List<IScriptNode>> block : parsed.blocks().entrySet()) {
+                out.writeUTF(block.getKey());
+                writeNodes(block.getValue(), out, encoder);
+            }
+            writeNodes(parsed.statements(), out, encoder);
+            out.flush();
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream bodyOut = new DataOutputStream(body);
+            bodyOut.writeInt(codes.size());
+            for (ExpressionCode code : codes) {
+                ExpressionCode.write(code, bodyOut);
+            }
+            nodes.writeTo(bodyOut);
+            bodyOut.flush();
+            return new PrecompiledScript(expressionContext.getRegistryVersion(), ScriptCache.hash(source), source,
+                    body.toByteArray());
+        } catch (IOException e) {
+            throw new ScriptException("Failed to encode precompiled script", e);
+        }
+    }
+
+    /**
+     * Reads a precompiled script.
+     *
+     * @param inputStream the stream, which is read to its end
+     * @return the precompiled script
+     * @throws ScriptException if the stream cannot be read or is not a valid
+     *                         precompiled script
+     */
+    public static PrecompiledScript read(InputStream inputStream) throws ScriptException {
+        Objects.requireNonNull(inputStream, "InputStream cannot be null");
+        try {
+            byte[] bytes = inputStream.readAllBytes();
+            if (bytes.length < Long.BYTES) {
+                throw new ScriptException("Not a precompiled script: truncated");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length - Long.BYTES);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (in.readInt() != MAGIC) {
+                throw new ScriptException("Not a precompiled script: bad magic number");
+            }
+            short version = in.readShort();
+            if (version != FORMAT_VERSION) {
+                throw new ScriptException("Unsupported precompiled script format version: " + version);
+            }
+            String registryVersion = in.readUTF();
+            String sourceHash = in.readUTF();
+            String source = new String(readBytes(in), StandardCharsets.UTF_8);
+            byte[] body = readBytes(in);
+            if (in.readLong() != crc.getValue()) {
+                throw new ScriptException("Precompiled script is corrupted: checksum mismatch");
+            }
+            return new PrecompiledScript(registryVersion, sourceHash, source, body);
+        } catch (IOException e) {
+            throw new ScriptException("Failed to read precompiled script", e);
+        }
+    }
+
+    /**
+     * Reads a precompiled script file.
+     *
+     * @param file the {@value #EXTENSION} file
+     * @return the precompiled script
+     * @throws ScriptException if the file cannot be read or is not a valid
+     *                         precompiled script
+     */
+    public static PrecompiledScript read(File file) throws ScriptException {
+        if (file == null || !file.exists()) {
+            throw new ScriptException("Precompiled script file does not exist: " + file);
+        }
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            return read(in);
+        } catch (IOException e) {
+            throw new ScriptException("Failed to read precompiled script file: " + file, e);
+        }
+    }
+
+    /**
+     * Returns the precompiled script next to a script file, with the same name and
+     * the {@value #EXTENSION} extension, when there is one compiled from the given
+     * source. Unreadable files are ignored.
+     *
+     * @param scriptFile the script file
+     * @param source     the source of the script
+     * @return the precompiled script, empty if there is none for this source
+     */
+    public static Optional<PrecompiledScript> findFor(File scriptFile, String source) {
+        String name = scriptFile.getName();
+        int dot = name.lastIndexOf('.');
+        File file = new File(scriptFile.getAbsoluteFile().getParentFile(),
+                (dot > 0 ? name.substring(0, dot) : name) + EXTENSION);
+        if (!file.isFile() || file.equals(scriptFile.getAbsoluteFile())) {
+            return Optional.empty();
+        }
+        try {
+            PrecompiledScript precompiled = read(file);
+            if (precompiled.sourceHash.equals(ScriptCache.hash(source))) {
+                return Optional.of(precompiled);
+            }
+            log.atDebug().log("Ignoring {}: compiled from another source", file);
+        } catch (ScriptException e) {
+            log.atWarn().log("Ignoring {}: {}", file, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes this precompiled script.
+     *
+     * @param outputStream the stream, which is not closed
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(this.body.length + this.source.length() + 256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeUTF(this.registryVersion);
+        out.writeUTF(this.sourceHash);
+        writeBytes(this.source.getBytes(StandardCharsets.UTF_8), out);
+        writeBytes(this.body, out);
+        out.flush();
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        out.flush();
+        bytes.writeTo(outputStream);
+        outputStream.flush();
+    }
+
+    /**
+     * Returns the source of the script.
+     */
+    public String getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the source of the script.
+     */
+    public String getSourceHash() {
+        return this.sourceHash;
+    }
+
+    /**
+     * Returns the registry version of the expression context the script was
+     * compiled with.
+     */
+    public String getRegistryVersion() {
+        return this.registryVersion;
+    }
+
+    /**
+     * Decodes the statements and blocks in the given expression context. Returns an
+     * empty result, so that the script is compiled from its source, when the
+     * source does not match its hash, when the context has another registry
+     * version or when the script cannot be decoded.
+     */
+    Optional<ParsedScript> decode(IExpressionContext expressionContext) {
+        if (!(expressionContext instanceof ExpressionContext context)) {
+            log.atDebug().log("Precompiled script {} ignored: unsupported expression context", this.sourceHash);
+            return Optional.empty();
+        }
+        if (!this.sourceHash.equals(ScriptCache.hash(this.source))) {
+            log.atWarn().log("Precompiled script {} ignored: source checksum mismatch", this.sourceHash);
+            return Optional.empty();
+        }
+        if (!this.registryVersion.equals(context.getRegistryVersion())) {
+            log.atInfo().log("Precompiled script {} ignored: compiled with another function registry",
+                    this.sourceHash);
+            return Optional.empty();
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(this.body));
+            int count = in.readInt();
+            List<IExpression<?, ? extends ISupplier<?>>> expressions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                expressions.add(context.expression(ExpressionCode.read(in)));
+            }
+            int blockCount = in.readInt();
+            Map<String, List<IScriptNode>> blocks = new LinkedHashMap<>();
+            for (int i = 0; i < blockCount; i++) {
+                String name = in.readUTF();
+                blocks.put(name, readNodes(in, expressions));
+            }
+            List<IScriptNode> statements = readNodes(in, expressions);
+            log.atDebug().log("Precompiled script {} decoded: {} expressions, {} blocks", this.sourceHash, count,
+                    blockCount);
+            return Optional.of(new ParsedScript(blocks, statements, Map.of()));
+        } catch (IOException | RuntimeException e) {
+            log.atWarn().log("Precompiled script {} ignored: {}", this.sourceHash, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PrecompiledScript[" + this.sourceHash + "]";
+    }
+
+    // --- Nodes ---
+
+    @FunctionalInterface
+    private interface Encoder {
+        int index(IExpression<?, ? extends ISupplier<?>> expression);
+    }
+
+    private static void writeNodes(List<IScriptNode> nodes, DataOutput out, Encoder encoder) throws IOException {
+        out.writeInt(nodes.size());
+        for (IScriptNode node : nodes) {
+            writeNode(node, out, encoder);
+        }
+    }
+
+    private static void writeNode(IScriptNode node, DataOutput out, Encoder encoder) throws IOException {
+        switch (node) {
+            case null -> out.writeByte(NULL);
+            case StatementNode statement -> {
+                out.writeByte(STATEMENT);
+                out.writeInt(encoder.index(statement.expression()));
+                writeString(statement.variableName(), out);
+                out.writeBoolean(statement.assignExpression());
+                writeClauses(statement, out, encoder);
+            }
+            case StatementGroupNode group -> {
+                out.writeByte(GROUP);
+                writeNodes(group.statements(), out, encoder);
+                writeString(group.variableName(), out);
+                out.writeBoolean(group.isParallel());
+                writeClauses(group, out, encoder);
+            }
+            case FunctionDefNode function -> {
+                out.writeByte(FUNCTION);
+                out.writeUTF(function.variableName());
+                out.writeShort(function.parameterNames().size());
+                for (String parameter : function.parameterNames()) {
+                    out.writeUTF(parameter);
+                }
+                out.writeUTF(function.bodyBlockName());
+                out.writeInt(function.line());
+                writeString(function.sourceText(), out);
+            }
+            default -> throw new IOException("Unsupported script node: " + node.getClass().getName());
+        }
+    }
+
+    private static void writeClauses(IScriptNode node, DataOutput out, Encoder encoder) throws IOException {
+        writeInteger(node.code(), out);
+        writeCatchClauses(node.catchClauses(), out, encoder);
+        writeCatchClauses(node.downstreamCatchClauses(), out, encoder);
+        out.writeInt(node.pipeClauses().size());
+        for (PipeClause pipe : node.pipeClauses()) {
+            out.writeInt(pipe.condition() != null ? encoder.index(pipe.condition()) : -1);
+            writeNode(pipe.handler(), out, encoder);
+            writeInteger(pipe.code(), out);
+        }
+        out.writeInt(node.line());
+        writeString(node.sourceText(), out);
+    }
+
+    private static void writeCatchClauses(List<CatchClause> clauses, DataOutput out, Encoder encoder)
+            throws IOException {
+        out.writeInt(clauses.size());
+        for (CatchClause clause : clauses) {
+            List<String> types = clause.exceptionTypes() != null ? clause.exceptionTypes() : List.of();
+            out.writeShort(types.size());
+            for (String type : types) {
+                out.writeUTF(type);
+            }
+            writeNode(clause.handler(), out, encoder);
+            writeInteger(clause.code(), out);
+        }
+    }
+
+    private static List<IScriptNode> readNodes(DataInput in, List<IExpression<?, ? extends ISupplier<?>>> expressions)
+            throws IOException {
+        int size = in.readInt();
+        List<IScriptNode> nodes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            nodes.add(readNode(in, expressions));
+        }
+        return nodes;
+    }
+
+    private static IScriptNode readNode(DataInput in, List<IExpression<?, ? extends ISupplier<?>>> expressions)
+            throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STATEMENT: {
+                IExpression<?, ? extends ISupplier<?>> expression = expressions.get(in.readInt());
+                String variableName = readString(in);
+                boolean assignExpression = in.readBoolean();
+                Integer code = readInteger(in);
+                List<CatchClause> catchClauses = readCatchClauses(in, expressions);
+                List<CatchClause> downstreamCatchClauses = readCatchClauses(in, expressions);
+                List<PipeClause> pipeClauses = readPipeClauses(in, expressions);
+                return new StatementNode(expression, variableName, assignExpression, code, catchClauses,
+                        downstreamCatchClauses, pipeClauses, in.readInt(), readString(in));
+            }
+            case GROUP: {
+                List<IScriptNode> statements = readNodes(in, expressions);
+                String variableName = readString(in);
+                boolean parallel = in.readBoolean();
+                Integer code = readInteger(in);
+                List<CatchClause> catchClauses = readCatchClauses(in, expressions);
+                List<CatchClause> downstreamCatchClauses = readCatchClauses(in, expressions);
+                List<PipeClause> pipeClauses = readPipeClauses(in, expressions);
+                return new StatementGroupNode(statements, variableName, code, catchClauses, downstreamCatchClauses,
+                        pipeClauses, in.readInt(), readString(in), parallel);
+            }
+            case FUNCTION: {
+                String functionName = in.readUTF();
+                int parameterCount = in.readUnsignedShort();
+                List<String> parameterNames = new ArrayList<>(parameterCount);
+                for (int i = 0; i < parameterCount; i++) {
+                    parameterNames.add(in.readUTF());
+                }
+                String bodyBlockName = in.readUTF();
+                return new FunctionDefNode(functionName, parameterNames, bodyBlockName, in.readInt(), readString(in));
+            }
+            default:
+                throw new IOException("Unknown script node tag: " + tag);
+        }
+    }
+
+    private static List<CatchClause> readCatchClauses(DataInput in,
+            List<IExpression<?, ? extends ISupplier<?>>> expressions) throws IOException {
+        int size = in.readInt();
+        List<CatchClause> clauses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int typeCount = in.readUnsignedShort();
+            List<String> types = new ArrayList<>(typeCount);
+            for (int j = 0; j < typeCount; j++) {
+                types.add(in.readUTF());
+            }
+            IScriptNode handler = readNode(in, expressions);
+            clauses.add(new CatchClause(types, handler, readInteger(in)));
+        }
+        return clauses;
+    }
+
+    private static List<PipeClause> readPipeClauses(DataInput in,
+            List<IExpression<?, ? extends ISupplier<?>>> expressions) throws IOException {
+        int size = in.readInt();
+        List<PipeClause> clauses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int condition = in.readInt();
+            IScriptNode handler = readNode(in, expressions);
+            clauses.add(new PipeClause(condition >= 0 ? expressions.get(condition) : null, handler,
+                    readInteger(in)));
+        }
+        return clauses;
+    }
+
+    // --- Values ---
+
+    private static void writeString(String value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8), out);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? new String(readBytes(in), StandardCharsets.UTF_8) : null;
+    }
+
+    private static void writeInteger(Integer value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutput out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,262 @@
+package com.garganttua.core.script.context;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.garganttua.core.expression.context.IExpressionContext;
+import com.garganttua.core.runtime.dsl.IRuntimesBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of the {@link CompiledScript}s built by {@link ScriptContext#compile()},
+ * keyed by the SHA-256 hash of the script source.
+ *
+ * <p>
+ * Besides the hash, an entry is keyed by what the compiled runtime depends on:
+ * the expression context and runtimes builder factory of the script, compared by
+ * identity, and the initial variables, which are built into the runtime. Scripts
+ * loaded again with the same source, such as included scripts or the script of a
+ * workflow, are then parsed once. Failed compilations are not cached. Including a
+ * JAR clears the cache of the including script, since it registers new functions.
+ * </p>
+ *
+ * <p>
+ * The cache holds at most {@value #DEFAULT_MAXIMUM_SIZE} scripts by default, which
+ * can be changed with {@link #setMaximumSize(int)} or the {@value #SIZE_PROPERTY}
+ * system property; {@code 0} disables it. When the limit is exceeded, the least
+ * recently used script is evicted.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public class ScriptCache {
+
+    public static final String SIZE_PROPERTY = "garganttua.script.cache.size";
+    public static final int DEFAULT_MAXIMUM_SIZE = 128;
+
+    private static final ScriptCache SHARED = new ScriptCache();
+
+    private record Key(String hash, IExpressionContext expressionContext,
+            Supplier<IRuntimesBuilder> runtimesBuilderFactory, Map<String, Object> variables) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key
+                    && this.hash.equals(key.hash)
+                    && this.expressionContext == key.expressionContext
+                    && this.runtimesBuilderFactory == key.runtimesBuilderFactory
+                    && this.variables.equals(key.variables);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.hash, System.identityHashCode(this.expressionContext),
+                    System.identityHashCode(this.runtimesBuilderFactory), this.variables);
+        }
+    }
+
+    private final Map<Key, CompiledScript> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder compilations = new LongAdder();
+    private final LongAdder compileNanos = new LongAdder();
+
+    private volatile int maximumSize;
+
+    public ScriptCache() {
+        this(Integer.getInteger(SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE));
+    }
+
+    public ScriptCache(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size cannot be negative");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the cache used by the script contexts created without one.
+     */
+    public static ScriptCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the script compiled from the source in the given context, compiling
+     * it on a miss. Compilation runs outside of the cache lock, so concurrent misses
+     * on the same script may compile it more than once; the first one is kept.
+     */
+    CompiledScript get(String source, IExpressionContext expressionContext,
+            Supplier<IRuntimesBuilder> runtimesBuilderFactory, Map<String, Object> variables,
+            Function<String, CompiledScript> compiler) {
+        String hash = hash(source);
+        if (this.maximumSize <= 0) {
+            this.misses.increment();
+            return compile(hash, compiler);
+        }
+        Key key = new Key(hash, expressionContext, runtimesBuilderFactory,
+                Collections.unmodifiableMap(new HashMap<>(variables)));
+        synchronized (this.entries) {
+            CompiledScript cached = this.entries.get(key);
+            if (cached != null) {
+                this.hits.increment();
+                log.atDebug().log("Compiled script {} served from cache", hash);
+                return cached;
+            }
+        }
+        this.misses.increment();
+        CompiledScript compiled = compile(hash, compiler);
+        synchronized (this.entries) {
+            CompiledScript existing = this.entries.putIfAbsent(key, compiled);
+            if (existing != null) {
+                return existing;
+            }
+            evict(this.maximumSize);
+        }
+        return compiled;
+    }
+
+    private CompiledScript compile(String hash, Function<String, CompiledScript> compiler) {
+        long start = System.nanoTime();
+        try {
+            return compiler.apply(hash);
+        } finally {
+            this.compilations.increment();
+            this.compileNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private void evict(int size) {
+        int evicted = 0;
+        Iterator<CompiledScript> iterator = this.entries.values().iterator();
+        while (this.entries.size() > size && iterator.hasNext()) {
+            CompiledScript script = iterator.next();
+            iterator.remove();
+            evicted++;
+            log.atDebug().log("Evicted compiled script {}", script.getHash());
+        }
+        this.evictions.add(evicted);
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            log.atDebug().log("Clearing {} compiled scripts", this.entries.size());
+            this.entries.clear();
+        }
+    }
+
+    // --- Configuration and statistics ---
+
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of scripts, {@code 0} disabling the cache. Exceeding
+     * scripts are evicted right away.
+     *
+     * @param size the maximum number of scripts
+     */
+    public void setMaximumSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Maximum size cannot be negative");
+        }
+        log.atDebug().log("Setting script cache maximum size from {} to {}", this.maximumSize, size);
+        synchronized (this.entries) {
+            this.maximumSize = size;
+            evict(size);
+        }
+    }
+
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    public long hits() {
+        return this.hits.sum();
+    }
+
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    public long evictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Returns the share of lookups served from the cache, between {@code 0} and
+     * {@code 1}.
+     */
+    public double hitRate() {
+        long h = hits();
+        long total = h + misses();
+        return total == 0 ? 0d : (double) h / total;
+    }
+
+    /**
+     * Returns the number of scripts compiled, failed ones included.
+     */
+    public long compilations() {
+        return this.compilations.sum();
+    }
+
+    /**
+     * Returns the total time spent compiling scripts, in nanoseconds.
+     */
+    public long compileNanos() {
+        return this.compileNanos.sum();
+    }
+
+    /**
+     * Resets the hit, miss, eviction and compilation counters.
+     */
+    public void resetStatistics() {
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+        this.compilations.reset();
+        this.compileNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ScriptCache[size=" + size() + ", hits=" + hits() + ", misses=" + misses() + ", compilations="
+                + compilations() + "]";
+    }
+
+    /**
+     * Returns the SHA-256 hash of a script source, in hexadecimal.
+     *
+     * @param source the script source
+     * @return the hash of the source
+     */
+    public static String hash(String source) {
+        Objects.requireNonNull(source, "Script source cannot be null");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
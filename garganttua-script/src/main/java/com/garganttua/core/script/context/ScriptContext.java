@@ -3,12 +3,15 @@ package com.garganttua.core.script.context;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
@@ -16,11 +19,12 @@ import java.util.function.Supplier;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 
-import com.garganttua.core.CoreException;
 import com.garganttua.core.bootstrap.dsl.IBoostrap;
+import com.garganttua.core.expression.ExpressionException;
+import com.garganttua.core.expression.IExpression;
+import com.garganttua.core.expression.context.ExpressionContext;
 import com.garganttua.core.expression.context.IExpressionContext;
 import com.garganttua.core.runtime.IRuntime;
-import com.garganttua.core.runtime.IRuntimeResult;
 import com.garganttua.core.runtime.IRuntimeStep;
 import com.garganttua.core.runtime.dsl.IRuntimeBuilder;
 import com.garganttua.core.runtime.dsl.IRuntimesBuilder;
@@ -33,17 +37,19 @@ import com.garganttua.core.script.nodes.IScriptNode;
 import com.garganttua.core.script.nodes.StatementBlock;
 import com.garganttua.core.supply.ISupplier;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 public class ScriptContext implements IScript {
 
     private final IExpressionContext expressionContext;
     private final Supplier<IRuntimesBuilder> runtimesBuilderFactory;
     private final IBoostrap bootstrap;
     private volatile String scriptSource;
-    private volatile IRuntime<Object[], Object> runtime;
-    private volatile Map<String, Object> lastVariables = Map.of();
-    private volatile Object lastOutput = null;
-    private volatile Throwable lastException = null;
-    private volatile boolean aborted = false;
+    private volatile PrecompiledScript precompiledScript;
+    private final ScriptCache scriptCache;
+    private volatile CompiledScript compiledScript;
+    private volatile ScriptExecution lastExecution = ScriptExecution.EMPTY;
     private final Map<String, Object> initialVariables = Collections.synchronizedMap(new HashMap<>());
     private final Map<String, IScript> includedScripts = new ConcurrentHashMap<>();
 
@@ -59,9 +65,24 @@ public class ScriptContext implements IScript {
      * @param bootstrap the bootstrap for rebuilding components after JAR loading (may be null)
      */
     public ScriptContext(IExpressionContext expressionContext, Supplier<IRuntimesBuilder> runtimesBuilderFactory, IBoostrap bootstrap) {
+        this(expressionContext, runtimesBuilderFactory, bootstrap, ScriptCache.shared());
+    }
+
+    /**
+     * Creates a new ScriptContext whose compiled scripts are looked up in, and added to,
+     * the given cache.
+     *
+     * @param expressionContext the expression context for evaluating expressions
+     * @param runtimesBuilderFactory factory that creates a new IRuntimesBuilder for each compilation
+     * @param bootstrap the bootstrap for rebuilding components after JAR loading (may be null)
+     * @param scriptCache the cache of compiled scripts, shared with the child scripts
+     */
+    public ScriptContext(IExpressionContext expressionContext, Supplier<IRuntimesBuilder> runtimesBuilderFactory,
+            IBoostrap bootstrap, ScriptCache scriptCache) {
         this.expressionContext = expressionContext;
         this.runtimesBuilderFactory = runtimesBuilderFactory;
         this.bootstrap = bootstrap;
+        this.scriptCache = Objects.requireNonNull(scriptCache, "Script cache cannot be null");
         this.expressionContext.enableDynamicFunctions();
     }
 
@@ -71,19 +92,48 @@ public class ScriptContext implements IScript {
             throw new ScriptException("Script source cannot be null or blank");
         }
         this.scriptSource = script;
-        this.runtime = null;
+        this.precompiledScript = null;
+        this.compiledScript = null;
+    }
+
+    /**
+     * Loads a precompiled script. Its statements are decoded instead of parsed when
+     * it is compiled, unless it does not match the expression context of this
+     * script, in which case it is compiled from its source.
+     *
+     * @param script the precompiled script
+     * @throws ScriptException if the script is null
+     */
+    public void load(PrecompiledScript script) throws ScriptException {
+        if (script == null) {
+            throw new ScriptException("Precompiled script cannot be null");
+        }
+        this.load(script.getSource());
+        this.precompiledScript = script;
     }
 
+    /**
+     * Loads a script file. A {@value PrecompiledScript#EXTENSION} file is loaded as a
+     * precompiled script; for any other file, the precompiled script next to it is
+     * used when it was compiled from the same source.
+     */
     @Override
     public void load(File file) throws ScriptException {
         if (file == null || !file.exists()) {
             throw new ScriptException("Script file does not exist: " + file);
         }
+        if (file.getName().endsWith(PrecompiledScript.EXTENSION)) {
+            this.load(PrecompiledScript.read(file));
+            return;
+        }
+        String source;
         try {
-            this.load(Files.readString(file.toPath()));
+            source = Files.readString(file.toPath());
         } catch (IOException e) {
             throw new ScriptException("Failed to read script file: " + file, e);
         }
+        this.load(source);
+        PrecompiledScript.findFor(file, source).ifPresent(precompiled -> this.precompiledScript = precompiled);
     }
 
     @Override
@@ -98,32 +148,105 @@ public class ScriptContext implements IScript {
         }
     }
 
+    /**
+     * Compiles the loaded script, or takes it from the script cache when the same
+     * source was already compiled with the same expression context, runtimes builder
+     * factory and initial variables. A loaded precompiled script is decoded instead
+     * of parsed when it matches the expression context.
+     */
     @Override
     public void compile() throws ScriptException {
-        if (this.scriptSource == null) {
+        String source = this.scriptSource;
+        if (source == null) {
             throw new ScriptException("No script loaded. Call load() before compile()");
         }
+        PrecompiledScript precompiled = this.precompiledScript;
+
+        Map<String, Object> variables = registerVariableTypes();
+
+        this.compiledScript = this.scriptCache.get(source, this.expressionContext, this.runtimesBuilderFactory,
+                variables, hash -> {
+                    ParsedScript parsed = precompiled != null
+                            ? precompiled.decode(this.expressionContext).orElse(null)
+                            : null;
+                    return new CompiledScript(hash, build(parsed != null ? parsed : parse(source), variables),
+                            createChildScript());
+                });
+    }
+
+    /**
+     * Compiles the loaded script ahead of time and writes it in the
+     * {@value PrecompiledScript#EXTENSION} format, to be loaded later with
+     * {@link #load(PrecompiledScript)} without parsing. The script is only decoded
+     * by expression contexts with the same functions and initial variable types.
+     *
+     * @param outputStream the stream the precompiled script is written to, which is
+     *                     not closed
+     * @throws ScriptException if no script is loaded, the script does not parse or
+     *                         the expression context is not an
+     *                         {@link ExpressionContext}
+     */
+    public void precompile(OutputStream outputStream) throws ScriptException {
+        String source = this.scriptSource;
+        if (source == null) {
+            throw new ScriptException("No script loaded. Call load() before precompile()");
+        }
+        if (!(this.expressionContext instanceof ExpressionContext context)) {
+            throw new ScriptException("Precompiling requires an ExpressionContext, got "
+                    + this.expressionContext.getClass().getName());
+        }
+        registerVariableTypes();
+        try {
+            PrecompiledScript.of(source, parse(source), context).write(outputStream);
+        } catch (ExpressionException e) {
+            throw new ScriptException("Failed to precompile script", e);
+        } catch (IOException e) {
+            throw new ScriptException("Failed to write precompiled script", e);
+        }
+        log.atDebug().log("Script {} precompiled", ScriptCache.hash(source));
+    }
 
-        // Register variable types before parsing so expressions can resolve method calls
-        for (Map.Entry<String, Object> entry : this.initialVariables.entrySet()) {
+    /**
+     * Registers the types of the initial variables before parsing, so that
+     * expressions can resolve method calls, and returns a snapshot of the variables.
+     */
+    private Map<String, Object> registerVariableTypes() {
+        Map<String, Object> variables;
+        synchronized (this.initialVariables) {
+            variables = new LinkedHashMap<>(this.initialVariables);
+        }
+        for (Map.Entry<String, Object> entry : variables.entrySet()) {
             if (entry.getValue() != null) {
                 this.expressionContext.registerVariableType(entry.getKey(), IClass.getClass(entry.getValue().getClass()));
             }
         }
+        return variables;
+    }
 
+    private ParsedScript parse(String source) throws ScriptException {
         // Pre-process block expressions before ANTLR4 parsing
         BlockExpressionPreprocessor preprocessor = new BlockExpressionPreprocessor();
-        String processedSource = preprocessor.preprocess(this.scriptSource);
+        String processedSource = preprocessor.preprocess(source);
         Map<String, String> blockSources = preprocessor.getBlockSources();
+        Map<IExpression<?, ? extends ISupplier<?>>, String> expressionSources = new IdentityHashMap<>();
+
+        Map<String, List<IScriptNode>> blocks = new LinkedHashMap<>();
+        for (Map.Entry<String, String> blockEntry : blockSources.entrySet()) {
+            blocks.put(blockEntry.getKey(), parseStatements(blockEntry.getValue(), expressionSources));
+        }
+
+        List<IScriptNode> statements = parseStatements(processedSource, expressionSources);
+        return new ParsedScript(blocks, statements, expressionSources);
+    }
 
+    private IRuntime<Object[], Object> build(ParsedScript parsed, Map<String, Object> variables) throws ScriptException {
         // Compile each block into a StatementBlock
         Map<String, StatementBlock> compiledBlocks = new LinkedHashMap<>();
-        for (Map.Entry<String, String> blockEntry : blockSources.entrySet()) {
-            List<IScriptNode> blockStatements = parseStatements(blockEntry.getValue());
-            compiledBlocks.put(blockEntry.getKey(), new StatementBlock(blockStatements));
+        for (Map.Entry<String, List<IScriptNode>> blockEntry : parsed.blocks().entrySet()) {
+            compiledBlocks.put(blockEntry.getKey(), new StatementBlock(blockEntry.getValue()));
         }
 
-        List<IScriptNode> statements = parseStatements(processedSource);
+        List<IScriptNode> statements = parsed.statements();
         if (statements.isEmpty()) {
             throw new ScriptException("Failed to compile script: no statements found");
         }
@@ -153,17 +276,18 @@ public class ScriptContext implements IScript {
         }
 
         // Add initial variables
-        for (Map.Entry<String, Object> entry : this.initialVariables.entrySet()) {
+        for (Map.Entry<String, Object> entry : variables.entrySet()) {
             runtimeBuilder.variable(entry.getKey(), entry.getValue());
         }
 
         Map<String, IRuntime<?, ?>> runtimes = runtimesBuilder.build();
         @SuppressWarnings("unchecked")
         IRuntime<Object[], Object> scriptRuntime = (IRuntime<Object[], Object>) runtimes.get("script");
-        this.runtime = scriptRuntime;
+        return scriptRuntime;
     }
 
-    private List<IScriptNode> parseStatements(String source) {
+    private List<IScriptNode> parseStatements(String source,
+            Map<IExpression<?, ? extends ISupplier<?>>, String> expressionSources) {
         ScriptLexer lexer = new ScriptLexer(CharStreams.fromString(source));
         CommonTokenStream tokens = new CommonTokenStream(lexer);
         ScriptParser parser = new ScriptParser(tokens);
@@ -172,64 +296,48 @@ public class ScriptContext implements IScript {
         ScriptParser.ScriptContext tree = parser.script();
         ScriptNodeVisitor visitor = new ScriptNodeVisitor(this.expressionContext);
         visitor.visit(tree);
+        expressionSources.putAll(visitor.getExpressionSources());
         return visitor.getStatements();
     }
 
     @Override
     public int execute(Object... args) throws ScriptException {
-        if (this.runtime == null) {
+        CompiledScript compiled = this.compiledScript;
+        if (compiled == null) {
             throw new ScriptException("No script compiled. Call compile() before execute()");
         }
+        ScriptExecution execution = compiled.execute(this, args);
+        this.lastExecution = execution;
+        return execution.code();
+    }
 
-        // Reset exception state
-        this.lastException = null;
-        this.aborted = false;
-
-        ScriptContext previous = ScriptExecutionContext.get();
-        ScriptExecutionContext.set(this);
-        try {
-            Optional<IRuntimeResult<Object[], Object>> result = this.runtime.execute(args);
-            if (result.isPresent()) {
-                IRuntimeResult<Object[], Object> r = result.get();
-                this.lastVariables = r.variables() != null ? r.variables() : Map.of();
-                this.lastOutput = r.output();
-
-                // Check if the runtime aborted due to an exception
-                if (r.hasAborted()) {
-                    this.aborted = true;
-                    r.getAbortingException().ifPresent(exRecord -> {
-                        this.lastException = exRecord.exception();
-                    });
-                }
-
-                return r.code() != null ? r.code() : IRuntime.GENERIC_RUNTIME_SUCCESS_CODE;
-            }
-            this.lastVariables = Map.of();
-            this.lastOutput = null;
-            return IRuntime.GENERIC_RUNTIME_SUCCESS_CODE;
-        } catch (CoreException e) {
-            // Capture RuntimeException and ScriptException (both extend CoreException)
-            this.lastException = e;
-            this.aborted = true;
-            this.lastVariables = Map.of();
-            this.lastOutput = null;
-            return IRuntime.GENERIC_RUNTIME_ERROR_CODE;
-        } finally {
-            if (previous != null) {
-                ScriptExecutionContext.set(previous);
-            } else {
-                ScriptExecutionContext.clear();
-            }
+    /**
+     * Returns the compiled script, which can be executed concurrently without going
+     * through this context.
+     *
+     * @return the compiled script
+     * @throws ScriptException if no script was compiled
+     */
+    public CompiledScript getCompiledScript() throws ScriptException {
+        CompiledScript compiled = this.compiledScript;
+        if (compiled == null) {
+            throw new ScriptException("No script compiled. Call compile() before getCompiledScript()");
         }
+        return compiled;
+    }
+
+    /**
+     * Returns the result of the last execution of this context.
+     *
+     * @return the last execution, empty if the script was never executed
+     */
+    public ScriptExecution getLastExecution() {
+        return this.lastExecution;
     }
 
     @Override
     public <T> Optional<T> getVariable(String name, IClass<T> type) {
-        Object val = this.lastVariables.get(name);
-        if (val != null && type.isInstance(val)) {
-            return Optional.of(type.cast(val));
-        }
-        return Optional.empty();
+        return this.lastExecution.getVariable(name, type);
     }
 
     @Override
@@ -239,38 +347,30 @@ public class ScriptContext implements IScript {
 
     @Override
     public Optional<Object> getOutput() {
-        return Optional.ofNullable(this.lastOutput);
+        return this.lastExecution.getOutput();
     }
 
     @Override
     public Optional<Throwable> getLastException() {
-        return Optional.ofNullable(this.lastException);
+        return this.lastExecution.getException();
     }
 
     @Override
     public Optional<String> getLastExceptionMessage() {
-        if (this.lastException == null) {
-            return Optional.empty();
-        }
-        // Return root cause message
-        Throwable root = this.lastException;
-        while (root.getCause() != null) {
-            root = root.getCause();
-        }
-        return Optional.ofNullable(root.getMessage());
+        return this.lastExecution.getExceptionMessage();
     }
 
     @Override
     public boolean hasAborted() {
-        return this.aborted;
+        return this.lastExecution.hasAborted();
     }
 
     public Map<String, Object> getAllVariables() {
-        return Map.copyOf(this.lastVariables);
+        return Map.copyOf(this.lastExecution.getVariables());
     }
 
     public ScriptContext createChildScript() {
-        return new ScriptContext(this.expressionContext, this.runtimesBuilderFactory, this.bootstrap);
+        return new ScriptContext(this.expressionContext, this.runtimesBuilderFactory, this.bootstrap, this.scriptCache);
     }
 
     public void registerIncludedScript(String name, IScript script) {
@@ -299,6 +399,15 @@ public class ScriptContext implements IScript {
         return this.runtimesBuilderFactory;
     }
 
+    /**
+     * Returns the cache of compiled scripts used by this script and its child scripts.
+     *
+     * @return the script cache
+     */
+    public ScriptCache getScriptCache() {
+        return this.scriptCache;
+    }
+
     /**
      * Returns the bootstrap used by this script for rebuilding components.
      *
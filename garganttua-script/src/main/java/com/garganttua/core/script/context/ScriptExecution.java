@@ -0,0 +1,95 @@
+package com.garganttua.core.script.context;
+
+import java.util.Map;
+import java.util.Optional;
+
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.runtime.IRuntime;
+import com.garganttua.core.runtime.IRuntimeResult;
+import com.garganttua.core.runtime.RuntimeExceptionRecord;
+
+/**
+ * Result of one execution of a {@link CompiledScript}: exit code, output, final
+ * variables and the exception that aborted it, if any.
+ *
+ * @since 2.0.0-ALPHA02
+ */
+public final class ScriptExecution {
+
+    static final ScriptExecution EMPTY = new ScriptExecution(IRuntime.GENERIC_RUNTIME_SUCCESS_CODE, null,
+            Map.of(), null, false);
+
+    private final int code;
+    private final Object output;
+    private final Map<String, Object> variables;
+    private final Throwable exception;
+    private final boolean aborted;
+
+    private ScriptExecution(int code, Object output, Map<String, Object> variables, Throwable exception,
+            boolean aborted) {
+        this.code = code;
+        this.output = output;
+        this.variables = variables;
+        this.exception = exception;
+        this.aborted = aborted;
+    }
+
+    static ScriptExecution of(IRuntimeResult<Object[], Object> result) {
+        Throwable exception = result.hasAborted()
+                ? result.getAbortingException().map(RuntimeExceptionRecord::exception).orElse(null)
+                : null;
+        return new ScriptExecution(
+                result.code() != null ? result.code() : IRuntime.GENERIC_RUNTIME_SUCCESS_CODE,
+                result.output(),
+                result.variables() != null ? result.variables() : Map.of(),
+                exception,
+                result.hasAborted());
+    }
+
+    static ScriptExecution failed(Throwable exception) {
+        return new ScriptExecution(IRuntime.GENERIC_RUNTIME_ERROR_CODE, null, Map.of(), exception, true);
+    }
+
+    public int code() {
+        return this.code;
+    }
+
+    public Optional<Object> getOutput() {
+        return Optional.ofNullable(this.output);
+    }
+
+    public <T> Optional<T> getVariable(String name, IClass<T> type) {
+        Object value = this.variables.get(name);
+        if (value != null && type.isInstance(value)) {
+            return Optional.of(type.cast(value));
+        }
+        return Optional.empty();
+    }
+
+    public Map<String, Object> getVariables() {
+        return this.variables;
+    }
+
+    public Optional<Throwable> getException() {
+        return Optional.ofNullable(this.exception);
+    }
+
+    /**
+     * Returns the message of the root cause of the exception that aborted the
+     * execution.
+     */
+    public Optional<String> getExceptionMessage() {
+        if (this.exception == null) {
+            return Optional.empty();
+        }
+        Throwable root = this.exception;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return Optional.ofNullable(root.getMessage());
+    }
+
+    public boolean hasAborted() {
+        return this.aborted;
+    }
+}
@@ -7,6 +7,8 @@ import com.garganttua.core.expression.ExpressionException;
 import com.garganttua.core.expression.IExpression;
 import com.garganttua.core.expression.context.ExpressionVariableContext;
 import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.runtime.IRuntimeContext;
+import com.garganttua.core.runtime.RuntimeExpressionContext;
 import com.garganttua.core.supply.ISupplier;
 import com.garganttua.core.supply.SupplyException;
 
@@ -18,7 +20,7 @@ import com.garganttua.core.supply.SupplyException;
  * This bridges the expression engine's variable resolution to the runtime context.
  * The {@link com.garganttua.core.runtime.RuntimeExpressionContext} is already set
  * by {@link com.garganttua.core.runtime.RuntimeStepMethodBinder} — this wrapper
- * adds the script-specific variable resolver on top.
+ * adds the script-specific variable resolver on top, bound to that context.
  * </p>
  *
  * @param <R> the result type
@@ -39,7 +41,8 @@ public class ScriptExpressionWrapper<R> implements IExpression<R, ISupplier<R>>
         return new ISupplier<>() {
             @Override
             public Optional<R> supply() throws SupplyException {
-                ExpressionVariableContext.set(RESOLVER);
+                IRuntimeContext<?, ?> context = RuntimeExpressionContext.get();
+                ExpressionVariableContext.set(context != null ? new ScriptVariableResolver(context) : RESOLVER);
                 try {
                     return inner.evaluate().supply();
                 } catch (ExpressionException e) {
@@ -1,7 +1,9 @@
 package com.garganttua.core.script.context;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.misc.Interval;
@@ -22,6 +24,7 @@ public class ScriptNodeVisitor extends ScriptBaseVisitor<Object> {
 
     private final IExpressionContext expressionContext;
     private final List<IScriptNode> statements = new ArrayList<>();
+    private final Map<IExpression<?, ? extends ISupplier<?>>, String> expressionSources = new IdentityHashMap<>();
 
     public ScriptNodeVisitor(IExpressionContext expressionContext) {
         this.expressionContext = expressionContext;
@@ -31,6 +34,20 @@ public class ScriptNodeVisitor extends ScriptBaseVisitor<Object> {
         return this.statements;
     }
 
+    /**
+     * Returns the source of each expression of the visited statements, used to
+     * precompile them.
+     */
+    public Map<IExpression<?, ? extends ISupplier<?>>, String> getExpressionSources() {
+        return this.expressionSources;
+    }
+
+    private IExpression<?, ? extends ISupplier<?>> expression(String text) {
+        IExpression<?, ? extends ISupplier<?>> expression = this.expressionContext.expression(text);
+        this.expressionSources.put(expression, text);
+        return expression;
+    }
+
     @Override
     public Object visitScript(ScriptParser.ScriptContext ctx) {
         for (ScriptParser.StatementContext stmt : ctx.statement()) {
@@ -71,6 +88,7 @@ public class ScriptNodeVisitor extends ScriptBaseVisitor<Object> {
             groupVisitor.visit(stmt);
         }
         groupStatements.addAll(groupVisitor.getStatements());
+        this.expressionSources.putAll(groupVisitor.getExpressionSources());
 
         List<CatchClause> catchClauses = buildCatchClauses(ctx.catchClause());
         List<CatchClause> downstreamCatchClauses = buildCatchClauses(ctx.downstreamCatchClause());
@@ -82,7 +100,7 @@ public class ScriptNodeVisitor extends ScriptBaseVisitor<Object> {
         StatementGroupNode groupNode = new StatementGroupNode(
                 groupStatements, variableName, code,
                 catchClauses, downstreamCatchClauses, pipeClauses,
-                ctx.start.getLine(), extractSourceText(ctx));
+                ctx.start.getLine(), extractSourceText(ctx), ctx.statementGroup().PARALLEL() != null);
         this.statements.add(groupNode);
         return null;
     }
@@ -157,7 +175,7 @@ public class ScriptNodeVisitor extends ScriptBaseVisitor<Object> {
         for (ScriptParser.PipeClauseContext clause : clauses) {
             IExpression<?, ? extends ISupplier<?>> condition = null;
             if (clause.expression() != null) {
-                condition = this.expressionContext.expression(clause.expression().getText());
+                condition = expression(clause.expression().getText());
             }
             if (clause.pipeHandler() != null) {
                 IScriptNode handlerNode = buildPipeHandlerNode(clause.pipeHandler());
@@ -175,13 +193,13 @@ public class ScriptNodeVisitor extends ScriptBaseVisitor<Object> {
             String varName = ctx.IDENTIFIER() != null ? ctx.IDENTIFIER().getText() : null;
             String exprText = ctx.expression().getText();
             Integer code = ctx.INT_LITERAL() != null ? Integer.parseInt(ctx.INT_LITERAL().getText()) : null;
-            IExpression<?, ? extends ISupplier<?>> expression = this.expressionContext.expression(exprText);
+            IExpression<?, ? extends ISupplier<?>> expression = expression(exprText);
             return new StatementNode(expression, varName, false, code, List.of(), List.of(), List.of());
         } else if (handler instanceof ScriptParser.ExpressionAssignHandlerContext ctx) {
             String varName = ctx.IDENTIFIER() != null ? ctx.IDENTIFIER().getText() : null;
             String exprText = ctx.expression().getText();
             Integer code = ctx.INT_LITERAL() != null ? Integer.parseInt(ctx.INT_LITERAL().getText()) : null;
-            IExpression<?, ? extends ISupplier<?>> expression = this.expressionContext.expression(exprText);
+            IExpression<?, ? extends ISupplier<?>> expression = expression(exprText);
             return new StatementNode(expression, varName, true, code, List.of(), List.of(), List.of());
         }
         throw new IllegalStateException("Unknown handler type: " + handler.getClass());
@@ -192,13 +210,13 @@ public class ScriptNodeVisitor extends ScriptBaseVisitor<Object> {
             String varName = ctx.IDENTIFIER() != null ? ctx.IDENTIFIER().getText() : null;
             String exprText = ctx.expression().getText();
             Integer code = ctx.INT_LITERAL() != null ? Integer.parseInt(ctx.INT_LITERAL().getText()) : null;
-            IExpression<?, ? extends ISupplier<?>> expression = this.expressionContext.expression(exprText);
+            IExpression<?, ? extends ISupplier<?>> expression = expression(exprText);
             return new StatementNode(expression, varName, false, code, List.of(), List.of(), List.of());
         } else if (handler instanceof ScriptParser.ExpressionAssignPipeHandlerContext ctx) {
             String varName = ctx.IDENTIFIER() != null ? ctx.IDENTIFIER().getText() : null;
             String exprText = ctx.expression().getText();
             Integer code = ctx.INT_LITERAL() != null ? Integer.parseInt(ctx.INT_LITERAL().getText()) : null;
-            IExpression<?, ? extends ISupplier<?>> expression = this.expressionContext.expression(exprText);
+            IExpression<?, ? extends ISupplier<?>> expression = expression(exprText);
             return new StatementNode(expression, varName, true, code, List.of(), List.of(), List.of());
         }
         throw new IllegalStateException("Unknown pipe handler type: " + handler.getClass());
@@ -208,7 +226,7 @@ public class ScriptNodeVisitor extends ScriptBaseVisitor<Object> {
                                   Integer code, List<CatchClause> catchClauses,
                                   List<CatchClause> downstreamCatchClauses, List<PipeClause> pipeClauses,
                                   ParserRuleContext ctx) {
-        IExpression<?, ? extends ISupplier<?>> expression = this.expressionContext.expression(exprText);
+        IExpression<?, ? extends ISupplier<?>> expression = expression(exprText);
         this.statements.add(new StatementNode(expression, variableName, assignExpression, code,
                 catchClauses, downstreamCatchClauses, pipeClauses,
                 ctx.start.getLine(), extractSourceText(ctx)));
@@ -59,6 +59,8 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>{@code expr ! ExType => handler} → {@link IRuntimeStepCatch} + fallback</li>
  *   <li>{@code expr | cond => handler} → {@link IRuntimeStepPipe}</li>
  *   <li>{@code (statements)} → {@link SubRuntimeExpression}</li>
+ *   <li>{@code parallel(statements)} → {@link ParallelGroupExpression}, one
+ *       {@link SubRuntime} per statement</li>
  *   <li>{@code func = (p) => (body)} → function definition expression</li>
  * </ul>
  *
@@ -148,6 +150,9 @@ public class ScriptStepFactory {
     }
 
     private IExpression<Object, ISupplier<Object>> compileGroup(String stepName, StatementGroupNode groupNode) {
+        if (groupNode.isParallel()) {
+            return compileParallelGroup(stepName, groupNode);
+        }
         // Recursively compile inner statements as steps
         List<IScriptNode> stmts = groupNode.statements();
         Map<String, IRuntimeStep<?, Object[], Object>> innerSteps = new LinkedHashMap<>();
@@ -173,6 +178,28 @@ public class ScriptStepFactory {
                 new SubRuntimeExpression(subRuntime, functionNames);
     }
 
+    /**
+     * Compiles each statement of a parallel group as a single step sub-runtime, so
+     * that its catch and pipe clauses apply to its own branch, and its result is the
+     * output of the branch.
+     */
+    private IExpression<Object, ISupplier<Object>> compileParallelGroup(String stepName, StatementGroupNode groupNode) {
+        List<IScriptNode> stmts = groupNode.statements();
+        List<SubRuntime<Object[], Object>> branches = new ArrayList<>(stmts.size());
+
+        for (int i = 0; i < stmts.size(); i++) {
+            IScriptNode inner = stmts.get(i);
+            String branchStepName = stepName + "-p" + i;
+            Map<String, IRuntimeStep<?, Object[], Object>> steps = Map.of(branchStepName,
+                    inner instanceof FunctionDefNode
+                            ? compileNode(branchStepName, inner)
+                            : compileNodeAsOutput(branchStepName, inner));
+            branches.add(new SubRuntime<>(branchStepName, steps));
+        }
+
+        return new ParallelGroupExpression(stepName + "-parallel", branches);
+    }
+
     /**
      * Compiles a node like compileNode but forces isOutput=true so its result
      * becomes the sub-runtime's output (used for the last statement in a group).
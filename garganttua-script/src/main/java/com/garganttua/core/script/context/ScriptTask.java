@@ -0,0 +1,174 @@
+package com.garganttua.core.script.context;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import com.garganttua.core.expression.context.ExpressionVariableContext;
+import com.garganttua.core.runtime.IRuntimeContext;
+import com.garganttua.core.runtime.RuntimeContext;
+import com.garganttua.core.runtime.RuntimeExpressionContext;
+import com.garganttua.core.script.ScriptException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Part of a script running on its own virtual thread, such as a branch of a
+ * {@code parallel( ... )} group or the expression of {@code async(expr)}.
+ *
+ * <p>
+ * The task runs in a {@link RuntimeContext#fork() branch} of the runtime context
+ * it is started from: it sees the script variables as they were when it started,
+ * and the variables it sets stay in the branch until the task is awaited. Awaiting
+ * the task merges the branch into the context it was started from, once, so that
+ * concurrent tasks never write to the same context and their changes are applied
+ * in the order in which the script awaits them.
+ * </p>
+ *
+ * @since 2.0.0-ALPHA02
+ */
+@Slf4j
+public final class ScriptTask {
+
+    private final String name;
+    private final RuntimeContext<Object[], Object> origin;
+    private final RuntimeContext<Object[], Object> branch;
+    private final FutureTask<Object> future;
+    private boolean merged;
+
+    private ScriptTask(String name, RuntimeContext<Object[], Object> origin,
+            Function<IRuntimeContext<Object[], Object>, Object> body) {
+        this.name = name;
+        this.origin = origin;
+        this.branch = origin.fork();
+        ScriptContext script = ScriptExecutionContext.get();
+        this.future = new FutureTask<>(() -> {
+            RuntimeExpressionContext.set(this.branch);
+            ExpressionVariableContext.set(new ScriptVariableResolver(this.branch));
+            if (script != null) {
+                ScriptExecutionContext.set(script);
+            }
+            try {
+                return body.apply(this.branch);
+            } finally {
+                RuntimeExpressionContext.clear();
+                ExpressionVariableContext.clear();
+                ScriptExecutionContext.clear();
+            }
+        });
+    }
+
+    /**
+     * Starts a task on a new virtual thread, in a branch of the given context.
+     *
+     * @param name    the name of the task, used for its thread and in errors
+     * @param context the runtime context of the script
+     * @param body    the work of the task, given the branch context it runs in
+     * @return the started task
+     * @throws ScriptException if the context cannot be forked
+     */
+    @SuppressWarnings("unchecked")
+    public static ScriptTask start(String name, IRuntimeContext<?, ?> context,
+            Function<IRuntimeContext<Object[], Object>, Object> body) {
+        Objects.requireNonNull(body, "Task body cannot be null");
+        if (!(context instanceof RuntimeContext<?, ?> runtimeContext)) {
+            throw new ScriptException("Cannot start " + name + ": no forkable runtime context available");
+        }
+        ScriptTask task = new ScriptTask(name, (RuntimeContext<Object[], Object>) runtimeContext, body);
+        Thread.ofVirtual().name("script-" + name).start(task.future);
+        log.atDebug().log("[ScriptTask.start] Started task {}", name);
+        return task;
+    }
+
+    /**
+     * Starts a task on a new virtual thread, in a branch of the runtime context of
+     * the current thread.
+     *
+     * @param name the name of the task, used for its thread and in errors
+     * @param body the work of the task, given the branch context it runs in
+     * @return the started task
+     * @throws ScriptException if there is no runtime context
+     */
+    public static ScriptTask start(String name, Function<IRuntimeContext<Object[], Object>, Object> body) {
+        return start(name, RuntimeExpressionContext.get(), body);
+    }
+
+    /**
+     * Checks if the task has finished, successfully or not.
+     */
+    public boolean isDone() {
+        return this.future.isDone();
+    }
+
+    /**
+     * Waits for the task to finish, merges its branch into the context it was
+     * started from, and returns its result.
+     *
+     * @return the result of the task
+     * @throws ScriptException if the task failed or the waiting thread was
+     *                         interrupted
+     */
+    public Object await() {
+        try {
+            this.join();
+            return this.future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new ScriptException("Task " + this.name + " failed: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScriptException("Interrupted while waiting for task " + this.name, e);
+        }
+    }
+
+    /**
+     * Same as {@link #await()}, waiting at most the given time.
+     *
+     * @param timeoutMs the maximum time to wait, in milliseconds
+     * @return the result of the task
+     * @throws ScriptException if the task failed or did not finish in time, in
+     *                         which case it keeps running and is not merged
+     */
+    public Object await(long timeoutMs) {
+        try {
+            this.future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ScriptException("Task " + this.name + " did not finish within " + timeoutMs + "ms", e);
+        } catch (ExecutionException | CancellationException e) {
+            // Reported by await()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScriptException("Interrupted while waiting for task " + this.name, e);
+        }
+        return this.await();
+    }
+
+    /**
+     * Waits for the task to finish and merges its branch, without reporting its
+     * failure.
+     *
+     * @throws InterruptedException if the waiting thread was interrupted
+     */
+    private void join() throws InterruptedException {
+        try {
+            this.future.get();
+        } catch (ExecutionException | CancellationException e) {
+            // Reported by await()
+        }
+        synchronized (this) {
+            if (!this.merged) {
+                this.merged = true;
+                this.origin.merge(this.branch);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ScriptTask[" + this.name + (this.isDone() ? ", done]" : "]");
+    }
+}
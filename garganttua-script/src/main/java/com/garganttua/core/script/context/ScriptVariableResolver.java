@@ -3,6 +3,7 @@ package com.garganttua.core.script.context;
 import java.util.Optional;
 
 import com.garganttua.core.expression.ForLoopExpressionNode;
+import com.garganttua.core.expression.context.VariableSlots;
 import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.runtime.IRuntimeContext;
 import com.garganttua.core.runtime.RuntimeExpressionContext;
@@ -20,9 +21,10 @@ import com.garganttua.core.runtime.RuntimeExpressionContext;
  * </ul>
  *
  * <p>
- * This resolver reads the current {@link IRuntimeContext} from
- * {@link RuntimeExpressionContext} at resolution time, so it does not need
- * a context reference at construction time.
+ * A resolver created without a context reads the current {@link IRuntimeContext}
+ * from {@link RuntimeExpressionContext} at resolution time. A resolver bound to a
+ * context at construction skips that lookup. Variables referenced by their
+ * {@link VariableSlots slot} are read from the slot of the context frame.
  * </p>
  *
  * @since 2.0.0-ALPHA01
@@ -32,35 +34,55 @@ public class ScriptVariableResolver implements ForLoopExpressionNode.VariableSet
     private static final IClass<Object> OBJECT_CLASS = IClass.getClass(Object.class);
     private static final IClass<Integer> INTEGER_CLASS = IClass.getClass(Integer.class);
 
+    private final IRuntimeContext<?, ?> context;
+
+    public ScriptVariableResolver() {
+        this(null);
+    }
+
+    /**
+     * @param context the runtime context to resolve variables from, or
+     *                {@code null} to use the context of the current thread
+     * @since 2.0.0-ALPHA02
+     */
+    public ScriptVariableResolver(IRuntimeContext<?, ?> context) {
+        this.context = context;
+    }
+
+    private IRuntimeContext<?, ?> context() {
+        return this.context != null ? this.context : RuntimeExpressionContext.get();
+    }
+
     @Override
-    @SuppressWarnings("unchecked")
     public <T> Optional<T> resolve(String name, IClass<T> type) {
-        IRuntimeContext<?, ?> context = RuntimeExpressionContext.get();
+        return resolve(VariableSlots.NONE, name, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> resolve(int slot, String name, IClass<T> type) {
+        IRuntimeContext<?, ?> context = context();
         if (context == null) {
             return Optional.empty();
         }
 
         // Positional arguments: $0, $1, $2, ...
-        if (name.startsWith("$")) {
-            try {
-                int index = Integer.parseInt(name.substring(1));
-                Object input = context.getInput().orElse(null);
-                if (input instanceof Object[] args && index >= 0 && index < args.length) {
-                    Object value = args[index];
-                    if (value == null) {
-                        return Optional.empty();
-                    }
-                    if (type.isInstance(value)) {
-                        return Optional.of(type.cast(value));
-                    }
-                    if (type.equals(OBJECT_CLASS)) {
-                        return Optional.of((T) value);
-                    }
+        int index = positionalIndex(name);
+        if (index >= 0) {
+            Object input = context.getInput().orElse(null);
+            if (input instanceof Object[] args && index < args.length) {
+                Object value = args[index];
+                if (value == null) {
+                    return Optional.empty();
+                }
+                if (type.isInstance(value)) {
+                    return Optional.of(type.cast(value));
+                }
+                if (type.equals(OBJECT_CLASS)) {
+                    return Optional.of((T) value);
                 }
-                return Optional.empty();
-            } catch (NumberFormatException e) {
-                // Not a positional arg, fall through
             }
+            return Optional.empty();
         }
 
         // Special: @code
@@ -85,13 +107,30 @@ public class ScriptVariableResolver implements ForLoopExpressionNode.VariableSet
         }
 
         // All other variables
-        return context.getVariable(name, type);
+        return slot >= 0 ? context.getVariable(slot, name, type) : context.getVariable(name, type);
+    }
+
+    private static int positionalIndex(String name) {
+        if (!name.startsWith("$")) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(name.substring(1));
+        } catch (NumberFormatException e) {
+            // Not a positional arg
+            return -1;
+        }
     }
 
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public void setVariable(String name, Object value) {
-        IRuntimeContext context = RuntimeExpressionContext.get();
+        setVariable(VariableSlots.NONE, name, value);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setVariable(int slot, String name, Object value) {
+        IRuntimeContext context = context();
         if (context == null) {
             return;
         }
@@ -102,6 +141,10 @@ public class ScriptVariableResolver implements ForLoopExpressionNode.VariableSet
             }
             return;
         }
-        context.setVariable(name, value);
+        if (slot >= 0) {
+            context.setVariable(slot, name, value);
+        } else {
+            context.setVariable(name, value);
+        }
     }
 }
@@ -20,7 +20,9 @@ import com.garganttua.core.script.IScript;
 import com.garganttua.core.script.ScriptException;
 import com.garganttua.core.script.context.ScriptContext;
 import com.garganttua.core.script.context.ScriptExecutionContext;
+import com.garganttua.core.script.context.ScriptTask;
 import com.garganttua.core.script.loader.JarManifestReader;
+import com.garganttua.core.script.nodes.StatementBlock;
 
 import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -72,7 +74,7 @@ public class ScriptFunctions {
 
     // ========== Cast Function ==========
 
-    @Expression(name = "cast", description = "Casts a value to the specified type")
+    @Expression(name = "cast", description = "Casts a value to the specified type", pure = true)
     public static <T> T cast(@Nullable IClass<T> type, @Nullable Object value) {
         log.atDebug().log("cast({}, {})", type, value);
         if (type == null) {
@@ -128,7 +130,7 @@ public class ScriptFunctions {
      * @param arg1 the first argument
      * @return the formatted string
      */
-    @Expression(name = "format", description = "Formats a string using String.format with 1 argument")
+    @Expression(name = "format", description = "Formats a string using String.format with 1 argument", pure = true)
     public static String format(@Nullable Object pattern, @Nullable Object arg1) {
         if (pattern == null) {
             return "null";
@@ -144,7 +146,7 @@ public class ScriptFunctions {
      * @param arg2 the second argument
      * @return the formatted string
      */
-    @Expression(name = "format", description = "Formats a string using String.format with 2 arguments")
+    @Expression(name = "format", description = "Formats a string using String.format with 2 arguments", pure = true)
     public static String format(@Nullable Object pattern, @Nullable Object arg1, @Nullable Object arg2) {
         if (pattern == null) {
             return "null";
@@ -161,7 +163,7 @@ public class ScriptFunctions {
      * @param arg3 the third argument
      * @return the formatted string
      */
-    @Expression(name = "format", description = "Formats a string using String.format with 3 arguments")
+    @Expression(name = "format", description = "Formats a string using String.format with 3 arguments", pure = true)
     public static String format(@Nullable Object pattern, @Nullable Object arg1, @Nullable Object arg2,
             @Nullable Object arg3) {
         if (pattern == null) {
@@ -322,42 +324,42 @@ public class ScriptFunctions {
 
     // ========== Time Unit Functions ==========
 
-    @Expression(name = "milliseconds", description = "Returns the value as milliseconds (identity function)")
+    @Expression(name = "milliseconds", description = "Returns the value as milliseconds (identity function)", pure = true)
     public static long milliseconds(long value) {
         return value;
     }
 
-    @Expression(name = "milliseconds", description = "Returns the value as milliseconds (identity function)")
+    @Expression(name = "milliseconds", description = "Returns the value as milliseconds (identity function)", pure = true)
     public static long milliseconds(int value) {
         return value;
     }
 
-    @Expression(name = "seconds", description = "Converts seconds to milliseconds")
+    @Expression(name = "seconds", description = "Converts seconds to milliseconds", pure = true)
     public static long seconds(long value) {
         return TimeUnit.SECONDS.toMillis(value);
     }
 
-    @Expression(name = "seconds", description = "Converts seconds to milliseconds")
+    @Expression(name = "seconds", description = "Converts seconds to milliseconds", pure = true)
     public static long seconds(int value) {
         return TimeUnit.SECONDS.toMillis(value);
     }
 
-    @Expression(name = "minutes", description = "Converts minutes to milliseconds")
+    @Expression(name = "minutes", description = "Converts minutes to milliseconds", pure = true)
     public static long minutes(long value) {
         return TimeUnit.MINUTES.toMillis(value);
     }
 
-    @Expression(name = "minutes", description = "Converts minutes to milliseconds")
+    @Expression(name = "minutes", description = "Converts minutes to milliseconds", pure = true)
     public static long minutes(int value) {
         return TimeUnit.MINUTES.toMillis(value);
     }
 
-    @Expression(name = "hours", description = "Converts hours to milliseconds")
+    @Expression(name = "hours", description = "Converts hours to milliseconds", pure = true)
     public static long hours(long value) {
         return TimeUnit.HOURS.toMillis(value);
     }
 
-    @Expression(name = "hours", description = "Converts hours to milliseconds")
+    @Expression(name = "hours", description = "Converts hours to milliseconds", pure = true)
     public static long hours(int value) {
         return TimeUnit.HOURS.toMillis(value);
     }
@@ -661,6 +663,86 @@ public class ScriptFunctions {
         );
     }
 
+    // ========== Async Functions ==========
+
+    /**
+     * Starts evaluating an expression on a virtual thread and returns a handle to
+     * wait for its result with {@code await}.
+     *
+     * <p>The expression is passed lazily and runs in a branch of the runtime context:
+     * it sees the script variables as they are when it starts, and the variables it
+     * sets are merged into the script when the handle is awaited.</p>
+     *
+     * <p>Usage in script:</p>
+     * <pre>
+     * users &lt;- async(fetchUsers())
+     * orders &lt;- async(fetchOrders())
+     * output &lt;- concatenate(await(@users), await(@orders))
+     * </pre>
+     *
+     * @param expression the expression to evaluate (passed lazily as ISupplier)
+     * @return the handle of the running expression
+     */
+    @Expression(name = "async", description = "Evaluates an expression on a virtual thread and returns a handle for await")
+    public static ScriptTask async(@Nullable ISupplier<?> expression) {
+        log.atDebug().log("async(ISupplier)");
+
+        if (expression == null) {
+            throw new ExpressionException("async: expression cannot be null");
+        }
+        try {
+            return ScriptTask.start("async", branch -> {
+                Object value = expression.supply().orElse(null);
+                return value instanceof StatementBlock block ? block.execute() : value;
+            });
+        } catch (ScriptException e) {
+            throw new ExpressionException("async: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for an expression started with {@code async} and returns its result.
+     *
+     * <p>Awaiting a handle merges the variables set by its expression into the
+     * script. A handle can be awaited several times; it is merged only once.</p>
+     *
+     * @param handle the handle returned by {@code async}
+     * @return the result of the expression
+     * @throws ScriptException if the expression failed
+     */
+    @Expression(name = "await", description = "Waits for an async expression and returns its result")
+    public static Object await(@Nullable Object handle) {
+        log.atDebug().log("await({})", handle);
+        return task("await", handle).await();
+    }
+
+    /**
+     * Waits at most the given time for an expression started with {@code async}.
+     *
+     * <p>Usage in script:</p>
+     * <pre>
+     * result &lt;- await(@handle, seconds(5))
+     * </pre>
+     *
+     * @param handle the handle returned by {@code async}
+     * @param timeoutMs the maximum time to wait, in milliseconds
+     * @return the result of the expression
+     * @throws ScriptException if the expression failed or did not finish in time
+     */
+    @Expression(name = "await", description = "Waits at most a given time for an async expression")
+    public static Object await(@Nullable Object handle, long timeoutMs) {
+        log.atDebug().log("await({}, {}ms)", handle, timeoutMs);
+        return task("await", handle).await(timeoutMs);
+    }
+
+    private static ScriptTask task(String function, Object handle) {
+        if (handle instanceof ScriptTask task) {
+            return task;
+        }
+        throw new ExpressionException(function + ": expected a handle returned by async, got "
+                + (handle == null ? "null" : handle.getClass().getSimpleName()));
+    }
+
     private static void includeJar(ScriptContext ctx, String path) {
         try {
             File jarFile = new File(path);
@@ -698,6 +780,8 @@ public class ScriptFunctions {
 
             try {
                 bootstrap.rebuild();
+                // Scripts compiled before the rebuild do not know the functions of the JAR
+                ctx.getScriptCache().clear();
                 log.atDebug().log("JAR loaded with {} packages, components rebuilt: {}", packages.size(), path);
             } catch (DslException e) {
                 log.atError().log("Failed to rebuild after loading JAR: {}", path, e);
@@ -1,11 +1,14 @@
 package com.garganttua.core.script.nodes;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.garganttua.core.expression.context.ExpressionVariableContext;
 import com.garganttua.core.runtime.IRuntimeContext;
 import com.garganttua.core.runtime.RuntimeExpressionContext;
 import com.garganttua.core.script.ScriptException;
+import com.garganttua.core.script.context.ScriptTask;
 import com.garganttua.core.script.context.ScriptVariableResolver;
 import com.garganttua.core.supply.ISupplier;
 
@@ -37,8 +40,6 @@ public class StatementBlock {
         return this.statements;
     }
 
-    private static final ScriptVariableResolver RESOLVER = new ScriptVariableResolver();
-
     @SuppressWarnings("unchecked")
     public Object execute() {
         IRuntimeContext<Object[], Object> context = RuntimeExpressionContext.get();
@@ -50,7 +51,7 @@ public class StatementBlock {
         // This is needed because StatementBlock is executed by ControlFlowFunctions.ifExpr()
         // and ScriptFunction, which are outside the ScriptExpressionWrapper scope.
         var previous = ExpressionVariableContext.get();
-        ExpressionVariableContext.set(RESOLVER);
+        ExpressionVariableContext.set(new ScriptVariableResolver(context));
         try {
             return executeStatements(context, this.statements);
         } finally {
@@ -64,14 +65,18 @@ public class StatementBlock {
 
     static Object executeStatements(IRuntimeContext<Object[], Object> context, List<IScriptNode> statements) {
         Object lastResult = null;
+        // Bound to the context, so variable accesses do not look it up again
+        ScriptVariableResolver resolver = new ScriptVariableResolver(context);
         for (IScriptNode node : statements) {
             // Restore both contexts before each statement — previous statements
             // (e.g. execute_script) may have cleared them via sub-script execution
             RuntimeExpressionContext.set(context);
-            ExpressionVariableContext.set(RESOLVER);
+            ExpressionVariableContext.set(resolver);
             try {
                 if (node instanceof StatementGroupNode group) {
-                    lastResult = executeStatements(context, group.statements());
+                    lastResult = group.isParallel()
+                            ? executeParallel(context, group.statements())
+                            : executeStatements(context, group.statements());
                     setVar(context, group, lastResult);
                 } else if (node.assignExpression() && node.variableName() != null) {
                     ISupplier<?> supplier = node.expression().evaluate();
@@ -95,6 +100,36 @@ public class StatementBlock {
         return lastResult;
     }
 
+    /**
+     * Runs each statement as a {@link ScriptTask}, waits for all of them and merges
+     * them in declaration order, then fails with the first failing statement, if any.
+     */
+    private static List<Object> executeParallel(IRuntimeContext<Object[], Object> context,
+            List<IScriptNode> statements) {
+        List<ScriptTask> tasks = new ArrayList<>(statements.size());
+        for (int i = 0; i < statements.size(); i++) {
+            IScriptNode node = statements.get(i);
+            tasks.add(ScriptTask.start("block-parallel-" + i, context,
+                    branch -> executeStatements(branch, List.of(node))));
+        }
+        List<Object> results = new ArrayList<>(tasks.size());
+        ScriptException failure = null;
+        for (ScriptTask task : tasks) {
+            try {
+                results.add(task.await());
+            } catch (ScriptException e) {
+                results.add(null);
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return Collections.unmodifiableList(results);
+    }
+
     private static void setVar(IRuntimeContext<Object[], Object> context, IScriptNode node, Object result) {
         if (node.variableName() != null) {
             String name = node.variableName();
@@ -19,6 +19,11 @@ import com.garganttua.core.supply.ISupplier;
  * | condition =&gt; handler
  * ! =&gt; catchHandler
  * </pre>
+ *
+ * <p>
+ * A group prefixed with {@code parallel} runs each of its statements
+ * concurrently, see {@link #isParallel()}.
+ * </p>
  */
 public class StatementGroupNode implements IScriptNode {
 
@@ -30,6 +35,7 @@ public class StatementGroupNode implements IScriptNode {
     private final List<PipeClause> pipeClauses;
     private final int line;
     private final String sourceText;
+    private final boolean parallel;
 
     public StatementGroupNode(List<IScriptNode> statements, String variableName, Integer code,
             List<CatchClause> catchClauses, List<CatchClause> downstreamCatchClauses,
@@ -40,6 +46,13 @@ public class StatementGroupNode implements IScriptNode {
     public StatementGroupNode(List<IScriptNode> statements, String variableName, Integer code,
             List<CatchClause> catchClauses, List<CatchClause> downstreamCatchClauses,
             List<PipeClause> pipeClauses, int line, String sourceText) {
+        this(statements, variableName, code, catchClauses, downstreamCatchClauses, pipeClauses, line, sourceText,
+                false);
+    }
+
+    public StatementGroupNode(List<IScriptNode> statements, String variableName, Integer code,
+            List<CatchClause> catchClauses, List<CatchClause> downstreamCatchClauses,
+            List<PipeClause> pipeClauses, int line, String sourceText, boolean parallel) {
         this.statements = statements != null ? List.copyOf(statements) : List.of();
         this.variableName = variableName;
         this.code = code;
@@ -48,6 +61,7 @@ public class StatementGroupNode implements IScriptNode {
         this.pipeClauses = pipeClauses != null ? pipeClauses : List.of();
         this.line = line;
         this.sourceText = sourceText;
+        this.parallel = parallel;
     }
 
     /**
@@ -106,6 +120,15 @@ public class StatementGroupNode implements IScriptNode {
         return true;
     }
 
+    /**
+     * Checks if the statements of this group run concurrently, each one as a
+     * branch with its own copy of the script variables. The group result is the
+     * list of the branch results, in declaration order.
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
     @Override
     public int line() {
         return this.line;
@@ -42,9 +42,15 @@ parameterList
 //   ) -> 60
 //   | condition => handler
 //   ! => catchHandler
+//
+// A group prefixed with 'parallel' runs each of its statements concurrently:
+//   results <- parallel(
+//     a <- fetch("a")
+//     b <- fetch("b")
+//   )
 // ===============================
 statementGroup
-    : '(' NL* statement (NL+ statement)* NL* ')'
+    : PARALLEL? '(' NL* statement (NL+ statement)* NL* ')'
     ;
 
 // Block expressions (statement groups as expression arguments) are handled
@@ -118,6 +124,7 @@ expressionStartToken
     | DOUBLE_TYPE
     | CHAR_TYPE
     | CLASS
+    | PARALLEL
     ;
 
 expressionToken
@@ -149,6 +156,9 @@ DOUBLE_TYPE  : 'double';
 CHAR_TYPE    : 'char';
 CLASS        : 'Class';
 
+// Group keywords (reserved, cannot be used as identifiers)
+PARALLEL     : 'parallel';
+
 // Literals
 BOOLEAN      : 'true' | 'false';
 NULL         : 'null';
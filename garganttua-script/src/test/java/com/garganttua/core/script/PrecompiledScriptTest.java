@@ -0,0 +1,157 @@
+package com.garganttua.core.script;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.garganttua.core.expression.context.IExpressionContext;
+import com.garganttua.core.expression.dsl.ExpressionContextBuilder;
+import com.garganttua.core.injection.IInjectionContext;
+import com.garganttua.core.injection.context.InjectionContext;
+import com.garganttua.core.injection.context.dsl.IInjectionContextBuilder;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IReflectionProvider;
+import com.garganttua.core.reflection.dsl.IReflectionBuilder;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflections.ReflectionsAnnotationScanner;
+import com.garganttua.core.runtime.dsl.IRuntimesBuilder;
+import com.garganttua.core.runtime.dsl.RuntimesBuilder;
+import com.garganttua.core.script.context.PrecompiledScript;
+import com.garganttua.core.script.context.ScriptCache;
+import com.garganttua.core.script.context.ScriptContext;
+
+class PrecompiledScriptTest {
+
+    private static final String SOURCE = """
+            wrap = (val) => (
+                result <- concatenate("[", @val, "]")
+            )
+            grouped <- (
+                a <- wrap(@0)
+                concatenate(@a, "!")
+            )
+            output <- @grouped
+            | equals(@0, "stop") => "stopped" -> 201
+            class("nonexistent.Foo")
+            ! => "caught" -> 400
+            """;
+
+    private static IReflectionBuilder reflectionBuilder;
+
+    private IExpressionContext expressionContext;
+    private Supplier<IRuntimesBuilder> runtimesBuilderFactory;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        @SuppressWarnings("unchecked")
+        Class<? extends IReflectionProvider> providerClass =
+                (Class<? extends IReflectionProvider>) Class.forName(
+                        "com.garganttua.core.reflection.runtime.RuntimeReflectionProvider");
+        reflectionBuilder = ReflectionBuilder.builder()
+                .withProvider(providerClass.getDeclaredConstructor().newInstance())
+                .withScanner(new ReflectionsAnnotationScanner());
+        reflectionBuilder.build();
+    }
+
+    @BeforeEach
+    void createContexts() {
+        IInjectionContextBuilder injectionContextBuilder = InjectionContext.builder()
+                .provide(reflectionBuilder)
+                .autoDetect(true)
+                .withPackage("com.garganttua.core.runtime");
+
+        ExpressionContextBuilder expressionContextBuilder = ExpressionContextBuilder.builder();
+        expressionContextBuilder.withPackage("com.garganttua").autoDetect(true).provide(injectionContextBuilder);
+
+        IInjectionContext injectionContext = injectionContextBuilder.build();
+        injectionContext.onInit().onStart();
+
+        this.expressionContext = expressionContextBuilder.build();
+        this.runtimesBuilderFactory = () -> RuntimesBuilder.builder().provide(injectionContextBuilder);
+    }
+
+    private ScriptContext newScript() {
+        return new ScriptContext(this.expressionContext, this.runtimesBuilderFactory, null, new ScriptCache(0));
+    }
+
+    private byte[] precompile(String source) {
+        ScriptContext script = newScript();
+        script.load(source);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        script.precompile(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void testPrecompiledScriptRunsLikeItsSource() {
+        PrecompiledScript precompiled = PrecompiledScript.read(new ByteArrayInputStream(precompile(SOURCE)));
+        assertEquals(SOURCE, precompiled.getSource());
+        assertEquals(ScriptCache.hash(SOURCE), precompiled.getSourceHash());
+
+        ScriptContext fromSource = newScript();
+        fromSource.load(SOURCE);
+        fromSource.compile();
+        ScriptContext fromImage = newScript();
+        fromImage.load(precompiled);
+        fromImage.compile();
+
+        assertEquals(fromSource.execute("x"), fromImage.execute("x"));
+        assertEquals("[x]!", fromImage.getVariable("output", IClass.getClass(String.class)).orElse(null));
+        assertEquals(fromSource.execute("stop"), fromImage.execute("stop"));
+    }
+
+    @Test
+    void testCorruptedFileIsRejected() {
+        byte[] bytes = precompile(SOURCE);
+        bytes[bytes.length / 2] ^= 0x5A;
+        assertThrows(ScriptException.class, () -> PrecompiledScript.read(new ByteArrayInputStream(bytes)));
+        assertThrows(ScriptException.class,
+                () -> PrecompiledScript.read(new ByteArrayInputStream("result <- 1".getBytes())));
+    }
+
+    @Test
+    void testOtherRegistryFallsBackToSource() {
+        byte[] bytes = precompile(SOURCE);
+        // A new variable type changes the registry version of the context
+        this.expressionContext.registerVariableType("other", IClass.getClass(Integer.class));
+
+        ScriptContext script = newScript();
+        script.load(PrecompiledScript.read(new ByteArrayInputStream(bytes)));
+        script.compile();
+        script.execute("y");
+        assertEquals("[y]!", script.getVariable("output", IClass.getClass(String.class)).orElse(null));
+    }
+
+    @Test
+    void testSiblingPrecompiledFileIsUsedForTheSameSource() throws Exception {
+        File source = this.directory.resolve("script.gs").toFile();
+        Files.writeString(source.toPath(), SOURCE);
+        try (OutputStream out = Files.newOutputStream(this.directory.resolve("script.gsc"))) {
+            out.write(precompile(SOURCE));
+        }
+
+        assertTrue(PrecompiledScript.findFor(source, SOURCE).isPresent());
+        assertTrue(PrecompiledScript.findFor(source, SOURCE + "\nother <- 1").isEmpty(),
+                "Stale precompiled file is ignored");
+
+        ScriptContext script = newScript();
+        script.load(source);
+        script.compile();
+        script.execute("z");
+        assertEquals("[z]!", script.getVariable("output", IClass.getClass(String.class)).orElse(null));
+    }
+}
@@ -0,0 +1,165 @@
+package com.garganttua.core.script;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.expression.context.IExpressionContext;
+import com.garganttua.core.expression.dsl.ExpressionContextBuilder;
+import com.garganttua.core.injection.IInjectionContext;
+import com.garganttua.core.injection.context.InjectionContext;
+import com.garganttua.core.injection.context.dsl.IInjectionContextBuilder;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IReflectionProvider;
+import com.garganttua.core.reflection.dsl.IReflectionBuilder;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflections.ReflectionsAnnotationScanner;
+import com.garganttua.core.runtime.dsl.IRuntimesBuilder;
+import com.garganttua.core.runtime.dsl.RuntimesBuilder;
+import com.garganttua.core.script.context.CompiledScript;
+import com.garganttua.core.script.context.ScriptCache;
+import com.garganttua.core.script.context.ScriptContext;
+import com.garganttua.core.script.context.ScriptExecution;
+
+class ScriptCacheTest {
+
+    private static IReflectionBuilder reflectionBuilder;
+
+    private IExpressionContext expressionContext;
+    private Supplier<IRuntimesBuilder> runtimesBuilderFactory;
+    private ScriptCache cache;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        @SuppressWarnings("unchecked")
+        Class<? extends IReflectionProvider> providerClass =
+                (Class<? extends IReflectionProvider>) Class.forName(
+                        "com.garganttua.core.reflection.runtime.RuntimeReflectionProvider");
+        reflectionBuilder = ReflectionBuilder.builder()
+                .withProvider(providerClass.getDeclaredConstructor().newInstance())
+                .withScanner(new ReflectionsAnnotationScanner());
+        reflectionBuilder.build();
+    }
+
+    @BeforeEach
+    void createContexts() {
+        IInjectionContextBuilder injectionContextBuilder = InjectionContext.builder()
+                .provide(reflectionBuilder)
+                .autoDetect(true)
+                .withPackage("com.garganttua.core.runtime");
+
+        ExpressionContextBuilder expressionContextBuilder = ExpressionContextBuilder.builder();
+        expressionContextBuilder.withPackage("com.garganttua").autoDetect(true).provide(injectionContextBuilder);
+
+        IInjectionContext injectionContext = injectionContextBuilder.build();
+        injectionContext.onInit().onStart();
+
+        this.expressionContext = expressionContextBuilder.build();
+        this.runtimesBuilderFactory = () -> RuntimesBuilder.builder().provide(injectionContextBuilder);
+        this.cache = new ScriptCache(2);
+    }
+
+    private ScriptContext compile(String source) {
+        ScriptContext ctx = new ScriptContext(this.expressionContext, this.runtimesBuilderFactory, null, this.cache);
+        ctx.load(source);
+        ctx.compile();
+        return ctx;
+    }
+
+    @Test
+    void testSameSourceIsCompiledOnce() {
+        ScriptContext first = compile("result <- @0");
+        ScriptContext second = compile("result <- @0");
+
+        assertSame(first.getCompiledScript(), second.getCompiledScript());
+        assertEquals(1, this.cache.compilations());
+        assertEquals(1, this.cache.hits());
+
+        first.execute("a");
+        second.execute("b");
+        assertEquals("a", first.getVariable("result", IClass.getClass(String.class)).orElse(null));
+        assertEquals("b", second.getVariable("result", IClass.getClass(String.class)).orElse(null));
+    }
+
+    @Test
+    void testInitialVariablesArePartOfTheKey() {
+        ScriptContext first = new ScriptContext(this.expressionContext, this.runtimesBuilderFactory, null, this.cache);
+        first.load("result <- @name");
+        first.setVariable("name", "a");
+        first.compile();
+        ScriptContext second = new ScriptContext(this.expressionContext, this.runtimesBuilderFactory, null, this.cache);
+        second.load("result <- @name");
+        second.setVariable("name", "b");
+        second.compile();
+
+        assertNotSame(first.getCompiledScript(), second.getCompiledScript());
+        second.execute();
+        assertEquals("b", second.getVariable("result", IClass.getClass(String.class)).orElse(null));
+    }
+
+    @Test
+    void testLeastRecentlyUsedScriptIsEvicted() {
+        CompiledScript a = compile("a <- 1").getCompiledScript();
+        compile("b <- 2");
+        compile("a <- 1");
+        compile("c <- 3");
+
+        assertEquals(2, this.cache.size());
+        assertEquals(1, this.cache.evictions());
+        assertSame(a, compile("a <- 1").getCompiledScript(), "Recently used script is kept");
+        compile("b <- 2");
+        assertEquals(4, this.cache.compilations());
+    }
+
+    @Test
+    void testDisabledCacheCompilesEachTime() {
+        this.cache.setMaximumSize(0);
+        compile("a <- 1");
+        compile("a <- 1");
+
+        assertEquals(0, this.cache.size());
+        assertEquals(2, this.cache.compilations());
+    }
+
+    @Test
+    void testFailedCompilationsAreNotCached() {
+        assertThrows(RuntimeException.class, () -> compile("result <- (("));
+        assertEquals(0, this.cache.size());
+    }
+
+    @Test
+    void testCompiledScriptExecutesConcurrently() throws Exception {
+        CompiledScript script = compile("result <- @0").getCompiledScript();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ScriptExecution>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String value = "value-" + i;
+                futures.add(executor.submit(() -> script.execute(value)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                ScriptExecution execution = futures.get(i).get();
+                assertFalse(execution.hasAborted());
+                assertEquals("value-" + i, execution.getVariable("result", IClass.getClass(String.class)).orElse(null));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testHashIsContentBased() {
+        assertEquals(ScriptCache.hash("a <- 1"), ScriptCache.hash("a <- 1"));
+        assertNotEquals(ScriptCache.hash("a <- 1"), ScriptCache.hash("a <- 2"));
+        assertEquals(64, ScriptCache.hash("a <- 1").length());
+    }
+}
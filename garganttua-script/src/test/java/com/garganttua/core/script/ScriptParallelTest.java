@@ -0,0 +1,196 @@
+package com.garganttua.core.script;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.expression.context.IExpressionContext;
+import com.garganttua.core.expression.dsl.ExpressionContextBuilder;
+import com.garganttua.core.injection.IInjectionContext;
+import com.garganttua.core.injection.context.InjectionContext;
+import com.garganttua.core.injection.context.dsl.IInjectionContextBuilder;
+import com.garganttua.core.reflection.IClass;
+import com.garganttua.core.reflection.IReflectionProvider;
+import com.garganttua.core.reflection.dsl.IReflectionBuilder;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflections.ReflectionsAnnotationScanner;
+import com.garganttua.core.runtime.dsl.RuntimesBuilder;
+import com.garganttua.core.script.context.PrecompiledScript;
+import com.garganttua.core.script.context.ScriptCache;
+import com.garganttua.core.script.context.ScriptContext;
+
+/**
+ * Tests for parallel statement groups and the async/await functions.
+ */
+class ScriptParallelTest {
+
+    private static IReflectionBuilder reflectionBuilder;
+
+    @BeforeAll
+    static void setupClass() throws Exception {
+        @SuppressWarnings("unchecked")
+        Class<? extends IReflectionProvider> providerClass =
+                (Class<? extends IReflectionProvider>) Class.forName(
+                        "com.garganttua.core.reflection.runtime.RuntimeReflectionProvider");
+        reflectionBuilder = ReflectionBuilder.builder()
+                .withProvider(providerClass.getDeclaredConstructor().newInstance())
+                .withScanner(new ReflectionsAnnotationScanner());
+        reflectionBuilder.build();
+    }
+
+    private ScriptContext newScript() {
+        IInjectionContextBuilder ijb = InjectionContext.builder()
+                .provide(reflectionBuilder)
+                .autoDetect(true)
+                .withPackage("com.garganttua.core.runtime");
+
+        ExpressionContextBuilder ecb = ExpressionContextBuilder.builder();
+        ecb.withPackage("com.garganttua").autoDetect(true).provide(ijb);
+
+        IInjectionContext ic = ijb.build();
+        ic.onInit().onStart();
+        IExpressionContext ec = ecb.build();
+
+        return new ScriptContext(ec, () -> RuntimesBuilder.builder().provide(ijb), null, new ScriptCache(0));
+    }
+
+    private IScript createScript(String source) {
+        ScriptContext ctx = newScript();
+        ctx.load(source);
+        ctx.compile();
+        return ctx;
+    }
+
+    @Test
+    void testParallelGroupReturnsBranchResultsInOrder() {
+        IScript s = createScript("""
+                results <- parallel(
+                    a <- concatenate("a", "1")
+                    b <- concatenate("b", "2")
+                    c <- 3
+                )
+                """);
+        assertEquals(0, s.execute());
+        assertEquals(List.of("a1", "b2", 3), s.getVariable("results", IClass.getClass(List.class)).orElse(null));
+        assertEquals("a1", s.getVariable("a", IClass.getClass(String.class)).orElse(null));
+        assertEquals("b2", s.getVariable("b", IClass.getClass(String.class)).orElse(null));
+    }
+
+    @Test
+    void testBranchesSeeVariablesSetBeforeTheGroup() {
+        IScript s = createScript("""
+                prefix <- "x"
+                parallel(
+                    a <- concatenate(@prefix, "1")
+                    b <- concatenate(@prefix, "2")
+                )
+                """);
+        s.execute();
+        assertEquals("x1", s.getVariable("a", IClass.getClass(String.class)).orElse(null));
+        assertEquals("x2", s.getVariable("b", IClass.getClass(String.class)).orElse(null));
+    }
+
+    @Test
+    void testLastDeclaredBranchWinsOnSameVariable() {
+        for (int i = 0; i < 20; i++) {
+            IScript s = createScript("""
+                    parallel(
+                        value <- "first"
+                        value <- "second"
+                    )
+                    """);
+            s.execute();
+            assertEquals("second", s.getVariable("value", IClass.getClass(String.class)).orElse(null));
+        }
+    }
+
+    @Test
+    void testCatchInBranchOnlyStopsThatBranch() {
+        IScript s = createScript("""
+                results <- parallel(
+                    a <- class("nonexistent.Foo")
+                    ! => "caught"
+                    b <- "ok"
+                )
+                after <- "continued" -> 200
+                """);
+        assertEquals(200, s.execute());
+        assertEquals("caught", s.getVariable("a", IClass.getClass(String.class)).orElse(null));
+        assertEquals("ok", s.getVariable("b", IClass.getClass(String.class)).orElse(null));
+        assertEquals("continued", s.getVariable("after", IClass.getClass(String.class)).orElse(null));
+    }
+
+    @Test
+    void testUncaughtBranchFailureReachesGroupCatch() {
+        IScript s = createScript("""
+                parallel(
+                    a <- "done"
+                    class("nonexistent.Foo")
+                )
+                ! -> 500
+                """);
+        assertEquals(500, s.execute());
+        // Branches that completed are still merged
+        assertEquals("done", s.getVariable("a", IClass.getClass(String.class)).orElse(null));
+    }
+
+    @Test
+    void testAsyncAwait() {
+        IScript s = createScript("""
+                first <- async(concatenate("a", "b"))
+                second <- async(concatenate("c", "d"))
+                output <- concatenate(await(@first), await(@second))
+                """);
+        s.execute();
+        assertEquals("abcd", s.getVariable("output", IClass.getClass(String.class)).orElse(null));
+    }
+
+    @Test
+    void testAwaitMergesVariablesOfAsyncBlock() {
+        IScript s = createScript("""
+                handle <- async((
+                    inner <- "from task"
+                    concatenate(@inner, "!")
+                ))
+                result <- await(@handle)
+                """);
+        s.execute();
+        assertEquals("from task!", s.getVariable("result", IClass.getClass(String.class)).orElse(null));
+        assertEquals("from task", s.getVariable("inner", IClass.getClass(String.class)).orElse(null));
+    }
+
+    @Test
+    void testAwaitFailureCanBeCaught() {
+        IScript s = createScript("""
+                handle <- async(class("nonexistent.Foo"))
+                await(@handle)
+                ! -> 400
+                """);
+        assertEquals(400, s.execute());
+    }
+
+    @Test
+    void testPrecompiledParallelGroup() {
+        String source = """
+                results <- parallel(
+                    a <- 1
+                    b <- 2
+                )
+                """;
+        ScriptContext compiler = newScript();
+        compiler.load(source);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        compiler.precompile(out);
+
+        ScriptContext script = newScript();
+        script.load(PrecompiledScript.read(new ByteArrayInputStream(out.toByteArray())));
+        script.compile();
+        script.execute();
+        assertEquals(List.of(1, 2), script.getVariable("results", IClass.getClass(List.class)).orElse(null));
+    }
+}
@@ -0,0 +1,142 @@
+package com.garganttua.core.script.perfs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import com.garganttua.core.expression.context.ExpressionContext;
+import com.garganttua.core.expression.dsl.ExpressionContextBuilder;
+import com.garganttua.core.injection.IInjectionContext;
+import com.garganttua.core.injection.context.InjectionContext;
+import com.garganttua.core.injection.context.dsl.IInjectionContextBuilder;
+import com.garganttua.core.reflection.IReflectionProvider;
+import com.garganttua.core.reflection.dsl.IReflectionBuilder;
+import com.garganttua.core.reflection.dsl.ReflectionBuilder;
+import com.garganttua.core.reflections.ReflectionsAnnotationScanner;
+import com.garganttua.core.runtime.dsl.IRuntimesBuilder;
+import com.garganttua.core.runtime.dsl.RuntimesBuilder;
+import com.garganttua.core.script.context.PrecompiledScript;
+import com.garganttua.core.script.context.ScriptCache;
+import com.garganttua.core.script.context.ScriptContext;
+
+/**
+ * Time to get a script ready to execute from its {@code .gs} source and from its
+ * precompiled {@code .gsc} form, with the script and expression caches disabled
+ * so that each load starts cold.
+ */
+@Disabled("Performances tests, too heavy for standard build")
+public class ColdStartPerformancesTest {
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+
+    private static final String SOURCE = """
+            wrap = (val) => (
+                result <- concatenate("[", @val, "]")
+            )
+            a <- wrap(@0)
+            b <- wrap(concatenate(@a, @a))
+            c <- (
+                x <- concatenate(@a, "-", @b)
+                concatenate(@x, "!")
+            )
+            class("nonexistent.Foo")
+            ! => "caught" -> 400
+            | equals(@0, "stop") => "stopped" -> 201
+            d <- concatenate(@c, @b, @a)
+            e <- concatenate(string("one"), string("two"), string("three"))
+            output <- concatenate(@d, @e)
+            """;
+
+    private static ExpressionContext expressionContext;
+    private static Supplier<IRuntimesBuilder> runtimesBuilderFactory;
+
+    @BeforeAll
+    public static void setup() throws Exception {
+        @SuppressWarnings("unchecked")
+        Class<? extends IReflectionProvider> providerClass =
+                (Class<? extends IReflectionProvider>) Class.forName(
+                        "com.garganttua.core.reflection.runtime.RuntimeReflectionProvider");
+        IReflectionBuilder reflectionBuilder = ReflectionBuilder.builder()
+                .withProvider(providerClass.getDeclaredConstructor().newInstance())
+                .withScanner(new ReflectionsAnnotationScanner());
+        reflectionBuilder.build();
+
+        IInjectionContextBuilder injectionContextBuilder = InjectionContext.builder()
+                .provide(reflectionBuilder)
+                .autoDetect(true)
+                .withPackage("com.garganttua.core.runtime");
+        ExpressionContextBuilder expressionContextBuilder = ExpressionContextBuilder.builder();
+        expressionContextBuilder.withPackage("com.garganttua").autoDetect(true).provide(injectionContextBuilder);
+        IInjectionContext injectionContext = injectionContextBuilder.build();
+        injectionContext.onInit().onStart();
+
+        expressionContext = (ExpressionContext) expressionContextBuilder.build();
+        expressionContext.getExpressionCache().setMaximumSize(0);
+        runtimesBuilderFactory = () -> RuntimesBuilder.builder().provide(injectionContextBuilder);
+    }
+
+    private static ScriptContext newScript() {
+        return new ScriptContext(expressionContext, runtimesBuilderFactory, null, new ScriptCache(0));
+    }
+
+    @Test
+    public void testSourceVersusPrecompiled() {
+        ScriptContext compiler = newScript();
+        compiler.load(SOURCE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        compiler.precompile(out);
+        byte[] image = out.toByteArray();
+        System.out.printf("Source: %d bytes, precompiled: %d bytes%n", SOURCE.length(), image.length);
+
+        long firstSource = time(() -> {
+            ScriptContext script = newScript();
+            script.load(SOURCE);
+            script.compile();
+        });
+        long firstImage = time(() -> {
+            ScriptContext script = newScript();
+            script.load(PrecompiledScript.read(new ByteArrayInputStream(image)));
+            script.compile();
+        });
+
+        for (int i = 0; i < WARMUP; i++) {
+            ScriptContext script = newScript();
+            script.load(SOURCE);
+            script.compile();
+            script = newScript();
+            script.load(PrecompiledScript.read(new ByteArrayInputStream(image)));
+            script.compile();
+        }
+
+        long source = 0;
+        long precompiled = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            source += time(() -> {
+                ScriptContext script = newScript();
+                script.load(SOURCE);
+                script.compile();
+            });
+            precompiled += time(() -> {
+                ScriptContext script = newScript();
+                script.load(PrecompiledScript.read(new ByteArrayInputStream(image)));
+                script.compile();
+            });
+        }
+
+        System.out.printf("%-12s %14s %14s%n", "Mode", "first (us)", "average (us)");
+        System.out.printf("%-12s %14.1f %14.1f%n", ".gs", firstSource / 1_000d, source / 1_000d / ITERATIONS);
+        System.out.printf("%-12s %14.1f %14.1f%n", ".gsc", firstImage / 1_000d,
+                precompiled / 1_000d / ITERATIONS);
+    }
+
+    private static long time(Runnable load) {
+        long begin = System.nanoTime();
+        load.run();
+        return System.nanoTime() - begin;
+    }
+}
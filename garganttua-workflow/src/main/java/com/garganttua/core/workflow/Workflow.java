@@ -17,6 +17,7 @@ import com.garganttua.core.reflection.IClass;
 import com.garganttua.core.runtime.dsl.IRuntimesBuilder;
 import com.garganttua.core.script.IScript;
 import com.garganttua.core.script.ScriptException;
+import com.garganttua.core.script.context.ScriptCache;
 import com.garganttua.core.script.context.ScriptContext;
 import com.garganttua.core.workflow.dsl.WorkflowDescriptor;
 import com.garganttua.core.workflow.generator.ScriptGenerator;
@@ -39,6 +40,11 @@ import lombok.extern.slf4j.Slf4j;
  * The default execution path (no options) uses the cached pre-generated script.
  * </p>
  *
+ * <p>
+ * Scripts are compiled through a {@link ScriptCache} owned by the workflow, so
+ * that repeated executions of the same script are not parsed again.
+ * </p>
+ *
  * @since 2.0.0-ALPHA01
  */
 @Slf4j
@@ -51,6 +57,7 @@ public class Workflow implements IWorkflow {
     private final IExpressionContext expressionContext;
     private final Supplier<IRuntimesBuilder> runtimesBuilderFactory;
     private final boolean inlineAll;
+    private final ScriptCache scriptCache = new ScriptCache();
     private final ScriptGenerator scriptGenerator = new ScriptGenerator();
     private final WorkflowRenderer renderer = new WorkflowRenderer();
 
@@ -134,7 +141,7 @@ public class Workflow implements IWorkflow {
     private WorkflowResult executeScript(UUID uuid, Instant start, String scriptSource,
             WorkflowInput input, List<WorkflowStage> stagesToCollect) throws ScriptException {
         // 1. Create and configure the ScriptContext
-        IScript script = new ScriptContext(expressionContext, runtimesBuilderFactory, null);
+        IScript script = new ScriptContext(expressionContext, runtimesBuilderFactory, null, scriptCache);
         script.load(scriptSource);
 
         // 2. Inject preset variables (named)
@@ -151,7 +158,7 @@ public class Workflow implements IWorkflow {
             args.add(param);
         }
 
-        // 4. Compile and execute
+        // 4. Compile (only once per script source, through the script cache) and execute
         script.compile();
         int code = args.isEmpty()
                 ? script.execute()